@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics;
+
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.Gauge;
+import org.eclipse.dataspaceconnector.spi.metrics.Histogram;
+import org.eclipse.dataspaceconnector.spi.metrics.HistogramSnapshot;
+import org.eclipse.dataspaceconnector.spi.metrics.Metric;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Default {@link MetricsRegistry} that keeps all metrics in memory.
+ * <p>
+ * Histograms and timers retain a sliding window of the most recent values to compute quantiles, so memory use per metric is bounded.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+    public static final int DEFAULT_WINDOW_SIZE = 1028;
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+    private final int windowSize;
+
+    public InMemoryMetricsRegistry() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public InMemoryMetricsRegistry(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return getOrCreate(Counter.class, name, tags, t -> new InMemoryCounter(name, t));
+    }
+
+    @Override
+    public Gauge gauge(String name, DoubleSupplier value, String... tags) {
+        Objects.requireNonNull(value, "value");
+        return getOrCreate(Gauge.class, name, tags, t -> new InMemoryGauge(name, t, value));
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return getOrCreate(Timer.class, name, tags, t -> new InMemoryTimer(name, t, windowSize));
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+        return getOrCreate(Histogram.class, name, tags, t -> new InMemoryHistogram(name, t, windowSize));
+    }
+
+    @Override
+    public Collection<Metric> getMetrics() {
+        return Collections.unmodifiableCollection(new ArrayList<>(metrics.values()));
+    }
+
+    private <M extends Metric> M getOrCreate(Class<M> type, String name, String[] tags, Function<Map<String, String>, M> factory) {
+        Objects.requireNonNull(name, "name");
+        var tagMap = toTagMap(tags);
+        var metric = metrics.computeIfAbsent(name + tagMap, k -> factory.apply(tagMap));
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(format("Metric %s%s is already registered as %s", name, tagMap, metric.getClass().getSimpleName()));
+        }
+        return type.cast(metric);
+    }
+
+    private static Map<String, String> toTagMap(String[] tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags must be key/value pairs");
+        }
+        var map = new TreeMap<String, String>();
+        for (int i = 0; i < tags.length; i += 2) {
+            map.put(Objects.requireNonNull(tags[i], "tag key"), String.valueOf(tags[i + 1]));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private abstract static class AbstractMetric implements Metric {
+        private final String name;
+        private final Map<String, String> tags;
+
+        AbstractMetric(String name, Map<String, String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Map<String, String> getTags() {
+            return tags;
+        }
+    }
+
+    private static class InMemoryCounter extends AbstractMetric implements Counter {
+        private final LongAdder count = new LongAdder();
+
+        InMemoryCounter(String name, Map<String, String> tags) {
+            super(name, tags);
+        }
+
+        @Override
+        public void increment(long amount) {
+            count.add(amount);
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    private static class InMemoryGauge extends AbstractMetric implements Gauge {
+        private final DoubleSupplier value;
+
+        InMemoryGauge(String name, Map<String, String> tags, DoubleSupplier value) {
+            super(name, tags);
+            this.value = value;
+        }
+
+        @Override
+        public double getValue() {
+            return value.getAsDouble();
+        }
+    }
+
+    private static class InMemoryHistogram extends AbstractMetric implements Histogram {
+        private final double[] window;
+        private long count;
+        private double sum;
+
+        InMemoryHistogram(String name, Map<String, String> tags, int windowSize) {
+            super(name, tags);
+            window = new double[windowSize];
+        }
+
+        @Override
+        public synchronized void record(double value) {
+            window[(int) (count % window.length)] = value;
+            count++;
+            sum += value;
+        }
+
+        @Override
+        public synchronized HistogramSnapshot getSnapshot() {
+            var retained = (int) Math.min(count, window.length);
+            var values = new double[retained];
+            System.arraycopy(window, 0, values, 0, retained);
+            return new HistogramSnapshot(count, sum, values);
+        }
+    }
+
+    private static class InMemoryTimer extends AbstractMetric implements Timer {
+        private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+        private final InMemoryHistogram seconds;
+
+        InMemoryTimer(String name, Map<String, String> tags, int windowSize) {
+            super(name, tags);
+            seconds = new InMemoryHistogram(name, tags, windowSize);
+        }
+
+        @Override
+        public void record(long amount, TimeUnit unit) {
+            seconds.record(unit.toNanos(amount) / NANOS_PER_SECOND);
+        }
+
+        @Override
+        public HistogramSnapshot getSnapshot() {
+            return seconds.getSnapshot();
+        }
+    }
+}
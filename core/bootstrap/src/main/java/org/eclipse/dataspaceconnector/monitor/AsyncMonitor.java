@@ -0,0 +1,294 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.monitor;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Monitor that hands messages to a background writer instead of writing them on the calling thread.
+ * <p>
+ * Messages are appended to a bounded buffer and drained in batches by a single daemon thread, which writes each batch with one call to the
+ * underlying stream and flushes once per batch. Message suppliers are only evaluated if the level is enabled. When the buffer is full, the
+ * {@link OverflowPolicy} decides whether the caller waits or the message is dropped; severe messages are never dropped. The number of dropped
+ * messages is reported with the next batch.
+ * <p>
+ * Call {@link #close()} on shutdown to write out buffered messages.
+ */
+public class AsyncMonitor implements Monitor, AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final ConsoleMonitor.Level level;
+    private final PrintStream out;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final BlockingQueue<Entry> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Thread writer;
+    private volatile boolean active = true;
+
+    /**
+     * Decides what happens to a message when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The caller waits until the writer has made room.
+         */
+        BLOCK,
+        /**
+         * The message is discarded. Severe messages are never discarded.
+         */
+        DROP
+    }
+
+    private AsyncMonitor(ConsoleMonitor.Level level, PrintStream out, OverflowPolicy overflowPolicy, int bufferSize, int batchSize) {
+        this.level = level;
+        this.out = out;
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        writer = new Thread(this::drain, "edc-monitor-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public boolean isWarningEnabled() {
+        return ConsoleMonitor.Level.WARNING.value >= level.value;
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return ConsoleMonitor.Level.INFO.value >= level.value;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return ConsoleMonitor.Level.DEBUG.value >= level.value;
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        append(ConsoleMonitor.Level.SEVERE, supplier, errors);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        if (isWarningEnabled()) {
+            append(ConsoleMonitor.Level.WARNING, supplier, errors);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        if (isInfoEnabled()) {
+            append(ConsoleMonitor.Level.INFO, supplier, errors);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        if (isDebugEnabled()) {
+            append(ConsoleMonitor.Level.DEBUG, supplier, errors);
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting to be written.
+     */
+    public int getPending() {
+        return buffer.size();
+    }
+
+    /**
+     * Stops accepting messages, writes out the buffered ones and waits for the writer to finish.
+     */
+    @Override
+    public void close() {
+        active = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void append(ConsoleMonitor.Level messageLevel, Supplier<String> supplier, Throwable[] errors) {
+        var entry = new Entry(messageLevel, System.currentTimeMillis(), supplier.get(), errors);
+        if (!active) {
+            // the writer is gone, fall back to writing on the caller
+            write(List.of(entry), new StringBuilder());
+            return;
+        }
+        if (buffer.offer(entry)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP && messageLevel != ConsoleMonitor.Level.SEVERE) {
+            dropped.incrementAndGet();
+            return;
+        }
+        try {
+            while (!buffer.offer(entry, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!active) {
+                    write(List.of(entry), new StringBuilder());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        var text = new StringBuilder();
+        while (active || !buffer.isEmpty()) {
+            try {
+                var first = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch, text);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                active = false;
+            } catch (RuntimeException e) {
+                // a failing stream must not kill the writer
+                e.printStackTrace(System.err);
+            } finally {
+                batch.clear();
+                text.setLength(0);
+            }
+        }
+        // pick up messages appended while shutting down
+        buffer.drainTo(batch);
+        write(batch, text);
+    }
+
+    private void write(List<Entry> batch, StringBuilder text) {
+        var droppedCount = dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            text.append(ConsoleMonitor.Level.WARNING).append(' ').append(formatter.format(LocalDateTime.now(zone)))
+                    .append(' ').append(droppedCount).append(" log messages dropped because the monitor buffer was full").append(System.lineSeparator());
+        }
+        synchronized (out) {
+            for (var entry : batch) {
+                text.append(entry.level).append(' ')
+                        .append(formatter.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp), zone)))
+                        .append(' ').append(entry.message).append(System.lineSeparator());
+                if (entry.errors != null) {
+                    out.print(text);
+                    text.setLength(0);
+                    printErrors(entry);
+                }
+            }
+            out.print(text);
+            out.flush();
+        }
+    }
+
+    private void printErrors(Entry entry) {
+        for (Throwable error : entry.errors) {
+            if (error != null) {
+                error.printStackTrace(out);
+            }
+        }
+    }
+
+    private static class Entry {
+        private final ConsoleMonitor.Level level;
+        private final long timestamp;
+        private final String message;
+        private final Throwable[] errors;
+
+        Entry(ConsoleMonitor.Level level, long timestamp, String message, Throwable[] errors) {
+            this.level = level;
+            this.timestamp = timestamp;
+            this.message = message;
+            this.errors = errors != null && errors.length > 0 ? errors : null;
+        }
+    }
+
+    public static class Builder {
+        private ConsoleMonitor.Level level = ConsoleMonitor.Level.DEBUG;
+        private PrintStream out = System.out;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder level(ConsoleMonitor.Level level) {
+            this.level = level;
+            return this;
+        }
+
+        public Builder out(PrintStream out) {
+            this.out = out;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public AsyncMonitor build() {
+            Objects.requireNonNull(level, "level");
+            Objects.requireNonNull(out, "out");
+            Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            if (bufferSize < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("Buffer and batch size must be at least 1");
+            }
+            return new AsyncMonitor(level, out, overflowPolicy, bufferSize, batchSize);
+        }
+    }
+}
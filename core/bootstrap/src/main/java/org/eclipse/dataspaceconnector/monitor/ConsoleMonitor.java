@@ -51,26 +51,41 @@ public class ConsoleMonitor implements Monitor {
         this.level = level;
     }
 
+    @Override
+    public boolean isWarningEnabled() {
+        return Level.WARNING.value >= level.value;
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return Level.INFO.value >= level.value;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.value >= level.value;
+    }
+
     public void severe(Supplier<String> supplier, Throwable... errors) {
         output(SEVERE, supplier, errors);
     }
 
     public void warning(Supplier<String> supplier, Throwable... errors) {
-        if (Level.WARNING.value < level.value) {
+        if (!isWarningEnabled()) {
             return;
         }
         output(WARNING, supplier, errors);
     }
 
     public void info(Supplier<String> supplier, Throwable... errors) {
-        if (Level.INFO.value < level.value) {
+        if (!isInfoEnabled()) {
             return;
         }
         output(INFO, supplier, errors);
     }
 
     public void debug(Supplier<String> supplier, Throwable... errors) {
-        if (Level.DEBUG.value < level.value) {
+        if (!isDebugEnabled()) {
             return;
         }
         output(DEBUG, supplier, errors);
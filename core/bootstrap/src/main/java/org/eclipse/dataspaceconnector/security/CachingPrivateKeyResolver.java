@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.security.KeyParser;
+import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches the parsed keys returned by another {@link PrivateKeyResolver}, so that the secret is neither fetched from the vault nor parsed on every call.
+ * <p>
+ * Keys are cached per key id and key type for a fixed time. Call {@link #invalidate(String)} when a secret is rotated; {@link InvalidatingVault}
+ * does so for secrets written or deleted through the vault. Missing keys are not cached.
+ */
+public class CachingPrivateKeyResolver implements PrivateKeyResolver {
+    private final PrivateKeyResolver delegate;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<CacheKey, CachedKey> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingPrivateKeyResolver(PrivateKeyResolver delegate, Duration ttl) {
+        this(delegate, ttl, Clock.systemUTC());
+    }
+
+    CachingPrivateKeyResolver(PrivateKeyResolver delegate, Duration ttl, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.clock = clock;
+        ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    public @Nullable <T> T resolvePrivateKey(String id, Class<T> keyType) {
+        var cacheKey = new CacheKey(id, keyType);
+        var now = clock.millis();
+        var cached = cache.get(cacheKey);
+        if (cached != null && cached.expiresAt > now) {
+            return keyType.cast(cached.key);
+        }
+
+        // a key resolved while the cache was invalidated may already be outdated and must not be cached
+        var resolvedGeneration = generation.get();
+        var key = delegate.resolvePrivateKey(id, keyType);
+        if (key == null) {
+            cache.remove(cacheKey);
+        } else if (generation.get() == resolvedGeneration) {
+            cache.put(cacheKey, new CachedKey(key, now + ttlMillis));
+        }
+        return key;
+    }
+
+    @Override
+    public <T> void addParser(KeyParser<T> parser) {
+        delegate.addParser(parser);
+        invalidateAll();
+    }
+
+    @Override
+    public <T> void addParser(Class<T> forType, Function<String, T> parseFunction) {
+        delegate.addParser(forType, parseFunction);
+        invalidateAll();
+    }
+
+    /**
+     * Drops the cached keys for the key id, e.g. because the secret was rotated.
+     */
+    public void invalidate(String id) {
+        generation.incrementAndGet();
+        cache.keySet().removeIf(cacheKey -> cacheKey.id.equals(id));
+    }
+
+    /**
+     * Drops all cached keys.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of cached keys, including expired ones that have not been replaced yet.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private static class CacheKey {
+        private final String id;
+        private final Class<?> keyType;
+
+        CacheKey(String id, Class<?> keyType) {
+            this.id = id;
+            this.keyType = keyType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var other = (CacheKey) o;
+            return id.equals(other.id) && keyType.equals(other.keyType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, keyType);
+        }
+    }
+
+    private static class CachedKey {
+        private final Object key;
+        private final long expiresAt;
+
+        CachedKey(Object key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Read-through cache in front of a remote {@link Vault}.
+ * <p>
+ * Secrets are cached for a time-to-live that can be set per key prefix; the longest matching prefix wins. Secrets that do not exist are cached for
+ * a separate, usually shorter time, or not at all. Concurrent requests for a secret that is not cached are served by a single call to the vault.
+ * Writes and deletes go to the vault first and then update the cache. Cached secrets are held as character arrays that are wiped when they are
+ * replaced, invalidated or when {@link #wipe()} is called.
+ * <p>
+ * Vault extensions enable the cache by wrapping their vault, see {@link #fromSettings(Vault, ServiceExtensionContext, Duration)}, so that their
+ * private key and certificate resolvers share it.
+ */
+public class CachingVault implements Vault {
+    @EdcSetting
+    public static final String TTL_SETTING = "edc.vault.cache.ttl";
+    @EdcSetting
+    public static final String PREFIX_TTL_SETTING = "edc.vault.cache.ttl.prefixes";
+    @EdcSetting
+    public static final String NEGATIVE_TTL_SETTING = "edc.vault.cache.negative.ttl";
+
+    private final Vault delegate;
+    private final long defaultTtlMillis;
+    private final Map<String, Long> prefixTtlMillis;
+    private final long negativeTtlMillis;
+    private final Clock clock;
+    private final Supplier<MetricsRegistry> metricsSupplier;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile MetricsRegistry metrics;
+    private volatile Counter hitCounter;
+    private volatile Counter missCounter;
+
+    private CachingVault(Vault delegate, Duration defaultTtl, Map<String, Duration> prefixTtls, Duration negativeTtl, Clock clock, Supplier<MetricsRegistry> metricsSupplier) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.metricsSupplier = metricsSupplier;
+        defaultTtlMillis = defaultTtl.toMillis();
+        negativeTtlMillis = negativeTtl.toMillis();
+        // longest prefix first, so the first match is the most specific one
+        prefixTtlMillis = new LinkedHashMap<>();
+        prefixTtls.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Duration> e) -> e.getKey().length()).reversed())
+                .forEach(e -> prefixTtlMillis.put(e.getKey(), e.getValue().toMillis()));
+    }
+
+    /**
+     * Wraps the vault in a cache configured by the {@link #TTL_SETTING}, {@link #PREFIX_TTL_SETTING} and {@link #NEGATIVE_TTL_SETTING} settings. TTLs are
+     * given in seconds, prefix TTLs as a comma-separated list of {@code prefix=seconds} pairs. Returns the vault itself if no secret would be cached.
+     *
+     * @param vault      the vault to wrap
+     * @param context    the context to read settings and, once it is available, the {@link MetricsRegistry} from
+     * @param defaultTtl the TTL to use if {@link #TTL_SETTING} is not set
+     */
+    public static Vault fromSettings(Vault vault, ServiceExtensionContext context, Duration defaultTtl) {
+        var ttl = Duration.ofSeconds(Long.parseLong(context.getSetting(TTL_SETTING, String.valueOf(defaultTtl.toSeconds()))));
+        var prefixTtls = parsePrefixTtls(context.getSetting(PREFIX_TTL_SETTING, ""));
+        var negativeTtl = Duration.ofSeconds(Long.parseLong(context.getSetting(NEGATIVE_TTL_SETTING, "0")));
+        if (ttl.isZero() && negativeTtl.isZero() && prefixTtls.values().stream().allMatch(Duration::isZero)) {
+            return vault;
+        }
+        return Builder.newInstance()
+                .vault(vault)
+                .ttl(ttl)
+                .prefixTtls(prefixTtls)
+                .negativeTtl(negativeTtl)
+                .metrics(() -> context.getService(MetricsRegistry.class, true))
+                .build();
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        var entry = entries.get(key);
+        if (entry != null) {
+            var cached = entry.read(clock.millis());
+            if (cached != null) {
+                count(hits, hitCounter);
+                return cached.value;
+            }
+        }
+        count(misses, missCounter);
+
+        var load = new CompletableFuture<String>();
+        var inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            var secret = load(key);
+            load.complete(secret);
+            return secret;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value) {
+        generation.incrementAndGet();
+        var response = timed("store", () -> delegate.storeSecret(key, value));
+        var ttl = ttlFor(key);
+        if (response.success() && ttl > 0) {
+            replace(key, new Entry(value, clock.millis() + ttl));
+        } else {
+            invalidate(key);
+        }
+        return response;
+    }
+
+    @Override
+    public VaultResponse deleteSecret(String key) {
+        generation.incrementAndGet();
+        var response = timed("delete", () -> delegate.deleteSecret(key));
+        if (response.success() && negativeTtlMillis > 0) {
+            replace(key, new Entry(null, clock.millis() + negativeTtlMillis));
+        } else {
+            invalidate(key);
+        }
+        return response;
+    }
+
+    /**
+     * Drops the cached secret, e.g. because it was changed outside of this runtime.
+     */
+    public void invalidate(String key) {
+        generation.incrementAndGet();
+        var removed = entries.remove(key);
+        if (removed != null) {
+            removed.wipe();
+        }
+    }
+
+    /**
+     * Drops and wipes all cached secrets.
+     */
+    public void wipe() {
+        generation.incrementAndGet();
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private String load(String key) {
+        var loadedGeneration = generation.get();
+        var secret = timed("resolve", () -> delegate.resolveSecret(key));
+        var ttl = secret == null ? negativeTtlMillis : ttlFor(key);
+        // a secret read while the cache was changed may already be outdated and must not be cached
+        if (ttl > 0 && generation.get() == loadedGeneration) {
+            replace(key, new Entry(secret, clock.millis() + ttl));
+        } else {
+            invalidate(key);
+        }
+        return secret;
+    }
+
+    private void replace(String key, Entry entry) {
+        var previous = entries.put(key, entry);
+        if (previous != null) {
+            previous.wipe();
+        }
+    }
+
+    private long ttlFor(String key) {
+        for (var prefix : prefixTtlMillis.entrySet()) {
+            if (key.startsWith(prefix.getKey())) {
+                return prefix.getValue();
+            }
+        }
+        return defaultTtlMillis;
+    }
+
+    private void count(LongAdder total, Counter counter) {
+        total.increment();
+        if (counter != null) {
+            counter.increment();
+        } else {
+            metrics();
+        }
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        var registry = metrics();
+        return registry == null ? call.get() : registry.timer("edc.vault.remote", "operation", operation).time(call);
+    }
+
+    private MetricsRegistry metrics() {
+        var registry = metrics;
+        if (registry == null && metricsSupplier != null) {
+            // the vault is created before the registry, bind to it once it is available
+            registry = metricsSupplier.get();
+            if (registry != null) {
+                synchronized (this) {
+                    if (metrics == null) {
+                        // report the requests served before the registry was available
+                        var hitCounter = registry.counter("edc.vault.cache.requests", "result", "hit");
+                        hitCounter.increment(hits.sum());
+                        var missCounter = registry.counter("edc.vault.cache.requests", "result", "miss");
+                        missCounter.increment(misses.sum());
+                        registry.gauge("edc.vault.cache.size", entries::size);
+                        this.hitCounter = hitCounter;
+                        this.missCounter = missCounter;
+                        metrics = registry;
+                    }
+                }
+            }
+        }
+        return registry;
+    }
+
+    private static String await(CompletableFuture<String> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EdcException(e.getCause());
+        }
+    }
+
+    static Map<String, Duration> parsePrefixTtls(String setting) {
+        var ttls = new LinkedHashMap<String, Duration>();
+        for (var pair : setting.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            var separator = pair.lastIndexOf('=');
+            if (separator < 1) {
+                throw new EdcException(format("Invalid vault cache prefix TTL '%s', expected prefix=seconds", pair.trim()));
+            }
+            ttls.put(pair.substring(0, separator).trim(), Duration.ofSeconds(Long.parseLong(pair.substring(separator + 1).trim())));
+        }
+        return ttls;
+    }
+
+    /**
+     * A cached secret, or the absence of one.
+     */
+    private static class Entry {
+        private final long expiresAt;
+        private final boolean present;
+        private char[] secret;
+
+        Entry(@Nullable String secret, long expiresAt) {
+            this.expiresAt = expiresAt;
+            present = secret != null;
+            this.secret = present ? secret.toCharArray() : null;
+        }
+
+        /**
+         * Returns the secret if the entry is still valid, null otherwise.
+         */
+        synchronized Lookup read(long now) {
+            if (now >= expiresAt || (present && secret == null)) {
+                return null;
+            }
+            return new Lookup(present ? new String(secret) : null);
+        }
+
+        synchronized void wipe() {
+            if (secret != null) {
+                Arrays.fill(secret, '\0');
+                secret = null;
+            }
+        }
+    }
+
+    private static class Lookup {
+        private final String value;
+
+        Lookup(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Builder {
+        private Vault vault;
+        private Duration ttl = Duration.ofMinutes(5);
+        private Map<String, Duration> prefixTtls = Map.of();
+        private Duration negativeTtl = Duration.ZERO;
+        private Clock clock = Clock.systemUTC();
+        private Supplier<MetricsRegistry> metrics;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder vault(Vault vault) {
+            this.vault = vault;
+            return this;
+        }
+
+        /**
+         * How long secrets are cached if no prefix matches their key.
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * How long secrets are cached by key prefix.
+         */
+        public Builder prefixTtls(Map<String, Duration> prefixTtls) {
+            this.prefixTtls = prefixTtls;
+            return this;
+        }
+
+        /**
+         * How long the absence of a secret is cached.
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * Supplies the registry to report cache hits, misses and vault latencies to. May return null until the registry is available.
+         */
+        public Builder metrics(Supplier<MetricsRegistry> metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CachingVault build() {
+            Objects.requireNonNull(vault, "vault");
+            Objects.requireNonNull(ttl, "ttl");
+            Objects.requireNonNull(negativeTtl, "negativeTtl");
+            return new CachingVault(vault, ttl, prefixTtls, negativeTtl, clock, metrics);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Notifies a listener of every secret that is stored or deleted through the vault, so that values derived from the secret can be invalidated.
+ */
+public class InvalidatingVault implements Vault {
+    private final Vault delegate;
+    private final Consumer<String> onSecretChanged;
+
+    public InvalidatingVault(Vault delegate, Consumer<String> onSecretChanged) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.onSecretChanged = Objects.requireNonNull(onSecretChanged, "onSecretChanged");
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        return delegate.resolveSecret(key);
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value) {
+        try {
+            return delegate.storeSecret(key, value);
+        } finally {
+            // invalidate even if the write failed, the secret may have been changed partially
+            onSecretChanged.accept(key);
+        }
+    }
+
+    @Override
+    public CompletableFuture<VaultResponse> storeSecretAsync(String key, String value) {
+        try {
+            // a failed write reverts to the previous secret, which must be picked up again
+            return delegate.storeSecretAsync(key, value).whenComplete((response, error) -> onSecretChanged.accept(key));
+        } finally {
+            onSecretChanged.accept(key);
+        }
+    }
+
+    @Override
+    public VaultResponse deleteSecret(String key) {
+        try {
+            return delegate.deleteSecret(key);
+        } finally {
+            onSecretChanged.accept(key);
+        }
+    }
+
+    /**
+     * Returns the decorated vault.
+     */
+    public Vault getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Persists secrets stored with {@link #storeSecretAsync(String, String)} on a background thread, so that callers such as request handlers do not
+ * wait for the delegate vault.
+ * <p>
+ * Until its write has completed, a secret is resolved from memory. Writes and deletes are applied to the delegate in the order they were made,
+ * synchronous calls wait for all earlier asynchronous writes. If a write fails, the secret is dropped from memory and the delegate's value is
+ * resolved again.
+ */
+public class WriteBehindVault implements Vault, AutoCloseable {
+    private final Vault delegate;
+    private final Monitor monitor;
+    private final Map<String, String> pending = new ConcurrentHashMap<>();
+    private final ExecutorService writer;
+
+    public WriteBehindVault(Vault delegate, Monitor monitor) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.monitor = Objects.requireNonNull(monitor, "monitor");
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "edc-vault-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        var value = pending.get(key);
+        return value != null ? value : delegate.resolveSecret(key);
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value) {
+        return storeSecretAsync(key, value).join();
+    }
+
+    @Override
+    public CompletableFuture<VaultResponse> storeSecretAsync(String key, String value) {
+        pending.put(key, value);
+        return write(() -> {
+            try {
+                var response = delegate.storeSecret(key, value);
+                if (!response.success()) {
+                    monitor.severe("Failed to store secret " + key + ": " + response.error());
+                }
+                return response;
+            } finally {
+                // a later write of the same key keeps its own value pending
+                pending.remove(key, value);
+            }
+        });
+    }
+
+    @Override
+    public VaultResponse deleteSecret(String key) {
+        pending.remove(key);
+        return write(() -> delegate.deleteSecret(key)).join();
+    }
+
+    /**
+     * Waits for the writes that have been made so far and stops the writer. Later writes are applied synchronously.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                monitor.severe("Timed out writing pending secrets, " + pending.size() + " secrets may not have been stored");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<VaultResponse> write(Supplier<VaultResponse> operation) {
+        Supplier<VaultResponse> guarded = () -> {
+            try {
+                return operation.get();
+            } catch (RuntimeException e) {
+                monitor.severe("Error writing to vault", e);
+                return new VaultResponse(e.getMessage());
+            }
+        };
+        try {
+            return CompletableFuture.supplyAsync(guarded, writer);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(guarded.get());
+        }
+    }
+}
@@ -16,8 +16,11 @@ package org.eclipse.dataspaceconnector.system;
 
 import net.jodah.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -51,7 +54,7 @@ public class CoreServicesExtension implements ServiceExtension {
     public Set<String> provides() {
         // the PrivateKeyResolver.FEATURE is not required because it gets registered directly by the
         // ExtensionLoader.
-        return Set.of(FEATURE_HTTP_CLIENT, FEATURE_RETRY_POLICY);
+        return Set.of(FEATURE_HTTP_CLIENT, FEATURE_RETRY_POLICY, MetricsRegistry.FEATURE, CatalogVersion.FEATURE);
     }
 
     @Override
@@ -65,6 +68,8 @@ public class CoreServicesExtension implements ServiceExtension {
         addHttpClient(context);
         addRetryPolicy(context);
         registerParser(context);
+        context.registerService(CatalogVersion.class, new CatalogVersion());
+        context.registerService(MetricsRegistry.class, new InMemoryMetricsRegistry());
         monitor.info("Initialized Core Services extension.");
     }
 
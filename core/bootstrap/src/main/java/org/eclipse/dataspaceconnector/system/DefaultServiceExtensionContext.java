@@ -24,11 +24,13 @@ import org.eclipse.dataspaceconnector.util.TopologicalSort;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -44,13 +46,15 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
     private final Monitor monitor;
     private final TypeManager typeManager;
 
-    private final Map<Class<?>, Object> services = new HashMap<>();
+    // extensions of the same dependency level may be booted concurrently
+    private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
     private final ServiceLocator serviceLocator;
+    private final ExtensionActivator activator = new ExtensionActivator(this);
     private List<ConfigurationExtension> configurationExtensions;
     private String connectorId;
 
     public DefaultServiceExtensionContext(TypeManager typeManager, Monitor monitor) {
-        this(typeManager, monitor, new ServiceLocatorImpl());
+        this(typeManager, monitor, IndexedServiceLocator.create());
     }
 
     public DefaultServiceExtensionContext(TypeManager typeManager, Monitor monitor, ServiceLocator serviceLocator) {
@@ -100,12 +104,12 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
 
     @Override
     public <T> boolean hasService(Class<T> type) {
-        return services.containsKey(type);
+        return services.containsKey(type) || activator.providesLazily(type);
     }
 
     @Override
     public <T> T getService(Class<T> type) {
-        T service = (T) services.get(type);
+        T service = lookup(type);
         if (service == null) {
             throw new EdcException("Service not found: " + type.getName());
         }
@@ -117,16 +121,34 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
         if (!isOptional) {
             return getService(type);
         }
-        return (T) services.get(type);
+        return lookup(type);
+    }
+
+    /**
+     * Returns the activator for extensions that are activated on demand or started once the runtime is ready.
+     */
+    public ExtensionActivator getActivator() {
+        return activator;
     }
 
     @Override
     public <T> void registerService(Class<T> type, T service) {
-        services.put(type, service);
+        if (service == null) {
+            services.remove(type);
+        } else {
+            services.put(type, service);
+        }
     }
 
     @Override
     public List<ServiceExtension> loadServiceExtensions() {
+        if (serviceLocator instanceof IndexedServiceLocator) {
+            var indexed = ((IndexedServiceLocator) serviceLocator).loadServiceExtensions(EnumSet.of(PRIMORDIAL, DEFAULT));
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         List<ServiceExtension> serviceExtensions = loadExtensions(ServiceExtension.class, true);
         List<ServiceExtension> primordialExtensions = serviceExtensions.stream().filter(ext -> ext.phase() == PRIMORDIAL).collect(toCollection(ArrayList::new));
         List<ServiceExtension> defaultExtensions = serviceExtensions.stream().filter(ext -> ext.phase() == DEFAULT).collect(toCollection(ArrayList::new));
@@ -157,6 +179,14 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
         connectorId = getSetting("edc.connector.name", "edc-" + UUID.randomUUID());
     }
 
+    private <T> T lookup(Class<T> type) {
+        var service = services.get(type);
+        if (service == null && activator.activate(type)) {
+            service = services.get(type);
+        }
+        return (T) service;
+    }
+
     private void sortExtensions(List<ServiceExtension> extensions, Set<String> loadedExtensions) {
         Map<String, List<ServiceExtension>> mappedExtensions = new HashMap<>();
         extensions.forEach(ext -> ext.provides().forEach(feature -> mappedExtensions.computeIfAbsent(feature, k -> new ArrayList<>()).add(ext)));
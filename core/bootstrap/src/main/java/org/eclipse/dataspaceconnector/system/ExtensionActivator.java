@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Activates extensions that are not initialized or started on boot: {@link ServiceExtension.Activation#LAZY} extensions are activated when one of
+ * their services is first requested, {@link ServiceExtension.Activation#DEFERRED_START} extensions are started once the runtime is ready.
+ */
+public class ExtensionActivator {
+    private final Map<Class<?>, ServiceExtension> lazyProviders = new ConcurrentHashMap<>();
+    private final Map<String, List<ServiceExtension>> lazyFeatures = new ConcurrentHashMap<>();
+    private final Map<ServiceExtension, State> states = new ConcurrentHashMap<>();
+    private final List<ServiceExtension> deferred = new ArrayList<>();
+    private final Set<ServiceExtension> activating = new HashSet<>();
+    private final ServiceExtensionContext context;
+
+    private enum State {
+        PENDING, INITIALIZED, STARTED
+    }
+
+    public ExtensionActivator(ServiceExtensionContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Returns true if a lazy extension that has not been activated yet registers the service type.
+     */
+    public boolean providesLazily(Class<?> type) {
+        var extension = lazyProviders.get(type);
+        return extension != null && states.get(extension) == State.PENDING;
+    }
+
+    /**
+     * Activates the lazy extension registering the service type, if there is one that has not been activated yet.
+     *
+     * @return true if an extension was activated
+     */
+    public boolean activate(Class<?> type) {
+        var extension = lazyProviders.get(type);
+        if (extension == null || states.get(extension) != State.PENDING) {
+            return false;
+        }
+        synchronized (this) {
+            activate(extension);
+        }
+        return true;
+    }
+
+    /**
+     * Starts the extensions whose start was deferred until the runtime is ready.
+     */
+    public void startDeferred() {
+        List<ServiceExtension> toStart;
+        synchronized (this) {
+            toStart = new ArrayList<>(deferred);
+            deferred.clear();
+        }
+        for (var extension : toStart) {
+            extension.start();
+            states.put(extension, State.STARTED);
+        }
+    }
+
+    /**
+     * Returns true if the extension was started and therefore needs to be shut down.
+     */
+    public boolean isStarted(ServiceExtension extension) {
+        var state = states.get(extension);
+        return state == null || state == State.STARTED;
+    }
+
+    void registerLazy(ServiceExtension extension) {
+        states.put(extension, State.PENDING);
+        extension.registeredServices().forEach(type -> lazyProviders.put(type, extension));
+        extension.provides().forEach(feature -> lazyFeatures.computeIfAbsent(feature, k -> new ArrayList<>()).add(extension));
+    }
+
+    synchronized void registerDeferred(ServiceExtension extension) {
+        states.put(extension, State.INITIALIZED);
+        deferred.add(extension);
+    }
+
+    private void activate(ServiceExtension extension) {
+        if (states.get(extension) != State.PENDING) {
+            return;
+        }
+        if (!activating.add(extension)) {
+            throw new EdcException(format("Cyclic activation of lazy extension %s", extension.getClass().getName()));
+        }
+        try {
+            // lazy extensions providing required features are activated first, as they would be on boot
+            for (var feature : extension.requires()) {
+                for (var provider : lazyFeatures.getOrDefault(feature, List.of())) {
+                    activate(provider);
+                }
+            }
+            var start = System.nanoTime();
+            extension.initialize(context);
+            states.put(extension, State.INITIALIZED);
+            extension.start();
+            states.put(extension, State.STARTED);
+            context.getMonitor().debug(() -> format("Activated %s on demand in %s ms", extension.getClass().getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        } finally {
+            activating.remove(extension);
+        }
+    }
+}
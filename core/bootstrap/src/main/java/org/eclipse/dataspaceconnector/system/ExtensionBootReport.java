@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Records how long each extension took to initialize and start.
+ */
+public class ExtensionBootReport {
+    private final Map<ServiceExtension, Entry> entries = new ConcurrentHashMap<>();
+    private final List<ServiceExtension> order;
+    private final int parallelism;
+    private final int levels;
+    private long totalNanos;
+
+    ExtensionBootReport(List<ServiceExtension> extensions, int parallelism, int levels) {
+        order = List.copyOf(extensions);
+        this.parallelism = parallelism;
+        this.levels = levels;
+    }
+
+    /**
+     * Returns the entries in boot order.
+     */
+    public List<Entry> getEntries() {
+        var result = new ArrayList<Entry>();
+        order.forEach(extension -> {
+            var entry = entries.get(extension);
+            if (entry != null) {
+                result.add(entry);
+            }
+        });
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the entries ordered by their total boot time, slowest first.
+     */
+    public List<Entry> getSlowest() {
+        var result = new ArrayList<>(getEntries());
+        result.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return result;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns a one-line summary of the boot.
+     */
+    public String summary() {
+        return format("Booted %s extensions in %s ms (%s dependency levels, parallelism %s)", order.size(), TimeUnit.NANOSECONDS.toMillis(totalNanos), levels, parallelism);
+    }
+
+    void initialized(ServiceExtension extension, int level, long nanos) {
+        entry(extension, level).initializeNanos = nanos;
+    }
+
+    void started(ServiceExtension extension, int level, long nanos) {
+        entry(extension, level).startNanos = nanos;
+    }
+
+    void completed(long nanos) {
+        totalNanos = nanos;
+    }
+
+    private Entry entry(ServiceExtension extension, int level) {
+        return entries.computeIfAbsent(extension, e -> new Entry(e.getClass().getName(), level));
+    }
+
+    /**
+     * The boot timings of one extension.
+     */
+    public static class Entry {
+        private final String name;
+        private final int level;
+        private volatile long initializeNanos;
+        private volatile long startNanos;
+
+        Entry(String name, int level) {
+            this.name = name;
+            this.level = level;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the dependency level the extension was booted in; extensions of the same level may be booted concurrently.
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        public long getInitializeNanos() {
+            return initializeNanos;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getTotalNanos() {
+            return initializeNanos + startNanos;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s: initialize %s ms, start %s ms (level %s)", name, TimeUnit.NANOSECONDS.toMillis(initializeNanos), TimeUnit.NANOSECONDS.toMillis(startNanos), level);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * An index of the extension implementations available to a runtime, generated at build time by {@link ExtensionIndexGenerator}.
+ * <p>
+ * The index lists the implementation classes per extension type. Service extensions are listed in boot order together with their phase,
+ * provided and required features. Each line has the form {@code type|implementation|phase|provides|requires}, features are comma-separated. A type
+ * without implementations is listed with an empty implementation column. If the class path contains several indexes, e.g. one per launcher jar,
+ * their entries are merged and the index is no longer {@link #isOrdered() ordered}.
+ */
+public class ExtensionIndex {
+    public static final String RESOURCE = "META-INF/edc/extensions.index";
+
+    private static final String SEPARATOR = "|";
+
+    private final Map<String, List<Entry>> entries;
+    private final boolean ordered;
+
+    public ExtensionIndex(Map<String, List<Entry>> entries) {
+        this(entries, true);
+    }
+
+    private ExtensionIndex(Map<String, List<Entry>> entries, boolean ordered) {
+        this.entries = entries;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Reads and merges all indexes on the class path, or returns null if there is none.
+     */
+    @Nullable
+    public static ExtensionIndex load(ClassLoader classLoader) {
+        Map<String, Map<String, Entry>> merged = new LinkedHashMap<>();
+        var count = 0;
+        try {
+            var resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), merged);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+        if (count == 0) {
+            return null;
+        }
+        Map<String, List<Entry>> entries = new LinkedHashMap<>();
+        merged.forEach((type, implementations) -> entries.put(type, new ArrayList<>(implementations.values())));
+        return new ExtensionIndex(entries, count == 1);
+    }
+
+    /**
+     * Returns true if the index lists the implementations of the type.
+     */
+    public boolean contains(Class<?> type) {
+        return entries.containsKey(type.getName());
+    }
+
+    /**
+     * Returns true if the service extensions are listed in the boot order computed at build time, which is the case unless several indexes were merged.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Returns the implementations of the type, in boot order for service extensions of an {@link #isOrdered() ordered} index.
+     */
+    public List<Entry> getEntries(Class<?> type) {
+        return entries.getOrDefault(type.getName(), Collections.emptyList());
+    }
+
+    /**
+     * Returns the class names of the implementations of the type.
+     */
+    public List<String> getImplementations(Class<?> type) {
+        return getEntries(type).stream().map(Entry::getClassName).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the index in the format read by {@link #load(ClassLoader)}.
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Generated extension index, do not edit" + System.lineSeparator());
+        for (var type : entries.entrySet()) {
+            if (type.getValue().isEmpty()) {
+                writer.write(type.getKey() + SEPARATOR.repeat(4) + System.lineSeparator());
+                continue;
+            }
+            for (var entry : type.getValue()) {
+                writer.write(String.join(SEPARATOR, type.getKey(), entry.getClassName(), entry.getPhase() != null ? entry.getPhase().name() : "",
+                        String.join(",", entry.getProvides()), String.join(",", entry.getRequires())));
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    private static void read(URL resource, Map<String, Map<String, Entry>> merged) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                var columns = line.split("\\" + SEPARATOR, -1);
+                if (columns.length != 5) {
+                    throw new EdcException(format("Invalid line in extension index %s: %s", resource, line));
+                }
+                var implementations = merged.computeIfAbsent(columns[0], k -> new LinkedHashMap<>());
+                if (!columns[1].isEmpty() && !implementations.containsKey(columns[1])) {
+                    var phase = columns[2].isEmpty() ? null : ServiceExtension.LoadPhase.valueOf(columns[2]);
+                    implementations.put(columns[1], new Entry(columns[1], phase, features(columns[3]), features(columns[4])));
+                }
+            }
+        }
+    }
+
+    private static Set<String> features(String column) {
+        return column.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>(Arrays.asList(column.split(",")));
+    }
+
+    /**
+     * An indexed extension implementation. The phase and features are only indexed for service extensions.
+     */
+    public static class Entry {
+        private final String className;
+        private final ServiceExtension.LoadPhase phase;
+        private final Set<String> provides;
+        private final Set<String> requires;
+
+        public Entry(String className, @Nullable ServiceExtension.LoadPhase phase, Set<String> provides, Set<String> requires) {
+            this.className = className;
+            this.phase = phase;
+            this.provides = provides;
+            this.requires = requires;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        @Nullable
+        public ServiceExtension.LoadPhase getPhase() {
+            return phase;
+        }
+
+        public Set<String> getProvides() {
+            return provides;
+        }
+
+        public Set<String> getRequires() {
+            return requires;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ConfigurationExtension;
+import org.eclipse.dataspaceconnector.spi.system.MonitorExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the {@link ExtensionIndex} for the extensions on the class path. Invoked by the build of a launcher with the path of the index
+ * file as the only argument.
+ */
+public class ExtensionIndexGenerator {
+
+    private ExtensionIndexGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ExtensionIndexGenerator <index file>");
+        }
+        var file = Path.of(args[0]);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            generate(new ServiceLocatorImpl()).write(writer);
+        }
+    }
+
+    /**
+     * Creates the index from the implementations found by the locator. Service extensions are sorted as on runtime boot, which verifies at build
+     * time that their dependencies can be satisfied.
+     */
+    static ExtensionIndex generate(ServiceLocator locator) {
+        Map<String, List<ExtensionIndex.Entry>> entries = new LinkedHashMap<>();
+
+        var context = new DefaultServiceExtensionContext(new TypeManager(), new Monitor() {
+        }, locator);
+        entries.put(ServiceExtension.class.getName(), context.loadServiceExtensions().stream()
+                .map(extension -> new ExtensionIndex.Entry(extension.getClass().getName(), extension.phase(), extension.provides(), extension.requires()))
+                .collect(Collectors.toList()));
+
+        for (var type : List.of(ConfigurationExtension.class, VaultExtension.class, MonitorExtension.class)) {
+            entries.put(type.getName(), locator.loadImplementors(type, false).stream()
+                    .map(extension -> new ExtensionIndex.Entry(extension.getClass().getName(), null, Collections.emptySet(), Collections.emptySet()))
+                    .collect(Collectors.toList()));
+        }
+        return new ExtensionIndex(entries);
+    }
+}
@@ -14,8 +14,15 @@
 
 package org.eclipse.dataspaceconnector.system;
 
+import org.eclipse.dataspaceconnector.monitor.AsyncMonitor;
 import org.eclipse.dataspaceconnector.monitor.ConsoleMonitor;
+import org.eclipse.dataspaceconnector.security.CachingPrivateKeyResolver;
+import org.eclipse.dataspaceconnector.security.InvalidatingVault;
 import org.eclipse.dataspaceconnector.security.NullVaultExtension;
+import org.eclipse.dataspaceconnector.security.WriteBehindVault;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.monitor.MultiplexingMonitor;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
@@ -27,25 +34,270 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.ServiceLoader;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
 public class ExtensionLoader {
 
+    @EdcSetting
+    public static final String BOOT_PARALLELISM_SETTING = "edc.boot.parallelism";
+    @EdcSetting
+    public static final String BOOT_LAZY_SETTING = "edc.boot.lazy";
+    @EdcSetting
+    public static final String PRIVATE_KEY_CACHE_TTL_SETTING = "edc.vault.private-key.cache.ttl";
+    @EdcSetting
+    public static final String VAULT_WRITE_BEHIND_SETTING = "edc.vault.write-behind";
+    @EdcSetting
+    static final String MONITOR_LEVEL_SETTING = "edc.monitor.level";
+    @EdcSetting
+    static final String MONITOR_ASYNC_SETTING = "edc.monitor.async";
+    @EdcSetting
+    static final String MONITOR_ASYNC_BUFFER_SIZE_SETTING = "edc.monitor.async.buffer.size";
+    @EdcSetting
+    static final String MONITOR_ASYNC_BATCH_SIZE_SETTING = "edc.monitor.async.batch.size";
+    @EdcSetting
+    static final String MONITOR_ASYNC_OVERFLOW_SETTING = "edc.monitor.async.overflow";
+
     private ExtensionLoader() {
     }
 
     /**
      * Convenience method for loading service extensions.
+     * <p>
+     * Extensions are grouped into levels by their {@link ServiceExtension#requires()} and {@link ServiceExtension#provides()} declarations; all
+     * extensions of a level are initialized before the next level, and all extensions are initialized before the first one is started. If
+     * {@link #BOOT_PARALLELISM_SETTING} is greater than one, the extensions of a level are initialized and started concurrently, which requires
+     * that they declare every feature they depend on.
+     * <p>
+     * If {@link #BOOT_LAZY_SETTING} is enabled and the context is a {@link DefaultServiceExtensionContext}, extensions are activated as declared by
+     * {@link ServiceExtension#activation()}: lazy extensions are left to the context's {@link ExtensionActivator}, and extensions with deferred start
+     * are only initialized; the runtime starts them with {@link #startDeferredExtensions(ServiceExtensionContext)} once it is ready.
+     *
+     * @return the time each extension took to boot
+     */
+    public static ExtensionBootReport bootServiceExtensions(List<ServiceExtension> serviceExtensions, ServiceExtensionContext context) {
+        var parallelism = Integer.parseInt(context.getSetting(BOOT_PARALLELISM_SETTING, "1"));
+        var activator = Boolean.parseBoolean(context.getSetting(BOOT_LAZY_SETTING, "false")) && context instanceof DefaultServiceExtensionContext ?
+                ((DefaultServiceExtensionContext) context).getActivator() : null;
+
+        List<ServiceExtension> onDemand = activator != null ? lazyExtensions(serviceExtensions, context.getMonitor()) : List.of();
+        var booted = serviceExtensions.stream().filter(extension -> !onDemand.contains(extension)).collect(Collectors.toList());
+        Set<ServiceExtension> deferred = activator != null ?
+                booted.stream().filter(extension -> extension.activation() == ServiceExtension.Activation.DEFERRED_START).collect(Collectors.toSet()) : Set.of();
+        onDemand.forEach(activator::registerLazy);
+
+        var levels = dependencyLevels(booted);
+        var report = new ExtensionBootReport(booted, Math.max(parallelism, 1), levels.size());
+
+        var bootStart = System.nanoTime();
+        if (parallelism <= 1) {
+            // keep the order of the list, extensions may depend on services they do not declare
+            booted.forEach(extension -> initialize(extension, context, levelOf(extension, levels), report));
+            booted.stream().filter(extension -> !deferred.contains(extension)).forEach(extension -> start(extension, levelOf(extension, levels), report));
+        } else {
+            var executor = Executors.newFixedThreadPool(parallelism, new BootThreadFactory());
+            try {
+                for (int level = 0; level < levels.size(); level++) {
+                    var current = level;
+                    runLevel(levels.get(level), extension -> initialize(extension, context, current, report), executor);
+                }
+                for (int level = 0; level < levels.size(); level++) {
+                    var current = level;
+                    var toStart = levels.get(level).stream().filter(extension -> !deferred.contains(extension)).collect(Collectors.toList());
+                    runLevel(toStart, extension -> start(extension, current, report), executor);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        report.completed(System.nanoTime() - bootStart);
+        deferred.forEach(activator::registerDeferred);
+
+        reportBoot(report, context);
+        if (activator != null) {
+            context.getMonitor().info(format("%s extensions are activated on demand, %s are started once the runtime is ready", onDemand.size(), deferred.size()));
+        }
+        return report;
+    }
+
+    /**
+     * Starts the extensions whose start was deferred by {@link #bootServiceExtensions(List, ServiceExtensionContext)}. Call once the runtime is ready.
+     */
+    public static void startDeferredExtensions(ServiceExtensionContext context) {
+        if (context instanceof DefaultServiceExtensionContext) {
+            ((DefaultServiceExtensionContext) context).getActivator().startDeferred();
+        }
+    }
+
+    /**
+     * Returns true if the extension was started, i.e. it was not left for on-demand activation or deferred start, or has been started since.
      */
-    public static void bootServiceExtensions(List<ServiceExtension> serviceExtensions, ServiceExtensionContext context) {
-        serviceExtensions.forEach(extension -> extension.initialize(context));
-        serviceExtensions.forEach(ServiceExtension::start);
+    public static boolean isStarted(ServiceExtension extension, ServiceExtensionContext context) {
+        return !(context instanceof DefaultServiceExtensionContext) || ((DefaultServiceExtensionContext) context).getActivator().isStarted(extension);
     }
 
     /**
-     * Loads a vault extension.
+     * Returns the extensions that can be activated on demand: lazy extensions that declare their services and provide no feature required by an
+     * extension that is activated on boot.
+     */
+    static List<ServiceExtension> lazyExtensions(List<ServiceExtension> serviceExtensions, Monitor monitor) {
+        var candidates = new ArrayList<ServiceExtension>();
+        for (var extension : serviceExtensions) {
+            if (extension.activation() != ServiceExtension.Activation.LAZY) {
+                continue;
+            }
+            if (extension.registeredServices().isEmpty()) {
+                monitor.warning(format("%s is lazy but does not declare its services, activating it on boot", extension.getClass().getName()));
+            } else {
+                candidates.add(extension);
+            }
+        }
+        var changed = true;
+        while (changed) {
+            var requiredOnBoot = serviceExtensions.stream()
+                    .filter(extension -> !candidates.contains(extension))
+                    .flatMap(extension -> extension.requires().stream())
+                    .collect(Collectors.toSet());
+            changed = candidates.removeIf(candidate -> candidate.provides().stream().anyMatch(requiredOnBoot::contains));
+        }
+        return candidates;
+    }
+
+    /**
+     * Groups the extensions by their dependency level: an extension is placed one level above the highest level of the extensions providing a
+     * feature it requires. Extensions of the {@link ServiceExtension.LoadPhase#DEFAULT} phase are placed above all extensions of the
+     * {@link ServiceExtension.LoadPhase#PRIMORDIAL} phase. The order within a level follows the order of the list.
+     */
+    static List<List<ServiceExtension>> dependencyLevels(List<ServiceExtension> serviceExtensions) {
+        Map<ServiceExtension, Integer> assigned = new HashMap<>();
+        var floor = 0;
+        for (var phase : ServiceExtension.LoadPhase.values()) {
+            var phaseExtensions = serviceExtensions.stream().filter(extension -> extension.phase() == phase).collect(Collectors.toList());
+            Map<String, List<ServiceExtension>> providers = new HashMap<>();
+            phaseExtensions.forEach(extension -> extension.provides().forEach(feature -> providers.computeIfAbsent(feature, k -> new ArrayList<>()).add(extension)));
+
+            var highest = floor - 1;
+            for (var extension : phaseExtensions) {
+                highest = Math.max(highest, assignLevel(extension, floor, providers, assigned, new HashSet<>()));
+            }
+            floor = highest + 1;
+        }
+
+        List<List<ServiceExtension>> levels = new ArrayList<>();
+        for (var extension : serviceExtensions) {
+            int level = assigned.get(extension);
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(extension);
+        }
+        levels.removeIf(List::isEmpty);
+        return levels;
+    }
+
+    private static int assignLevel(ServiceExtension extension, int floor, Map<String, List<ServiceExtension>> providers, Map<ServiceExtension, Integer> assigned, Set<ServiceExtension> visiting) {
+        var known = assigned.get(extension);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(extension)) {
+            throw new EdcException(format("Cyclic extension dependency for %s", extension.getClass().getName()));
+        }
+        var level = floor;
+        for (var feature : extension.requires()) {
+            for (var provider : providers.getOrDefault(feature, List.of())) {
+                if (provider != extension) {
+                    level = Math.max(level, assignLevel(provider, floor, providers, assigned, visiting) + 1);
+                }
+            }
+        }
+        visiting.remove(extension);
+        assigned.put(extension, level);
+        return level;
+    }
+
+    private static int levelOf(ServiceExtension extension, List<List<ServiceExtension>> levels) {
+        for (int level = 0; level < levels.size(); level++) {
+            if (levels.get(level).contains(extension)) {
+                return level;
+            }
+        }
+        return 0;
+    }
+
+    private static void initialize(ServiceExtension extension, ServiceExtensionContext context, int level, ExtensionBootReport report) {
+        var start = System.nanoTime();
+        extension.initialize(context);
+        report.initialized(extension, level, System.nanoTime() - start);
+    }
+
+    private static void start(ServiceExtension extension, int level, ExtensionBootReport report) {
+        var start = System.nanoTime();
+        extension.start();
+        report.started(extension, level, System.nanoTime() - start);
+    }
+
+    /**
+     * Runs the action for all extensions of a level on the executor and waits for all of them, rethrowing the first failure.
+     */
+    private static void runLevel(List<ServiceExtension> level, Consumer<ServiceExtension> action, ExecutorService executor) {
+        if (level.size() == 1) {
+            action.accept(level.get(0));
+            return;
+        }
+        var futures = level.stream()
+                .map(extension -> CompletableFuture.runAsync(() -> action.accept(extension), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EdcException(cause);
+        }
+    }
+
+    private static void reportBoot(ExtensionBootReport report, ServiceExtensionContext context) {
+        var monitor = context.getMonitor();
+        monitor.info(report::summary);
+        if (monitor.isDebugEnabled()) {
+            report.getSlowest().forEach(entry -> monitor.debug(entry::toString));
+        }
+        var metrics = context.getService(MetricsRegistry.class, true);
+        if (metrics != null) {
+            report.getEntries().forEach(entry -> {
+                metrics.timer("edc.boot.extension", "extension", entry.getName(), "stage", "initialize").record(entry.getInitializeNanos(), TimeUnit.NANOSECONDS);
+                metrics.timer("edc.boot.extension", "extension", entry.getName(), "stage", "start").record(entry.getStartNanos(), TimeUnit.NANOSECONDS);
+            });
+            metrics.timer("edc.boot").record(report.getTotalNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Loads a vault extension. Unless {@link #PRIVATE_KEY_CACHE_TTL_SETTING} is 0, parsed private keys are cached and invalidated when the
+     * secret is stored or deleted through the registered vault. If {@link #VAULT_WRITE_BEHIND_SETTING} is true, secrets stored with
+     * {@link Vault#storeSecretAsync(String, String)} are persisted in the background until the vault is closed with {@link #closeVault(ServiceExtensionContext)},
+     * see {@link WriteBehindVault}.
      */
     public static void loadVault(ServiceExtensionContext context) {
         VaultExtension vaultExtension = context.loadSingletonExtension(VaultExtension.class, false);
@@ -55,21 +307,49 @@ public class ExtensionLoader {
         }
         vaultExtension.initialize(context.getMonitor());
         vaultExtension.intializeVault(context);
-        context.registerService(Vault.class, vaultExtension.getVault());
-        context.registerService(PrivateKeyResolver.class, vaultExtension.getPrivateKeyResolver());
+
+        var vault = vaultExtension.getVault();
+        if (Boolean.parseBoolean(context.getSetting(VAULT_WRITE_BEHIND_SETTING, "false"))) {
+            vault = new WriteBehindVault(vault, context.getMonitor());
+        }
+        var privateKeyResolver = vaultExtension.getPrivateKeyResolver();
+        // parsed keys are cached for the given number of seconds, 0 disables the cache
+        var cacheTtl = Long.parseLong(context.getSetting(PRIVATE_KEY_CACHE_TTL_SETTING, "300"));
+        if (cacheTtl > 0) {
+            var cachingResolver = new CachingPrivateKeyResolver(privateKeyResolver, Duration.ofSeconds(cacheTtl));
+            vault = new InvalidatingVault(vault, cachingResolver::invalidate);
+            privateKeyResolver = cachingResolver;
+        }
+        context.registerService(Vault.class, vault);
+        context.registerService(PrivateKeyResolver.class, privateKeyResolver);
         context.registerService(CertificateResolver.class, vaultExtension.getCertificateResolver());
     }
 
+    /**
+     * Waits for the secrets that the vault registered by {@link #loadVault(ServiceExtensionContext)} has not persisted yet. Must be called after the
+     * extensions that store secrets have been shut down.
+     */
+    public static void closeVault(ServiceExtensionContext context) {
+        var vault = context.getService(Vault.class, true);
+        while (vault instanceof InvalidatingVault) {
+            vault = ((InvalidatingVault) vault).getDelegate();
+        }
+        if (vault instanceof WriteBehindVault) {
+            ((WriteBehindVault) vault).close();
+        }
+    }
+
     public static @NotNull Monitor loadMonitor() {
-        var loader = ServiceLoader.load(MonitorExtension.class);
-        return loadMonitor(loader.stream().map(ServiceLoader.Provider::get).collect(Collectors.toList()));
+        return loadMonitor(IndexedServiceLocator.create().loadImplementors(MonitorExtension.class, false));
     }
 
     static @NotNull Monitor loadMonitor(List<MonitorExtension> availableMonitors) {
+        return loadMonitor(availableMonitors, ExtensionLoader::propOrEnv);
+    }
 
-
+    static @NotNull Monitor loadMonitor(List<MonitorExtension> availableMonitors, Function<String, String> settings) {
         if (availableMonitors.isEmpty()) {
-            return new ConsoleMonitor();
+            return createDefaultMonitor(settings);
         }
 
         if (availableMonitors.size() > 1) {
@@ -78,4 +358,42 @@ public class ExtensionLoader {
 
         return availableMonitors.get(0).getMonitor();
     }
+
+    /**
+     * Creates the console monitor used when no monitor extension is present. Since the monitor exists before the configuration is loaded, it is
+     * configured through system properties or environment variables.
+     */
+    private static Monitor createDefaultMonitor(Function<String, String> settings) {
+        var level = ConsoleMonitor.Level.valueOf(setting(settings, MONITOR_LEVEL_SETTING, ConsoleMonitor.Level.DEBUG.name()).toUpperCase(Locale.ROOT));
+        if (!Boolean.parseBoolean(setting(settings, MONITOR_ASYNC_SETTING, "false"))) {
+            return new ConsoleMonitor(null, level);
+        }
+        return AsyncMonitor.Builder.newInstance()
+                .level(level)
+                .bufferSize(Integer.parseInt(setting(settings, MONITOR_ASYNC_BUFFER_SIZE_SETTING, String.valueOf(AsyncMonitor.DEFAULT_BUFFER_SIZE))))
+                .batchSize(Integer.parseInt(setting(settings, MONITOR_ASYNC_BATCH_SIZE_SETTING, String.valueOf(AsyncMonitor.DEFAULT_BATCH_SIZE))))
+                .overflowPolicy(AsyncMonitor.OverflowPolicy.valueOf(setting(settings, MONITOR_ASYNC_OVERFLOW_SETTING, AsyncMonitor.OverflowPolicy.BLOCK.name()).toUpperCase(Locale.ROOT)))
+                .build();
+    }
+
+    private static String setting(Function<String, String> settings, String key, String defaultValue) {
+        var value = settings.apply(key);
+        return value != null ? value : defaultValue;
+    }
+
+    private static String propOrEnv(String key) {
+        var value = System.getProperty(key);
+        return value != null ? value : System.getenv(key);
+    }
+
+    private static class BootThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "edc-boot-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.util.TopologicalSort;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Locates implementors through the {@link ExtensionIndex} generated at build time instead of scanning the class path. Only the listed classes
+ * are loaded and instantiated; service extensions are filtered and ordered on their indexed metadata. Types that are not part of the index are delegated to the fallback locator.
+ */
+public class IndexedServiceLocator implements ServiceLocator {
+    /**
+     * Set to false to ignore the index and scan the class path, e.g. when extensions are added to a runtime without rebuilding it.
+     */
+    @EdcSetting
+    public static final String INDEX_ENABLED_SETTING = "edc.extensions.index.enabled";
+
+    private final ExtensionIndex index;
+    private final ClassLoader classLoader;
+    private final ServiceLocator fallback;
+
+    public IndexedServiceLocator(ExtensionIndex index, ClassLoader classLoader, ServiceLocator fallback) {
+        this.index = index;
+        this.classLoader = classLoader;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns a locator backed by the extension index if the class path contains one, otherwise a locator that uses the {@link java.util.ServiceLoader}.
+     * Since extensions are located before the configuration is loaded, the index can only be disabled through a system property or environment variable.
+     */
+    public static ServiceLocator create() {
+        var enabled = System.getProperty(INDEX_ENABLED_SETTING, System.getenv(INDEX_ENABLED_SETTING));
+        if ("false".equalsIgnoreCase(enabled)) {
+            return new ServiceLocatorImpl();
+        }
+        var classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = IndexedServiceLocator.class.getClassLoader();
+        }
+        var index = ExtensionIndex.load(classLoader);
+        return index != null ? new IndexedServiceLocator(index, classLoader, new ServiceLocatorImpl()) : new ServiceLocatorImpl();
+    }
+
+    @Override
+    public <T> List<T> loadImplementors(Class<T> type, boolean required) {
+        if (!index.contains(type)) {
+            return fallback.loadImplementors(type, required);
+        }
+        var implementors = instantiate(type);
+        if (implementors.isEmpty() && required) {
+            throw new EdcException("No classes found of type:  " + type.getName());
+        }
+        return implementors;
+    }
+
+    @Override
+    public <T> T loadSingletonImplementor(Class<T> type, boolean required) {
+        if (!index.contains(type)) {
+            return fallback.loadSingletonImplementor(type, required);
+        }
+        var implementations = index.getImplementations(type);
+        if (implementations.isEmpty() && required) {
+            throw new EdcException("No extensions found of type:  " + type.getName());
+        } else if (implementations.size() > 1) {
+            throw new EdcException(format("Multiple extensions found of type: %s [%s]", type.getName(), String.join(",", implementations)));
+        }
+        return !implementations.isEmpty() ? instantiate(type).get(0) : null;
+    }
+
+    /**
+     * Returns the indexed service extensions of the given phases in boot order, or null if service extensions are not indexed. Only extensions of the
+     * given phases are instantiated. The order computed at build time is used as is if the index is {@link ExtensionIndex#isOrdered() ordered},
+     * otherwise the entries are sorted on their indexed features. In neither case an extension is instantiated for sorting.
+     */
+    @Nullable
+    public List<ServiceExtension> loadServiceExtensions(Set<ServiceExtension.LoadPhase> phases) {
+        if (!index.contains(ServiceExtension.class)) {
+            return null;
+        }
+        var entries = index.getEntries(ServiceExtension.class);
+        List<ExtensionIndex.Entry> selected = new ArrayList<>();
+        if (index.isOrdered()) {
+            entries.stream().filter(entry -> phases.contains(entry.getPhase())).forEach(selected::add);
+        } else {
+            Set<String> loadedFeatures = new HashSet<>();
+            for (var phase : ServiceExtension.LoadPhase.values()) {
+                var phaseEntries = entries.stream().filter(entry -> entry.getPhase() == phase).collect(toCollection(ArrayList::new));
+                sort(phaseEntries, loadedFeatures);
+                phaseEntries.forEach(entry -> loadedFeatures.addAll(entry.getProvides()));
+                if (phases.contains(phase)) {
+                    selected.addAll(phaseEntries);
+                }
+            }
+        }
+        var extensions = instantiate(ServiceExtension.class, selected);
+        if (extensions.isEmpty()) {
+            throw new EdcException("No classes found of type:  " + ServiceExtension.class.getName());
+        }
+        return extensions;
+    }
+
+    private <T> List<T> instantiate(Class<T> type) {
+        return instantiate(type, index.getEntries(type));
+    }
+
+    private <T> List<T> instantiate(Class<T> type, List<ExtensionIndex.Entry> entries) {
+        var implementors = new ArrayList<T>();
+        for (var entry : entries) {
+            try {
+                var implementation = Class.forName(entry.getClassName(), true, classLoader);
+                implementors.add(type.cast(implementation.getDeclaredConstructor().newInstance()));
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new EdcException(format("Cannot instantiate %s listed in the extension index, the index may be outdated", entry.getClassName()), e);
+            }
+        }
+        return implementors;
+    }
+
+    /**
+     * Sorts the entries of one phase like {@link DefaultServiceExtensionContext#loadServiceExtensions()} sorts the extensions, but on the indexed features.
+     */
+    private void sort(List<ExtensionIndex.Entry> entries, Set<String> loadedFeatures) {
+        Map<String, List<ExtensionIndex.Entry>> providers = new HashMap<>();
+        entries.forEach(entry -> entry.getProvides().forEach(feature -> providers.computeIfAbsent(feature, k -> new ArrayList<>()).add(entry)));
+
+        TopologicalSort<ExtensionIndex.Entry> sort = new TopologicalSort<>();
+        entries.forEach(entry -> entry.getRequires().forEach(feature -> {
+            var dependencies = providers.get(feature);
+            if (dependencies == null && !loadedFeatures.contains(feature)) {
+                throw new EdcException(format("Extension feature required by %s not found: %s", entry.getClassName(), feature));
+            } else if (dependencies != null) {
+                dependencies.forEach(dependency -> sort.addDependency(entry, dependency));
+            }
+        }));
+        sort.sort(entries);
+    }
+}
@@ -18,16 +18,21 @@ import org.eclipse.dataspaceconnector.spi.EdcException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 
 public class ServiceLocatorImpl implements ServiceLocator {
+    // the class path is only scanned once per type, every lookup still creates new instances
+    private final Map<Class<?>, List<? extends ServiceLoader.Provider<?>>> providers = new ConcurrentHashMap<>();
+
     @Override
     public <T> List<T> loadImplementors(Class<T> type, boolean required) {
-        List<T> classes = new ArrayList<>();
-        ServiceLoader.load(type).iterator().forEachRemaining(classes::add);
+        List<T> classes = instantiate(type);
         if (classes.isEmpty() && required) {
             throw new EdcException("No classes found of type:  " + type.getName());
         }
@@ -36,8 +41,7 @@ public class ServiceLocatorImpl implements ServiceLocator {
 
     @Override
     public <T> T loadSingletonImplementor(Class<T> type, boolean required) {
-        List<T> extensions = new ArrayList<>();
-        ServiceLoader.load(type).iterator().forEachRemaining(extensions::add);
+        List<T> extensions = instantiate(type);
         if (extensions.isEmpty() && required) {
             throw new EdcException("No extensions found of type:  " + type.getName());
         } else if (extensions.size() > 1) {
@@ -46,4 +50,11 @@ public class ServiceLocatorImpl implements ServiceLocator {
         }
         return !extensions.isEmpty() ? extensions.get(0) : null;
     }
+
+    private <T> List<T> instantiate(Class<T> type) {
+        var typeProviders = providers.computeIfAbsent(type, t -> ServiceLoader.load(t).stream().collect(Collectors.toList()));
+        List<T> instances = new ArrayList<>();
+        typeProviders.forEach(provider -> instances.add(type.cast(provider.get())));
+        return instances;
+    }
 }
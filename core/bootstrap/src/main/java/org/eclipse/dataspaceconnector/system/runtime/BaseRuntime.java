@@ -1,5 +1,6 @@
 package org.eclipse.dataspaceconnector.system.runtime;
 
+import org.eclipse.dataspaceconnector.monitor.ConsoleMonitor;
 import org.eclipse.dataspaceconnector.monitor.MonitorProvider;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -11,11 +12,15 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.bootServiceExtensions;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.closeVault;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.isStarted;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadMonitor;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadVault;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.startDeferredExtensions;
 
 /**
  * Base runtime class. During its {@code main()} method it instantiates a new {@code BaseRuntime} object that bootstraps
@@ -35,6 +40,7 @@ import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadVault;
 public class BaseRuntime {
 
     private Monitor monitor;
+    private ServiceExtensionContext context;
 
     public static void main(String[] args) {
         BaseRuntime runtime = new BaseRuntime();
@@ -49,11 +55,12 @@ public class BaseRuntime {
      * Main entry point to runtime initialization. Calls all methods.
      */
     protected void boot() {
+        var bootStart = System.nanoTime();
         var typeManager = createTypeManager();
         monitor = createMonitor();
         MonitorProvider.setInstance(monitor);
 
-        var context = createContext(typeManager, monitor);
+        context = createContext(typeManager, monitor);
         initializeContext(context);
 
         var name = getRuntimeName(context);
@@ -67,8 +74,9 @@ public class BaseRuntime {
             onError(e);
 
         }
-        monitor.info(format("%s ready", name));
+        monitor.info(format("%s ready in %s ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - bootStart)));
 
+        startDeferredExtensions(context);
     }
 
     /**
@@ -136,15 +144,30 @@ public class BaseRuntime {
      * Hook that is called when a runtime is shutdown (e.g. after a CTRL-C command on a command line). It is highly advisable to
      * forward this signal to all extensions through their {@link ServiceExtension#shutdown()} callback.
      *
+     * Extensions that were never started, e.g. lazy extensions that were not needed, are skipped. Secrets that the vault has not persisted yet are
+     * written after the extensions have been shut down.
+     *
      * @param serviceExtensions All extensions that should receive the shutdown signal.
      * @param monitor           A monitor - should you need one.
      */
     protected void shutdown(List<ServiceExtension> serviceExtensions, Monitor monitor) {
         ListIterator<ServiceExtension> iter = serviceExtensions.listIterator(serviceExtensions.size());
         while (iter.hasPrevious()) {
-            iter.previous().shutdown();
+            var extension = iter.previous();
+            if (isStarted(extension, context)) {
+                extension.shutdown();
+            }
         }
+        closeVault(context);
         monitor.info("Connector shutdown complete");
+        if (monitor instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) monitor).close();
+            } catch (Exception e) {
+                // the monitor is gone, report on the console
+                new ConsoleMonitor().severe("Failed to close the monitor", e);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class InMemoryMetricsRegistryTest {
+
+    private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry(100);
+
+    @Test
+    void verifyCounterIsSharedByNameAndTags() {
+        registry.counter("requests", "type", "a", "outcome", "ok").increment();
+        registry.counter("requests", "outcome", "ok", "type", "a").increment(2);
+        registry.counter("requests", "type", "b", "outcome", "ok").increment();
+
+        assertThat(registry.counter("requests", "type", "a", "outcome", "ok").getCount()).isEqualTo(3);
+        assertThat(registry.getMetrics()).hasSize(2);
+        assertThat(registry.counter("requests", "type", "a", "outcome", "ok").getTags()).containsExactly(entry("outcome", "ok"), entry("type", "a"));
+    }
+
+    @Test
+    void verifyGaugeSamplesOnRead() {
+        var value = new AtomicInteger(1);
+        var gauge = registry.gauge("queue.depth", value::get);
+
+        value.set(5);
+
+        assertThat(gauge.getValue()).isEqualTo(5);
+    }
+
+    @Test
+    void verifyHistogramQuantiles() {
+        var histogram = registry.histogram("batch.size");
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        var snapshot = histogram.getSnapshot();
+        assertThat(snapshot.getCount()).isEqualTo(100);
+        assertThat(snapshot.getSum()).isEqualTo(5050);
+        assertThat(snapshot.getValue(0.5)).isEqualTo(50);
+        assertThat(snapshot.getValue(0.99)).isEqualTo(99);
+        assertThat(snapshot.getMax()).isEqualTo(100);
+    }
+
+    @Test
+    void verifyHistogramRetainsMostRecentValues() {
+        var histogram = registry.histogram("batch.size");
+        for (int i = 1; i <= 150; i++) {
+            histogram.record(i);
+        }
+
+        var snapshot = histogram.getSnapshot();
+        assertThat(snapshot.getCount()).isEqualTo(150);
+        assertThat(snapshot.size()).isEqualTo(100);
+        assertThat(snapshot.getValue(0)).isEqualTo(51);
+    }
+
+    @Test
+    void verifyTimerReportsSeconds() {
+        var timer = registry.timer("latency");
+        timer.record(250, TimeUnit.MILLISECONDS);
+        timer.record(750, TimeUnit.MILLISECONDS);
+
+        var snapshot = timer.getSnapshot();
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getSum()).isEqualTo(1.0);
+        assertThat(snapshot.getMax()).isEqualTo(0.75);
+    }
+
+    @Test
+    void verifyTypeConflictRejected() {
+        registry.counter("requests");
+
+        assertThatThrownBy(() -> registry.timer("requests")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyUnpairedTagsRejected() {
+        assertThatThrownBy(() -> registry.counter("requests", "type")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
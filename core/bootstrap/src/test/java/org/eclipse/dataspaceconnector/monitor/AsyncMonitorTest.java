@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.monitor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncMonitorTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void verifyMessagesWrittenInOrderOnClose() {
+        var monitor = AsyncMonitor.Builder.newInstance().out(printStream()).batchSize(2).build();
+
+        for (int i = 0; i < 10; i++) {
+            monitor.info("message " + i);
+        }
+        monitor.close();
+
+        var lines = lines();
+        assertThat(lines).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(lines[i]).startsWith("INFO ").endsWith(" message " + i);
+        }
+    }
+
+    @Test
+    void verifySupplierNotEvaluatedBelowLevel() {
+        var monitor = AsyncMonitor.Builder.newInstance().out(printStream()).level(ConsoleMonitor.Level.INFO).build();
+        var evaluations = new AtomicInteger();
+
+        monitor.debug(() -> "debug " + evaluations.incrementAndGet());
+        monitor.info(() -> "info " + evaluations.incrementAndGet());
+        monitor.close();
+
+        assertThat(monitor.isDebugEnabled()).isFalse();
+        assertThat(monitor.isInfoEnabled()).isTrue();
+        assertThat(evaluations.get()).isEqualTo(1);
+        assertThat(lines()).hasSize(1);
+    }
+
+    @Test
+    void verifyStackTraceFollowsMessage() {
+        var monitor = AsyncMonitor.Builder.newInstance().out(printStream()).build();
+
+        monitor.severe("failed", new IllegalStateException("boom"));
+        monitor.info("next");
+        monitor.close();
+
+        var lines = lines();
+        assertThat(lines[0]).startsWith("SEVERE ").endsWith(" failed");
+        assertThat(lines[1]).contains("IllegalStateException: boom");
+        assertThat(lines[lines.length - 1]).startsWith("INFO ").endsWith(" next");
+    }
+
+    @Test
+    void verifyWritesOnCallerAfterClose() {
+        var monitor = AsyncMonitor.Builder.newInstance().out(printStream()).build();
+        monitor.close();
+
+        monitor.warning("late");
+
+        assertThat(lines()).hasSize(1);
+        assertThat(lines()[0]).startsWith("WARNING ").endsWith(" late");
+    }
+
+    private PrintStream printStream() {
+        return new PrintStream(output, false, StandardCharsets.UTF_8);
+    }
+
+    private String[] lines() {
+        return output.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+    }
+}
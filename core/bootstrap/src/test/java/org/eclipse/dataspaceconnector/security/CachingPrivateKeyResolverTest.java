@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingPrivateKeyResolverTest {
+
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
+    private final AtomicInteger parsed = new AtomicInteger();
+    private MutableClock clock;
+    private Vault vault;
+    private CachingPrivateKeyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        var mapVault = new MapVault(secrets);
+        var vaultResolver = new VaultPrivateKeyResolver(mapVault);
+        resolver = new CachingPrivateKeyResolver(vaultResolver, Duration.ofMinutes(1), clock);
+        resolver.addParser(String.class, encoded -> {
+            parsed.incrementAndGet();
+            return "parsed-" + encoded;
+        });
+        resolver.addParser(Integer.class, encoded -> {
+            parsed.incrementAndGet();
+            return encoded.length();
+        });
+        vault = new InvalidatingVault(mapVault, resolver::invalidate);
+        secrets.put("key", "v1");
+    }
+
+    @Test
+    void verifyParsedKeyIsCached() {
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isEqualTo("parsed-v1");
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isEqualTo("parsed-v1");
+
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void verifyCachedPerKeyType() {
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isEqualTo("parsed-v1");
+        assertThat(resolver.resolvePrivateKey("key", Integer.class)).isEqualTo(2);
+
+        assertThat(parsed).hasValue(2);
+        assertThat(resolver.size()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyExpiredKeyIsResolvedAgain() {
+        resolver.resolvePrivateKey("key", String.class);
+        secrets.put("key", "v2");
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isEqualTo("parsed-v1");
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isEqualTo("parsed-v2");
+    }
+
+    @Test
+    void verifyInvalidatedWhenSecretRotated() {
+        resolver.resolvePrivateKey("key", String.class);
+        resolver.resolvePrivateKey("key", Integer.class);
+
+        vault.storeSecret("key", "v22");
+
+        assertThat(resolver.size()).isZero();
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isEqualTo("parsed-v22");
+        assertThat(resolver.resolvePrivateKey("key", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void verifyInvalidatedWhenSecretDeleted() {
+        resolver.resolvePrivateKey("key", String.class);
+
+        vault.deleteSecret("key");
+
+        assertThat(resolver.resolvePrivateKey("key", String.class)).isNull();
+    }
+
+    @Test
+    void verifyMissingKeyIsNotCached() {
+        assertThat(resolver.resolvePrivateKey("other", String.class)).isNull();
+
+        secrets.put("other", "v1");
+
+        assertThat(resolver.resolvePrivateKey("other", String.class)).isEqualTo("parsed-v1");
+    }
+
+    private static class MapVault implements Vault {
+        private final Map<String, String> secrets;
+
+        MapVault(Map<String, String> secrets) {
+            this.secrets = secrets;
+        }
+
+        @Override
+        public String resolveSecret(String key) {
+            return secrets.get(key);
+        }
+
+        @Override
+        public VaultResponse storeSecret(String key, String value) {
+            secrets.put(key, value);
+            return VaultResponse.OK;
+        }
+
+        @Override
+        public VaultResponse deleteSecret(String key) {
+            secrets.remove(key);
+            return VaultResponse.OK;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
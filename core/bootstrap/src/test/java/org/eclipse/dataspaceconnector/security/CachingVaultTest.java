@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class CachingVaultTest {
+
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
+    private final AtomicInteger remoteReads = new AtomicInteger();
+    private final InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+    private MutableClock clock;
+    private CountDownLatch release;
+    private CachingVault vault;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        vault = CachingVault.Builder.newInstance()
+                .vault(new RemoteVault())
+                .ttl(Duration.ofMinutes(5))
+                .prefixTtls(Map.of("token-", Duration.ofSeconds(10), "token-long-", Duration.ofMinutes(10)))
+                .negativeTtl(Duration.ofSeconds(5))
+                .metrics(() -> metrics)
+                .clock(clock)
+                .build();
+        secrets.put("key", "secret");
+    }
+
+    @Test
+    void verifySecretIsCached() {
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+
+        assertThat(remoteReads).hasValue(1);
+        assertThat(vault.getHits()).isEqualTo(1);
+        assertThat(vault.getMisses()).isEqualTo(1);
+        assertThat(metrics.timer("edc.vault.remote", "operation", "resolve").getSnapshot().getCount()).isEqualTo(1);
+        assertThat(metrics.counter("edc.vault.cache.requests", "result", "hit").getCount()).isEqualTo(1);
+        assertThat(metrics.counter("edc.vault.cache.requests", "result", "miss").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyTtlByLongestPrefix() {
+        secrets.put("token-a", "a");
+        secrets.put("token-long-b", "b");
+        vault.resolveSecret("token-a");
+        vault.resolveSecret("token-long-b");
+        vault.resolveSecret("key");
+
+        clock.advance(Duration.ofSeconds(10));
+        vault.resolveSecret("token-a");
+        vault.resolveSecret("token-long-b");
+        assertThat(remoteReads).hasValue(4);
+
+        clock.advance(Duration.ofMinutes(5));
+        vault.resolveSecret("token-long-b");
+        vault.resolveSecret("key");
+        assertThat(remoteReads).hasValue(5);
+    }
+
+    @Test
+    void verifyMissingSecretIsCachedBriefly() {
+        assertThat(vault.resolveSecret("missing")).isNull();
+        secrets.put("missing", "now-present");
+        assertThat(vault.resolveSecret("missing")).isNull();
+
+        clock.advance(Duration.ofSeconds(5));
+
+        assertThat(vault.resolveSecret("missing")).isEqualTo("now-present");
+    }
+
+    @Test
+    void verifyWriteThrough() {
+        vault.resolveSecret("key");
+
+        vault.storeSecret("key", "rotated");
+
+        assertThat(secrets).contains(entry("key", "rotated"));
+        assertThat(vault.resolveSecret("key")).isEqualTo("rotated");
+        assertThat(remoteReads).hasValue(1);
+
+        vault.deleteSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isNull();
+        assertThat(remoteReads).hasValue(1);
+    }
+
+    @Test
+    void verifyConcurrentMissesLoadOnce() throws Exception {
+        release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> vault.resolveSecret("key")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("secret");
+            }
+            assertThat(remoteReads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyFailureIsNotCached() {
+        secrets.put("fail", "");
+
+        assertThatThrownBy(() -> vault.resolveSecret("fail")).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> vault.resolveSecret("fail")).isInstanceOf(EdcException.class);
+        assertThat(remoteReads).hasValue(2);
+    }
+
+    @Test
+    void verifyWipe() {
+        vault.resolveSecret("key");
+
+        vault.wipe();
+
+        assertThat(vault.size()).isZero();
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(remoteReads).hasValue(2);
+    }
+
+    @Test
+    void verifyPrefixTtlsParsed() {
+        assertThat(CachingVault.parsePrefixTtls("token-=10, cert-=600,")).containsExactly(entry("token-", Duration.ofSeconds(10)), entry("cert-", Duration.ofSeconds(600)));
+        assertThatThrownBy(() -> CachingVault.parsePrefixTtls("token-")).isInstanceOf(EdcException.class);
+    }
+
+    private class RemoteVault implements Vault {
+        @Override
+        public String resolveSecret(String key) {
+            remoteReads.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            var secret = secrets.get(key);
+            if ("".equals(secret)) {
+                throw new EdcException("vault unavailable");
+            }
+            return secret;
+        }
+
+        @Override
+        public VaultResponse storeSecret(String key, String value) {
+            secrets.put(key, value);
+            return VaultResponse.OK;
+        }
+
+        @Override
+        public VaultResponse deleteSecret(String key) {
+            secrets.remove(key);
+            return VaultResponse.OK;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindVaultTest {
+
+    private final BlockingVault delegate = new BlockingVault();
+    private final WriteBehindVault vault = new WriteBehindVault(delegate, new Monitor() {
+    });
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        vault.close();
+    }
+
+    @Test
+    void storeSecretAsync_resolvableBeforeWritten() throws Exception {
+        var write = vault.storeSecretAsync("key", "secret");
+
+        assertThat(write).isNotDone();
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(delegate.secrets).doesNotContainKey("key");
+
+        delegate.release.countDown();
+
+        assertThat(write.get(10, TimeUnit.SECONDS).success()).isTrue();
+        assertThat(delegate.secrets).containsEntry("key", "secret");
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+    }
+
+    @Test
+    void storeSecretAsync_failedWriteRevertsToStoredSecret() throws Exception {
+        delegate.secrets.put("key", "old");
+        delegate.failing = true;
+
+        var write = vault.storeSecretAsync("key", "new");
+        assertThat(vault.resolveSecret("key")).isEqualTo("new");
+        delegate.release.countDown();
+
+        assertThat(write.get(10, TimeUnit.SECONDS).success()).isFalse();
+        assertThat(vault.resolveSecret("key")).isEqualTo("old");
+    }
+
+    @Test
+    void writesAppliedInOrder() {
+        vault.storeSecretAsync("key", "first");
+        vault.storeSecretAsync("other", "value");
+        delegate.release.countDown();
+
+        vault.deleteSecret("key");
+        vault.storeSecret("key", "second");
+
+        assertThat(delegate.operations).containsExactly("store key", "store other", "delete key", "store key");
+        assertThat(vault.resolveSecret("key")).isEqualTo("second");
+    }
+
+    /**
+     * Holds writes until released.
+     */
+    private static class BlockingVault implements Vault {
+        private final Map<String, String> secrets = new ConcurrentHashMap<>();
+        private final List<String> operations = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean failing;
+
+        @Override
+        public @Nullable String resolveSecret(String key) {
+            return secrets.get(key);
+        }
+
+        @Override
+        public VaultResponse storeSecret(String key, String value) {
+            await();
+            operations.add("store " + key);
+            if (failing) {
+                return new VaultResponse("unavailable");
+            }
+            secrets.put(key, value);
+            return VaultResponse.OK;
+        }
+
+        @Override
+        public VaultResponse deleteSecret(String key) {
+            await();
+            operations.add("delete " + key);
+            secrets.remove(key);
+            return VaultResponse.OK;
+        }
+
+        private void await() {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@ package org.eclipse.dataspaceconnector.system;
 import net.jodah.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
 import org.easymock.MockType;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
@@ -41,7 +43,7 @@ class CoreServicesExtensionTest {
 
     @Test
     void provides() {
-        assertThat(extension.provides()).containsExactlyInAnyOrder("dataspaceconnector:http-client", "edc:retry-policy");
+        assertThat(extension.provides()).containsExactlyInAnyOrder("dataspaceconnector:http-client", "edc:retry-policy", "edc:metrics", "edc:catalog-version");
     }
 
     @Test
@@ -74,6 +76,12 @@ class CoreServicesExtensionTest {
         expect(context.getService(Vault.class)).andReturn(niceMock(Vault.class)).anyTimes();
         expect(context.getService(eq(PrivateKeyResolver.class))).andReturn(niceMock(PrivateKeyResolver.class));
 
+        context.registerService(eq(CatalogVersion.class), isA(CatalogVersion.class));
+        expectLastCall().times(1);
+
+        context.registerService(eq(MetricsRegistry.class), isA(MetricsRegistry.class));
+        expectLastCall().times(1);
+
         replay(context);
 
         extension.initialize(context);
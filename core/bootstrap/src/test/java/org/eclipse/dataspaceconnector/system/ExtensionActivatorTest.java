@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.niceMock;
+
+class ExtensionActivatorTest {
+
+    private final List<String> events = new ArrayList<>();
+    private DefaultServiceExtensionContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new DefaultServiceExtensionContext(new TypeManager(), niceMock(Monitor.class), niceMock(ServiceLocator.class)) {
+            @Override
+            public String getSetting(String key, String defaultValue) {
+                return ExtensionLoader.BOOT_LAZY_SETTING.equals(key) ? "true" : defaultValue;
+            }
+        };
+    }
+
+    @Test
+    void verifyLazyExtensionActivatedOnFirstLookup() {
+        var lazy = new TestExtension("lazy", ServiceExtension.Activation.LAZY, Set.of("lazy-feature"), Set.of());
+        var eager = new TestExtension("eager", ServiceExtension.Activation.EAGER, Set.of(), Set.of());
+
+        ExtensionLoader.bootServiceExtensions(List.of(lazy, eager), context);
+
+        assertThat(events).containsExactly("eager:initialize", "eager:start");
+        assertThat(context.hasService(LazyService.class)).isTrue();
+        assertThat(context.getActivator().isStarted(lazy)).isFalse();
+
+        assertThat(context.getService(LazyService.class)).isNotNull();
+        assertThat(events).containsExactly("eager:initialize", "eager:start", "lazy:initialize", "lazy:start");
+        assertThat(context.getActivator().isStarted(lazy)).isTrue();
+    }
+
+    @Test
+    void verifyLazyExtensionRequiredOnBootIsActivatedEagerly() {
+        var lazy = new TestExtension("lazy", ServiceExtension.Activation.LAZY, Set.of("lazy-feature"), Set.of());
+        var dependent = new TestExtension("dependent", ServiceExtension.Activation.EAGER, Set.of(), Set.of("lazy-feature"));
+
+        ExtensionLoader.bootServiceExtensions(List.of(lazy, dependent), context);
+
+        assertThat(events).containsExactly("lazy:initialize", "dependent:initialize", "lazy:start", "dependent:start");
+    }
+
+    @Test
+    void verifyDeferredExtensionStartedWhenReady() {
+        var deferred = new TestExtension("deferred", ServiceExtension.Activation.DEFERRED_START, Set.of(), Set.of());
+
+        ExtensionLoader.bootServiceExtensions(List.of(deferred), context);
+
+        assertThat(events).containsExactly("deferred:initialize");
+        assertThat(context.getActivator().isStarted(deferred)).isFalse();
+
+        ExtensionLoader.startDeferredExtensions(context);
+
+        assertThat(events).containsExactly("deferred:initialize", "deferred:start");
+        assertThat(context.getActivator().isStarted(deferred)).isTrue();
+    }
+
+    private interface LazyService {
+    }
+
+    private class TestExtension implements ServiceExtension {
+        private final String name;
+        private final Activation activation;
+        private final Set<String> provides;
+        private final Set<String> requires;
+
+        TestExtension(String name, Activation activation, Set<String> provides, Set<String> requires) {
+            this.name = name;
+            this.activation = activation;
+            this.provides = provides;
+            this.requires = requires;
+        }
+
+        @Override
+        public Set<String> provides() {
+            return provides;
+        }
+
+        @Override
+        public Set<String> requires() {
+            return requires;
+        }
+
+        @Override
+        public Set<Class<?>> registeredServices() {
+            return activation == Activation.LAZY ? Set.of(LazyService.class) : Set.of();
+        }
+
+        @Override
+        public Activation activation() {
+            return activation;
+        }
+
+        @Override
+        public void initialize(ServiceExtensionContext context) {
+            events.add(name + ":initialize");
+            if (activation == Activation.LAZY) {
+                context.registerService(LazyService.class, new LazyService() {
+                });
+            }
+        }
+
+        @Override
+        public void start() {
+            events.add(name + ":start");
+        }
+    }
+}
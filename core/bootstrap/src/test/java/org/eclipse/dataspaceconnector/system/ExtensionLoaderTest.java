@@ -14,19 +14,34 @@
 
 package org.eclipse.dataspaceconnector.system;
 
+import org.eclipse.dataspaceconnector.monitor.AsyncMonitor;
 import org.eclipse.dataspaceconnector.monitor.ConsoleMonitor;
+import org.eclipse.dataspaceconnector.security.CachingPrivateKeyResolver;
+import org.eclipse.dataspaceconnector.security.InvalidatingVault;
+import org.eclipse.dataspaceconnector.security.WriteBehindVault;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.monitor.MultiplexingMonitor;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
 import org.eclipse.dataspaceconnector.spi.system.MonitorExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.anyString;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
@@ -36,6 +51,7 @@ import static org.easymock.EasyMock.niceMock;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.verify;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExtensionLoaderTest {
@@ -74,6 +90,17 @@ class ExtensionLoaderTest {
 
     }
 
+    @Test
+    void loadMonitor_whenNoMonitorExtensionAndAsyncEnabled() {
+        var settings = Map.of(ExtensionLoader.MONITOR_ASYNC_SETTING, "true", ExtensionLoader.MONITOR_LEVEL_SETTING, "info");
+
+        var monitor = ExtensionLoader.loadMonitor(new ArrayList<>(), settings::get);
+
+        assertTrue(monitor instanceof AsyncMonitor);
+        assertFalse(monitor.isDebugEnabled());
+        ((AsyncMonitor) monitor).close();
+    }
+
     @Test
     void loadVault_whenNotRegistered() {
 
@@ -81,6 +108,7 @@ class ExtensionLoaderTest {
 
         expect(contextMock.getMonitor()).andReturn(new Monitor() {
         });
+        expect(contextMock.getSetting(eq(ExtensionLoader.PRIVATE_KEY_CACHE_TTL_SETTING), anyString())).andReturn("300");
 
         expect(contextMock.loadSingletonExtension(VaultExtension.class, false)).andReturn(null);
         contextMock.registerService(eq(Vault.class), isA(Vault.class));
@@ -117,6 +145,7 @@ class ExtensionLoaderTest {
             }
         });
 
+        expect(contextMock.getSetting(eq(ExtensionLoader.PRIVATE_KEY_CACHE_TTL_SETTING), anyString())).andReturn("0");
         contextMock.registerService(Vault.class, vaultMock);
         expectLastCall().once();
 
@@ -126,4 +155,134 @@ class ExtensionLoaderTest {
         verify(contextMock);
 
     }
+
+    @Test
+    void loadVault_cachesPrivateKeys() {
+        DefaultServiceExtensionContext contextMock = niceMock(DefaultServiceExtensionContext.class);
+        expect(contextMock.getMonitor()).andReturn(new Monitor() {
+        });
+        expect(contextMock.getSetting(eq(ExtensionLoader.PRIVATE_KEY_CACHE_TTL_SETTING), anyString())).andReturn("300");
+        expect(contextMock.loadSingletonExtension(VaultExtension.class, false)).andReturn(null);
+        contextMock.registerService(eq(Vault.class), isA(InvalidatingVault.class));
+        contextMock.registerService(eq(PrivateKeyResolver.class), isA(CachingPrivateKeyResolver.class));
+        replay(contextMock);
+
+        ExtensionLoader.loadVault(contextMock);
+
+        verify(contextMock);
+    }
+
+    @Test
+    void closeVault_writesPendingSecrets() {
+        var delegate = mock(Vault.class);
+        expect(delegate.storeSecret("key", "value")).andReturn(VaultResponse.OK);
+        replay(delegate);
+        var vault = new WriteBehindVault(delegate, new Monitor() {
+        });
+        DefaultServiceExtensionContext contextMock = niceMock(DefaultServiceExtensionContext.class);
+        expect(contextMock.getService(Vault.class, true)).andReturn(new InvalidatingVault(vault, key -> {
+        }));
+        replay(contextMock);
+
+        var pending = vault.storeSecretAsync("key", "value");
+        ExtensionLoader.closeVault(contextMock);
+
+        assertThat(pending).isCompleted();
+        verify(delegate);
+    }
+
+    @Test
+    void dependencyLevels() {
+        var core = extension(ServiceExtension.LoadPhase.PRIMORDIAL, Set.of("core"), Set.of());
+        var store = extension(ServiceExtension.LoadPhase.DEFAULT, Set.of("store"), Set.of("core"));
+        var independent = extension(ServiceExtension.LoadPhase.DEFAULT, Set.of(), Set.of());
+        var api = extension(ServiceExtension.LoadPhase.DEFAULT, Set.of(), Set.of("store"));
+
+        var levels = ExtensionLoader.dependencyLevels(List.of(core, store, independent, api));
+
+        assertThat(levels).containsExactly(List.of(core), List.of(store, independent), List.of(api));
+    }
+
+    @Test
+    void bootServiceExtensions_parallel() {
+        var initialized = new CopyOnWriteArrayList<ServiceExtension>();
+        var started = new CopyOnWriteArrayList<ServiceExtension>();
+        var first = recording(Set.of("first"), Set.of(), initialized, started);
+        var second = recording(Set.of(), Set.of(), initialized, started);
+        var third = recording(Set.of(), Set.of("first"), initialized, started);
+
+        var report = ExtensionLoader.bootServiceExtensions(List.of(first, second, third), parallelContext());
+
+        assertThat(initialized).containsExactlyInAnyOrder(first, second, third);
+        assertThat(initialized.indexOf(third)).isGreaterThan(initialized.indexOf(first));
+        assertThat(started).hasSize(3);
+        assertThat(report.getLevels()).isEqualTo(2);
+        assertThat(report.getEntries()).extracting(ExtensionBootReport.Entry::getLevel).containsExactly(0, 0, 1);
+    }
+
+    @Test
+    void bootServiceExtensions_parallelRethrowsFailure() {
+        var failing = new ServiceExtension() {
+            @Override
+            public void initialize(ServiceExtensionContext context) {
+                throw new EdcException("failed");
+            }
+        };
+        var other = new ServiceExtension() {
+        };
+
+        assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensions(List.of(failing, other), parallelContext())).isInstanceOf(EdcException.class).hasMessage("failed");
+    }
+
+    private ServiceExtensionContext parallelContext() {
+        ServiceExtensionContext context = niceMock(ServiceExtensionContext.class);
+        expect(context.getSetting(eq(ExtensionLoader.BOOT_PARALLELISM_SETTING), anyString())).andReturn("4");
+        expect(context.getMonitor()).andReturn(new Monitor() {
+        }).anyTimes();
+        replay(context);
+        return context;
+    }
+
+    private ServiceExtension extension(ServiceExtension.LoadPhase phase, Set<String> provides, Set<String> requires) {
+        return new ServiceExtension() {
+            @Override
+            public Set<String> provides() {
+                return provides;
+            }
+
+            @Override
+            public Set<String> requires() {
+                return requires;
+            }
+
+            @Override
+            public LoadPhase phase() {
+                return phase;
+            }
+        };
+    }
+
+    private ServiceExtension recording(Set<String> provides, Set<String> requires, List<ServiceExtension> initialized, List<ServiceExtension> started) {
+        return new ServiceExtension() {
+            @Override
+            public Set<String> provides() {
+                return provides;
+            }
+
+            @Override
+            public Set<String> requires() {
+                return requires;
+            }
+
+            @Override
+            public void initialize(ServiceExtensionContext context) {
+                initialized.add(this);
+            }
+
+            @Override
+            public void start() {
+                started.add(this);
+            }
+        };
+    }
 }
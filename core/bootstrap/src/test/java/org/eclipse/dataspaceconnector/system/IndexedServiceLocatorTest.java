@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ConfigurationExtension;
+import org.eclipse.dataspaceconnector.spi.system.MonitorExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.easymock.EasyMock.anyBoolean;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.niceMock;
+import static org.easymock.EasyMock.replay;
+
+class IndexedServiceLocatorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void verifyExtensionsLoadedInBootOrder() throws IOException {
+        var index = roundTrip(generate(new DependingExtension(), new ProvidingExtension()));
+        var locator = new IndexedServiceLocator(index, getClass().getClassLoader(), unusedFallback());
+
+        var extensions = locator.loadImplementors(ServiceExtension.class, true);
+
+        assertThat(extensions).hasSize(2);
+        assertThat(extensions.get(0)).isInstanceOf(ProvidingExtension.class);
+        assertThat(extensions.get(1)).isInstanceOf(DependingExtension.class);
+    }
+
+    @Test
+    void verifyIndexesOnClassPathMerged() throws IOException {
+        var first = directory.resolve("first");
+        var second = directory.resolve("second");
+        write(first, generate(new ProvidingExtension()));
+        write(second, generate(new ProvidingExtension(), new DependingExtension()));
+
+        try (var classLoader = new URLClassLoader(new URL[]{ first.toUri().toURL(), second.toUri().toURL() }, null)) {
+            var index = ExtensionIndex.load(classLoader);
+
+            assertThat(index.getImplementations(ServiceExtension.class)).containsExactly(ProvidingExtension.class.getName(), DependingExtension.class.getName());
+            assertThat(index.contains(VaultExtension.class)).isTrue();
+        }
+    }
+
+    @Test
+    void verifyServiceExtensionsKeepIndexedOrder() {
+        var index = new ExtensionIndex(Map.of(ServiceExtension.class.getName(), List.of(entry(DependingExtension.class), entry(ProvidingExtension.class))));
+        var locator = new IndexedServiceLocator(index, getClass().getClassLoader(), unusedFallback());
+
+        var extensions = locator.loadServiceExtensions(EnumSet.allOf(ServiceExtension.LoadPhase.class));
+
+        assertThat(extensions).hasSize(2);
+        assertThat(extensions.get(0)).isInstanceOf(DependingExtension.class);
+        assertThat(extensions.get(1)).isInstanceOf(ProvidingExtension.class);
+    }
+
+    @Test
+    void verifyServiceExtensionsOfOtherPhasesNotInstantiated() {
+        var index = new ExtensionIndex(Map.of(ServiceExtension.class.getName(), List.of(
+                new ExtensionIndex.Entry(PrimordialExtension.class.getName(), ServiceExtension.LoadPhase.PRIMORDIAL, Set.of(), Set.of()),
+                new ExtensionIndex.Entry(FailingExtension.class.getName(), ServiceExtension.LoadPhase.DEFAULT, Set.of(), Set.of()))));
+        var locator = new IndexedServiceLocator(index, getClass().getClassLoader(), unusedFallback());
+
+        var extensions = locator.loadServiceExtensions(EnumSet.of(ServiceExtension.LoadPhase.PRIMORDIAL));
+
+        assertThat(extensions).hasSize(1).first().isInstanceOf(PrimordialExtension.class);
+    }
+
+    @Test
+    void verifyMergedServiceExtensionsSortedOnIndexedFeatures() throws IOException {
+        var first = directory.resolve("first");
+        var second = directory.resolve("second");
+        write(first, new ExtensionIndex(Map.of(ServiceExtension.class.getName(), List.of(entry(DependingExtension.class)))));
+        write(second, new ExtensionIndex(Map.of(ServiceExtension.class.getName(), List.of(entry(ProvidingExtension.class)))));
+
+        try (var classLoader = new URLClassLoader(new URL[]{ first.toUri().toURL(), second.toUri().toURL() }, null)) {
+            var index = ExtensionIndex.load(classLoader);
+            var locator = new IndexedServiceLocator(index, getClass().getClassLoader(), unusedFallback());
+
+            var extensions = locator.loadServiceExtensions(EnumSet.allOf(ServiceExtension.LoadPhase.class));
+
+            assertThat(index.isOrdered()).isFalse();
+            assertThat(extensions).hasSize(2);
+            assertThat(extensions.get(0)).isInstanceOf(ProvidingExtension.class);
+            assertThat(extensions.get(1)).isInstanceOf(DependingExtension.class);
+        }
+    }
+
+    @Test
+    void verifyIndexedTypeWithoutImplementations() throws IOException {
+        var index = roundTrip(generate(new ProvidingExtension()));
+        var locator = new IndexedServiceLocator(index, getClass().getClassLoader(), unusedFallback());
+
+        assertThat(locator.loadImplementors(ConfigurationExtension.class, false)).isEmpty();
+        assertThat(locator.loadSingletonImplementor(VaultExtension.class, false)).isNull();
+        assertThatThrownBy(() -> locator.loadImplementors(MonitorExtension.class, true)).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void verifyFallbackForTypesNotIndexed() throws IOException {
+        var index = roundTrip(generate(new ProvidingExtension()));
+        var fallback = niceMock(ServiceLocator.class);
+        expect(fallback.loadImplementors(eq(Runnable.class), anyBoolean())).andReturn(List.of(() -> { }));
+        replay(fallback);
+
+        var locator = new IndexedServiceLocator(index, getClass().getClassLoader(), fallback);
+
+        assertThat(locator.loadImplementors(Runnable.class, false)).hasSize(1);
+    }
+
+    @Test
+    void verifyLoadReturnsNullWithoutIndex() throws IOException {
+        try (var classLoader = new URLClassLoader(new URL[]{ directory.toUri().toURL() }, null)) {
+            assertThat(ExtensionIndex.load(classLoader)).isNull();
+        }
+    }
+
+    private ExtensionIndex.Entry entry(Class<? extends ServiceExtension> type) {
+        try {
+            var extension = type.getDeclaredConstructor().newInstance();
+            return new ExtensionIndex.Entry(type.getName(), extension.phase(), extension.provides(), extension.requires());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ExtensionIndex generate(ServiceExtension... extensions) {
+        var locator = niceMock(ServiceLocator.class);
+        expect(locator.loadImplementors(eq(ServiceExtension.class), anyBoolean())).andReturn(new ArrayList<>(List.of(extensions)));
+        expect(locator.loadImplementors(eq(ConfigurationExtension.class), anyBoolean())).andReturn(List.of());
+        expect(locator.loadImplementors(eq(VaultExtension.class), anyBoolean())).andReturn(List.of());
+        expect(locator.loadImplementors(eq(MonitorExtension.class), anyBoolean())).andReturn(List.of());
+        replay(locator);
+        return ExtensionIndexGenerator.generate(locator);
+    }
+
+    private ExtensionIndex roundTrip(ExtensionIndex index) throws IOException {
+        write(directory, index);
+        try (var classLoader = new URLClassLoader(new URL[]{ directory.toUri().toURL() }, null)) {
+            return ExtensionIndex.load(classLoader);
+        }
+    }
+
+    private void write(Path root, ExtensionIndex index) throws IOException {
+        var file = root.resolve(ExtensionIndex.RESOURCE);
+        Files.createDirectories(file.getParent());
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            index.write(writer);
+        }
+    }
+
+    private ServiceLocator unusedFallback() {
+        var fallback = niceMock(ServiceLocator.class);
+        replay(fallback);
+        return fallback;
+    }
+
+    public static class ProvidingExtension implements ServiceExtension {
+        @Override
+        public Set<String> provides() {
+            return Set.of("feature:a");
+        }
+    }
+
+    public static class DependingExtension implements ServiceExtension {
+        @Override
+        public Set<String> requires() {
+            return Set.of("feature:a");
+        }
+    }
+
+    public static class PrimordialExtension implements ServiceExtension {
+        @Override
+        public LoadPhase phase() {
+            return LoadPhase.PRIMORDIAL;
+        }
+    }
+
+    public static class FailingExtension implements ServiceExtension {
+        public FailingExtension() {
+            throw new IllegalStateException("Must not be instantiated");
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.dataspaceconnector.contract;
 
 import org.eclipse.dataspaceconnector.contract.agent.ParticipantAgentServiceImpl;
 import org.eclipse.dataspaceconnector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
+import org.eclipse.dataspaceconnector.contract.negotiation.ContractNegotiationObservableImpl;
 import org.eclipse.dataspaceconnector.contract.negotiation.ExponentialWaitStrategy;
 import org.eclipse.dataspaceconnector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.dataspaceconnector.contract.negotiation.protocol.RemoteMessageDispatcherRegistryImpl;
@@ -24,23 +25,30 @@ import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceIm
 import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
 import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
 import org.eclipse.dataspaceconnector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.dataspaceconnector.spi.ListenerEventBus;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgentService;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationWaitStrategy;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ProviderContractNegotiationManager;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.observe.ContractNegotiationListener;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatchQueue;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 
+import java.util.Objects;
 import java.util.Set;
 
 public class ContractServiceExtension implements ServiceExtension {
@@ -53,6 +61,7 @@ public class ContractServiceExtension implements ServiceExtension {
     private static final long DEFAULT_ITERATION_WAIT = 5000; // millis
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
+    private ListenerEventBus<ContractNegotiationListener> eventBus;
 
     @Override
     public final Set<String> provides() {
@@ -95,6 +104,10 @@ public class ContractServiceExtension implements ServiceExtension {
             providerNegotiationManager.stop();
         }
 
+        if (eventBus != null) {
+            eventBus.close();
+        }
+
         monitor.info(String.format("Shutdown %s", NAME));
     }
 
@@ -106,11 +119,12 @@ public class ContractServiceExtension implements ServiceExtension {
         }
 
         var store = context.getService(ContractDefinitionStore.class);
+        var metrics = Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE);
 
         var agentService = new ParticipantAgentServiceImpl();
         context.registerService(ParticipantAgentService.class, agentService);
 
-        var policyEngine = new PolicyEngineImpl();
+        var policyEngine = new PolicyEngineImpl(metrics);
         context.registerService(PolicyEngine.class, policyEngine);
 
         definitionService = new ContractDefinitionServiceImpl(monitor, store, policyEngine);
@@ -122,7 +136,7 @@ public class ContractServiceExtension implements ServiceExtension {
 
         RemoteMessageDispatcherRegistry dispatcherRegistry = context.getService(RemoteMessageDispatcherRegistry.class, true);
         if (dispatcherRegistry == null) {
-            dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl();
+            dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl(RemoteMessageDispatchQueue.fromSettings("contract", context, metrics));
             context.registerService(RemoteMessageDispatcherRegistry.class, dispatcherRegistry);
         }
 
@@ -132,11 +146,18 @@ public class ContractServiceExtension implements ServiceExtension {
 
         var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
 
+        var observable = new ContractNegotiationObservableImpl();
+        eventBus = ListenerEventBus.fromSettings("negotiation", context, metrics);
+        observable.setEventBus(eventBus);
+        context.registerService(ContractNegotiationObservable.class, observable);
+
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .validationService(validationService)
+                .metrics(metrics)
+                .observable(observable)
                 .build();
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
@@ -144,6 +165,8 @@ public class ContractServiceExtension implements ServiceExtension {
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .validationService(validationService)
+                .metrics(metrics)
+                .observable(observable)
                 .build();
 
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
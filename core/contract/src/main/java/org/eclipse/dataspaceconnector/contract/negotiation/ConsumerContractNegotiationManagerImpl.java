@@ -17,12 +17,15 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationWaitStrategy;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.response.NegotiationResponse;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
 import org.eclipse.dataspaceconnector.spi.contract.validation.OfferValidationResult;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreementRequest;
@@ -34,6 +37,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOf
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -57,6 +61,8 @@ import static org.eclipse.dataspaceconnector.spi.contract.negotiation.response.N
  * - method call in CoreTransferExtension
  */
 public class ConsumerContractNegotiationManagerImpl implements ConsumerContractNegotiationManager {
+    private static final String ROLE = "consumer";
+
     private final AtomicBoolean active = new AtomicBoolean();
     private ContractNegotiationStore negotiationStore;
     private ContractValidationService validationService;
@@ -64,7 +70,10 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
     private int batchSize = 5;
     private NegotiationWaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
     private Monitor monitor;
+    private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
+    private ContractNegotiationObservable observable = new ContractNegotiationObservableImpl();
     private ExecutorService executor;
+    private DispatchRollback rollback;
 
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -73,6 +82,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
 
     public void start(ContractNegotiationStore store) {
         negotiationStore = store;
+        rollback = new DispatchRollback(ROLE, negotiationStore, this::update, monitor, metrics);
         active.set(true);
         executor = Executors.newSingleThreadExecutor();
         executor.submit(this::run);
@@ -105,9 +115,9 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
                 .build();
 
         negotiation.addContractOffer(contractOffer.getContractOffer());
-        negotiationStore.save(negotiation);
+        update(negotiation);
 
-        monitor.debug(String.format("[Consumer] ContractNegotiation initiated. %s is now in state %s.",
+        monitor.debug(() -> String.format("[Consumer] ContractNegotiation initiated. %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
         return new NegotiationResponse(OK, negotiation);
     }
@@ -159,8 +169,8 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             negotiation.transitionApproving();
         }
 
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
         return new NegotiationResponse(OK, negotiation);
@@ -199,8 +209,8 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             monitor.debug("[Consumer] Contract agreement received. Validation failed.");
             negotiation.setErrorDetail("Contract rejected."); //TODO set error detail
             negotiation.transitionDeclining();
-            negotiationStore.save(negotiation);
-            monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+            update(negotiation);
+            monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
             return new NegotiationResponse(OK, negotiation);
         }
@@ -209,8 +219,8 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
         negotiation.setContractAgreement(agreement); // TODO persist unchecked agreement of provider?
         monitor.debug("[Consumer] Contract agreement received. Validation successful.");
         negotiation.transitionConfirmed();
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
         return new NegotiationResponse(OK, negotiation);
@@ -234,8 +244,8 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
 
         monitor.debug("[Consumer] Contract rejection received. Abort negotiation process");
         negotiation.transitionDeclined();
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
         return new NegotiationResponse(OK, negotiation);
     }
@@ -270,22 +280,22 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
      * @return the number of processed ContractNegotiations.
      */
     private int sendContractOffers() {
-        var processes = negotiationStore.nextForState(ContractNegotiationStates.REQUESTING.code(), batchSize);
+        var processes = nextForState(ContractNegotiationStates.REQUESTING);
 
         for (ContractNegotiation process : processes) {
             var offer = process.getLastContractOffer();
             var response = sendOffer(offer, process, ContractOfferRequest.Type.INITIAL);
             if (response.isCompletedExceptionally()) {
-                process.transitionRequesting();
-                monitor.debug(format("[Consumer] Failed to send contract offer with id %s. ContractNegotiation %s stays in state %s.",
+                monitor.debug(() -> format("[Consumer] Failed to send contract offer with id %s. ContractNegotiation %s stays in state %s.",
                         offer.getId(), process.getId(), ContractNegotiationStates.from(process.getState())));
                 continue;
             }
 
             process.transitionRequested();
-            monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+            monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     process.getId(), ContractNegotiationStates.from(process.getState())));
-            negotiationStore.save(process);
+            update(process);
+            rollback.onFailure(response, process.getId(), ContractNegotiationStates.REQUESTED, ContractNegotiationStates.REQUESTING);
         }
 
         return processes.size();
@@ -299,22 +309,22 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
      * @return the number of processed ContractNegotiations.
      */
     private int sendCounterOffers() {
-        var processes = negotiationStore.nextForState(ContractNegotiationStates.CONSUMER_OFFERING.code(), batchSize);
+        var processes = nextForState(ContractNegotiationStates.CONSUMER_OFFERING);
 
         for (ContractNegotiation process : processes) {
             var offer = process.getLastContractOffer();
             var response = sendOffer(offer, process, ContractOfferRequest.Type.COUNTER_OFFER);
             if (response.isCompletedExceptionally()) {
-                process.transitionOffering();
-                monitor.debug(format("[Consumer] Failed to send contract offer with id %s. ContractNegotiation %s stays in state %s.",
+                monitor.debug(() -> format("[Consumer] Failed to send contract offer with id %s. ContractNegotiation %s stays in state %s.",
                         offer.getId(), process.getId(), ContractNegotiationStates.from(process.getState())));
                 continue;
             }
 
             process.transitionOffered();
-            monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+            monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     process.getId(), ContractNegotiationStates.from(process.getState())));
-            negotiationStore.save(process);
+            update(process);
+            rollback.onFailure(response, process.getId(), ContractNegotiationStates.CONSUMER_OFFERED, ContractNegotiationStates.CONSUMER_OFFERING);
         }
 
         return processes.size();
@@ -329,7 +339,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
      * @return the number of processed ContractNegotiations.
      */
     private int approveContractOffers() {
-        var processes = negotiationStore.nextForState(ContractNegotiationStates.CONSUMER_APPROVING.code(), batchSize);
+        var processes = nextForState(ContractNegotiationStates.CONSUMER_APPROVING);
 
         for (ContractNegotiation process : processes) {
             //TODO this is a dummy agreement used to approve the provider's offer, real agreement will be created and sent by provider
@@ -364,16 +374,16 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             // TODO protocol-independent response type?
             var response = dispatcherRegistry.send(Object.class, request, process::getId);
             if (response.isCompletedExceptionally()) {
-                process.transitionApproving();
-                monitor.debug(format("[Consumer] Failed to send contract agreement with id %s. ContractNegotiation %s stays in state %s.",
+                monitor.debug(() -> format("[Consumer] Failed to send contract agreement with id %s. ContractNegotiation %s stays in state %s.",
                         agreement.getId(), process.getId(), ContractNegotiationStates.from(process.getState())));
                 continue;
             }
 
             process.transitionApproved();
-            monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+            monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     process.getId(), ContractNegotiationStates.from(process.getState())));
-            negotiationStore.save(process);
+            update(process);
+            rollback.onFailure(response, process.getId(), ContractNegotiationStates.CONSUMER_APPROVED, ContractNegotiationStates.CONSUMER_APPROVING);
         }
 
         return processes.size();
@@ -387,7 +397,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
      * @return the number of processed ContractNegotiations.
      */
     private int declineContractOffers() {
-        var processes = negotiationStore.nextForState(ContractNegotiationStates.DECLINING.code(), batchSize);
+        var processes = nextForState(ContractNegotiationStates.DECLINING);
 
         for (ContractNegotiation process : processes) {
             var offer = process.getLastContractOffer();
@@ -404,21 +414,40 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             var response = dispatcherRegistry.send(Object.class, rejection, process::getId);
             if (response.isCompletedExceptionally()) {
                 process.transitionDeclining();
-                negotiationStore.save(process);
-                monitor.debug(format("[Consumer] Failed to send contract rejection. ContractNegotiation %s stays in state %s.",
+                update(process);
+                monitor.debug(() -> format("[Consumer] Failed to send contract rejection. ContractNegotiation %s stays in state %s.",
                         process.getId(), ContractNegotiationStates.from(process.getState())));
                 continue;
             }
 
             process.transitionDeclined();
-            monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
+            monitor.debug(() -> String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     process.getId(), ContractNegotiationStates.from(process.getState())));
-            negotiationStore.save(process);
+            update(process);
+            rollback.onFailure(response, process.getId(), ContractNegotiationStates.DECLINED, ContractNegotiationStates.DECLINING);
         }
 
         return processes.size();
     }
 
+    /**
+     * Stores the negotiation and notifies the listeners about its new state.
+     */
+    private void update(ContractNegotiation negotiation) {
+        negotiationStore.save(negotiation);
+        observable.stateChanged(negotiation);
+    }
+
+    /**
+     * Fetches the next batch of negotiations in the given state and records how long the store took.
+     */
+    private List<ContractNegotiation> nextForState(ContractNegotiationStates state) {
+        var negotiations = metrics.timer("edc.negotiation.store.nextforstate", "role", ROLE, "state", state.name())
+                .time(() -> negotiationStore.nextForState(state.code(), batchSize));
+        metrics.counter("edc.negotiation.processed", "role", ROLE, "state", state.name()).increment(negotiations.size());
+        return negotiations;
+    }
+
     /**
      * Continuously checks all unfinished {@link ContractNegotiation}s and performs actions based on
      * their states.
@@ -426,12 +455,14 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
     private void run() {
         while (active.get()) {
             try {
+                int rolledBack = rollback.apply();
+
                 int requesting = sendContractOffers();
                 int offering = sendCounterOffers();
                 int approving = approveContractOffers();
                 int declining = declineContractOffers();
 
-                if (requesting + offering + approving + declining == 0) {
+                if (rolledBack + requesting + offering + approving + declining == 0) {
                     Thread.sleep(waitStrategy.waitForMillis());
                 }
                 waitStrategy.success();
@@ -493,10 +524,22 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             return this;
         }
 
+        public Builder metrics(MetricsRegistry metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
+        public Builder observable(ContractNegotiationObservable observable) {
+            manager.observable = observable;
+            return this;
+        }
+
         public ConsumerContractNegotiationManagerImpl build() {
             Objects.requireNonNull(manager.validationService, "contractValidationService");
             Objects.requireNonNull(manager.monitor, "monitor");
             Objects.requireNonNull(manager.dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(manager.metrics, "metrics");
+            Objects.requireNonNull(manager.observable, "observable");
             return manager;
         }
     }
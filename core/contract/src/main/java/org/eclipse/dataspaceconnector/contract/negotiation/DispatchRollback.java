@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Registers completion callbacks for messages whose {@link ContractNegotiation} has already been moved to its next state. Messages may be queued by the
+ * dispatcher and fail after the state machine has moved on; in that case the negotiation is rolled back so the message is sent again on a later pass.
+ * Failures are only queued by the dispatcher threads, the rollbacks are applied by the manager thread through {@link #apply()}.
+ */
+class DispatchRollback {
+    private final String role;
+    private final String label;
+    private final ContractNegotiationStore negotiationStore;
+    private final Consumer<ContractNegotiation> update;
+    private final Monitor monitor;
+    private final MetricsRegistry metrics;
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates the rollback handler of a negotiation manager.
+     *
+     * @param role             the role of the manager, used as metrics tag and log prefix
+     * @param negotiationStore the store to load failed negotiations from
+     * @param update           stores a rolled back negotiation and notifies the listeners
+     */
+    DispatchRollback(String role, ContractNegotiationStore negotiationStore, Consumer<ContractNegotiation> update, Monitor monitor, MetricsRegistry metrics) {
+        this.role = role;
+        label = Character.toUpperCase(role.charAt(0)) + role.substring(1);
+        this.negotiationStore = negotiationStore;
+        this.update = update;
+        this.monitor = monitor;
+        this.metrics = metrics;
+    }
+
+    void onFailure(CompletableFuture<Object> response, String negotiationId, ContractNegotiationStates sentState, ContractNegotiationStates retryState) {
+        var start = System.nanoTime();
+        response.whenComplete((result, throwable) -> {
+            metrics.timer("edc.negotiation.dispatch", "role", role, "state", sentState.name(), "outcome", throwable == null ? "success" : "failure").recordSince(start);
+            if (throwable == null) {
+                return;
+            }
+            failures.add(new Failure(negotiationId, sentState, retryState, throwable.getMessage()));
+        });
+    }
+
+    /**
+     * Rolls back the negotiations whose messages failed, unless they have moved on in the meantime. Called by the manager thread at the start of each
+     * iteration.
+     *
+     * @return the number of negotiations rolled back
+     */
+    int apply() {
+        int applied = 0;
+        var failure = failures.poll();
+        while (failure != null) {
+            var negotiation = negotiationStore.find(failure.negotiationId);
+            if (negotiation != null && negotiation.getState() == failure.sentState.code()) {
+                negotiation.rollbackState(failure.retryState);
+                update.accept(negotiation);
+                var rolledBack = failure;
+                monitor.debug(() -> format("[%s] Failed to dispatch message for ContractNegotiation %s: %s. Rolled back to state %s.",
+                        label, rolledBack.negotiationId, rolledBack.message, rolledBack.retryState));
+                applied++;
+            }
+            failure = failures.poll();
+        }
+        return applied;
+    }
+
+    private static class Failure {
+        private final String negotiationId;
+        private final ContractNegotiationStates sentState;
+        private final ContractNegotiationStates retryState;
+        private final String message;
+
+        Failure(String negotiationId, ContractNegotiationStates sentState, ContractNegotiationStates retryState, String message) {
+            this.negotiationId = negotiationId;
+            this.sentState = sentState;
+            this.retryState = retryState;
+            this.message = message;
+        }
+    }
+}
@@ -17,12 +17,15 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationWaitStrategy;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ProviderContractNegotiationManager;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.response.NegotiationResponse;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
 import org.eclipse.dataspaceconnector.spi.contract.validation.OfferValidationResult;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreement;
@@ -35,6 +38,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOf
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -53,6 +57,8 @@ import static org.eclipse.dataspaceconnector.spi.contract.negotiation.response.N
  */
 public class ProviderContractNegotiationManagerImpl implements ProviderContractNegotiationManager {
 
+    private static final String ROLE = "provider";
+
     private final AtomicBoolean active = new AtomicBoolean();
 
     private int batchSize = 5;
@@ -62,7 +68,10 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
     private ContractValidationService validationService;
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     private Monitor monitor;
+    private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
+    private ContractNegotiationObservable observable = new ContractNegotiationObservableImpl();
     private ExecutorService executor;
+    private DispatchRollback rollback;
 
     private ProviderContractNegotiationManagerImpl() { }
 
@@ -72,6 +81,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
 
     public void start(ContractNegotiationStore negotiationStore) {
         this.negotiationStore = negotiationStore;
+        rollback = new DispatchRollback(ROLE, negotiationStore, this::update, monitor, metrics);
         active.set(true);
         executor = Executors.newSingleThreadExecutor();
         executor.submit(this::run);
@@ -107,8 +117,8 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             negotiation.setContractAgreement(null);
         }
         negotiation.transitionDeclined();
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
         return new NegotiationResponse(OK);
@@ -137,8 +147,8 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
                 .type(ContractNegotiation.Type.PROVIDER)
                 .build();
 
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Provider] ContractNegotiation initiated. %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Provider] ContractNegotiation initiated. %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
         return processIncomingOffer(negotiation, token, request.getContractOffer());
@@ -197,8 +207,8 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             negotiation.transitionDeclining();
             //}
 
-            negotiationStore.save(negotiation);
-            monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+            update(negotiation);
+            monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
             return new NegotiationResponse(OK, negotiation);
         }
@@ -206,8 +216,8 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
         monitor.debug("[Provider] Contract offer received. Will be approved.");
         // negotiation.addContractOffer(result.getValidatedOffer()); TODO
         negotiation.transitionConfirming();
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
         return new NegotiationResponse(OK, negotiation);
@@ -232,8 +242,8 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
 
         monitor.debug("[Provider] Contract offer has been approved by consumer.");
         negotiation.transitionConfirming();
-        negotiationStore.save(negotiation);
-        monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+        update(negotiation);
+        monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
         return new NegotiationResponse(OK, negotiation);
     }
@@ -245,13 +255,15 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
     private void run() {
         while (active.get()) {
             try {
+                int rolledBack = rollback.apply();
+
                 int providerOffering = checkProviderOffering();
 
                 int declining = checkDeclining();
 
                 int confirming = checkConfirming();
 
-                if (providerOffering + declining + confirming == 0) {
+                if (rolledBack + providerOffering + declining + confirming == 0) {
                     Thread.sleep(waitStrategy.waitForMillis());
                 }
                 waitStrategy.success();
@@ -282,7 +294,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
      * @return the number of processed ContractNegotiations.
      */
     private int checkProviderOffering() {
-        var offeringNegotiations = negotiationStore.nextForState(ContractNegotiationStates.PROVIDER_OFFERING.code(), batchSize);
+        var offeringNegotiations = nextForState(ContractNegotiationStates.PROVIDER_OFFERING);
 
         for (var negotiation : offeringNegotiations) {
             var currentOffer = negotiation.getLastContractOffer();
@@ -300,16 +312,17 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
 
             if (response.isCompletedExceptionally()) {
                 negotiation.transitionOffering();
-                negotiationStore.save(negotiation);
-                monitor.debug(format("[Provider] Failed to send contract offer with id %s. ContractNegotiation %s stays in state %s.",
+                update(negotiation);
+                monitor.debug(() -> format("[Provider] Failed to send contract offer with id %s. ContractNegotiation %s stays in state %s.",
                         currentOffer.getId(), negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
                 continue;
             }
 
             negotiation.transitionOffered();
-            negotiationStore.save(negotiation);
-            monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+            update(negotiation);
+            monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+            rollback.onFailure(response, negotiation.getId(), ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.PROVIDER_OFFERING);
         }
 
         return offeringNegotiations.size();
@@ -323,7 +336,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
      * @return the number of processed ContractNegotiations.
      */
     private int checkDeclining() {
-        var decliningNegotiations = negotiationStore.nextForState(ContractNegotiationStates.DECLINING.code(), batchSize);
+        var decliningNegotiations = nextForState(ContractNegotiationStates.DECLINING);
 
         for (var negotiation : decliningNegotiations) {
             ContractRejection rejection = ContractRejection.Builder.newInstance()
@@ -338,16 +351,17 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             var response = dispatcherRegistry.send(Object.class, rejection, () -> null);
             if (response.isCompletedExceptionally()) {
                 negotiation.transitionDeclining();
-                negotiationStore.save(negotiation);
-                monitor.debug(format("[Provider] Failed to send contract rejection. ContractNegotiation %s stays in state %s.",
+                update(negotiation);
+                monitor.debug(() -> format("[Provider] Failed to send contract rejection. ContractNegotiation %s stays in state %s.",
                         negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
                 continue;
             }
 
             negotiation.transitionDeclined();
-            negotiationStore.save(negotiation);
-            monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+            update(negotiation);
+            monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+            rollback.onFailure(response, negotiation.getId(), ContractNegotiationStates.DECLINED, ContractNegotiationStates.DECLINING);
         }
 
         return decliningNegotiations.size();
@@ -361,7 +375,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
      * @return the number of processed ContractNegotiations.
      */
     private int checkConfirming() {
-        var confirmingNegotiations = negotiationStore.nextForState(ContractNegotiationStates.CONFIRMING.code(), batchSize);
+        var confirmingNegotiations = nextForState(ContractNegotiationStates.CONFIRMING);
 
         for (var negotiation : confirmingNegotiations) {
             var agreement = negotiation.getContractAgreement(); // TODO build agreement
@@ -402,7 +416,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
 
             if (response.isCompletedExceptionally()) {
                 negotiation.transitionConfirming();
-                negotiationStore.save(negotiation);
+                update(negotiation);
                 monitor.debug(format("[Provider] Failed to send contract agreement with id %s. ContractNegotiation %s stays in state %s.",
                         agreement.getId(), negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
                 continue;
@@ -410,14 +424,33 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
 
             negotiation.setContractAgreement(agreement);
             negotiation.transitionConfirmed();
-            negotiationStore.save(negotiation);
-            monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
+            update(negotiation);
+            monitor.debug(() -> String.format("[Provider] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+            rollback.onFailure(response, negotiation.getId(), ContractNegotiationStates.CONFIRMED, ContractNegotiationStates.CONFIRMING);
         }
 
         return confirmingNegotiations.size();
     }
 
+    /**
+     * Stores the negotiation and notifies the listeners about its new state.
+     */
+    private void update(ContractNegotiation negotiation) {
+        negotiationStore.save(negotiation);
+        observable.stateChanged(negotiation);
+    }
+
+    /**
+     * Fetches the next batch of negotiations in the given state and records how long the store took.
+     */
+    private List<ContractNegotiation> nextForState(ContractNegotiationStates state) {
+        var negotiations = metrics.timer("edc.negotiation.store.nextforstate", "role", ROLE, "state", state.name())
+                .time(() -> negotiationStore.nextForState(state.code(), batchSize));
+        metrics.counter("edc.negotiation.processed", "role", ROLE, "state", state.name()).increment(negotiations.size());
+        return negotiations;
+    }
+
     /**
      * Builder for ProviderContractNegotiationManagerImpl.
      */
@@ -457,10 +490,22 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             return this;
         }
 
+        public Builder metrics(MetricsRegistry metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
+        public Builder observable(ContractNegotiationObservable observable) {
+            manager.observable = observable;
+            return this;
+        }
+
         public ProviderContractNegotiationManagerImpl build() {
             Objects.requireNonNull(manager.validationService, "contractValidationService");
             Objects.requireNonNull(manager.monitor, "monitor");
             Objects.requireNonNull(manager.dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(manager.metrics, "metrics");
+            Objects.requireNonNull(manager.observable, "observable");
             return manager;
         }
     }
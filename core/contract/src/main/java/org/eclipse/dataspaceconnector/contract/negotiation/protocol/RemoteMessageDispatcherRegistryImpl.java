@@ -16,22 +16,32 @@ package org.eclipse.dataspaceconnector.contract.negotiation.protocol;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.message.MessageContext;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatchQueue;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Copied class from transfer process.
  * @// FIXME: 30.11.2021 Duplicate of class in transfer extension, move class to other package to prevent dependencies between extensions.
  */
 public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatcherRegistry {
-    private final Map<String, RemoteMessageDispatcher> dispatchers = new HashMap<>();
+    private final Map<String, RemoteMessageDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final RemoteMessageDispatchQueue dispatchQueue;
+
+    public RemoteMessageDispatcherRegistryImpl() {
+        this(RemoteMessageDispatchQueue.Builder.newInstance().build());
+    }
+
+    public RemoteMessageDispatcherRegistryImpl(RemoteMessageDispatchQueue dispatchQueue) {
+        this.dispatchQueue = dispatchQueue;
+    }
 
     @Override
     public void register(RemoteMessageDispatcher dispatcher) {
@@ -48,7 +58,14 @@ public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatc
             future.completeExceptionally(new EdcException("No provider dispatcher registered for protocol: " + protocol));
             return future;
         }
-        return dispatcher.send(responseType, message, context);
+        return dispatchQueue.submit(message.getConnectorAddress(), () -> dispatcher.send(responseType, message, context));
+    }
+
+    /**
+     * Returns the queue that bounds in-flight messages, e.g. to report queue depth and in-flight counts.
+     */
+    public RemoteMessageDispatchQueue getDispatchQueue() {
+        return dispatchQueue;
     }
 
     @Nullable
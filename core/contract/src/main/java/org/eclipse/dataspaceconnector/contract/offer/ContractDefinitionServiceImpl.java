@@ -13,15 +13,19 @@
  */
 package org.eclipse.dataspaceconnector.contract.offer;
 
+import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
+import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyResult;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -29,6 +33,9 @@ import static java.lang.String.format;
 /**
  * Determines the contract definitions applicable to a {@link ParticipantAgent} by evaluating the access control and usage policies associated with a set of assets as defined by
  * {@link ContractDefinition}s. On the distinction between access control and usage policy, see {@link ContractDefinition}.
+ * <p>
+ * Definitions commonly share their policies. Within a query each distinct policy is evaluated once, which pays off most when the store interns
+ * policies, as equal policies then also have the same rules.
  */
 public class ContractDefinitionServiceImpl implements ContractDefinitionService {
     private final PolicyEngine policyEngine;
@@ -44,7 +51,9 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
-        return definitionStore.findAll().stream().filter(definition -> evaluatePolicies(definition, agent));
+        var accessResults = new HashMap<Policy, PolicyResult>();
+        var usageResults = new HashMap<Policy, PolicyResult>();
+        return definitionStore.findAll().stream().filter(definition -> evaluatePolicies(definition, agent, accessResults, usageResults));
     }
 
     @Nullable
@@ -52,7 +61,7 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         var definitionOptional = definitionStore.findAll().stream().filter(d -> d.getId().equals(definitionId)).findFirst();
         if (definitionOptional.isPresent()) {
             var definition = definitionOptional.get();
-            if (evaluatePolicies(definition, agent)) {
+            if (evaluatePolicies(definition, agent, new HashMap<>(), new HashMap<>())) {
                 return definition;
             }
         }
@@ -60,17 +69,18 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating the union of its access control and usage policies.
+     * Determines the applicability of a definition to an agent by evaluating the union of its access control and usage policies. Results are taken
+     * from and added to the given maps, which hold the results of earlier evaluations for the same agent.
      */
-    private boolean evaluatePolicies(ContractDefinition definition, ParticipantAgent agent) {
-        var accessResult = policyEngine.evaluate(definition.getAccessPolicy(), agent);
+    private boolean evaluatePolicies(ContractDefinition definition, ParticipantAgent agent, Map<Policy, PolicyResult> accessResults, Map<Policy, PolicyResult> usageResults) {
+        var accessResult = accessResults.computeIfAbsent(definition.getAccessPolicy(), policy -> policyEngine.evaluate(policy, agent));
         if (!accessResult.valid()) {
             monitor.info(format("Problem evaluating access control policy for %s: \n%s", definition.getId(), String.join("\n", accessResult.getProblems())));
             return false;
         }
-        var usageResult = policyEngine.evaluate(definition.getContractPolicy(), agent);
+        var usageResult = usageResults.computeIfAbsent(definition.getContractPolicy(), policy -> policyEngine.evaluate(policy, agent));
         if (!usageResult.valid()) {
-            monitor.info(format("Problem evaluating usage control policy for %s: \n%s", definition.getId(), String.join("\n", accessResult.getProblems())));
+            monitor.info(format("Problem evaluating usage control policy for %s: \n%s", definition.getId(), String.join("\n", usageResult.getProblems())));
             return false;
         }
         return true;
@@ -26,9 +26,12 @@ import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyContext;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyResult;
 import org.eclipse.dataspaceconnector.spi.contract.policy.RuleFunction;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -37,13 +40,30 @@ import static java.util.stream.Collectors.toList;
  * Default implementation of the policy engine.
  */
 public class PolicyEngineImpl implements PolicyEngine {
-    private List<ConstraintFunctionEntry<Rule>> constraintFunctions = new ArrayList<>();
-    private List<RuleFunctionEntry<Rule>> ruleFunctions = new ArrayList<>();
-    private List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
-    private List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
+    private List<ConstraintFunctionEntry<Rule>> constraintFunctions = new CopyOnWriteArrayList<>();
+    private List<RuleFunctionEntry<Rule>> ruleFunctions = new CopyOnWriteArrayList<>();
+    private List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new CopyOnWriteArrayList<>();
+    private List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new CopyOnWriteArrayList<>();
+    private final MetricsRegistry metrics;
+
+    public PolicyEngineImpl() {
+        this(NoopMetricsRegistry.INSTANCE);
+    }
+
+    public PolicyEngineImpl(MetricsRegistry metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
 
     @Override
     public PolicyResult evaluate(Policy policy, ParticipantAgent agent) {
+        var start = System.nanoTime();
+        var result = doEvaluate(policy, agent);
+        metrics.timer("edc.policy.evaluation").recordSince(start);
+        metrics.counter("edc.policy.evaluations", "result", result.valid() ? "valid" : "invalid").increment();
+        return result;
+    }
+
+    private PolicyResult doEvaluate(Policy policy, ParticipantAgent agent) {
         var context = new PolicyContextImpl(agent);
 
         for (BiFunction<Policy, PolicyContext, Boolean> validator : preValidators) {
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.niceMock;
+import static org.easymock.EasyMock.replay;
+
+class DispatchRollbackTest {
+
+    private final List<ContractNegotiation> updated = new ArrayList<>();
+    private ContractNegotiation negotiation;
+    private DispatchRollback rollback;
+
+    @BeforeEach
+    void setUp() {
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .id("negotiation")
+                .counterPartyId("provider")
+                .counterPartyAddress("https://provider.test")
+                .protocol("protocol")
+                .state(ContractNegotiationStates.REQUESTED.code())
+                .build();
+
+        var store = niceMock(ContractNegotiationStore.class);
+        expect(store.find("negotiation")).andReturn(negotiation).anyTimes();
+        replay(store);
+
+        var monitor = niceMock(Monitor.class);
+        replay(monitor);
+
+        rollback = new DispatchRollback("consumer", store, updated::add, monitor, NoopMetricsRegistry.INSTANCE);
+    }
+
+    @Test
+    void verifyRolledBackByManagerThread() {
+        rollback.onFailure(CompletableFuture.failedFuture(new IllegalStateException("unavailable")), "negotiation",
+                ContractNegotiationStates.REQUESTED, ContractNegotiationStates.REQUESTING);
+
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.REQUESTED.code());
+        assertThat(updated).isEmpty();
+
+        assertThat(rollback.apply()).isEqualTo(1);
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.REQUESTING.code());
+        assertThat(updated).containsExactly(negotiation);
+        assertThat(rollback.apply()).isZero();
+    }
+
+    @Test
+    void verifyNotRolledBackIfNegotiationMovedOn() {
+        rollback.onFailure(CompletableFuture.failedFuture(new IllegalStateException("unavailable")), "negotiation",
+                ContractNegotiationStates.REQUESTED, ContractNegotiationStates.REQUESTING);
+        negotiation.rollbackState(ContractNegotiationStates.CONSUMER_APPROVED);
+
+        assertThat(rollback.apply()).isZero();
+        assertThat(updated).isEmpty();
+    }
+
+    @Test
+    void verifySuccessNotRolledBack() {
+        rollback.onFailure(CompletableFuture.completedFuture(null), "negotiation", ContractNegotiationStates.REQUESTED, ContractNegotiationStates.REQUESTING);
+
+        assertThat(rollback.apply()).isZero();
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.REQUESTED.code());
+    }
+}
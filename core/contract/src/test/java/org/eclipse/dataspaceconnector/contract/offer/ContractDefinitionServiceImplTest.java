@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.easymock.EasyMock.createMock;
@@ -19,6 +20,7 @@ import static org.easymock.EasyMock.createNiceMock;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.isA;
 import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.same;
 import static org.easymock.EasyMock.verify;
 import static org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression.SELECT_ALL;
 
@@ -91,6 +93,26 @@ class ContractDefinitionServiceImplTest {
         verify(definitionStore, policyEngine);
     }
 
+    @Test
+    void verifySharedPoliciesEvaluatedOncePerQuery() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var accessPolicy = Policy.Builder.newInstance().build();
+        var contractPolicy = Policy.Builder.newInstance().build();
+        var definitions = List.of("1", "2", "3").stream()
+                .map(id -> ContractDefinition.Builder.newInstance().id(id).accessPolicy(accessPolicy).contractPolicy(contractPolicy).selectorExpression(SELECT_ALL).build())
+                .collect(Collectors.toList());
+
+        expect(policyEngine.evaluate(same(accessPolicy), isA(ParticipantAgent.class))).andReturn(new PolicyResult());
+        expect(policyEngine.evaluate(same(contractPolicy), isA(ParticipantAgent.class))).andReturn(new PolicyResult());
+        expect(definitionStore.findAll()).andReturn(definitions);
+
+        replay(definitionStore, policyEngine);
+
+        assertThat(definitionService.definitionsFor(agent).count()).isEqualTo(3);
+
+        verify(definitionStore, policyEngine);
+    }
+
     @BeforeEach
     void setUp() {
         policyEngine = createMock(PolicyEngine.class);
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.policy.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Returns a shared instance for structurally equal policies, rules, constraints and actions, so that stores holding many copies of the same policy
+ * keep a single object graph, and callers can reuse evaluation or transformation results per instance.
+ * <p>
+ * Nodes are looked up by a canonical key built from their fields, in which child nodes are replaced by their interned instances. The first node
+ * seen for a key is returned as is; a later equal node is replaced by it, and a node with replaced children is copied. Ids are part of the key, so
+ * policies with different ids are not merged while their rules are. Duties of a permission refer back to it and are therefore interned as part of
+ * the permission. Interned instances must not be modified.
+ * <p>
+ * Interned instances are referenced weakly: once a policy is no longer held by the caller, e.g. because it was removed from a store, its entries
+ * are dropped, and those of its children once no other interned node refers to them.
+ */
+public class PolicyInterner {
+    private final Map<List<Object>, CanonicalReference> canonical = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    public Policy intern(Policy policy) {
+        var permissions = internAll(policy.getPermissions(), this::intern);
+        var prohibitions = internAll(policy.getProhibitions(), this::intern);
+        var obligations = internAll(policy.getObligations(), this::intern);
+        var properties = new HashMap<>(policy.getExtensibleProperties());
+        var key = key(Policy.class, policy.getUid(), permissions, prohibitions, obligations, properties, policy.getInheritsFrom(), policy.getAssigner(),
+                policy.getAssignee(), policy.getTarget(), policy.getType());
+        var unchanged = same(permissions, policy.getPermissions()) && same(prohibitions, policy.getProhibitions()) && same(obligations, policy.getObligations());
+        return lookup(key, unchanged ? () -> policy : () -> Policy.Builder.newInstance()
+                .id(policy.getUid())
+                .permissions(permissions)
+                .prohibitions(prohibitions)
+                .duties(obligations)
+                .extensibleProperties(properties)
+                .inheritsFrom(policy.getInheritsFrom())
+                .assigner(policy.getAssigner())
+                .assignee(policy.getAssignee())
+                .target(policy.getTarget())
+                .type(policy.getType())
+                .build());
+    }
+
+    public Permission intern(Permission permission) {
+        var action = intern(permission.getAction());
+        var constraints = internAll(permission.getConstraints(), this::intern);
+        var duties = internAll(permission.getDuties(), this::withInternedChildren);
+        var dutyKeys = new ArrayList<List<Object>>();
+        for (var duty : duties) {
+            dutyKeys.add(key(duty));
+        }
+        var key = key(Permission.class, permission.getUid(), permission.getTarget(), permission.getAssigner(), permission.getAssignee(), action, constraints, dutyKeys);
+        var unchanged = action == permission.getAction() && same(constraints, permission.getConstraints()) && same(duties, permission.getDuties());
+        return lookup(key, unchanged ? () -> permission : () -> {
+            var copy = Permission.Builder.newInstance();
+            for (var duty : duties) {
+                // the builder assigns duties to the copy, so they must not be shared with the original
+                copy.duty(duty.getParentPermission() != null ? copyRule(Duty.Builder.newInstance().consequence(duty.getConsequence()).build(), duty,
+                        duty.getAction(), duty.getConstraints()) : duty);
+            }
+            return copyRule(copy.build(), permission, action, constraints);
+        });
+    }
+
+    public Prohibition intern(Prohibition prohibition) {
+        var action = intern(prohibition.getAction());
+        var constraints = internAll(prohibition.getConstraints(), this::intern);
+        var key = key(Prohibition.class, prohibition.getUid(), prohibition.getTarget(), prohibition.getAssigner(), prohibition.getAssignee(), action, constraints);
+        var unchanged = action == prohibition.getAction() && same(constraints, prohibition.getConstraints());
+        return lookup(key, unchanged ? () -> prohibition : () -> copyRule(Prohibition.Builder.newInstance().build(), prohibition, action, constraints));
+    }
+
+    /**
+     * Interns a duty that is not part of a permission, such as a policy obligation or a consequence. Duties of a permission are returned unchanged.
+     */
+    public Duty intern(Duty duty) {
+        if (duty.getParentPermission() != null) {
+            return duty;
+        }
+        var interned = withInternedChildren(duty);
+        return lookup(key(interned), () -> interned);
+    }
+
+    public Constraint intern(Constraint constraint) {
+        if (constraint instanceof AtomicConstraint) {
+            var atomic = (AtomicConstraint) constraint;
+            var left = intern(atomic.getLeftExpression());
+            var right = intern(atomic.getRightExpression());
+            var unchanged = left == atomic.getLeftExpression() && right == atomic.getRightExpression();
+            return lookup(key(AtomicConstraint.class, left, atomic.getOperator(), right), unchanged ? () -> atomic : () -> AtomicConstraint.Builder.newInstance()
+                    .leftExpression(left)
+                    .operator(atomic.getOperator())
+                    .rightExpression(right)
+                    .build());
+        } else if (constraint instanceof AndConstraint) {
+            var constraints = internAll(((AndConstraint) constraint).getConstraints(), this::intern);
+            return lookup(key(AndConstraint.class, constraints), changed((AndConstraint) constraint, constraints, () -> AndConstraint.Builder.newInstance().constraints(constraints).build()));
+        } else if (constraint instanceof OrConstraint) {
+            var constraints = internAll(((OrConstraint) constraint).getConstraints(), this::intern);
+            return lookup(key(OrConstraint.class, constraints), changed((OrConstraint) constraint, constraints, () -> OrConstraint.Builder.newInstance().constraints(constraints).build()));
+        } else if (constraint instanceof XoneConstraint) {
+            var constraints = internAll(((XoneConstraint) constraint).getConstraints(), this::intern);
+            return lookup(key(XoneConstraint.class, constraints), changed((XoneConstraint) constraint, constraints, () -> XoneConstraint.Builder.newInstance().constraints(constraints).build()));
+        }
+        return constraint;
+    }
+
+    public Action intern(@Nullable Action action) {
+        if (action == null) {
+            return null;
+        }
+        var constraint = action.getConstraint() != null ? intern(action.getConstraint()) : null;
+        return lookup(key(Action.class, action.getType(), action.getIncludedIn(), constraint), constraint == action.getConstraint() ? () -> action : () -> Action.Builder.newInstance()
+                .type(action.getType())
+                .includedIn(action.getIncludedIn())
+                .constraint(constraint)
+                .build());
+    }
+
+    public Expression intern(@Nullable Expression expression) {
+        if (!(expression instanceof LiteralExpression) || ((LiteralExpression) expression).getValue() == null) {
+            return expression;
+        }
+        return lookup(key(LiteralExpression.class, ((LiteralExpression) expression).getValue()), () -> expression);
+    }
+
+    /**
+     * Returns the number of distinct nodes that are interned, including nodes that have been garbage collected but not yet dropped.
+     */
+    public int size() {
+        purge();
+        return canonical.size();
+    }
+
+    public void clear() {
+        canonical.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(List<Object> key, Supplier<T> candidate) {
+        purge();
+        var existing = canonical.get(key);
+        var value = existing != null ? existing.get() : null;
+        if (value != null) {
+            return (T) value;
+        }
+        var created = candidate.get();
+        var reference = new CanonicalReference(key, created, collected);
+        while (true) {
+            existing = canonical.putIfAbsent(key, reference);
+            if (existing == null) {
+                return created;
+            }
+            value = existing.get();
+            if (value != null) {
+                return (T) value;
+            }
+            // the previous instance has been collected, replace its entry
+            canonical.remove(key, existing);
+        }
+    }
+
+    /**
+     * Drops the entries of collected instances. Their keys hold the children of the instance, which may become collectable in turn.
+     */
+    private void purge() {
+        var reference = (CanonicalReference) collected.poll();
+        while (reference != null) {
+            canonical.remove(reference.key, reference);
+            reference = (CanonicalReference) collected.poll();
+        }
+    }
+
+    /**
+     * Returns the duty if its children are interned already, otherwise a copy with interned children that is not assigned to a permission.
+     */
+    private Duty withInternedChildren(Duty duty) {
+        var action = intern(duty.getAction());
+        var constraints = internAll(duty.getConstraints(), this::intern);
+        var consequence = duty.getConsequence() != null ? intern(duty.getConsequence()) : null;
+        if (action == duty.getAction() && same(constraints, duty.getConstraints()) && consequence == duty.getConsequence()) {
+            return duty;
+        }
+        return copyRule(Duty.Builder.newInstance().consequence(consequence).build(), duty, action, constraints);
+    }
+
+    private List<Object> key(Duty duty) {
+        return key(Duty.class, duty.getUid(), duty.getTarget(), duty.getAssigner(), duty.getAssignee(), duty.getAction(), duty.getConstraints(), duty.getConsequence());
+    }
+
+    private <T extends Rule> T copyRule(T copy, Rule rule, Action action, List<Constraint> constraints) {
+        copy.uid = rule.getUid();
+        copy.target = rule.getTarget();
+        copy.assigner = rule.getAssigner();
+        copy.assignee = rule.getAssignee();
+        copy.action = action;
+        copy.constraints.addAll(constraints);
+        return copy;
+    }
+
+    private static Supplier<Constraint> changed(MultiplicityConstraint constraint, List<Constraint> constraints, Supplier<Constraint> copy) {
+        return same(constraints, constraint.getConstraints()) ? () -> constraint : copy;
+    }
+
+    private static <T> List<T> internAll(List<T> nodes, UnaryOperator<T> intern) {
+        var interned = new ArrayList<T>(nodes.size());
+        for (var node : nodes) {
+            interned.add(intern.apply(node));
+        }
+        return interned;
+    }
+
+    private static boolean same(List<?> interned, List<?> nodes) {
+        for (var i = 0; i < interned.size(); i++) {
+            if (interned.get(i) != nodes.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Object> key(Object... fields) {
+        return Arrays.asList(fields);
+    }
+
+    private static class CanonicalReference extends WeakReference<Object> {
+        private final List<Object> key;
+
+        CanonicalReference(List<Object> key, Object instance, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.key = key;
+        }
+    }
+}
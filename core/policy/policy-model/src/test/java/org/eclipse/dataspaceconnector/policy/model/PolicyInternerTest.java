@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.policy.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyInternerTest {
+    private final PolicyInterner interner = new PolicyInterner();
+
+    @Test
+    void intern_returnsFirstEqualPolicy() {
+        var first = policy("policy-1", "EU");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(policy("policy-1", "EU"))).isSameAs(first);
+    }
+
+    @Test
+    void intern_sharesRulesOfPoliciesWithDifferentIds() {
+        var first = interner.intern(policy("policy-1", "EU"));
+        var second = interner.intern(policy("policy-2", "EU"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUid()).isEqualTo("policy-2");
+        assertThat(second.getPermissions().get(0)).isSameAs(first.getPermissions().get(0));
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void intern_keepsDifferentConstraintsApart() {
+        var first = interner.intern(policy("policy-1", "EU"));
+        var second = interner.intern(policy("policy-1", "US"));
+
+        assertThat(second.getPermissions().get(0)).isNotSameAs(first.getPermissions().get(0));
+        assertThat(second.getPermissions().get(0).getAction()).isSameAs(first.getPermissions().get(0).getAction());
+    }
+
+    @Test
+    void intern_copiesDutiesWithTheirPermission() {
+        var first = interner.intern(policy("policy-1", "EU"));
+        var copy = interner.intern(Policy.Builder.newInstance()
+                .id("policy-2")
+                .permission(Permission.Builder.newInstance().uid("permission-2").action(action("USE")).constraint(region("EU")).duty(notice()).build())
+                .build());
+
+        var permission = copy.getPermissions().get(0);
+        assertThat(permission).isNotSameAs(first.getPermissions().get(0));
+        assertThat(permission.getDuties()).hasSize(1);
+        assertThat(permission.getDuties().get(0).getParentPermission()).isSameAs(permission);
+        assertThat(first.getPermissions().get(0).getDuties().get(0).getParentPermission()).isSameAs(first.getPermissions().get(0));
+        assertThat(permission.getConstraints().get(0)).isSameAs(first.getPermissions().get(0).getConstraints().get(0));
+    }
+
+    @Test
+    void intern_multiplicityConstraints() {
+        var first = (AndConstraint) interner.intern(AndConstraint.Builder.newInstance().constraint(region("EU")).constraint(region("US")).build());
+        var equal = AndConstraint.Builder.newInstance().constraint(region("EU")).constraint(region("US")).build();
+        var or = OrConstraint.Builder.newInstance().constraint(region("EU")).constraint(region("US")).build();
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(equal)).isSameAs(first);
+        var interned = interner.intern(or);
+        assertThat(interned).isInstanceOf(OrConstraint.class);
+        assertThat(((OrConstraint) interned).getConstraints()).containsExactlyElementsOf(first.getConstraints());
+        assertThat(((AtomicConstraint) first.getConstraints().get(1)).getLeftExpression()).isSameAs(((AtomicConstraint) first.getConstraints().get(0)).getLeftExpression());
+    }
+
+    @Test
+    void intern_dropsPoliciesNoLongerHeld() throws InterruptedException {
+        var kept = interner.intern(policy("policy-1", "EU"));
+        var baseline = interner.size();
+        for (var i = 0; i < 100; i++) {
+            interner.intern(policy("removed-" + i, "EU"));
+        }
+        assertThat(interner.size()).isGreaterThan(baseline);
+
+        for (var attempt = 0; attempt < 20 && interner.size() > baseline; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertThat(interner.size()).isEqualTo(baseline);
+        assertThat(interner.intern(policy("policy-1", "EU"))).isSameAs(kept);
+    }
+
+    private static Policy policy(String id, String region) {
+        return Policy.Builder.newInstance()
+                .id(id)
+                .permission(Permission.Builder.newInstance().action(action("USE")).constraint(region(region)).duty(notice()).build())
+                .prohibition(Prohibition.Builder.newInstance().action(action("DELETE")).build())
+                .build();
+    }
+
+    private static Duty notice() {
+        return Duty.Builder.newInstance().action(action("NOTIFY")).build();
+    }
+
+    private static Action action(String type) {
+        return Action.Builder.newInstance().type(type).build();
+    }
+
+    private static AtomicConstraint region(String region) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("region"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(region))
+                .build();
+    }
+}
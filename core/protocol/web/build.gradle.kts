@@ -37,9 +37,14 @@ dependencies {
     implementation("org.glassfish.jersey.inject:jersey-hk2:${jerseyVersion}")
     implementation("org.glassfish.jersey.containers:jersey-container-servlet:${jerseyVersion}")
 
+    implementation("org.eclipse.jetty.http2:http2-server:${jettyVersion}")
+    implementation("org.eclipse.jetty:jetty-alpn-java-server:${jettyVersion}")
+
     implementation("org.eclipse.jetty.websocket:websocket-jakarta-server:${jettyVersion}")
     implementation("jakarta.websocket:jakarta.websocket-api:2.0.0")
 
+    testImplementation(project(":core:bootstrap"))
+
 }
 
 publishing {
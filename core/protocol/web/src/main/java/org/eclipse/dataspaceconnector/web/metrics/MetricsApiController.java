@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.metrics;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+
+/**
+ * Exposes the metrics of the runtime for scraping by Prometheus.
+ */
+@Path(MetricsApiController.PATH)
+public class MetricsApiController {
+    public static final String PATH = "/metrics";
+
+    private final MetricsRegistry metricsRegistry;
+    private final PrometheusTextFormat format = new PrometheusTextFormat();
+
+    public MetricsApiController(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @GET
+    @Produces(PrometheusTextFormat.CONTENT_TYPE)
+    public String scrape() {
+        return format.write(metricsRegistry.getMetrics());
+    }
+}
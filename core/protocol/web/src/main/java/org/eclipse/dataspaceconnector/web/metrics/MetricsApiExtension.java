@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.metrics;
+
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+
+import java.util.Set;
+
+/**
+ * Registers the Prometheus scrape endpoint for the {@link MetricsRegistry} of the runtime.
+ */
+public class MetricsApiExtension implements ServiceExtension {
+
+    @EdcSetting
+    public static final String METRICS_ENDPOINT_ENABLED_SETTING = "edc.metrics.endpoint.enabled";
+
+    @Override
+    public Set<String> requires() {
+        return Set.of("edc:webservice", MetricsRegistry.FEATURE);
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var monitor = context.getMonitor();
+        if (!Boolean.parseBoolean(context.getSetting(METRICS_ENDPOINT_ENABLED_SETTING, "true"))) {
+            monitor.info("Metrics endpoint disabled");
+            return;
+        }
+
+        var webService = context.getService(WebService.class);
+        webService.registerController(new MetricsApiController(context.getService(MetricsRegistry.class)));
+        monitor.info("Initialized Metrics API extension");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.metrics;
+
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.Gauge;
+import org.eclipse.dataspaceconnector.spi.metrics.Histogram;
+import org.eclipse.dataspaceconnector.spi.metrics.HistogramSnapshot;
+import org.eclipse.dataspaceconnector.spi.metrics.Metric;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Writes metrics in the Prometheus text exposition format (version 0.0.4).
+ * <p>
+ * Metric names are sanitized by replacing unsupported characters with underscores. Counters are suffixed with {@code _total}, timers are reported as
+ * summaries in seconds and histograms as summaries.
+ */
+public class PrometheusTextFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    public String write(Collection<Metric> metrics) {
+        var builder = new StringBuilder();
+        Set<String> typesWritten = new HashSet<>();
+        var sorted = metrics.stream()
+                .sorted(Comparator.comparing(Metric::getName).thenComparing(m -> m.getTags().toString()))
+                .collect(Collectors.toList());
+        for (var metric : sorted) {
+            if (metric instanceof Counter) {
+                var name = sanitize(metric.getName(), "_total");
+                writeType(builder, typesWritten, name, "counter");
+                writeSample(builder, name, metric.getTags(), ((Counter) metric).getCount());
+            } else if (metric instanceof Gauge) {
+                var name = sanitize(metric.getName(), "");
+                writeType(builder, typesWritten, name, "gauge");
+                writeSample(builder, name, metric.getTags(), ((Gauge) metric).getValue());
+            } else if (metric instanceof Timer) {
+                var name = sanitize(metric.getName(), "_seconds");
+                writeType(builder, typesWritten, name, "summary");
+                writeSummary(builder, name, metric.getTags(), ((Timer) metric).getSnapshot());
+            } else if (metric instanceof Histogram) {
+                var name = sanitize(metric.getName(), "");
+                writeType(builder, typesWritten, name, "summary");
+                writeSummary(builder, name, metric.getTags(), ((Histogram) metric).getSnapshot());
+            }
+        }
+        return builder.toString();
+    }
+
+    private void writeSummary(StringBuilder builder, String name, Map<String, String> tags, HistogramSnapshot snapshot) {
+        for (double quantile : QUANTILES) {
+            var quantileTags = new TreeMap<>(tags);
+            quantileTags.put("quantile", String.valueOf(quantile));
+            writeSample(builder, name, quantileTags, snapshot.getValue(quantile));
+        }
+        writeSample(builder, name + "_sum", tags, snapshot.getSum());
+        writeSample(builder, name + "_count", tags, snapshot.getCount());
+    }
+
+    private void writeType(StringBuilder builder, Set<String> typesWritten, String name, String type) {
+        if (typesWritten.add(name)) {
+            builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+    }
+
+    private void writeSample(StringBuilder builder, String name, Map<String, String> tags, double value) {
+        builder.append(name);
+        if (!tags.isEmpty()) {
+            builder.append('{');
+            var first = true;
+            for (var tag : tags.entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                builder.append(sanitize(tag.getKey(), "")).append("=\"").append(escape(tag.getValue())).append('"');
+            }
+            builder.append('}');
+        }
+        builder.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+
+    private static String sanitize(String name, String suffix) {
+        var sanitized = name.replaceAll("[^a-zA-Z0-9_:]", "_");
+        if (!sanitized.isEmpty() && Character.isDigit(sanitized.charAt(0))) {
+            sanitized = "_" + sanitized;
+        }
+        return sanitized.endsWith(suffix) ? sanitized : sanitized + suffix;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
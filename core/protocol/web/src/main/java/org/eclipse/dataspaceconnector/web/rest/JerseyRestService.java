@@ -25,8 +25,8 @@ import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.servlet.ServletContainer;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.stream.Collectors.toSet;
 
@@ -37,7 +37,7 @@ public class JerseyRestService implements WebService {
     private final TypeManager typeManager;
     private final Monitor monitor;
 
-    private final Set<Object> controllers = new HashSet<>();
+    private final Set<Object> controllers = ConcurrentHashMap.newKeySet();
 
     public JerseyRestService(JettyService jettyService, TypeManager typeManager, Monitor monitor) {
         this.jettyService = jettyService;
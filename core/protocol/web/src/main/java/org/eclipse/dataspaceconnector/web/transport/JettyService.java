@@ -18,6 +18,11 @@ import jakarta.servlet.Servlet;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -26,14 +31,17 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.Source;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 import java.security.KeyStore;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides HTTP(S) support using Jetty.
@@ -42,11 +50,43 @@ public class JettyService {
     @EdcSetting
     private static final String HTTP_PORT = "web.http.port";
 
+    @EdcSetting
+    private static final String THREADS_MIN = "web.http.threads.min";
+
+    @EdcSetting
+    private static final String THREADS_MAX = "web.http.threads.max";
+
+    @EdcSetting
+    private static final String THREADS_RESERVED = "web.http.threads.reserved";
+
+    @EdcSetting
+    private static final String THREADS_IDLE_TIMEOUT = "web.http.threads.idletimeout";
+
+    @EdcSetting
+    private static final String REQUEST_QUEUE_MAX = "web.http.request.queue.max";
+
+    @EdcSetting
+    private static final String ACCEPTORS = "web.http.acceptors";
+
+    @EdcSetting
+    private static final String SELECTORS = "web.http.selectors";
+
+    @EdcSetting
+    private static final String IDLE_TIMEOUT = "web.http.idletimeout";
+
+    @EdcSetting
+    private static final String HTTP2_ENABLED = "web.http.http2.enabled";
+
+    @EdcSetting
+    private static final String GZIP_ENABLED = "web.http.gzip.enabled";
+
+    private static final String[] GZIP_MIME_TYPES = {"application/json", "multipart/form-data", "multipart/mixed"};
+
     private static final String LOG_ANNOUNCE = "org.eclipse.jetty.util.log.announce";
     private final JettyConfiguration configuration;
     private final Monitor monitor;
     private final KeyStore keyStore;
-    private final Map<String, ServletContextHandler> handlers = new HashMap<>();
+    private final Map<String, ServletContextHandler> handlers = new ConcurrentHashMap<>();
     private Server server;
 
     public JettyService(JettyConfiguration configuration, Monitor monitor) {
@@ -64,11 +104,15 @@ public class JettyService {
     }
 
     public void start() {
-        var port = configuration.getSetting(HTTP_PORT, "8181");
+        var port = Integer.parseInt(configuration.getSetting(HTTP_PORT, "8181"));
+        var http2 = Boolean.parseBoolean(configuration.getSetting(HTTP2_ENABLED, "false"));
 
         try {
+            server = new Server(createThreadPool());
+            var httpConfiguration = new HttpConfiguration();
+            var http11 = new HttpConnectionFactory(httpConfiguration);
+            ServerConnector connector;
             if (keyStore != null) {
-                server = new Server();
                 var storePassword = configuration.getSetting("keystore.password", "password");
                 var managerPassword = configuration.getSetting("keymanager.password", "password");
 
@@ -77,24 +121,34 @@ public class JettyService {
                 contextFactory.setKeyStorePassword(storePassword);
                 contextFactory.setKeyManagerPassword(managerPassword);
 
-                HttpConfiguration https = new HttpConfiguration();
-                SslConnectionFactory connectionFactory = new SslConnectionFactory(contextFactory, "http/1.1");
-                ServerConnector sslConnector = new ServerConnector(server, connectionFactory, new HttpConnectionFactory(https));
-                sslConnector.setPort(Integer.parseInt(port));
-                server.setConnectors(new Connector[]{sslConnector});
-                monitor.info("HTTPS listening on " + port);
+                if (http2) {
+                    // negotiate h2 via ALPN and fall back to HTTP/1.1 for clients that do not support it
+                    contextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+                    var alpn = new ALPNServerConnectionFactory();
+                    alpn.setDefaultProtocol(http11.getProtocol());
+                    var ssl = new SslConnectionFactory(contextFactory, alpn.getProtocol());
+                    connector = createConnector(ssl, alpn, new HTTP2ServerConnectionFactory(httpConfiguration), http11);
+                } else {
+                    connector = createConnector(new SslConnectionFactory(contextFactory, http11.getProtocol()), http11);
+                }
+                monitor.info("HTTPS listening on " + port + (http2 ? " (h2, http/1.1)" : ""));
             } else {
-                server = new Server(Integer.parseInt(port));
-                ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(new HttpConfiguration()));
-                connector.setPort(Integer.parseInt(port));
-                server.setConnectors(new Connector[]{connector});
-                monitor.info("HTTP listening on " + port);
+                if (http2) {
+                    // h2c is served on the same connector, either via upgrade or with prior knowledge
+                    connector = createConnector(http11, new HTTP2CServerConnectionFactory(httpConfiguration));
+                } else {
+                    connector = createConnector(http11);
+                }
+                monitor.info("HTTP listening on " + port + (http2 ? " (h2c, http/1.1)" : ""));
             }
+            connector.setPort(port);
+            connector.setIdleTimeout(Long.parseLong(configuration.getSetting(IDLE_TIMEOUT, "30000")));
+            server.setConnectors(new Connector[]{connector});
 
             server.setErrorHandler(new JettyErrorHandler());
             ContextHandlerCollection contexts = new ContextHandlerCollection();
             contexts.setHandlers(handlers.values().toArray(new Handler[0]));
-            server.setHandler(contexts);
+            server.setHandler(createGzipHandlerIfEnabled(contexts));
 
             server.start();
         } catch (Exception e) {
@@ -114,7 +168,7 @@ public class JettyService {
         }
     }
 
-    public void registerServlet(String contextPath, String path, Servlet servlet) {
+    public synchronized void registerServlet(String contextPath, String path, Servlet servlet) {
         ServletHolder servletHolder = new ServletHolder(Source.EMBEDDED);
         servletHolder.setName("EDC");
         servletHolder.setServlet(servlet);
@@ -133,6 +187,45 @@ public class JettyService {
         handlers.put(handler.getContextPath(), handler);
     }
 
+    /**
+     * Creates the request thread pool. If a maximum request queue size is configured, requests that arrive while all threads are busy and the queue is full
+     * are rejected instead of piling up in memory.
+     */
+    private QueuedThreadPool createThreadPool() {
+        var maxThreads = Integer.parseInt(configuration.getSetting(THREADS_MAX, "200"));
+        var minThreads = Integer.parseInt(configuration.getSetting(THREADS_MIN, "8"));
+        var idleTimeout = Integer.parseInt(configuration.getSetting(THREADS_IDLE_TIMEOUT, "60000"));
+        var maxQueued = Integer.parseInt(configuration.getSetting(REQUEST_QUEUE_MAX, "-1"));
+
+        QueuedThreadPool threadPool;
+        if (maxQueued > 0) {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads, idleTimeout, new BlockingArrayQueue<>(maxQueued));
+        } else {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads, idleTimeout);
+        }
+        threadPool.setReservedThreads(Integer.parseInt(configuration.getSetting(THREADS_RESERVED, "-1")));
+        threadPool.setName("edc-http");
+        return threadPool;
+    }
+
+    private ServerConnector createConnector(ConnectionFactory... factories) {
+        var acceptors = Integer.parseInt(configuration.getSetting(ACCEPTORS, "-1"));
+        var selectors = Integer.parseInt(configuration.getSetting(SELECTORS, "-1"));
+        return new ServerConnector(server, acceptors, selectors, factories);
+    }
+
+    private Handler createGzipHandlerIfEnabled(Handler handler) {
+        if (!Boolean.parseBoolean(configuration.getSetting(GZIP_ENABLED, "false"))) {
+            return handler;
+        }
+        var gzipHandler = new GzipHandler();
+        gzipHandler.setIncludedMimeTypes(GZIP_MIME_TYPES);
+        // IDS multipart messages are exchanged via POST
+        gzipHandler.setIncludedMethods("GET", "POST");
+        gzipHandler.setHandler(handler);
+        return gzipHandler;
+    }
+
     private ServletContextHandler getOrCreate(String contextPath) {
         return handlers.computeIfAbsent(contextPath, k -> {
             ServletContextHandler handler = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
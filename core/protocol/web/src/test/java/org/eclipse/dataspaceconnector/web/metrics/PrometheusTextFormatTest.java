@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.metrics;
+
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrometheusTextFormatTest {
+
+    private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+    private final PrometheusTextFormat format = new PrometheusTextFormat();
+
+    @Test
+    void verifyCounters() {
+        registry.counter("edc.transfer.processed", "state", "INITIAL").increment(3);
+        registry.counter("edc.transfer.processed", "state", "PROVISIONED").increment();
+
+        var text = format.write(registry.getMetrics());
+
+        assertThat(text).isEqualTo("# TYPE edc_transfer_processed_total counter\n" +
+                "edc_transfer_processed_total{state=\"INITIAL\"} 3\n" +
+                "edc_transfer_processed_total{state=\"PROVISIONED\"} 1\n");
+    }
+
+    @Test
+    void verifyGauge() {
+        registry.gauge("edc.dispatcher.inflight", () -> 2.5);
+
+        assertThat(format.write(registry.getMetrics())).isEqualTo("# TYPE edc_dispatcher_inflight gauge\nedc_dispatcher_inflight 2.5\n");
+    }
+
+    @Test
+    void verifyTimerAsSummaryInSeconds() {
+        var timer = registry.timer("edc.ids.send", "type", "ArtifactRequestMessage");
+        timer.record(2, TimeUnit.SECONDS);
+
+        var text = format.write(registry.getMetrics());
+
+        assertThat(text).contains("# TYPE edc_ids_send_seconds summary\n")
+                .contains("edc_ids_send_seconds{quantile=\"0.99\",type=\"ArtifactRequestMessage\"} 2\n")
+                .contains("edc_ids_send_seconds_sum{type=\"ArtifactRequestMessage\"} 2\n")
+                .contains("edc_ids_send_seconds_count{type=\"ArtifactRequestMessage\"} 1\n");
+    }
+
+    @Test
+    void verifyLabelValuesEscaped() {
+        registry.counter("errors", "message", "say \"hi\"\n").increment();
+
+        assertThat(format.write(registry.getMetrics())).contains("errors_total{message=\"say \\\"hi\\\"\\n\"} 1\n");
+    }
+}
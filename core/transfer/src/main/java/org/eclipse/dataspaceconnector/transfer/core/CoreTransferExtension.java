@@ -14,11 +14,19 @@
 
 package org.eclipse.dataspaceconnector.transfer.core;
 
+import org.eclipse.dataspaceconnector.spi.ListenerEventBus;
+import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatchQueue;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessListener;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessObservable;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferWaitStrategy;
@@ -32,11 +40,13 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusCheckerReg
 import org.eclipse.dataspaceconnector.transfer.core.flow.DataFlowManagerImpl;
 import org.eclipse.dataspaceconnector.transfer.core.protocol.provider.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.dataspaceconnector.transfer.core.provision.ProvisionManagerImpl;
+import org.eclipse.dataspaceconnector.transfer.core.provision.ProvisioningLimiter;
 import org.eclipse.dataspaceconnector.transfer.core.provision.ResourceManifestGeneratorImpl;
 import org.eclipse.dataspaceconnector.transfer.core.transfer.ExponentialWaitStrategy;
 import org.eclipse.dataspaceconnector.transfer.core.transfer.StatusCheckerRegistryImpl;
 import org.eclipse.dataspaceconnector.transfer.core.transfer.TransferProcessManagerImpl;
 
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -48,14 +58,21 @@ public class CoreTransferExtension implements ServiceExtension {
     private Monitor monitor;
     private ServiceExtensionContext context;
 
+    private DataFlowManagerImpl dataFlowManager;
     private ProvisionManagerImpl provisionManager;
     private TransferProcessManagerImpl processManager;
+    private ListenerEventBus<TransferProcessListener> eventBus;
 
     @Override
     public Set<String> provides() {
         return Set.of("dataspaceconnector:statuschecker", "dataspaceconnector:dispatcher", "dataspaceconnector:manifestgenerator", "dataspaceconnector:transfer-process-manager", "dataspaceconnector:transfer-process-observable");
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(MetricsRegistry.FEATURE);
+    }
+
     @Override
     public LoadPhase phase() {
         return LoadPhase.PRIMORDIAL;
@@ -70,10 +87,15 @@ public class CoreTransferExtension implements ServiceExtension {
 
         registerTypes(typeManager);
 
-        var dataFlowManager = new DataFlowManagerImpl();
+        var metrics = Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE);
+
+        dataFlowManager = new DataFlowManagerImpl(
+                Integer.parseInt(context.getSetting(DataFlowManagerImpl.SYNC_THREADS_SETTING, String.valueOf(DataFlowManagerImpl.DEFAULT_SYNC_THREADS))),
+                Integer.parseInt(context.getSetting(DataFlowManagerImpl.SYNC_QUEUE_SETTING, String.valueOf(DataFlowManagerImpl.DEFAULT_SYNC_QUEUE))),
+                metrics);
         context.registerService(DataFlowManager.class, dataFlowManager);
 
-        var dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl();
+        var dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl(RemoteMessageDispatchQueue.fromSettings("transfer", context, metrics));
         context.registerService(RemoteMessageDispatcherRegistry.class, dispatcherRegistry);
 
         var manifestGenerator = new ResourceManifestGeneratorImpl();
@@ -84,7 +106,7 @@ public class CoreTransferExtension implements ServiceExtension {
 
         var vault = context.getService(Vault.class);
 
-        provisionManager = new ProvisionManagerImpl(vault, typeManager, monitor);
+        provisionManager = new ProvisionManagerImpl(vault, typeManager, monitor, metrics, ProvisioningLimiter.fromSettings(context, metrics));
         context.registerService(ProvisionManager.class, provisionManager);
 
         var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
@@ -97,9 +119,19 @@ public class CoreTransferExtension implements ServiceExtension {
                 .dispatcherRegistry(dispatcherRegistry)
                 .statusCheckerRegistry(statusCheckerRegistry)
                 .monitor(monitor)
+                .metrics(metrics)
+                .statusCheckBackoff(Long.parseLong(context.getSetting(TransferProcessManagerImpl.STATUS_CHECK_INITIAL_BACKOFF_SETTING,
+                                String.valueOf(TransferProcessManagerImpl.DEFAULT_STATUS_CHECK_INITIAL_BACKOFF))),
+                        Long.parseLong(context.getSetting(TransferProcessManagerImpl.STATUS_CHECK_MAX_BACKOFF_SETTING,
+                                String.valueOf(TransferProcessManagerImpl.DEFAULT_STATUS_CHECK_MAX_BACKOFF))))
                 .build();
 
+        eventBus = ListenerEventBus.fromSettings("transfer", context, metrics);
+        processManager.setEventBus(eventBus);
+
         context.registerService(TransferProcessManager.class, processManager);
+        context.registerService(TransferCompletionCallback.class, processManager);
+        context.registerService(TransferCheckpointStore.class, processManager);
         context.registerService(TransferProcessObservable.class, processManager);
 
         monitor.info("Initialized Core Transfer extension");
@@ -109,6 +141,7 @@ public class CoreTransferExtension implements ServiceExtension {
     public void start() {
         var transferProcessStore = context.getService(TransferProcessStore.class);
 
+        dataFlowManager.setDataAddressResolver(context.getService(DataAddressResolver.class, true));
         provisionManager.start(transferProcessStore);
         processManager.start(transferProcessStore);
 
@@ -120,6 +153,15 @@ public class CoreTransferExtension implements ServiceExtension {
         if (processManager != null) {
             processManager.stop();
         }
+        if (provisionManager != null) {
+            provisionManager.stop();
+        }
+        if (dataFlowManager != null) {
+            dataFlowManager.stop();
+        }
+        if (eventBus != null) {
+            eventBus.close();
+        }
         monitor.info("Shutdown Core Transfer extension");
     }
 
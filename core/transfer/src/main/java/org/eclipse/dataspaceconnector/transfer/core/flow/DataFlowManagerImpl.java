@@ -14,45 +14,270 @@
 
 package org.eclipse.dataspaceconnector.transfer.core.flow;
 
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.AsyncDataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute.ANY;
+import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.FATAL_ERROR;
 
 /**
  * The default data flow manager.
+ * <br/>
+ * Synchronous controllers are adapted onto a bounded executor, so a controller that copies data inline does not block the caller. Flows are tracked
+ * by request id while they are being initiated; initiating a request that is already in flight returns the pending result.
+ * <br/>
+ * Controllers that declare {@link DataFlowRoute}s are selected through a route table that is rebuilt on registration, so routing a request is a map
+ * lookup by its (source type, destination type) pair. Only when no declared route matches are controllers with dynamic routing asked through
+ * {@link AsyncDataFlowController#canHandle(DataRequest)}. The source address is resolved once per request and attached to it for the controller.
  */
 public class DataFlowManagerImpl implements DataFlowManager {
-    private final List<DataFlowController> controllers = new ArrayList<>();
+
+    @EdcSetting
+    public static final String SYNC_THREADS_SETTING = "edc.dataflow.sync.threads";
+
+    @EdcSetting
+    public static final String SYNC_QUEUE_SETTING = "edc.dataflow.sync.queue.max";
+
+    public static final int DEFAULT_SYNC_THREADS = 8;
+    public static final int DEFAULT_SYNC_QUEUE = 1000;
+
+    private final Map<DataFlowRoute, AsyncDataFlowController> routes = new HashMap<>();
+    private final List<AsyncDataFlowController> dynamicControllers = new ArrayList<>();
+    private volatile RouteTable routeTable = new RouteTable(Map.of(), List.of());
+    private volatile DataAddressResolver dataAddressResolver;
+    private final Map<String, CompletableFuture<DataFlowInitiateResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService syncExecutor;
+
+    public DataFlowManagerImpl() {
+        this(DEFAULT_SYNC_THREADS, DEFAULT_SYNC_QUEUE, NoopMetricsRegistry.INSTANCE);
+    }
+
+    /**
+     * Creates a manager with an explicit executor size for synchronous controllers.
+     *
+     * @param syncThreads the number of synchronous controller invocations that may run at the same time
+     * @param maxQueued   the number of synchronous invocations that may wait for a thread before initiation is rejected for retry
+     */
+    public DataFlowManagerImpl(int syncThreads, int maxQueued, MetricsRegistry metrics) {
+        var threadCount = new AtomicInteger();
+        syncExecutor = new ThreadPoolExecutor(syncThreads, syncThreads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(maxQueued), runnable -> {
+            var thread = new Thread(runnable, "edc-dataflow-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        metrics.gauge("edc.dataflow.inflight", inFlight::size);
+    }
+
+    /**
+     * Stops the executor of synchronous controllers. Invocations that have not started yet are discarded.
+     */
+    public void stop() {
+        syncExecutor.shutdownNow();
+    }
+
+    /**
+     * Sets the resolver used to look up the source address of requests that do not carry one yet. Without a resolver, requests are routed by
+     * destination type only.
+     */
+    public void setDataAddressResolver(DataAddressResolver dataAddressResolver) {
+        this.dataAddressResolver = dataAddressResolver;
+    }
 
     @Override
     public void register(DataFlowController controller) {
-        controllers.add(controller);
+        addController(new SyncControllerAdapter(controller));
+    }
+
+    @Override
+    public void register(AsyncDataFlowController controller) {
+        addController(controller);
     }
 
     @Override
     public @NotNull DataFlowInitiateResponse initiate(DataRequest dataRequest) {
-        DataFlowController executor = getExecutor(dataRequest);
-        if (executor == null) {
-            return new DataFlowInitiateResponse(FATAL_ERROR, "Unable to process data request. No data flow controller found: " + dataRequest.getId());
+        return initiateAsync(dataRequest).join();
+    }
+
+    @Override
+    public @NotNull CompletableFuture<DataFlowInitiateResponse> initiateAsync(DataRequest dataRequest) {
+        var id = dataRequest.getId();
+        if (id == null) {
+            return start(dataRequest);
+        }
+        var pending = inFlight.get(id);
+        if (pending != null) {
+            return pending;
+        }
+        var result = new CompletableFuture<DataFlowInitiateResponse>();
+        pending = inFlight.putIfAbsent(id, result);
+        if (pending != null) {
+            return pending;
+        }
+        start(dataRequest).whenComplete((response, throwable) -> {
+            inFlight.remove(id, result);
+            result.complete(response);
+        });
+        return result;
+    }
+
+    private CompletableFuture<DataFlowInitiateResponse> start(DataRequest dataRequest) {
+        AsyncDataFlowController controller;
+        try {
+            controller = getController(dataRequest);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(new DataFlowInitiateResponse(ERROR_RETRY, "Error routing data flow: " + e.getMessage()));
+        }
+        if (controller == null) {
+            return CompletableFuture.completedFuture(new DataFlowInitiateResponse(FATAL_ERROR, "Unable to process data request. No data flow controller found: " + dataRequest.getId()));
+        }
+        try {
+            return controller.initiateFlowAsync(dataRequest)
+                    .exceptionally(throwable -> new DataFlowInitiateResponse(ERROR_RETRY, "Error initiating data flow: " + throwable.getMessage()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(new DataFlowInitiateResponse(ERROR_RETRY, "Error initiating data flow: " + e.getMessage()));
         }
-        return executor.initiateFlow(dataRequest);
+    }
+
+    private synchronized void addController(AsyncDataFlowController controller) {
+        var declared = controller.routes();
+        if (declared == null || declared.isEmpty()) {
+            dynamicControllers.add(controller);
+        } else {
+            declared.forEach(route -> routes.putIfAbsent(route, controller));
+        }
+        routeTable = new RouteTable(Map.copyOf(routes), List.copyOf(dynamicControllers));
     }
 
     @Nullable
-    private DataFlowController getExecutor(DataRequest dataRequest) {
-        for (DataFlowController manager : controllers) {
-            if (manager.canHandle(dataRequest)) {
-                return manager;
+    private AsyncDataFlowController getController(DataRequest dataRequest) {
+        var table = routeTable;
+        var routed = table.lookup(DataFlowRoute.of(sourceType(dataRequest), destinationType(dataRequest)));
+        if (routed.isPresent()) {
+            return routed.get();
+        }
+        for (var controller : table.dynamic) {
+            if (controller.canHandle(dataRequest)) {
+                return controller;
             }
         }
         return null;
     }
+
+    /**
+     * Returns the type of the request's source address, resolving and attaching the address if the request does not carry it yet.
+     */
+    private String sourceType(DataRequest dataRequest) {
+        var sourceAddress = dataRequest.getSourceAddress();
+        var resolver = dataAddressResolver;
+        if (sourceAddress == null && resolver != null && dataRequest.getAssetId() != null) {
+            try {
+                sourceAddress = resolver.resolveForAsset(dataRequest.getAssetId());
+            } catch (IllegalArgumentException e) {
+                // unknown asset: only routes from any source apply, the controller reports the missing asset
+                return "";
+            }
+            dataRequest.updateSourceAddress(sourceAddress);
+        }
+        return sourceAddress != null && sourceAddress.getType() != null ? sourceAddress.getType() : "";
+    }
+
+    private String destinationType(DataRequest dataRequest) {
+        var destinationType = dataRequest.getDestinationType();
+        return destinationType != null ? destinationType : "";
+    }
+
+    /**
+     * A snapshot of the declared routes and of the controllers with dynamic routing, in registration order. Lookups, including wildcard fallbacks,
+     * are cached per route; a new snapshot replaces the table and its cache on each registration.
+     */
+    private static class RouteTable {
+        private final Map<DataFlowRoute, AsyncDataFlowController> routes;
+        private final List<AsyncDataFlowController> dynamic;
+        private final Map<DataFlowRoute, Optional<AsyncDataFlowController>> resolved = new ConcurrentHashMap<>();
+
+        RouteTable(Map<DataFlowRoute, AsyncDataFlowController> routes, List<AsyncDataFlowController> dynamic) {
+            this.routes = routes;
+            this.dynamic = dynamic;
+        }
+
+        /**
+         * Finds the controller for a route, preferring exact matches over routes from any source, then to any destination.
+         */
+        Optional<AsyncDataFlowController> lookup(DataFlowRoute route) {
+            if (routes.isEmpty()) {
+                return Optional.empty();
+            }
+            return resolved.computeIfAbsent(route, this::match);
+        }
+
+        private Optional<AsyncDataFlowController> match(DataFlowRoute route) {
+            var controller = routes.get(route);
+            if (controller == null) {
+                controller = routes.get(DataFlowRoute.of(ANY, route.getDestinationType()));
+            }
+            if (controller == null) {
+                controller = routes.get(DataFlowRoute.of(route.getSourceType(), ANY));
+            }
+            if (controller == null) {
+                controller = routes.get(DataFlowRoute.of(ANY, ANY));
+            }
+            return Optional.ofNullable(controller);
+        }
+    }
+
+    /**
+     * Runs a synchronous controller on the shared executor.
+     */
+    private class SyncControllerAdapter implements AsyncDataFlowController {
+        private final DataFlowController delegate;
+
+        SyncControllerAdapter(DataFlowController delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean canHandle(DataRequest dataRequest) {
+            return delegate.canHandle(dataRequest);
+        }
+
+        @Override
+        public Set<DataFlowRoute> routes() {
+            return delegate.routes();
+        }
+
+        @Override
+        public @NotNull CompletableFuture<DataFlowInitiateResponse> initiateFlowAsync(DataRequest dataRequest) {
+            try {
+                return CompletableFuture.supplyAsync(() -> delegate.initiateFlow(dataRequest), syncExecutor);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.completedFuture(new DataFlowInitiateResponse(ERROR_RETRY, "Data flow executor is saturated"));
+            }
+        }
+    }
 }
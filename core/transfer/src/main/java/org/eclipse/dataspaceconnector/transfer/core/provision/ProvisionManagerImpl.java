@@ -15,6 +15,9 @@
 package org.eclipse.dataspaceconnector.transfer.core.provision;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
@@ -32,23 +35,68 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 /**
  * Default provision manager. Invoke {@link #start(TransferProcessStore)} to initialize an instance.
+ * <p>
+ * All resources of a manifest are provisioned, or deprovisioned, concurrently on a dedicated executor. The number of resources in flight is bounded by a
+ * {@link ProvisioningLimiter}, in total and per provisioner type, so a slow provisioner cannot take all capacity. Provisioners are looked up by resource
+ * class; the {@code canProvision} scan only runs the first time a class is seen. Results arrive through the
+ * {@link org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionContext} callbacks, which are serialized per transfer process and release the
+ * slot of their resource.
  */
 public class ProvisionManagerImpl implements ProvisionManager {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final String PROVISION = "provision";
+    private static final String DEPROVISION = "deprovision";
+
     private final Vault vault;
     private final TypeManager typeManager;
     private final Monitor monitor;
-    private final List<Provisioner<?, ?>> provisioners = new ArrayList<>();
+    private final MetricsRegistry metrics;
+    private final List<Provisioner<?, ?>> provisioners = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Provisioner<?, ?>> provisionersByDefinition = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Provisioner<?, ?>> provisionersByResource = new ConcurrentHashMap<>();
+    private final ProvisioningLimiter limiter;
+    private final ExecutorService executor;
+    private final Object[] processLocks = new Object[LOCK_STRIPES];
     private TransferProcessStore processStore;
 
     public ProvisionManagerImpl(Vault vault, TypeManager typeManager, Monitor monitor) {
+        this(vault, typeManager, monitor, NoopMetricsRegistry.INSTANCE, ProvisioningLimiter.Builder.newInstance().build());
+    }
+
+    /**
+     * Creates a provision manager that bounds concurrency with the given limiter. The limiter is closed when the manager is stopped.
+     */
+    public ProvisionManagerImpl(Vault vault, TypeManager typeManager, Monitor monitor, MetricsRegistry metrics, ProvisioningLimiter limiter) {
         this.vault = vault;
         this.typeManager = typeManager;
         this.monitor = monitor;
+        this.metrics = metrics;
+        this.limiter = limiter;
+        var threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(limiter.getMaxInFlight(), runnable -> {
+            var thread = new Thread(runnable, "edc-provisioning-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            processLocks[i] = new Object();
+        }
     }
 
     public void start(TransferProcessStore processStore) {
@@ -57,9 +105,24 @@ public class ProvisionManagerImpl implements ProvisionManager {
         provisioners.forEach(provisioner -> provisioner.initialize(context));
     }
 
+    /**
+     * Stops the provisioning executor and the limiter. Provisioner invocations that have not started yet are discarded.
+     */
+    public void stop() {
+        limiter.close();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     public <RD extends ResourceDefinition, PR extends ProvisionedResource> void register(Provisioner<RD, PR> provisioner) {
         provisioners.add(provisioner);
+        provisionersByDefinition.clear();
+        provisionersByResource.clear();
     }
 
     @Override
@@ -68,44 +131,78 @@ public class ProvisionManagerImpl implements ProvisionManager {
             // no resources to provision, advance state
             process.transitionProvisioned();
             processStore.update(process);
+            return;
         }
+        var results = new ArrayList<CompletableFuture<String>>();
         for (ResourceDefinition definition : process.getResourceManifest().getDefinitions()) {
             Provisioner<ResourceDefinition, ?> chosenProvisioner = getProvisioner(definition);
-            var status = chosenProvisioner.provision(definition);
+            var slotId = slotId(PROVISION, process.getId(), definition.getId());
+            results.add(dispatch(chosenProvisioner, PROVISION, slotId, false, () -> chosenProvisioner.provision(definition)));
         }
+        onAllCompleted(process.getId(), "provisioning", results);
     }
 
     @Override
     public void deprovision(TransferProcess process) {
+        var results = new ArrayList<CompletableFuture<String>>();
         for (ProvisionedResource definition : process.getProvisionedResourceSet().getResources()) {
             Provisioner<?, ProvisionedResource> chosenProvisioner = getProvisioner(definition);
-            ResponseStatus status = chosenProvisioner.deprovision(definition);
-            if (status != ResponseStatus.OK) {
-                process.transitionError("Error during deprovisioning");
-                processStore.update(process);
-            }
+            var slotId = slotId(DEPROVISION, process.getId(), definition.getResourceDefinitionId());
+            // only destination resources report their deprovisioning through a callback
+            var releaseOnReturn = !(definition instanceof ProvisionedDataDestinationResource);
+            results.add(dispatch(chosenProvisioner, DEPROVISION, slotId, releaseOnReturn, () -> chosenProvisioner.deprovision(definition)));
         }
+        onAllCompleted(process.getId(), "deprovisioning", results);
     }
 
     void onDeprovisionComplete(ProvisionedDataDestinationResource resource, Throwable deprovisionError) {
+        try {
+            updateDeprovisioned(resource, deprovisionError);
+        } finally {
+            limiter.release(slotId(DEPROVISION, resource.getTransferProcessId(), resource.getResourceDefinitionId()));
+        }
+    }
+
+    void onDestinationResource(ProvisionedDataDestinationResource destinationResource, SecretToken secretToken) {
+        try {
+            synchronized (lockFor(destinationResource.getTransferProcessId())) {
+                updateDestinationResource(destinationResource, secretToken);
+            }
+        } finally {
+            limiter.release(slotId(PROVISION, destinationResource.getTransferProcessId(), destinationResource.getResourceDefinitionId()));
+        }
+    }
+
+    void onResource(ProvisionedResource provisionedResource) {
+        try {
+            synchronized (lockFor(provisionedResource.getTransferProcessId())) {
+                updateResource(provisionedResource);
+            }
+        } finally {
+            limiter.release(slotId(PROVISION, provisionedResource.getTransferProcessId(), provisionedResource.getResourceDefinitionId()));
+        }
+    }
+
+    private void updateDeprovisioned(ProvisionedDataDestinationResource resource, Throwable deprovisionError) {
         if (deprovisionError != null) {
             monitor.severe("Deprovisioning error: ", deprovisionError);
         } else {
             monitor.info("Deprovisioning successfully completed.");
 
-            TransferProcess transferProcess = processStore.find(resource.getTransferProcessId());
-            if (transferProcess != null) {
-                transferProcess.transitionDeprovisioned();
-                processStore.update(transferProcess);
-                monitor.debug("Process " + transferProcess.getId() + " is now " + TransferProcessStates.from(transferProcess.getState()));
-            } else {
-                monitor.severe("ProvisionManager: no TransferProcess found for deprovisioned resource");
+            synchronized (lockFor(resource.getTransferProcessId())) {
+                TransferProcess transferProcess = processStore.find(resource.getTransferProcessId());
+                if (transferProcess != null) {
+                    transferProcess.transitionDeprovisioned();
+                    processStore.update(transferProcess);
+                    monitor.debug("Process " + transferProcess.getId() + " is now " + TransferProcessStates.from(transferProcess.getState()));
+                } else {
+                    monitor.severe("ProvisionManager: no TransferProcess found for deprovisioned resource");
+                }
             }
-
         }
     }
 
-    void onDestinationResource(ProvisionedDataDestinationResource destinationResource, SecretToken secretToken) {
+    private void updateDestinationResource(ProvisionedDataDestinationResource destinationResource, SecretToken secretToken) {
         var processId = destinationResource.getTransferProcessId();
         var transferProcess = processStore.find(processId);
         if (transferProcess == null) {
@@ -127,7 +224,7 @@ public class ProvisionManagerImpl implements ProvisionManager {
         updateProcessWithProvisionedResource(destinationResource, transferProcess);
     }
 
-    void onResource(ProvisionedResource provisionedResource) {
+    private void updateResource(ProvisionedResource provisionedResource) {
         var processId = provisionedResource.getTransferProcessId();
         var transferProcess = processStore.find(processId);
         if (transferProcess == null) {
@@ -162,34 +259,102 @@ public class ProvisionManagerImpl implements ProvisionManager {
         monitor.severe(format("Error received when provisioning resource %s Process id not found for: %s", resourceId, processId));
     }
 
-    @NotNull
-    private Provisioner<ResourceDefinition, ?> getProvisioner(ResourceDefinition definition) {
-        Provisioner<ResourceDefinition, ?> provisioner = null;
-        for (Provisioner<?, ?> candidate : provisioners) {
-            if (candidate.canProvision(definition)) {
-                provisioner = (Provisioner<ResourceDefinition, ?>) candidate;
-                break;
+    /**
+     * Runs a provisioner invocation on the executor once the limiter admits its resource. The slot is held until the callback for the resource releases
+     * it, unless the invocation fails or no callback is expected. The returned future completes with null on success, or with a description of the
+     * failure.
+     */
+    private CompletableFuture<String> dispatch(Provisioner<?, ?> provisioner, String operation, String slotId, boolean releaseOnReturn, Supplier<ResponseStatus> invocation) {
+        var type = typeOf(provisioner);
+        var timer = metrics.timer("edc.provisioning.duration", "provisioner", type, "operation", operation);
+        return limiter.acquire(type, slotId)
+                .thenApplyAsync(admitted -> invoke(timer, slotId, releaseOnReturn, invocation), executor)
+                .handle((status, throwable) -> {
+                    if (throwable != null) {
+                        metrics.counter("edc.provisioning.failures", "provisioner", type, "operation", operation).increment();
+                        return format("%s failed: %s", type, throwable.getMessage());
+                    }
+                    if (status != ResponseStatus.OK) {
+                        metrics.counter("edc.provisioning.failures", "provisioner", type, "operation", operation).increment();
+                        return format("%s returned %s", type, status);
+                    }
+                    return null;
+                });
+    }
+
+    private ResponseStatus invoke(Timer timer, String slotId, boolean releaseOnReturn, Supplier<ResponseStatus> invocation) {
+        ResponseStatus status = null;
+        try {
+            status = timer.time(invocation);
+            return status;
+        } finally {
+            if (releaseOnReturn || status != ResponseStatus.OK) {
+                limiter.release(slotId);
             }
         }
+    }
+
+    /**
+     * Once all invocations for a process have completed, transitions the process to error if any of them failed. Failures do not stop the remaining
+     * invocations, so all resources get a chance to be released.
+     */
+    private void onAllCompleted(String processId, String operation, List<CompletableFuture<String>> results) {
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).thenRun(() -> {
+            var errors = results.stream().map(CompletableFuture::join).filter(error -> error != null).collect(Collectors.toList());
+            if (errors.isEmpty()) {
+                return;
+            }
+            synchronized (lockFor(processId)) {
+                var transferProcess = processStore.find(processId);
+                if (transferProcess == null) {
+                    monitor.severe(format("Error during %s, process not found: %s", operation, processId));
+                    return;
+                }
+                var detail = format("Error during %s: %s", operation, String.join("; ", errors));
+                monitor.severe(format("%s of process %s", detail, processId));
+                transferProcess.transitionError(detail);
+                processStore.update(transferProcess);
+            }
+        });
+    }
+
+    private Object lockFor(String processId) {
+        return processLocks[Math.floorMod(processId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static String slotId(String operation, String processId, String resourceDefinitionId) {
+        return operation + "/" + processId + "/" + resourceDefinitionId;
+    }
+
+    private static String typeOf(Provisioner<?, ?> provisioner) {
+        var name = provisioner.getClass().getSimpleName();
+        return name.isEmpty() ? provisioner.getClass().getName() : name;
+    }
+
+    /**
+     * Returns the provisioner for the definition class. Provisioners decide by resource type, so the result of the {@code canProvision} scan is cached per
+     * class.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private Provisioner<ResourceDefinition, ?> getProvisioner(ResourceDefinition definition) {
+        var provisioner = provisionersByDefinition.computeIfAbsent(definition.getClass(),
+                type -> provisioners.stream().filter(candidate -> candidate.canProvision(definition)).findFirst().orElse(null));
         if (provisioner == null) {
             throw new EdcException("Unknown provision type" + definition.getClass().getName());
         }
-        return provisioner;
+        return (Provisioner<ResourceDefinition, ?>) provisioner;
     }
 
     @NotNull
+    @SuppressWarnings("unchecked")
     private Provisioner<?, ProvisionedResource> getProvisioner(ProvisionedResource provisionedResource) {
-        Provisioner<?, ProvisionedResource> provisioner = null;
-        for (Provisioner<?, ?> candidate : provisioners) {
-            if (candidate.canDeprovision(provisionedResource)) {
-                provisioner = (Provisioner<?, ProvisionedResource>) candidate;
-                break;
-            }
-        }
+        var provisioner = provisionersByResource.computeIfAbsent(provisionedResource.getClass(),
+                type -> provisioners.stream().filter(candidate -> candidate.canDeprovision(provisionedResource)).findFirst().orElse(null));
         if (provisioner == null) {
             throw new EdcException("Unknown provision type" + provisionedResource.getClass().getName());
         }
-        return provisioner;
+        return (Provisioner<?, ProvisionedResource>) provisioner;
     }
 
 
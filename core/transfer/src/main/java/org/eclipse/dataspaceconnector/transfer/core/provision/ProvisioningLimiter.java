@@ -0,0 +1,306 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.core.provision;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Bounds the number of resources that are being provisioned or deprovisioned at the same time, both in total and per provisioner type.
+ * <p>
+ * Provisioners return before their resource is ready and report the result through the
+ * {@link org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionContext} later. A slot is therefore held from admission until it is
+ * {@link #release(String) released} for its resource, not only while the provisioner is invoked. Slots that are not released within the callback
+ * timeout are reclaimed, so a provisioner that never calls back cannot block provisioning for good.
+ * <p>
+ * Requests that cannot be admitted right away wait in a bounded FIFO queue; if the queue is full, the request is rejected.
+ */
+public class ProvisioningLimiter {
+
+    @EdcSetting
+    public static final String MAX_IN_FLIGHT_SETTING = "edc.provisioning.concurrency.max";
+
+    @EdcSetting
+    public static final String MAX_IN_FLIGHT_PER_TYPE_SETTING = "edc.provisioning.concurrency.type.max";
+
+    @EdcSetting
+    public static final String MAX_QUEUED_SETTING = "edc.provisioning.queue.max";
+
+    @EdcSetting
+    public static final String CALLBACK_TIMEOUT_SETTING = "edc.provisioning.callback.timeout";
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_TYPE = 4;
+    public static final int DEFAULT_MAX_QUEUED = 1024;
+    public static final long DEFAULT_CALLBACK_TIMEOUT = 300;
+
+    private final Object lock = new Object();
+    private final Deque<PendingSlot> queue = new ArrayDeque<>();
+    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Integer> inFlightByType = new HashMap<>();
+    private int inFlight;
+    private ScheduledExecutorService expiry;
+    private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int maxInFlightPerType = DEFAULT_MAX_IN_FLIGHT_PER_TYPE;
+    private int maxQueued = DEFAULT_MAX_QUEUED;
+    private Duration callbackTimeout = Duration.ofSeconds(DEFAULT_CALLBACK_TIMEOUT);
+
+    private ProvisioningLimiter() {
+    }
+
+    /**
+     * Creates a limiter from the {@code edc.provisioning.*} settings. The callback timeout is given in seconds; 0 disables it.
+     */
+    public static ProvisioningLimiter fromSettings(ServiceExtensionContext context, MetricsRegistry metrics) {
+        return Builder.newInstance()
+                .maxInFlight(Integer.parseInt(context.getSetting(MAX_IN_FLIGHT_SETTING, String.valueOf(DEFAULT_MAX_IN_FLIGHT))))
+                .maxInFlightPerType(Integer.parseInt(context.getSetting(MAX_IN_FLIGHT_PER_TYPE_SETTING, String.valueOf(DEFAULT_MAX_IN_FLIGHT_PER_TYPE))))
+                .maxQueued(Integer.parseInt(context.getSetting(MAX_QUEUED_SETTING, String.valueOf(DEFAULT_MAX_QUEUED))))
+                .callbackTimeout(Duration.ofSeconds(Long.parseLong(context.getSetting(CALLBACK_TIMEOUT_SETTING, String.valueOf(DEFAULT_CALLBACK_TIMEOUT)))))
+                .metrics(metrics)
+                .build();
+    }
+
+    /**
+     * Requests a slot for a resource. The returned future completes once the slot is admitted, which may happen on the thread releasing another slot,
+     * and completes exceptionally if the request is rejected.
+     *
+     * @param type   the provisioner type the per-type limit applies to
+     * @param slotId identifies the resource, used to release the slot
+     */
+    public CompletableFuture<Void> acquire(String type, String slotId) {
+        var pending = new PendingSlot(type, slotId);
+        synchronized (lock) {
+            if (leases.containsKey(slotId) || queue.stream().anyMatch(queued -> queued.slotId.equals(slotId))) {
+                pending.admitted.completeExceptionally(new EdcException(format("Resource %s is already being processed", slotId)));
+                return pending.admitted;
+            } else if (canStart(type)) {
+                admit(pending);
+            } else if (queue.size() < maxQueued) {
+                queue.addLast(pending);
+                return pending.admitted;
+            } else {
+                pending.admitted.completeExceptionally(new EdcException(format("Provisioning of %s rejected: %s in flight, %s queued", slotId, inFlight, queue.size())));
+                return pending.admitted;
+            }
+        }
+        pending.admitted.complete(null);
+        return pending.admitted;
+    }
+
+    /**
+     * Releases the slot held for a resource and admits waiting requests. Does nothing if no slot is held for the resource.
+     *
+     * @return true if a slot was released
+     */
+    public boolean release(String slotId) {
+        return release(slotId, null);
+    }
+
+    /**
+     * Returns the number of slots currently held.
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Returns the number of slots currently held for the given provisioner type.
+     */
+    public int getInFlight(String type) {
+        synchronized (lock) {
+            return inFlightByType.getOrDefault(type, 0);
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for a slot.
+     */
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Stops reclaiming slots whose callback timed out.
+     */
+    public void close() {
+        if (expiry != null) {
+            expiry.shutdownNow();
+        }
+    }
+
+    /**
+     * Releases the slot of a resource, or only the given lease of it if not null, so that an expired lease cannot release a newer one.
+     */
+    private boolean release(String slotId, Lease lease) {
+        List<PendingSlot> admitted;
+        synchronized (lock) {
+            var released = leases.get(slotId);
+            if (released == null || (lease != null && released != lease)) {
+                return false;
+            }
+            leases.remove(slotId);
+            if (released.expiry != null) {
+                released.expiry.cancel(false);
+            }
+            inFlight--;
+            inFlightByType.computeIfPresent(released.type, (k, count) -> count > 1 ? count - 1 : null);
+            admitted = pollStartable();
+        }
+        admitted.forEach(pending -> pending.admitted.complete(null));
+        return true;
+    }
+
+    private List<PendingSlot> pollStartable() {
+        var startable = new ArrayList<PendingSlot>();
+        var iterator = queue.iterator();
+        while (iterator.hasNext() && inFlight < maxInFlight) {
+            var pending = iterator.next();
+            if (canStart(pending.type)) {
+                iterator.remove();
+                admit(pending);
+                startable.add(pending);
+            }
+        }
+        return startable;
+    }
+
+    private boolean canStart(String type) {
+        return inFlight < maxInFlight && inFlightByType.getOrDefault(type, 0) < maxInFlightPerType;
+    }
+
+    private void admit(PendingSlot pending) {
+        inFlight++;
+        inFlightByType.merge(pending.type, 1, Integer::sum);
+        var lease = new Lease(pending.type);
+        if (expiry != null) {
+            lease.expiry = expiry.schedule(() -> expire(pending.slotId, lease), callbackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        leases.put(pending.slotId, lease);
+    }
+
+    private void expire(String slotId, Lease lease) {
+        if (release(slotId, lease)) {
+            metrics.counter("edc.provisioning.callback.timeouts", "provisioner", lease.type).increment();
+        }
+    }
+
+    private static class PendingSlot {
+        private final String type;
+        private final String slotId;
+        private final CompletableFuture<Void> admitted = new CompletableFuture<>();
+
+        PendingSlot(String type, String slotId) {
+            this.type = type;
+            this.slotId = slotId;
+        }
+    }
+
+    private static class Lease {
+        private final String type;
+        private ScheduledFuture<?> expiry;
+
+        Lease(String type) {
+            this.type = type;
+        }
+    }
+
+    public static class Builder {
+        private final ProvisioningLimiter limiter;
+
+        private Builder() {
+            limiter = new ProvisioningLimiter();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            limiter.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder maxInFlightPerType(int maxInFlightPerType) {
+            limiter.maxInFlightPerType = maxInFlightPerType;
+            return this;
+        }
+
+        public Builder maxQueued(int maxQueued) {
+            limiter.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * How long a slot is held at most if the provisioner does not call back. {@link Duration#ZERO} holds slots until they are released.
+         */
+        public Builder callbackTimeout(Duration callbackTimeout) {
+            limiter.callbackTimeout = callbackTimeout;
+            return this;
+        }
+
+        public Builder metrics(MetricsRegistry metrics) {
+            limiter.metrics = metrics;
+            return this;
+        }
+
+        public ProvisioningLimiter build() {
+            if (limiter.maxInFlight < 1 || limiter.maxInFlightPerType < 1) {
+                throw new IllegalArgumentException("In-flight limits must be at least 1");
+            }
+            if (limiter.maxQueued < 0) {
+                throw new IllegalArgumentException("Queue size must not be negative");
+            }
+            if (!limiter.callbackTimeout.isZero()) {
+                limiter.expiry = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    var thread = new Thread(runnable, "edc-provisioning-expiry");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            limiter.metrics.gauge("edc.provisioning.inflight", limiter::getInFlight);
+            limiter.metrics.gauge("edc.provisioning.queue.depth", limiter::getQueueDepth);
+            return limiter;
+        }
+    }
+}
@@ -23,16 +23,16 @@ import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGen
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Default implementation.
  */
 public class ResourceManifestGeneratorImpl implements ResourceManifestGenerator {
-    private final List<ResourceDefinitionGenerator> consumerGenerators = new ArrayList<>();
-    private final List<ResourceDefinitionGenerator> providerGenerators = new ArrayList<>();
+    private final List<ResourceDefinitionGenerator> consumerGenerators = new CopyOnWriteArrayList<>();
+    private final List<ResourceDefinitionGenerator> providerGenerators = new CopyOnWriteArrayList<>();
 
     @Override
     public void registerConsumerGenerator(ResourceDefinitionGenerator generator) {
@@ -17,14 +17,14 @@ package org.eclipse.dataspaceconnector.transfer.core.transfer;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusCheckerRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class StatusCheckerRegistryImpl implements StatusCheckerRegistry {
     private final Map<String, StatusChecker> inMemoryMap;
 
     public StatusCheckerRegistryImpl() {
-        inMemoryMap = new HashMap<>();
+        inMemoryMap = new ConcurrentHashMap<>();
     }
 
     @Override
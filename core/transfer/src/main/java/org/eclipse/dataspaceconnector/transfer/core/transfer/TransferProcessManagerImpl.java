@@ -14,30 +14,47 @@
 
 package org.eclipse.dataspaceconnector.transfer.core.transfer;
 
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessListener;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessObservable;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferWaitStrategy;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGenerator;
 import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusCheckerRegistry;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -47,11 +64,34 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferP
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess.Type.PROVIDER;
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.DEPROVISIONED;
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.DEPROVISIONING_REQ;
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.ERROR;
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.INITIAL;
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.IN_PROGRESS;
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.PROVISIONED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.REQUESTED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.REQUESTED_ACK;
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.STREAMING;
+
+public class TransferProcessManagerImpl extends TransferProcessObservable implements TransferProcessManager, TransferCompletionCallback, TransferCheckpointStore {
+
+    @EdcSetting
+    public static final String STATUS_CHECK_INITIAL_BACKOFF_SETTING = "edc.transfer.statuscheck.backoff.initial.millis";
+
+    @EdcSetting
+    public static final String STATUS_CHECK_MAX_BACKOFF_SETTING = "edc.transfer.statuscheck.backoff.max.millis";
+
+    public static final long DEFAULT_STATUS_CHECK_INITIAL_BACKOFF = 1000;
+    public static final long DEFAULT_STATUS_CHECK_MAX_BACKOFF = 60_000;
 
-public class TransferProcessManagerImpl extends TransferProcessObservable implements TransferProcessManager {
     private final AtomicBoolean active = new AtomicBoolean();
+    private final Map<String, CompletionSignal> signals = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> checkpoints = new ConcurrentHashMap<>();
+    private final Set<String> initiating = ConcurrentHashMap.newKeySet();
+    private final Map<String, DataFlowInitiateResponse> initiated = new ConcurrentHashMap<>();
+    private final Map<String, String> failedDispatches = new ConcurrentHashMap<>();
+    private final Map<String, StatusCheck> statusChecks = new HashMap<>(); // only accessed by the manager thread
+    private final Semaphore wakeup = new Semaphore(0);
+    private long nextStatusCheckSweep; // only accessed by the manager thread
 
     private int batchSize = 5;
     private TransferWaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
@@ -61,8 +101,11 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     private DataFlowManager dataFlowManager;
     private Monitor monitor;
+    private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
     private ExecutorService executor;
     private StatusCheckerRegistry statusCheckerRegistry;
+    private long statusCheckInitialBackoff = DEFAULT_STATUS_CHECK_INITIAL_BACKOFF;
+    private long statusCheckMaxBackoff = DEFAULT_STATUS_CHECK_MAX_BACKOFF;
 
     private TransferProcessManagerImpl() {
 
@@ -92,6 +135,66 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
         return initiateRequest(PROVIDER, dataRequest);
     }
 
+    @Override
+    public boolean completed(String processId) {
+        return signal(processId, new CompletionSignal(false, null));
+    }
+
+    @Override
+    public boolean failed(String processId, @Nullable String errorDetail) {
+        return signal(processId, new CompletionSignal(true, errorDetail));
+    }
+
+    /**
+     * Records the signal for the manager thread, which owns all state transitions, and wakes it up.
+     */
+    private boolean signal(String processId, CompletionSignal signal) {
+        if (transferProcessStore.find(processId) == null) {
+            return false;
+        }
+        signals.put(processId, signal);
+        metrics.counter("edc.transfer.completion.signals", "outcome", signal.failed ? "failed" : "completed").increment();
+        wakeup.release();
+        return true;
+    }
+
+    @Override
+    public @NotNull Map<String, String> getCheckpoints(String processId) {
+        var process = transferProcessStore.find(processId);
+        var result = new HashMap<String, String>();
+        if (process != null) {
+            result.putAll(process.getProperties());
+        }
+        var pending = checkpoints.get(processId);
+        if (pending != null) {
+            synchronized (pending) {
+                pending.forEach((key, value) -> {
+                    if (value == null) {
+                        result.remove(key);
+                    } else {
+                        result.put(key, value);
+                    }
+                });
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records the checkpoints in memory; the manager thread persists them with the process on its next iteration, so they do not race with
+     * state transitions.
+     */
+    @Override
+    public void checkpoint(String processId, Map<String, String> values) {
+        checkpoints.compute(processId, (id, pending) -> {
+            var merged = pending != null ? pending : new HashMap<String, String>();
+            synchronized (merged) {
+                merged.putAll(values);
+            }
+            return merged;
+        });
+        metrics.counter("edc.transfer.checkpoints").increment();
+    }
 
     private TransferInitiateResponse initiateRequest(TransferProcess.Type type, DataRequest dataRequest) {
         // make the request idempotent: if the process exists, return
@@ -102,29 +205,40 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
         var id = randomUUID().toString();
         var process = TransferProcess.Builder.newInstance().id(id).dataRequest(dataRequest).type(type).build();
         transferProcessStore.create(process);
-        invokeForEach(l -> l.created(process));
+        metrics.counter("edc.transfer.initiated", "type", type.name().toLowerCase()).increment();
+        invokeForEach(process, TransferProcessListener::created);
         return TransferInitiateResponse.Builder.newInstance().id(process.getId()).status(ResponseStatus.OK).build();
     }
 
     private void run() {
         while (active.get()) {
             try {
+                applyCheckpoints();
+
                 int provisioning = provisionInitialProcesses();
 
                 // TODO check processes in provisioning state and timestamps for failed processes
 
                 int sent = sendOrProcessProvisionedRequests();
 
+                int initiatedFlows = applyInitiatedFlows();
+
+                int failed = applyFailedDispatches();
+
                 int provisioned = checkProvisioned();
 
+                int signalled = applyCompletionSignals();
+
                 int finished = checkCompleted();
 
                 int deprovisioning = checkDeprovisioningRequested();
 
                 int deprovisioned = checkDeprovisioned();
 
-                if (provisioning + provisioned + sent + finished + deprovisioning + deprovisioned == 0) {
-                    Thread.sleep(waitStrategy.waitForMillis());
+                if (provisioning + provisioned + sent + initiatedFlows + failed + signalled + finished + deprovisioning + deprovisioned == 0) {
+                    // completion signals end the wait early
+                    wakeup.tryAcquire(waitStrategy.waitForMillis(), TimeUnit.MILLISECONDS);
+                    wakeup.drainPermits();
                 }
                 waitStrategy.success();
             } catch (Error e) {
@@ -148,14 +262,14 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
 
 
     private int checkDeprovisioned() {
-        var deprovisionedProcesses = transferProcessStore.nextForState(DEPROVISIONED.code(), batchSize);
+        var deprovisionedProcesses = nextForState(DEPROVISIONED);
 
         for (var process : deprovisionedProcesses) {
-            invokeForEach(l -> l.deprovisioned(process));
+            invokeForEach(process, TransferProcessListener::deprovisioned);
             process.transitionEnded();
             transferProcessStore.update(process);
-            invokeForEach(l -> l.ended(process));
-            monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+            invokeForEach(process, TransferProcessListener::ended);
+            monitor.debug(() -> "Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
         }
         return deprovisionedProcesses.size();
     }
@@ -167,13 +281,14 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * @return the number of transfer processes in DEPROVISIONING_REQ
      */
     private int checkDeprovisioningRequested() {
-        List<TransferProcess> processesDeprovisioning = transferProcessStore.nextForState(DEPROVISIONING_REQ.code(), batchSize);
+        List<TransferProcess> processesDeprovisioning = nextForState(DEPROVISIONING_REQ);
 
         for (var process : processesDeprovisioning) {
             process.transitionDeprovisioning();
+            statusChecks.remove(process.getId());
             transferProcessStore.update(process);
-            invokeForEach(l -> l.deprovisioning(process));
-            monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+            invokeForEach(process, TransferProcessListener::deprovisioning);
+            monitor.debug(() -> "Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
             provisionManager.deprovision(process);
         }
 
@@ -187,7 +302,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * If a process does not have provisioned resources, it will remain in REQUESTED_ACK.
      */
     private int checkProvisioned() {
-        var requestAcked = transferProcessStore.nextForState(TransferProcessStates.REQUESTED_ACK.code(), batchSize);
+        var requestAcked = nextForState(TransferProcessStates.REQUESTED_ACK);
 
         for (var process : requestAcked) {
             // process must either have a non-empty list of provisioned resources, or not have managed resources at all.
@@ -198,10 +313,10 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
                 } else {
                     process.transitionStreaming();
                 }
-                invokeForEach(l -> l.inProgress(process));
-                monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+                invokeForEach(process, TransferProcessListener::inProgress);
+                monitor.debug(() -> "Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
             } else {
-                monitor.debug("Process " + process.getId() + " does not yet have provisioned resources, will stay in " + TransferProcessStates.REQUESTED_ACK);
+                monitor.debug(() -> "Process " + process.getId() + " does not yet have provisioned resources, will stay in " + TransferProcessStates.REQUESTED_ACK);
             }
             transferProcessStore.update(process);
         }
@@ -210,46 +325,159 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
 
     }
 
+    /**
+     * Persists the checkpoints recorded since the last iteration with their processes. Pending checkpoints are only discarded once persisted, and
+     * only if they have not been overwritten in the meantime, so {@link #getCheckpoints(String)} never misses one.
+     */
+    private void applyCheckpoints() {
+        for (var entry : checkpoints.entrySet()) {
+            var processId = entry.getKey();
+            Map<String, String> persisted;
+            synchronized (entry.getValue()) {
+                persisted = new HashMap<>(entry.getValue());
+            }
+            var process = transferProcessStore.find(processId);
+            if (process != null) {
+                process.updateProperties(persisted);
+                transferProcessStore.update(process);
+            }
+            checkpoints.computeIfPresent(processId, (id, pending) -> {
+                synchronized (pending) {
+                    persisted.forEach((key, value) -> {
+                        if (pending.containsKey(key) && Objects.equals(pending.get(key), value)) {
+                            pending.remove(key);
+                        }
+                    });
+                    return pending.isEmpty() ? null : pending;
+                }
+            });
+        }
+    }
+
+    /**
+     * Transitions the processes that data planes have reported as completed or failed. A completion that arrives before the process is
+     * in progress is kept until the process gets there; signals for processes that have already moved on are dropped.
+     *
+     * @return the number of processes transitioned
+     */
+    private int applyCompletionSignals() {
+        if (signals.isEmpty()) {
+            return 0;
+        }
+        int applied = 0;
+        for (var entry : signals.entrySet()) {
+            var processId = entry.getKey();
+            var signal = entry.getValue();
+            var process = transferProcessStore.find(processId);
+            if (process == null || isFinished(process)) {
+                signals.remove(processId, signal);
+                continue;
+            }
+            if (signal.failed) {
+                process.transitionError(signal.errorDetail);
+                monitor.debug(() -> "Process " + processId + " is now " + ERROR);
+                invokeForEach(process, TransferProcessListener::error);
+            } else if (process.getState() >= REQUESTED_ACK.code()) {
+                transitionToCompleted(process);
+            } else {
+                continue;
+            }
+            signals.remove(processId, signal);
+            statusChecks.remove(processId);
+            transferProcessStore.update(process);
+            applied++;
+        }
+        return applied;
+    }
+
     /**
      * Checks all provisioned resources that are assigned to a transfer process for completion. If no StatusChecker exists
      * for a particular ProvisionedResource, it is automatically assumed to be complete.
+     * <br/>
+     * Status checks are a fallback for transfers that do not signal completion through the {@link TransferCompletionCallback}: after
+     * each negative check, the next check of the process is deferred by an exponentially growing backoff. A process is only written when it is
+     * completed or its next check has been scheduled.
+     *
+     * @return the number of processes checked
      */
     private int checkCompleted() {
+        sweepStatusChecks();
 
         //deal with all the consumer processes
-        var processesInProgress = transferProcessStore.nextForState(TransferProcessStates.IN_PROGRESS.code(), batchSize);
+        var processesInProgress = nextForState(TransferProcessStates.IN_PROGRESS);
+        int checked = 0;
 
         for (var process : processesInProgress.stream().filter(p -> p.getType() == CONSUMER).collect(Collectors.toList())) {
-            if (process.getDataRequest().isManagedResources()) {
-                var resources = process.getProvisionedResourceSet().getResources();
-                var checker = statusCheckerRegistry.resolve(process.getDataRequest().getDestinationType());
+            var checker = statusCheckerRegistry.resolve(process.getDataRequest().getDestinationType());
+            if (checker == null && !process.getDataRequest().isManagedResources()) {
+                //no checker, transition the process to the COMPLETED state automatically
+                transitionToCompleted(process);
+                transferProcessStore.update(process);
+                checked++;
+            } else if (isStatusCheckDue(process)) {
                 if (checker == null) {
-                    monitor.info(format("No checker found for process %s. The process will not advance to the COMPLETED state.", process.getId()));
-                } else if (checker.isComplete(process, resources)) {
+                    monitor.info(() -> format("No checker found for process %s. The process will not advance to the COMPLETED state.", process.getId()));
+                    deferStatusCheck(process);
+                    process.updateStateTimestamp();
+                } else if (isComplete(checker, process)) {
                     // checker passed, transition the process to the COMPLETED state
+                    statusChecks.remove(process.getId());
                     transitionToCompleted(process);
-                }
-            } else {
-                var checker = statusCheckerRegistry.resolve(process.getDataRequest().getDestinationType());
-                if (checker != null) {
-                    if (checker.isComplete(process, emptyList())) {
-                        //checker passed, transition the process to the COMPLETED state automatically
-                        transitionToCompleted(process);
-                    }
                 } else {
-                    //no checker, transition the process to the COMPLETED state automatically
-                    transitionToCompleted(process);
+                    deferStatusCheck(process);
+                    // move the process to the back of the queue so that the next batch contains other processes
+                    process.updateStateTimestamp();
                 }
+                transferProcessStore.update(process);
+                checked++;
             }
-            transferProcessStore.update(process);
         }
-        return processesInProgress.size();
+        return checked;
+    }
+
+    /**
+     * Drops the check schedules of processes that have left IN_PROGRESS without this manager noticing, e.g. because they were deleted or failed
+     * elsewhere. Runs at most once per maximum backoff, as it looks up every scheduled process.
+     */
+    private void sweepStatusChecks() {
+        var now = System.currentTimeMillis();
+        if (statusChecks.isEmpty() || now < nextStatusCheckSweep) {
+            return;
+        }
+        nextStatusCheckSweep = now + statusCheckMaxBackoff;
+        statusChecks.keySet().removeIf(processId -> {
+            var process = transferProcessStore.find(processId);
+            return process == null || process.getState() != IN_PROGRESS.code();
+        });
+    }
+
+    private boolean isComplete(StatusChecker checker, TransferProcess process) {
+        List<ProvisionedResource> resources = process.getDataRequest().isManagedResources() ? process.getProvisionedResourceSet().getResources() : emptyList();
+        metrics.counter("edc.transfer.statuscheck.calls").increment();
+        return checker.isComplete(process, resources);
+    }
+
+    private boolean isStatusCheckDue(TransferProcess process) {
+        var check = statusChecks.get(process.getId());
+        return check == null || System.currentTimeMillis() >= check.nextCheck;
+    }
+
+    private void deferStatusCheck(TransferProcess process) {
+        var check = statusChecks.computeIfAbsent(process.getId(), id -> new StatusCheck());
+        var backoff = statusCheckInitialBackoff << Math.min(check.attempts, 30);
+        check.attempts++;
+        check.nextCheck = System.currentTimeMillis() + Math.min(backoff, statusCheckMaxBackoff);
+    }
+
+    private boolean isFinished(TransferProcess process) {
+        var state = process.getState();
+        return state == ERROR.code() || (state > STREAMING.code());
     }
 
     private void transitionToCompleted(TransferProcess process) {
         process.transitionCompleted();
-        monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.COMPLETED);
-        invokeForEach(listener -> listener.completed(process));
+        monitor.debug(() -> "Process " + process.getId() + " is now " + TransferProcessStates.COMPLETED);
+        invokeForEach(process, TransferProcessListener::completed);
     }
 
 
@@ -260,7 +488,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * map involve preprocessing data or other operations.
      */
     private int provisionInitialProcesses() {
-        var processes = transferProcessStore.nextForState(INITIAL.code(), batchSize);
+        var processes = nextForState(INITIAL);
         for (TransferProcess process : processes) {
             DataRequest dataRequest = process.getDataRequest();
             ResourceManifest manifest;
@@ -272,53 +500,154 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
             }
             process.transitionProvisioning(manifest);
             transferProcessStore.update(process);
-            invokeForEach(l -> l.provisioning(process));
+            invokeForEach(process, TransferProcessListener::provisioning);
             provisionManager.provision(process);
         }
         return processes.size();
     }
 
     /**
-     * On a consumer, sends provisioned requests to the provider connector. On the provider, sends provisioned requests to the data flow manager.
+     * On a consumer, sends provisioned requests to the provider connector. On the provider, sends provisioned requests to the data flow manager without
+     * waiting for the flows to be initiated.
      *
      * @return the number of requests processed
      */
     private int sendOrProcessProvisionedRequests() {
-        var processes = transferProcessStore.nextForState(PROVISIONED.code(), batchSize);
+        var processes = nextForState(PROVISIONED);
+        int skipped = 0;
         for (TransferProcess process : processes) {
             DataRequest dataRequest = process.getDataRequest();
             if (CONSUMER == process.getType()) {
                 process.transitionRequested();
                 transferProcessStore.update(process);   // update before sending to accommodate synchronous transports; reliability will be managed by retry and idempotency
-                invokeForEach(l -> l.requested(process));
-                dispatcherRegistry.send(Void.class, dataRequest, process::getId);
+                invokeForEach(process, TransferProcessListener::requested);
+                var response = dispatcherRegistry.send(Void.class, dataRequest, process::getId);
+                retryOnFailure(response, process.getId());
+                continue;
+            } else if (!initiating.add(process.getId())) {
+                // the flow is still being initiated and the process was already moved back, it is transitioned by applyInitiatedFlows
+                skipped++;
+                continue;
+            }
+            initiateFlow(process);
+            // move the process to the back of the queue so that the next batch contains other processes
+            process.updateStateTimestamp();
+            transferProcessStore.update(process);
+        }
+        return processes.size() - skipped;
+    }
+
+    /**
+     * Hands the request of a provider process to the data flow manager. The process stays PROVISIONED until the flow has been initiated.
+     */
+    private void initiateFlow(TransferProcess process) {
+        var processId = process.getId();
+        var start = System.nanoTime();
+        dataFlowManager.initiateAsync(process.getDataRequest()).whenComplete((response, throwable) -> {
+            var result = response != null ? response : new DataFlowInitiateResponse(ResponseStatus.ERROR_RETRY, throwable.getMessage());
+            metrics.timer("edc.transfer.dataflow.initiate", "status", result.getStatus().name()).recordSince(start);
+            initiated.put(processId, result);
+            wakeup.release();
+        });
+    }
+
+    /**
+     * Transitions the provider processes whose data flows have finished initiating.
+     *
+     * @return the number of processes transitioned
+     */
+    private int applyInitiatedFlows() {
+        if (initiated.isEmpty()) {
+            return 0;
+        }
+        int applied = 0;
+        for (var entry : initiated.entrySet()) {
+            var processId = entry.getKey();
+            var response = entry.getValue();
+            initiated.remove(processId, response);
+            initiating.remove(processId);
+            var process = transferProcessStore.find(processId);
+            if (process == null || process.getState() != PROVISIONED.code()) {
+                continue;
+            }
+            if (ResponseStatus.ERROR_RETRY == response.getStatus()) {
+                monitor.severe("Error processing transfer request. Setting to retry: " + process.getId());
+                process.transitionProvisioned();
+                invokeForEach(process, TransferProcessListener::provisioned);
+            } else if (ResponseStatus.FATAL_ERROR == response.getStatus()) {
+                monitor.severe(format("Fatal error processing transfer request: %s. Error details: %s", process.getId(), response.getError()));
+                process.transitionError(response.getError());
+                invokeForEach(process, TransferProcessListener::error);
             } else {
-                var response = dataFlowManager.initiate(dataRequest);
-                if (ResponseStatus.ERROR_RETRY == response.getStatus()) {
-                    monitor.severe("Error processing transfer request. Setting to retry: " + process.getId());
-                    process.transitionProvisioned();
-                    invokeForEach(l -> l.provisioned(process));
-                } else if (ResponseStatus.FATAL_ERROR == response.getStatus()) {
-                    monitor.severe(format("Fatal error processing transfer request: %s. Error details: %s", process.getId(), response.getError()));
-                    process.transitionError(response.getError());
-                    invokeForEach(l -> l.error(process));
+                if (process.getDataRequest().getTransferType().isFinite()) {
+                    process.transitionInProgress();
                 } else {
-                    if (process.getDataRequest().getTransferType().isFinite()) {
-                        process.transitionInProgress();
-                    } else {
-                        process.transitionStreaming();
-                    }
-                    invokeForEach(l -> l.inProgress(process));
+                    process.transitionStreaming();
                 }
+                invokeForEach(process, TransferProcessListener::inProgress);
             }
             transferProcessStore.update(process);
+            applied++;
         }
-        return processes.size();
+        return applied;
     }
 
 
-    private void invokeForEach(Consumer<TransferProcessListener> action) {
-        getListeners().forEach(action);
+    /**
+     * Registers a completion callback for a request that has been handed to the dispatcher. Requests may be queued and fail after the process has been
+     * moved to REQUESTED; the failure is handed to the manager thread, which returns the process to PROVISIONED so the request is sent again on a later pass.
+     */
+    private void retryOnFailure(CompletableFuture<Void> response, String processId) {
+        var start = System.nanoTime();
+        response.whenComplete((result, throwable) -> {
+            metrics.timer("edc.transfer.dispatch", "outcome", throwable == null ? "success" : "failure").recordSince(start);
+            if (throwable == null) {
+                return;
+            }
+            failedDispatches.put(processId, String.valueOf(throwable.getMessage()));
+            wakeup.release();
+        });
+    }
+
+    /**
+     * Returns the consumer processes whose request failed to be dispatched to PROVISIONED, unless they have moved on in the meantime.
+     *
+     * @return the number of processes returned
+     */
+    private int applyFailedDispatches() {
+        if (failedDispatches.isEmpty()) {
+            return 0;
+        }
+        int applied = 0;
+        for (var entry : failedDispatches.entrySet()) {
+            var processId = entry.getKey();
+            failedDispatches.remove(processId, entry.getValue());
+            var process = transferProcessStore.find(processId);
+            if (process == null || process.getState() != REQUESTED.code()) {
+                continue;
+            }
+            process.transitionProvisioned();
+            transferProcessStore.update(process);
+            monitor.debug(() -> format("Failed to send request for process %s: %s. Setting to retry.", processId, entry.getValue()));
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Fetches the next batch of processes in the given state and records how long the store took.
+     */
+    private List<TransferProcess> nextForState(TransferProcessStates state) {
+        var processes = metrics.timer("edc.transfer.store.nextforstate", "state", state.name())
+                .time(() -> transferProcessStore.nextForState(state.code(), batchSize));
+        metrics.counter("edc.transfer.processed", "state", state.name()).increment(processes.size());
+        return processes;
+    }
+
+    private void invokeForEach(TransferProcess process, BiConsumer<TransferProcessListener, TransferProcess> action) {
+        // asynchronous listeners get a snapshot, the process keeps changing while the event is queued
+        var event = isAsync() ? process.copy() : process;
+        invokeForEach(process.getId(), l -> action.accept(l, event));
     }
 
     public static class Builder {
@@ -372,6 +701,20 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
             return this;
         }
 
+        public Builder metrics(MetricsRegistry metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets the delay before a process is checked again after a negative status check, and the limit the delay doubles up to.
+         */
+        public Builder statusCheckBackoff(long initialMillis, long maxMillis) {
+            manager.statusCheckInitialBackoff = initialMillis;
+            manager.statusCheckMaxBackoff = maxMillis;
+            return this;
+        }
+
         public TransferProcessManagerImpl build() {
             Objects.requireNonNull(manager.manifestGenerator, "manifestGenerator");
             Objects.requireNonNull(manager.provisionManager, "provisionManager");
@@ -379,7 +722,23 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
             Objects.requireNonNull(manager.dispatcherRegistry, "dispatcherRegistry");
             Objects.requireNonNull(manager.monitor, "monitor");
             Objects.requireNonNull(manager.statusCheckerRegistry, "StatusCheckerRegistry cannot be null!");
+            Objects.requireNonNull(manager.metrics, "metrics");
             return manager;
         }
     }
+
+    private static class CompletionSignal {
+        private final boolean failed;
+        private final String errorDetail;
+
+        CompletionSignal(boolean failed, String errorDetail) {
+            this.failed = failed;
+            this.errorDetail = errorDetail;
+        }
+    }
+
+    private static class StatusCheck {
+        private int attempts;
+        private long nextCheck;
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.core.flow;
+
+import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.AsyncDataFlowController;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute.ANY;
+import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.FATAL_ERROR;
+
+class DataFlowManagerImplTest {
+
+    private final DataFlowManagerImpl manager = new DataFlowManagerImpl(1, 1, NoopMetricsRegistry.INSTANCE);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingController blockingController = new BlockingController();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        manager.stop();
+    }
+
+    @Test
+    void initiateAsync_doesNotBlockOnSynchronousController() throws Exception {
+        manager.register(blockingController);
+
+        var future = manager.initiateAsync(request("1"));
+
+        assertThat(future).isNotDone();
+        release.countDown();
+        assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(DataFlowInitiateResponse.OK);
+    }
+
+    @Test
+    void initiateAsync_returnsPendingFlowForSameRequest() throws Exception {
+        manager.register(blockingController);
+
+        var first = manager.initiateAsync(request("1"));
+        var second = manager.initiateAsync(request("1"));
+
+        assertThat(second).isSameAs(first);
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        assertThat(blockingController.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void initiateAsync_retriesWhenExecutorSaturated() throws Exception {
+        manager.register(blockingController);
+        manager.initiateAsync(request("running"));
+        manager.initiateAsync(request("queued"));
+
+        var rejected = manager.initiateAsync(request("rejected"));
+
+        assertThat(rejected.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(ERROR_RETRY);
+    }
+
+    @Test
+    void initiateAsync_retriesWhenAsyncControllerFails() throws Exception {
+        manager.register(new AsyncDataFlowController() {
+            @Override
+            public boolean canHandle(DataRequest dataRequest) {
+                return true;
+            }
+
+            @Override
+            public @NotNull CompletableFuture<DataFlowInitiateResponse> initiateFlowAsync(DataRequest dataRequest) {
+                return CompletableFuture.failedFuture(new IllegalStateException("unavailable"));
+            }
+        });
+
+        var response = manager.initiateAsync(request("1")).get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatus()).isEqualTo(ERROR_RETRY);
+        assertThat(response.getError()).contains("unavailable");
+    }
+
+    @Test
+    void initiate_noController() {
+        assertThat(manager.initiate(request("1")).getStatus()).isEqualTo(FATAL_ERROR);
+    }
+
+    @Test
+    void initiate_routesWithoutAskingController() {
+        var dynamic = new RoutedController(Set.of());
+        var routed = new RoutedController(Set.of(DataFlowRoute.of("source", "test")));
+        manager.register(dynamic);
+        manager.register(routed);
+
+        manager.initiate(request("1"));
+        manager.initiate(request("2"));
+
+        assertThat(routed.initiated.get()).isEqualTo(2);
+        assertThat(routed.canHandleCalls.get()).isZero();
+        assertThat(dynamic.canHandleCalls.get()).isZero();
+    }
+
+    @Test
+    void initiate_prefersExactRouteOverWildcard() {
+        var anySource = new RoutedController(Set.of(DataFlowRoute.of(ANY, "test")));
+        var exact = new RoutedController(Set.of(DataFlowRoute.of("source", "test")));
+        manager.register(anySource);
+        manager.register(exact);
+
+        manager.initiate(request("1"));
+        manager.initiate(request("2", "other"));
+
+        assertThat(exact.initiated.get()).isEqualTo(1);
+        assertThat(anySource.initiated.get()).isEqualTo(1);
+    }
+
+    @Test
+    void initiate_fallsBackToDynamicController() {
+        var routed = new RoutedController(Set.of(DataFlowRoute.of("source", "other")));
+        var dynamic = new RoutedController(Set.of());
+        manager.register(routed);
+        manager.register(dynamic);
+
+        manager.initiate(request("1"));
+
+        assertThat(dynamic.canHandleCalls.get()).isEqualTo(1);
+        assertThat(dynamic.initiated.get()).isEqualTo(1);
+        assertThat(routed.initiated.get()).isZero();
+    }
+
+    @Test
+    void initiate_resolvesSourceAddressOnce() {
+        var resolutions = new AtomicInteger();
+        manager.setDataAddressResolver(assetId -> {
+            resolutions.incrementAndGet();
+            return DataAddress.Builder.newInstance().type("source").build();
+        });
+        var routed = new RoutedController(Set.of(DataFlowRoute.of("source", "test")));
+        manager.register(routed);
+        var request = DataRequest.Builder.newInstance().id("1").assetId("asset").destinationType("test").build();
+
+        manager.initiate(request);
+
+        assertThat(routed.initiated.get()).isEqualTo(1);
+        assertThat(resolutions.get()).isEqualTo(1);
+        assertThat(request.getSourceAddress().getType()).isEqualTo("source");
+    }
+
+    private static DataRequest request(String id) {
+        return request(id, "source");
+    }
+
+    private static DataRequest request(String id, String sourceType) {
+        var request = DataRequest.Builder.newInstance().id(id).destinationType("test").build();
+        request.updateSourceAddress(DataAddress.Builder.newInstance().type(sourceType).build());
+        return request;
+    }
+
+    private static class RoutedController implements DataFlowController {
+        private final Set<DataFlowRoute> routes;
+        private final AtomicInteger canHandleCalls = new AtomicInteger();
+        private final AtomicInteger initiated = new AtomicInteger();
+
+        RoutedController(Set<DataFlowRoute> routes) {
+            this.routes = routes;
+        }
+
+        @Override
+        public boolean canHandle(DataRequest dataRequest) {
+            canHandleCalls.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public Set<DataFlowRoute> routes() {
+            return routes;
+        }
+
+        @Override
+        public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
+            initiated.incrementAndGet();
+            return DataFlowInitiateResponse.OK;
+        }
+    }
+
+    private class BlockingController implements DataFlowController {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public boolean canHandle(DataRequest dataRequest) {
+            return true;
+        }
+
+        @Override
+        public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
+            invocations.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DataFlowInitiateResponse.OK;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.core.provision;
+
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.Provisioner;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResourceSet;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefinition;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.getCurrentArguments;
+import static org.easymock.EasyMock.niceMock;
+import static org.easymock.EasyMock.replay;
+
+class ProvisionManagerImplTest {
+
+    private final List<TransferProcess> updates = new CopyOnWriteArrayList<>();
+    private final ProvisionerA provisionerA = new ProvisionerA();
+    private final ProvisionerB provisionerB = new ProvisionerB();
+    private final ProvisioningLimiter limiter = ProvisioningLimiter.Builder.newInstance().maxInFlight(8).maxInFlightPerType(1).build();
+    private ProvisionManagerImpl manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ProvisionManagerImpl(niceMock(Vault.class), new TypeManager(), new Monitor() {
+        }, NoopMetricsRegistry.INSTANCE, limiter);
+        manager.register(provisionerA);
+        manager.register(provisionerB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void provision_dispatchesDefinitionsConcurrently() throws InterruptedException {
+        var process = process(List.of(new DefinitionA("a1"), new DefinitionB("b1")), List.of());
+        start(process);
+        var started = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+        provisionerA.onInvoke(started, release);
+        provisionerB.onInvoke(started, release);
+
+        manager.provision(process);
+
+        // both provisioners are blocked at the same time, so neither waits for the other
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        waitFor(() -> updates.size() == 2);
+        assertThat(updates.get(1).getState()).isEqualTo(TransferProcessStates.PROVISIONED.code());
+    }
+
+    @Test
+    void provision_limitsConcurrencyPerType() {
+        var process = process(List.of(new DefinitionA("a1"), new DefinitionA("a2"), new DefinitionA("a3"), new DefinitionB("b1")), List.of());
+        start(process);
+
+        manager.provision(process);
+
+        waitFor(() -> provisionerA.completed.get() == 3 && provisionerB.completed.get() == 1);
+        assertThat(provisionerA.maxRunning.get()).isEqualTo(1);
+        // definitions of one class are routed without scanning the provisioners again
+        assertThat(provisionerB.canProvisionCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void provision_holdsSlotUntilCallback() {
+        var process = process(List.of(new DefinitionA("a1"), new DefinitionA("a2")), List.of());
+        start(process);
+        provisionerA.callBack = false;
+
+        manager.provision(process);
+
+        waitFor(() -> provisionerA.completed.get() == 1);
+        assertThat(limiter.getInFlight("ProvisionerA")).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        manager.onResource(new ResourceA("a1"));
+
+        waitFor(() -> provisionerA.completed.get() == 2);
+        assertThat(limiter.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    void provision_transitionsToErrorWhenProvisionerFails() {
+        var process = process(List.of(new DefinitionA("a1"), new DefinitionB("b1")), List.of());
+        start(process);
+        provisionerA.callBack = false;
+        provisionerB.status = ResponseStatus.FATAL_ERROR;
+
+        manager.provision(process);
+
+        waitFor(() -> !updates.isEmpty());
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0).getState()).isEqualTo(TransferProcessStates.ERROR.code());
+        assertThat(updates.get(0).getErrorDetail()).contains("ProvisionerB returned FATAL_ERROR");
+    }
+
+    @Test
+    void deprovision_continuesPastErrors() {
+        var process = process(List.of(), List.of(new ResourceA("a1"), new ResourceB("b1")));
+        start(process);
+        provisionerA.status = ResponseStatus.ERROR_RETRY;
+
+        manager.deprovision(process);
+
+        waitFor(() -> !updates.isEmpty());
+        assertThat(provisionerA.completed.get()).isEqualTo(1);
+        assertThat(provisionerB.completed.get()).isEqualTo(1);
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0).getState()).isEqualTo(TransferProcessStates.ERROR.code());
+    }
+
+    private void start(TransferProcess process) {
+        var store = niceMock(TransferProcessStore.class);
+        expect(store.find(process.getId())).andReturn(process).anyTimes();
+        store.update(anyObject());
+        expectLastCall().andAnswer(() -> {
+            updates.add(((TransferProcess) getCurrentArguments()[0]).copy());
+            return null;
+        }).anyTimes();
+        replay(store);
+        manager.start(store);
+    }
+
+    private static TransferProcess process(List<ResourceDefinition> definitions, List<ProvisionedResource> resources) {
+        return TransferProcess.Builder.newInstance()
+                .id("process-1")
+                .state(TransferProcessStates.PROVISIONING.code())
+                .resourceManifest(ResourceManifest.Builder.newInstance().definitions(definitions).build())
+                .provisionedResourceSet(ProvisionedResourceSet.Builder.newInstance().resources(resources).build())
+                .build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static class DefinitionA extends ResourceDefinition {
+        DefinitionA(String id) {
+            this.id = id;
+        }
+    }
+
+    private static class DefinitionB extends ResourceDefinition {
+        DefinitionB(String id) {
+            this.id = id;
+        }
+    }
+
+    private static class ResourceA extends ProvisionedResource {
+        ResourceA(String id) {
+            this.id = id;
+            transferProcessId = "process-1";
+            resourceDefinitionId = id;
+        }
+    }
+
+    private static class ResourceB extends ProvisionedResource {
+        ResourceB(String id) {
+            this.id = id;
+            transferProcessId = "process-1";
+            resourceDefinitionId = id;
+        }
+    }
+
+    /**
+     * Records invocations; each invocation takes a few milliseconds, or waits for a latch when one is set. Successful provisioning is reported through
+     * the context unless disabled.
+     */
+    private abstract static class RecordingProvisioner implements Provisioner<ResourceDefinition, ProvisionedResource> {
+        private final Class<?> definitionType;
+        private final Class<?> resourceType;
+        final AtomicInteger canProvisionCalls = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+        volatile ResponseStatus status = ResponseStatus.OK;
+        volatile boolean callBack = true;
+        private ProvisionContext context;
+        private CountDownLatch started;
+        private CountDownLatch release;
+
+        RecordingProvisioner(Class<?> definitionType, Class<?> resourceType) {
+            this.definitionType = definitionType;
+            this.resourceType = resourceType;
+        }
+
+        void onInvoke(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public void initialize(ProvisionContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public boolean canProvision(ResourceDefinition resourceDefinition) {
+            canProvisionCalls.incrementAndGet();
+            return definitionType.isInstance(resourceDefinition);
+        }
+
+        @Override
+        public boolean canDeprovision(ProvisionedResource resourceDefinition) {
+            return resourceType.isInstance(resourceDefinition);
+        }
+
+        @Override
+        public ResponseStatus provision(ResourceDefinition resourceDefinition) {
+            var result = invoke();
+            if (result == ResponseStatus.OK && callBack) {
+                context.callback(resource(resourceDefinition.getId()));
+            }
+            return result;
+        }
+
+        @Override
+        public ResponseStatus deprovision(ProvisionedResource provisionedResource) {
+            return invoke();
+        }
+
+        private ResponseStatus invoke() {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (started != null) {
+                    started.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                } else {
+                    Thread.sleep(5);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            }
+            return status;
+        }
+
+        abstract ProvisionedResource resource(String definitionId);
+    }
+
+    private static class ProvisionerA extends RecordingProvisioner {
+        ProvisionerA() {
+            super(DefinitionA.class, ResourceA.class);
+        }
+
+        @Override
+        ProvisionedResource resource(String definitionId) {
+            return new ResourceA(definitionId);
+        }
+    }
+
+    private static class ProvisionerB extends RecordingProvisioner {
+        ProvisionerB() {
+            super(DefinitionB.class, ResourceB.class);
+        }
+
+        @Override
+        ProvisionedResource resource(String definitionId) {
+            return new ResourceB(definitionId);
+        }
+    }
+}
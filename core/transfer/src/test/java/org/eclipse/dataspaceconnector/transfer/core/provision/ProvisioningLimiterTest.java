@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.core.provision;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProvisioningLimiterTest {
+
+    @Test
+    void verifyLimitsPerType() {
+        var limiter = ProvisioningLimiter.Builder.newInstance().maxInFlight(4).maxInFlightPerType(1).callbackTimeout(Duration.ZERO).build();
+
+        var first = limiter.acquire("A", "a1");
+        var second = limiter.acquire("A", "a2");
+        var other = limiter.acquire("B", "b1");
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        assertThat(other).isCompleted();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        assertThat(limiter.release("a1")).isTrue();
+        assertThat(second).isCompleted();
+        assertThat(limiter.getInFlight("A")).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(0);
+
+        assertThat(limiter.release("a1")).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyRejectsWhenQueueFull() {
+        var limiter = ProvisioningLimiter.Builder.newInstance().maxInFlight(1).maxQueued(1).callbackTimeout(Duration.ZERO).build();
+
+        limiter.acquire("A", "a1");
+        var queued = limiter.acquire("B", "b1");
+        var rejected = limiter.acquire("B", "b2");
+
+        assertThat(queued).isNotDone();
+        assertThatThrownBy(rejected::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void verifyRejectsResourceAlreadyInFlight() {
+        var limiter = ProvisioningLimiter.Builder.newInstance().callbackTimeout(Duration.ZERO).build();
+
+        limiter.acquire("A", "a1");
+
+        assertThat(limiter.acquire("A", "a1")).isCompletedExceptionally();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyReclaimsSlotWithoutCallback() throws Exception {
+        var limiter = ProvisioningLimiter.Builder.newInstance().maxInFlight(1).callbackTimeout(Duration.ofMillis(50)).build();
+        try {
+            limiter.acquire("A", "a1");
+            var queued = limiter.acquire("A", "a2");
+
+            queued.get(10, TimeUnit.SECONDS);
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+            assertThat(limiter.release("a1")).isFalse();
+        } finally {
+            limiter.close();
+        }
+    }
+}
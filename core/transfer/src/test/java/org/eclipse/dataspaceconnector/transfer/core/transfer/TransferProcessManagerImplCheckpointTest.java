@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.core.transfer;
+
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGenerator;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.eclipse.dataspaceconnector.transfer.store.memory.InMemoryTransferProcessStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.niceMock;
+
+class TransferProcessManagerImplCheckpointTest {
+    private final InMemoryTransferProcessStore store = new InMemoryTransferProcessStore();
+    private TransferProcessManagerImpl manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = TransferProcessManagerImpl.Builder.newInstance()
+                .provisionManager(niceMock(ProvisionManager.class))
+                .dataFlowManager(niceMock(DataFlowManager.class))
+                .dispatcherRegistry(niceMock(RemoteMessageDispatcherRegistry.class))
+                .manifestGenerator(niceMock(ResourceManifestGenerator.class))
+                .monitor(new Monitor() {
+                })
+                .statusCheckerRegistry(new StatusCheckerRegistryImpl())
+                .waitStrategy(() -> 10L)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void checkpoint_persistedInProcessProperties() {
+        var id = createProcess();
+        manager.start(store);
+
+        manager.checkpoint(id, Map.of("offset", "1024", "upload", "u-1"));
+
+        waitFor(() -> "1024".equals(store.find(id).getProperties().get("offset")));
+        assertThat(store.find(id).getProperties()).containsEntry("upload", "u-1");
+        assertThat(store.find(id).getState()).isEqualTo(TransferProcessStates.IN_PROGRESS.code());
+    }
+
+    @Test
+    void getCheckpoints_includesPendingCheckpoints() {
+        var id = createProcess();
+
+        manager.checkpoint(id, Map.of("offset", "1024"));
+        manager.checkpoint(id, Map.of("offset", "2048"));
+
+        manager.start(store);
+        assertThat(manager.getCheckpoints(id)).containsEntry("offset", "2048");
+    }
+
+    @Test
+    void checkpoint_nullValueRemovesKey() {
+        var id = createProcess();
+        manager.start(store);
+        manager.checkpoint(id, Map.of("offset", "1024", "upload", "u-1"));
+        waitFor(() -> store.find(id).getProperties().containsKey("upload"));
+
+        var removal = new HashMap<String, String>();
+        removal.put("upload", null);
+        manager.checkpoint(id, removal);
+
+        waitFor(() -> !store.find(id).getProperties().containsKey("upload"));
+        assertThat(manager.getCheckpoints(id)).containsOnlyKeys("offset");
+    }
+
+    @Test
+    void getCheckpoints_unknownProcess() {
+        manager.start(store);
+
+        assertThat(manager.getCheckpoints("unknown")).isEmpty();
+    }
+
+    /**
+     * Creates a process in the IN_PROGRESS state that the manager keeps checking but never completes, since it has no status checker. Must be
+     * called before the manager is started, which would otherwise pick up the process while it is INITIAL.
+     */
+    private String createProcess() {
+        var process = TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .type(TransferProcess.Type.PROVIDER)
+                .dataRequest(DataRequest.Builder.newInstance()
+                        .id(UUID.randomUUID().toString())
+                        .destinationType("test")
+                        .build())
+                .build();
+        store.create(process);
+        process.rollbackState(TransferProcessStates.IN_PROGRESS);
+        store.update(process);
+        return process.getId();
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
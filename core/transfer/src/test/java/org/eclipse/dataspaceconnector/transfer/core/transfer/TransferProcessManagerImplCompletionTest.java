@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.core.transfer;
+
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGenerator;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.eclipse.dataspaceconnector.transfer.store.memory.InMemoryTransferProcessStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.niceMock;
+
+class TransferProcessManagerImplCompletionTest {
+    private static final String DESTINATION_TYPE = "test-destination";
+
+    private final InMemoryTransferProcessStore store = new InMemoryTransferProcessStore();
+    private final AtomicInteger checks = new AtomicInteger();
+    private TransferProcessManagerImpl manager;
+
+    @BeforeEach
+    void setUp() {
+        var statusCheckerRegistry = new StatusCheckerRegistryImpl();
+        statusCheckerRegistry.register(DESTINATION_TYPE, (process, resources) -> {
+            checks.incrementAndGet();
+            return false;
+        });
+        manager = TransferProcessManagerImpl.Builder.newInstance()
+                .provisionManager(niceMock(ProvisionManager.class))
+                .dataFlowManager(niceMock(DataFlowManager.class))
+                .dispatcherRegistry(niceMock(RemoteMessageDispatcherRegistry.class))
+                .manifestGenerator(niceMock(ResourceManifestGenerator.class))
+                .monitor(new Monitor() {
+                })
+                .statusCheckerRegistry(statusCheckerRegistry)
+                .waitStrategy(() -> 10L)
+                .statusCheckBackoff(TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void completed_transitionsWithoutStatusCheck() {
+        var id = createInProgress();
+        manager.start(store);
+        waitFor(() -> checks.get() == 1);
+
+        assertThat(manager.completed(id)).isTrue();
+
+        waitFor(() -> store.find(id).getState() == TransferProcessStates.COMPLETED.code());
+        assertThat(checks.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failed_transitionsToError() {
+        var id = createInProgress();
+        manager.start(store);
+
+        assertThat(manager.failed(id, "disk full")).isTrue();
+
+        waitFor(() -> store.find(id).getState() == TransferProcessStates.ERROR.code());
+        assertThat(store.find(id).getErrorDetail()).isEqualTo("disk full");
+    }
+
+    @Test
+    void completed_unknownProcess() {
+        manager.start(store);
+
+        assertThat(manager.completed("unknown")).isFalse();
+    }
+
+    @Test
+    void statusCheck_backsOffAfterNegativeResult() throws InterruptedException {
+        var id = createInProgress();
+        manager.start(store);
+        waitFor(() -> checks.get() == 1);
+
+        Thread.sleep(200);
+
+        assertThat(checks.get()).isEqualTo(1);
+        assertThat(store.find(id).getState()).isEqualTo(TransferProcessStates.IN_PROGRESS.code());
+    }
+
+    @Test
+    void statusCheck_doesNotWriteProcessUntilDue() throws InterruptedException {
+        var id = createInProgress();
+        manager.start(store);
+        waitFor(() -> checks.get() == 1);
+        Thread.sleep(100);
+        var timestamp = store.find(id).getStateTimestamp();
+
+        Thread.sleep(200);
+
+        assertThat(store.find(id).getStateTimestamp()).isEqualTo(timestamp);
+    }
+
+    /**
+     * Creates a process in the IN_PROGRESS state. Must be called before the manager is started, which would otherwise pick up the process while it is INITIAL.
+     */
+    private String createInProgress() {
+        var process = TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .type(TransferProcess.Type.CONSUMER)
+                .dataRequest(DataRequest.Builder.newInstance()
+                        .id(UUID.randomUUID().toString())
+                        .destinationType(DESTINATION_TYPE)
+                        .managedResources(false)
+                        .build())
+                .build();
+        store.create(process);
+        process.rollbackState(TransferProcessStates.IN_PROGRESS);
+        store.update(process);
+        return process.getId();
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
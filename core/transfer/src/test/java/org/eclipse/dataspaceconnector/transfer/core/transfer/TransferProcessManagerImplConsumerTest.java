@@ -37,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -153,6 +154,34 @@ class TransferProcessManagerImplConsumerTest {
         assertThat(process.getState()).describedAs("State should be REQUESTED").isEqualTo(TransferProcessStates.REQUESTED.code());
     }
 
+    @Test
+    @DisplayName("verifySend: a request that fails to be dispatched is sent again")
+    void verifySend_retriedOnDispatchFailure() throws InterruptedException {
+        //arrange
+        TransferProcessStore inMemoryProcessStore = new InMemoryTransferProcessStore();
+        TransferProcess process = createTransferProcess(TransferProcessStates.UNSAVED);
+        inMemoryProcessStore.create(process);
+        process.transitionProvisioning(new ResourceManifest());
+        process.transitionProvisioned();
+        inMemoryProcessStore.update(process);
+
+        var cdl = new CountDownLatch(1);
+        expect(dispatcherRegistry.send(eq(Void.class), anyObject(), anyObject())).andReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+        expect(dispatcherRegistry.send(eq(Void.class), anyObject(), anyObject())).andAnswer(() -> {
+            cdl.countDown();
+            return CompletableFuture.completedFuture(null);
+        });
+        replay(dispatcherRegistry);
+
+        //act
+        transferProcessManager.start(inMemoryProcessStore);
+
+        //assert
+        assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        verify(dispatcherRegistry);
+        assertThat(inMemoryProcessStore.find(process.getId()).getState()).describedAs("State should be REQUESTED").isEqualTo(TransferProcessStates.REQUESTED.code());
+    }
+
     @Test
     @DisplayName("checkProvisioned: all resources belong to finite processes")
     void verifyCheckProvisioned_allAreFinite() throws InterruptedException {
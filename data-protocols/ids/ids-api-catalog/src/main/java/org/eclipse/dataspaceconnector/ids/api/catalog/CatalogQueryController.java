@@ -36,10 +36,17 @@ import static de.fraunhofer.iais.eis.RejectionReason.NOT_AUTHENTICATED;
 public class CatalogQueryController {
     private final QueryEngine queryEngine;
     private final DapsService dapsService;
+    private final int maxPageSize;
 
-    public CatalogQueryController(QueryEngine queryEngine, DapsService dapsService) {
+    /**
+     * Constructor.
+     *
+     * @param maxPageSize the maximum number of assets returned per query, also used when the consumer does not send a {@code limit}
+     */
+    public CatalogQueryController(QueryEngine queryEngine, DapsService dapsService, int maxPageSize) {
         this.queryEngine = queryEngine;
         this.dapsService = dapsService;
+        this.maxPageSize = maxPageSize;
     }
 
     @POST
@@ -62,11 +69,35 @@ public class CatalogQueryController {
             return Response.status(Response.Status.BAD_REQUEST).entity(new RejectionMessageBuilder()._rejectionReason_(MALFORMED_MESSAGE).build()).build();
         }
 
+        var offset = intProperty(message, "offset", 0);
+        var limit = intProperty(message, "limit", maxPageSize);
+        if (offset == null || offset < 0 || limit == null || limit <= 0) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(new RejectionMessageBuilder()._rejectionReason_(MALFORMED_MESSAGE).build()).build();
+        }
+
         var correlationId = message.getId().toString();
 
         var consumerToken = verificationResult.token();
 
-        var results = queryEngine.execute(correlationId, consumerToken, connectorId, language, query);
+        var results = queryEngine.execute(correlationId, consumerToken, connectorId, language, query, offset, Math.min(limit, maxPageSize));
         return Response.ok(results).build();
     }
+
+    /**
+     * Returns the integer value of a message property, the default if it is not set, or null if it is not a valid integer.
+     */
+    private Integer intProperty(QueryMessage message, String key, int defaultValue) {
+        var value = message.getProperties().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -19,6 +19,7 @@ import de.fraunhofer.iais.eis.DescriptionResponseMessageImpl;
 import org.eclipse.dataspaceconnector.ids.spi.daps.DapsService;
 import org.eclipse.dataspaceconnector.ids.spi.descriptor.IdsDescriptorService;
 import org.eclipse.dataspaceconnector.ids.spi.policy.IdsPolicyService;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
@@ -32,6 +33,14 @@ import java.util.Set;
  * Implements the IDS Controller REST API for catalog services.
  */
 public class IdsCatalogApiServiceExtension implements ServiceExtension {
+
+    /**
+     * Maximum number of assets returned by a single catalog query. Consumers page through larger catalogs with the {@code offset} and {@code limit} query properties.
+     */
+    @EdcSetting
+    public static final String EDC_IDS_CATALOG_PAGE_SIZE = "edc.ids.catalog.page.size";
+    public static final int DEFAULT_CATALOG_PAGE_SIZE = 1000;
+
     private Monitor monitor;
 
     @Override
@@ -74,10 +83,11 @@ public class IdsCatalogApiServiceExtension implements ServiceExtension {
         var policyRegistry = context.getService(PolicyRegistry.class);
         var policyService = context.getService(IdsPolicyService.class);
         var queryEngine = new QueryEngineImpl(policyRegistry, policyService, assetIndex, monitor);
+        int pageSize = Integer.parseInt(context.getSetting(EDC_IDS_CATALOG_PAGE_SIZE, String.valueOf(DEFAULT_CATALOG_PAGE_SIZE)));
 
 
         webService.registerController(new DescriptionRequestController(descriptorService));
-        webService.registerController(new CatalogQueryController(queryEngine, dapsService));
+        webService.registerController(new CatalogQueryController(queryEngine, dapsService, pageSize));
     }
 
 
@@ -26,7 +26,10 @@ public interface QueryEngine {
 
     /**
      * Executes a query. Implementations must treat the query as originating from an untrusted source.
+     *
+     * @param offset the number of matching assets to skip
+     * @param limit  the maximum number of assets to return
      */
-    Collection<Asset> execute(String correlationId, ClaimToken consumerToken, String connectorId, String type, String query);
+    Collection<Asset> execute(String correlationId, ClaimToken consumerToken, String connectorId, String type, String query, int offset, int limit);
 
 }
@@ -24,9 +24,17 @@ import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.util.stream.Collectors.toList;
 
+/**
+ * Returns the assets whose policy is satisfied by the consumer.
+ * <br/>
+ * Assets are streamed from the index and filtered in a single pass. Each distinct policy is resolved and evaluated at most once per query, and
+ * only the requested page is materialized. Assets without a resolvable policy are never returned.
+ */
 public class QueryEngineImpl implements QueryEngine {
     private final PolicyRegistry policyRegistry;
     private final IdsPolicyService policyService;
@@ -41,17 +49,32 @@ public class QueryEngineImpl implements QueryEngine {
     }
 
     @Override
-    public Collection<Asset> execute(String correlationId, ClaimToken consumerToken, String connectorId, String type, String query) {
+    public Collection<Asset> execute(String correlationId, ClaimToken consumerToken, String connectorId, String type, String query, int offset, int limit) {
         if (!"select *".equalsIgnoreCase(query)) {
             monitor.info("Invalid query: " + query);
             return Collections.emptyList();
         }
+        if (offset < 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
 
-        // TODO: mapping policies to asset selector expression
-        var policies = policyRegistry.allPolicies().stream()
-                .filter(p -> policyService.evaluateRequest(connectorId, correlationId, consumerToken, p).valid())
+        // evaluation results keyed by policy id, only valid for this query as they depend on the consumer token
+        Map<String, Boolean> decisions = new HashMap<>();
+
+        return assetIndex.queryAssets(AssetSelectorExpression.SELECT_ALL)
+                .filter(asset -> asset.getPolicyId() != null)
+                .filter(asset -> decisions.computeIfAbsent(asset.getPolicyId(), policyId -> evaluate(policyId, correlationId, consumerToken, connectorId)))
+                .skip(offset)
+                .limit(limit)
                 .collect(toList());
+    }
 
-        return assetIndex.queryAssets(AssetSelectorExpression.Builder.newInstance().build()).collect(toList());
+    private boolean evaluate(String policyId, String correlationId, ClaimToken consumerToken, String connectorId) {
+        var policy = policyRegistry.resolvePolicy(policyId);
+        if (policy == null) {
+            monitor.severe("Policy not found: " + policyId);
+            return false;
+        }
+        return policyService.evaluateRequest(connectorId, correlationId, consumerToken, policy).valid();
     }
 }
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.catalog;
+
+import org.eclipse.dataspaceconnector.ids.spi.policy.IdsPolicyService;
+import org.eclipse.dataspaceconnector.policy.engine.PolicyEvaluationResult;
+import org.eclipse.dataspaceconnector.policy.engine.RuleProblem;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.asset.Criterion;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.anyString;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.mock;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+class QueryEngineImplTest {
+    private static final ClaimToken TOKEN = ClaimToken.Builder.newInstance().build();
+
+    private final List<Asset> assets = new ArrayList<>();
+    private PolicyRegistry policyRegistry;
+    private IdsPolicyService policyService;
+    private QueryEngineImpl queryEngine;
+
+    @BeforeEach
+    void setUp() {
+        policyRegistry = mock(PolicyRegistry.class);
+        policyService = mock(IdsPolicyService.class);
+        queryEngine = new QueryEngineImpl(policyRegistry, policyService, new ListAssetIndex(), new Monitor() {
+        });
+    }
+
+    @Test
+    void execute_returnsOnlyAssetsWithSatisfiedPolicy() {
+        addAssets("allowed", 3);
+        addAssets("denied", 2);
+        addAssets("unknown", 1);
+        expectPolicy("allowed", true);
+        expectPolicy("denied", false);
+        expect(policyRegistry.resolvePolicy("unknown")).andReturn(null);
+        replay(policyRegistry, policyService);
+
+        var result = queryEngine.execute("correlation", TOKEN, "consumer", "sql", "select *", 0, 100);
+
+        assertThat(result).extracting(Asset::getPolicyId).containsOnly("allowed").hasSize(3);
+        verify(policyRegistry, policyService);
+    }
+
+    @Test
+    void execute_returnsRequestedPage() {
+        addAssets("allowed", 10);
+        expectPolicy("allowed", true);
+        replay(policyRegistry, policyService);
+
+        var result = queryEngine.execute("correlation", TOKEN, "consumer", "sql", "select *", 4, 3);
+
+        assertThat(result).extracting(Asset::getId).containsExactly("allowed-4", "allowed-5", "allowed-6");
+    }
+
+    @Test
+    void execute_invalidQuery() {
+        addAssets("allowed", 1);
+        replay(policyRegistry, policyService);
+
+        assertThat(queryEngine.execute("correlation", TOKEN, "consumer", "sql", "select id", 0, 100)).isEmpty();
+    }
+
+    /**
+     * Expects the policy to be resolved and evaluated exactly once.
+     */
+    private void expectPolicy(String policyId, boolean valid) {
+        var policy = Policy.Builder.newInstance().id(policyId).build();
+        expect(policyRegistry.resolvePolicy(policyId)).andReturn(policy);
+        var result = valid ? new PolicyEvaluationResult() : new PolicyEvaluationResult(List.of(RuleProblem.Builder.newInstance().description("denied").build()));
+        expect(policyService.evaluateRequest(eq("consumer"), anyString(), anyObject(), eq(policy))).andReturn(result);
+    }
+
+    private void addAssets(String policyId, int count) {
+        for (int i = 0; i < count; i++) {
+            assets.add(Asset.Builder.newInstance().id(policyId + "-" + i).policyId(policyId).build());
+        }
+    }
+
+    private class ListAssetIndex implements AssetIndex {
+        @Override
+        public Stream<Asset> queryAssets(AssetSelectorExpression expression) {
+            assertThat(expression).isSameAs(AssetSelectorExpression.SELECT_ALL);
+            return assets.stream();
+        }
+
+        @Override
+        public Stream<Asset> queryAssets(List<Criterion> criteria) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Asset findById(String assetId) {
+            return assets.stream().filter(a -> a.getId().equals(assetId)).findFirst().orElse(null);
+        }
+    }
+}
@@ -34,6 +34,8 @@ import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -91,7 +93,7 @@ public class IdsMultipartDispatcherServiceExtension implements ServiceExtension
         // create & register sender and dispatcher
         var transformerRegistry = context.getService(TransformerRegistry.class);
 
-        var multipartDispatcher = new IdsMultipartRemoteMessageDispatcher();
+        var multipartDispatcher = new IdsMultipartRemoteMessageDispatcher(Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE));
         multipartDispatcher.register(new MultipartArtifactRequestSender(connectorId, httpClient, objectMapper, monitor, vault, identityService, transformerRegistry));
         multipartDispatcher.register(new MultipartDescriptionRequestSender(connectorId, httpClient, objectMapper, monitor, identityService, transformerRegistry));
         multipartDispatcher.register(new MultipartContractOfferSender(connectorId, httpClient, objectMapper, monitor, identityService, transformerRegistry, idsWebhookAddress));
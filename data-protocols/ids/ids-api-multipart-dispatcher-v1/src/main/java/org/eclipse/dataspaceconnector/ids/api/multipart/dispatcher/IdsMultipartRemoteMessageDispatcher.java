@@ -15,17 +15,42 @@
 package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher;
 
 import org.eclipse.dataspaceconnector.ids.core.message.IdsRemoteMessageDispatcher;
+import org.eclipse.dataspaceconnector.spi.message.MessageContext;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.dataspaceconnector.ids.spi.Protocols.IDS_MULTIPART;
 
 /**
- * IdsRemoteMessageDisptacher implementation for IDS multipart.
+ * IdsRemoteMessageDisptacher implementation for IDS multipart. Records the latency of every message sent through one of the multipart senders.
  */
 public class IdsMultipartRemoteMessageDispatcher extends IdsRemoteMessageDispatcher {
+    private final MetricsRegistry metrics;
+
+    public IdsMultipartRemoteMessageDispatcher() {
+        this(NoopMetricsRegistry.INSTANCE);
+    }
+
+    public IdsMultipartRemoteMessageDispatcher(MetricsRegistry metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
 
     @Override
     public String protocol() {
         return IDS_MULTIPART;
     }
 
+    @Override
+    public <T> CompletableFuture<T> send(Class<T> responseType, RemoteMessage message, MessageContext context) {
+        var start = System.nanoTime();
+        var future = super.send(responseType, message, context);
+        future.whenComplete((result, throwable) -> metrics.timer("edc.ids.multipart.send", "message", message.getClass().getSimpleName(), "outcome", throwable == null ? "success" : "failure")
+                .recordSince(start));
+        return future;
+    }
+
 }
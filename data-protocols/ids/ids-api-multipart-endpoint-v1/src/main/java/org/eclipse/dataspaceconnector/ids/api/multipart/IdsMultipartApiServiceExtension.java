@@ -31,6 +31,7 @@ import org.eclipse.dataspaceconnector.ids.api.multipart.handler.Handler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.ArtifactDescriptionRequestHandler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.ConnectorDescriptionRequestHandler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.DataCatalogDescriptionRequestHandler;
+import org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.DescriptionResponseCache;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.RepresentationDescriptionRequestHandler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.ResourceDescriptionRequestHandler;
 import org.eclipse.dataspaceconnector.ids.spi.IdsId;
@@ -45,16 +46,21 @@ import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ProviderContractNegotiationManager;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.SimpleDateFormat;
 import java.util.LinkedList;
@@ -71,6 +77,13 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
     public static final String EDC_IDS_ID = "edc.ids.id";
     public static final String DEFAULT_EDC_IDS_ID = "urn:connector:edc";
 
+    /**
+     * Maximum number of serialized self-descriptions and catalogs kept in memory, one per requested element and requester. A value of 0 disables caching.
+     */
+    @EdcSetting
+    public static final String EDC_IDS_DESCRIPTION_CACHE_SIZE = "edc.ids.description.cache.size";
+    public static final int DEFAULT_DESCRIPTION_CACHE_SIZE = 1000;
+
     private static final String NAME = "IDS Multipart API extension";
 
     private Monitor monitor;
@@ -87,7 +100,8 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
                 AssetIndex.FEATURE,
                 ContractNegotiationStore.FEATURE,
                 "edc:ids:transform:v1",
-                "edc:core:contract");
+                "edc:core:contract",
+                CatalogVersion.FEATURE);
     }
 
     @Override
@@ -121,14 +135,6 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
 
         String connectorId = resolveConnectorId(serviceExtensionContext);
 
-        // create description request handlers
-        ArtifactDescriptionRequestHandler artifactDescriptionRequestHandler = new ArtifactDescriptionRequestHandler(monitor, connectorId, assetIndex, transformerRegistry);
-        DataCatalogDescriptionRequestHandler dataCatalogDescriptionRequestHandler = new DataCatalogDescriptionRequestHandler(monitor, connectorId, dataCatalogService, transformerRegistry);
-        RepresentationDescriptionRequestHandler representationDescriptionRequestHandler = new RepresentationDescriptionRequestHandler(monitor, connectorId, assetIndex, transformerRegistry);
-        ResourceDescriptionRequestHandler resourceDescriptionRequestHandler = new ResourceDescriptionRequestHandler(monitor, connectorId, assetIndex, contractOfferService, transformerRegistry);
-        ConnectorDescriptionRequestHandler connectorDescriptionRequestHandler = new ConnectorDescriptionRequestHandler(monitor, connectorId, connectorService, transformerRegistry);
-
-        // create & register controller
         // TODO ObjectMapper needs to be replaced by one capable to write proper IDS JSON-LD
         //      once https://github.com/eclipse-dataspaceconnector/DataSpaceConnector/issues/236 is done
         ObjectMapper objectMapper = new ObjectMapper();
@@ -139,6 +145,15 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
 
+        DescriptionResponseCache descriptionResponseCache = createDescriptionResponseCache(serviceExtensionContext, objectMapper);
+
+        // create description request handlers
+        ArtifactDescriptionRequestHandler artifactDescriptionRequestHandler = new ArtifactDescriptionRequestHandler(monitor, connectorId, assetIndex, transformerRegistry);
+        DataCatalogDescriptionRequestHandler dataCatalogDescriptionRequestHandler = new DataCatalogDescriptionRequestHandler(monitor, connectorId, dataCatalogService, transformerRegistry, descriptionResponseCache);
+        RepresentationDescriptionRequestHandler representationDescriptionRequestHandler = new RepresentationDescriptionRequestHandler(monitor, connectorId, assetIndex, transformerRegistry);
+        ResourceDescriptionRequestHandler resourceDescriptionRequestHandler = new ResourceDescriptionRequestHandler(monitor, connectorId, assetIndex, contractOfferService, transformerRegistry);
+        ConnectorDescriptionRequestHandler connectorDescriptionRequestHandler = new ConnectorDescriptionRequestHandler(monitor, connectorId, connectorService, transformerRegistry, descriptionResponseCache);
+
         // create request handler
         DescriptionHandler descriptionHandler = new DescriptionHandler(
                 monitor,
@@ -156,7 +171,8 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
         TransferProcessManager transferProcessManager = serviceExtensionContext.getService(TransferProcessManager.class);
         ContractValidationService contractValidationService = serviceExtensionContext.getService(ContractValidationService.class);
         Vault vault = serviceExtensionContext.getService(Vault.class);
-        ArtifactRequestHandler artifactRequestHandler = new ArtifactRequestHandler(monitor, connectorId, objectMapper, contractNegotiationStore, contractValidationService, transferProcessManager, vault);
+        TransferCompletionCallback completionCallback = serviceExtensionContext.getService(TransferCompletionCallback.class, true);
+        ArtifactRequestHandler artifactRequestHandler = new ArtifactRequestHandler(monitor, connectorId, objectMapper, contractNegotiationStore, contractValidationService, transferProcessManager, vault, completionCallback);
         handlers.add(artifactRequestHandler);
 
         // create contract message handlers
@@ -168,10 +184,21 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
         handlers.add(new ContractRejectionHandler(monitor, connectorId, providerNegotiationManager, consumerNegotiationManager));
 
         // create & register controller
-        MultipartController multipartController = new MultipartController(connectorId, objectMapper, identityService, handlers);
+        MultipartController multipartController = new MultipartController(connectorId, objectMapper, identityService, handlers,
+                Objects.requireNonNullElse(serviceExtensionContext.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE));
         webService.registerController(multipartController);
     }
 
+    @Nullable
+    private DescriptionResponseCache createDescriptionResponseCache(ServiceExtensionContext context, ObjectMapper objectMapper) {
+        int maxEntries = Integer.parseInt(context.getSetting(EDC_IDS_DESCRIPTION_CACHE_SIZE, String.valueOf(DEFAULT_DESCRIPTION_CACHE_SIZE)));
+        if (maxEntries < 1) {
+            return null;
+        }
+
+        return new DescriptionResponseCache(objectMapper, context.getService(CatalogVersion.class), maxEntries);
+    }
+
     private String resolveConnectorId(@NotNull ServiceExtensionContext context) {
         Objects.requireNonNull(context);
 
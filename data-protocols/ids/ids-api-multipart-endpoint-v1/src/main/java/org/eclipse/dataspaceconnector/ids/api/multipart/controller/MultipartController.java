@@ -30,6 +30,8 @@ import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRespons
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import org.glassfish.jersey.media.multipart.FormDataParam;
@@ -58,16 +60,27 @@ public class MultipartController {
     private final List<Handler> multipartHandlers;
     private final ObjectMapper objectMapper;
     private final IdentityService identityService;
+    private final MetricsRegistry metrics;
 
     public MultipartController(
             @NotNull String connectorId,
             @NotNull ObjectMapper objectMapper,
             @NotNull IdentityService identityService,
             @NotNull List<Handler> multipartHandlers) {
+        this(connectorId, objectMapper, identityService, multipartHandlers, NoopMetricsRegistry.INSTANCE);
+    }
+
+    public MultipartController(
+            @NotNull String connectorId,
+            @NotNull ObjectMapper objectMapper,
+            @NotNull IdentityService identityService,
+            @NotNull List<Handler> multipartHandlers,
+            @NotNull MetricsRegistry metrics) {
         this.connectorId = Objects.requireNonNull(connectorId);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.identityService = Objects.requireNonNull(identityService);
         this.multipartHandlers = Objects.requireNonNull(multipartHandlers);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     @POST
@@ -75,46 +88,34 @@ public class MultipartController {
             @FormDataParam(HEADER) InputStream headerInputStream,
             @FormDataParam(PAYLOAD) String payload) {
         if (headerInputStream == null) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            malformedMessage(null, connectorId))).build();
+            return rejected("malformed", malformedMessage(null, connectorId));
         }
 
         Message header;
         try {
             header = objectMapper.readValue(headerInputStream, Message.class);
         } catch (IOException e) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            malformedMessage(null, connectorId))).build();
+            return rejected("malformed", malformedMessage(null, connectorId));
         }
 
         if (header == null) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            malformedMessage(null, connectorId))).build();
+            return rejected("malformed", malformedMessage(null, connectorId));
         }
 
 
         DynamicAttributeToken dynamicAttributeToken = header.getSecurityToken();
         if (dynamicAttributeToken == null || dynamicAttributeToken.getTokenValue() == null) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            notAuthenticated(header, connectorId))).build();
+            return rejected("not-authenticated", notAuthenticated(header, connectorId));
         }
 
         VerificationResult verificationResult = identityService.verifyJwtToken(
                 dynamicAttributeToken.getTokenValue(), null);
         if (verificationResult == null) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            notAuthenticated(header, connectorId))).build();
+            return rejected("not-authenticated", notAuthenticated(header, connectorId));
         }
 
         if (!verificationResult.valid()) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            notAuthorized(header, connectorId))).build();
+            return rejected("not-authorized", notAuthorized(header, connectorId));
         }
 
         MultipartRequest multipartRequest = MultipartRequest.Builder.newInstance()
@@ -125,12 +126,13 @@ public class MultipartController {
 
         Handler handler = getRequestHandler(multipartRequest);
         if (handler == null) {
-            return Response.ok(
-                    createFormDataMultiPart(
-                            messageTypeNotSupported(header, connectorId))).build();
+            return rejected("not-supported", messageTypeNotSupported(header, connectorId));
         }
 
+        var start = System.nanoTime();
         MultipartResponse multipartResponse = handler.handleRequest(multipartRequest, verificationResult);
+        metrics.timer("edc.ids.multipart.requests", "message", header.getClass().getSimpleName(), "outcome", multipartResponse != null ? "handled" : "not-found")
+                .recordSince(start);
         if (multipartResponse != null) {
             return Response.ok(
                     createFormDataMultiPart(multipartResponse)).build();
@@ -141,6 +143,11 @@ public class MultipartController {
                         notFound(header, connectorId))).build();
     }
 
+    private Response rejected(String reason, Object rejection) {
+        metrics.counter("edc.ids.multipart.rejected", "reason", reason).increment();
+        return Response.ok(createFormDataMultiPart(rejection)).build();
+    }
+
     private FormDataMultiPart createFormDataMultiPart(MultipartResponse multipartResponse) {
         return createFormDataMultiPart(multipartResponse.getHeader(), multipartResponse.getPayload());
     }
@@ -173,6 +180,11 @@ public class MultipartController {
     }
 
     private byte[] toJson(Object object) {
+        if (object instanceof byte[]) {
+            // already serialized, e.g. a cached description
+            return (byte[]) object;
+        }
+
         try {
             return objectMapper.writeValueAsBytes(object);
         } catch (JsonProcessingException e) {
@@ -29,7 +29,10 @@ import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidation
 import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
@@ -40,6 +43,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.RejectionMessageUtil.badParameters;
 
@@ -52,6 +56,7 @@ public class ArtifactRequestHandler implements Handler {
     private final ContractValidationService contractValidationService;
     private final ContractNegotiationStore contractNegotiationStore;
     private final Vault vault;
+    private final TransferCompletionCallback completionCallback;
 
     public ArtifactRequestHandler(
             @NotNull Monitor monitor,
@@ -60,7 +65,8 @@ public class ArtifactRequestHandler implements Handler {
             @NotNull ContractNegotiationStore contractNegotiationStore,
             @NotNull ContractValidationService contractValidationService,
             @NotNull TransferProcessManager transferProcessManager,
-            @NotNull Vault vault) {
+            @NotNull Vault vault,
+            @Nullable TransferCompletionCallback completionCallback) {
         this.monitor = Objects.requireNonNull(monitor);
         this.connectorId = Objects.requireNonNull(connectorId);
         this.objectMapper = Objects.requireNonNull(objectMapper);
@@ -68,6 +74,7 @@ public class ArtifactRequestHandler implements Handler {
         this.contractValidationService = Objects.requireNonNull(contractValidationService);
         this.transferProcessManager = Objects.requireNonNull(transferProcessManager);
         this.vault = Objects.requireNonNull(vault);
+        this.completionCallback = completionCallback;
     }
 
     @Override
@@ -129,10 +136,16 @@ public class ArtifactRequestHandler implements Handler {
                 .connectorAddress(artifactRequestMessage.getSenderAgent().toString() + "/api/ids/multipart") // TODO Is this correct?
                 .build();
 
-        transferProcessManager.initiateProviderRequest(dataRequest);
-
+        // store the secret before the transfer process can resolve it, it is persisted while the process is being set up
+        CompletableFuture<VaultResponse> secretWrite = null;
         if (artifactRequestMessagePayload.getSecret() != null) {
-            vault.storeSecret(dataAddress.getKeyName(), artifactRequestMessagePayload.getSecret());
+            secretWrite = vault.storeSecretAsync(dataAddress.getKeyName(), artifactRequestMessagePayload.getSecret());
+        }
+
+        var response = transferProcessManager.initiateProviderRequest(dataRequest);
+
+        if (secretWrite != null && response.getStatus() == ResponseStatus.OK) {
+            failOnError(secretWrite, response.getId(), dataAddress.getKeyName());
         }
 
         return MultipartResponse.Builder.newInstance()
@@ -140,6 +153,22 @@ public class ArtifactRequestHandler implements Handler {
                 .build();
     }
 
+    /**
+     * Fails the transfer process if its secret could not be persisted.
+     */
+    private void failOnError(CompletableFuture<VaultResponse> secretWrite, String processId, String secretName) {
+        secretWrite.thenAccept(result -> {
+            if (result.success()) {
+                return;
+            }
+            var error = String.format("ArtifactRequestHandler: Failed to store secret %s: %s", secretName, result.error());
+            monitor.severe(error);
+            if (completionCallback != null) {
+                completionCallback.failed(processId, error);
+            }
+        });
+    }
+
     private MultipartResponse createBadParametersErrorMultipartResponse(Message message) {
         return MultipartResponse.Builder.newInstance()
                 .header(badParameters(message, connectorId))
@@ -39,6 +39,7 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
     protected final TransformerRegistry transformerRegistry;
     protected final IdsType targetIdsType;
     protected final Class<S> resultType;
+    protected final DescriptionResponseCache responseCache;
 
     public AbstractDescriptionRequestHandler(
             @NotNull String connectorId,
@@ -47,6 +48,18 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
             @NotNull IdsType targetIdsType,
             @NotNull Class<S> resultType
     ) {
+        this(connectorId, monitor, transformerRegistry, targetIdsType, resultType, null);
+    }
+
+    public AbstractDescriptionRequestHandler(
+            @NotNull String connectorId,
+            @NotNull Monitor monitor,
+            @NotNull TransformerRegistry transformerRegistry,
+            @NotNull IdsType targetIdsType,
+            @NotNull Class<S> resultType,
+            @Nullable DescriptionResponseCache responseCache
+    ) {
+        this.responseCache = responseCache;
         this.connectorId = Objects.requireNonNull(connectorId);
         this.monitor = Objects.requireNonNull(monitor);
         this.transformerRegistry = Objects.requireNonNull(transformerRegistry);
@@ -82,6 +95,19 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
             return createBadParametersErrorMultipartResponse(connectorId, descriptionRequestMessage);
         }
 
+        String cacheScope = targetIdsType.getValue() + ":" + idsId.getValue();
+        long catalogVersion = 0;
+        if (responseCache != null) {
+            catalogVersion = responseCache.currentVersion();
+            var cachedResponse = responseCache.get(cacheScope, verificationResult, catalogVersion);
+            if (cachedResponse != null) {
+                return MultipartResponse.Builder.newInstance()
+                        .header(createDescriptionResponseMessage(connectorId, descriptionRequestMessage))
+                        .payload(cachedResponse.getPayload())
+                        .build();
+            }
+        }
+
         T retrievedObject = retrieveObject(idsId, verificationResult);
         if (retrievedObject == null) {
             return createNotFoundErrorMultipartResponse(connectorId, descriptionRequestMessage);
@@ -104,6 +130,14 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
 
         DescriptionResponseMessage descriptionResponseMessage = createDescriptionResponseMessage(connectorId, descriptionRequestMessage);
 
+        if (responseCache != null) {
+            var cachedResponse = responseCache.put(cacheScope, verificationResult, catalogVersion, handlerResult);
+            return MultipartResponse.Builder.newInstance()
+                    .header(descriptionResponseMessage)
+                    .payload(cachedResponse.getPayload())
+                    .build();
+        }
+
         return MultipartResponse.Builder.newInstance()
                 .header(descriptionResponseMessage)
                 .payload(handlerResult)
@@ -36,20 +36,33 @@ import static org.eclipse.dataspaceconnector.ids.api.multipart.handler.descripti
 import static org.eclipse.dataspaceconnector.ids.api.multipart.handler.description.MultipartResponseUtil.createErrorMultipartResponse;
 
 public class ConnectorDescriptionRequestHandler implements DescriptionRequestHandler {
+    private static final String CACHE_SCOPE = "connector";
+
     private final String connectorId;
     private final Monitor monitor;
     private final ConnectorService connectorService;
     private final TransformerRegistry transformerRegistry;
+    private final DescriptionResponseCache responseCache;
 
     public ConnectorDescriptionRequestHandler(
             @NotNull Monitor monitor,
             @NotNull String connectorId,
             @NotNull ConnectorService connectorService,
             @NotNull TransformerRegistry transformerRegistry) {
+        this(monitor, connectorId, connectorService, transformerRegistry, null);
+    }
+
+    public ConnectorDescriptionRequestHandler(
+            @NotNull Monitor monitor,
+            @NotNull String connectorId,
+            @NotNull ConnectorService connectorService,
+            @NotNull TransformerRegistry transformerRegistry,
+            @Nullable DescriptionResponseCache responseCache) {
         this.monitor = Objects.requireNonNull(monitor);
         this.connectorService = Objects.requireNonNull(connectorService);
         this.transformerRegistry = Objects.requireNonNull(transformerRegistry);
         this.connectorId = Objects.requireNonNull(connectorId);
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -65,6 +78,15 @@ public class ConnectorDescriptionRequestHandler implements DescriptionRequestHan
 
         DescriptionResponseMessage descriptionResponseMessage = createDescriptionResponseMessage(connectorId, descriptionRequestMessage);
 
+        long catalogVersion = 0;
+        if (responseCache != null) {
+            catalogVersion = responseCache.currentVersion();
+            var cachedResponse = responseCache.get(CACHE_SCOPE, verificationResult, catalogVersion);
+            if (cachedResponse != null) {
+                return createCachedMultipartResponse(descriptionResponseMessage, cachedResponse);
+            }
+        }
+
         TransformResult<Connector> transformResult = transformerRegistry.transform(connectorService.getConnector(verificationResult), Connector.class);
         if (transformResult.hasProblems()) {
             monitor.warning(
@@ -78,12 +100,24 @@ public class ConnectorDescriptionRequestHandler implements DescriptionRequestHan
 
         Connector connector = transformResult.getOutput();
 
+        if (responseCache != null) {
+            var cachedResponse = responseCache.put(CACHE_SCOPE, verificationResult, catalogVersion, connector);
+            return createCachedMultipartResponse(descriptionResponseMessage, cachedResponse);
+        }
+
         return MultipartResponse.Builder.newInstance()
                 .header(descriptionResponseMessage)
                 .payload(connector)
                 .build();
     }
 
+    private MultipartResponse createCachedMultipartResponse(DescriptionResponseMessage descriptionResponseMessage, DescriptionResponseCache.CachedResponse cachedResponse) {
+        return MultipartResponse.Builder.newInstance()
+                .header(descriptionResponseMessage)
+                .payload(cachedResponse.getPayload())
+                .build();
+    }
+
     private boolean isRequestingCurrentConnectorsDescription(DescriptionRequestMessage descriptionRequestMessage) {
         URI requestedConnectorId = descriptionRequestMessage.getRequestedElement();
 
@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class DataCatalogDescriptionRequestHandler extends AbstractDescriptionRequestHandler<Catalog, ResourceCatalog> {
     private final CatalogService dataCatalogService;
@@ -32,12 +33,22 @@ public class DataCatalogDescriptionRequestHandler extends AbstractDescriptionReq
             @NotNull String connectorId,
             @NotNull CatalogService dataCatalogService,
             @NotNull TransformerRegistry transformerRegistry) {
+        this(monitor, connectorId, dataCatalogService, transformerRegistry, null);
+    }
+
+    public DataCatalogDescriptionRequestHandler(
+            @NotNull Monitor monitor,
+            @NotNull String connectorId,
+            @NotNull CatalogService dataCatalogService,
+            @NotNull TransformerRegistry transformerRegistry,
+            @Nullable DescriptionResponseCache responseCache) {
         super(
                 connectorId,
                 monitor,
                 transformerRegistry,
                 IdsType.CATALOG,
-                ResourceCatalog.class
+                ResourceCatalog.class,
+                responseCache
         );
         this.dataCatalogService = dataCatalogService;
     }
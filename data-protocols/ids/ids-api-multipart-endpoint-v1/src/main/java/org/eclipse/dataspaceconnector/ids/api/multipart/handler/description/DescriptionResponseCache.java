@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.handler.description;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches serialized description payloads, e.g. the self-description or the catalog, per requester.
+ * <p>
+ * Entries are keyed by a fingerprint of the requester's claims, which are the input for the policies that decide which offers a requester gets to see.
+ * Claims that change with every token, such as its issue time or id, are left out, so that a requester fetching a new token for each request hits
+ * its entry.
+ * All entries are dropped as soon as the {@link CatalogVersion} changes.
+ */
+public class DescriptionResponseCache {
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final Map<String, CachedResponse> entries;
+    private long entriesVersion;
+
+    public DescriptionResponseCache(@NotNull ObjectMapper objectMapper, @NotNull CatalogVersion catalogVersion, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("The cache must hold at least one entry");
+        }
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        entriesVersion = catalogVersion.current();
+    }
+
+    /**
+     * Returns the catalog version a new entry must be built against. Read it before retrieving the data, so that a concurrent change invalidates the entry.
+     */
+    public long currentVersion() {
+        return catalogVersion.current();
+    }
+
+    /**
+     * Returns the cached response for the requester, or null if there is none for the given version.
+     *
+     * @param scope              identifies the requested element, e.g. the catalog id
+     * @param verificationResult the verified token of the requester
+     * @param version            the version obtained from {@link #currentVersion()}
+     */
+    @Nullable
+    public CachedResponse get(@NotNull String scope, @NotNull VerificationResult verificationResult, long version) {
+        var key = key(scope, verificationResult);
+        synchronized (entries) {
+            evictOutdated();
+            return entriesVersion == version ? entries.get(key) : null;
+        }
+    }
+
+    /**
+     * Serializes the payload and caches it for the requester, unless the catalog changed since the given version was obtained.
+     *
+     * @param scope              identifies the requested element, e.g. the catalog id
+     * @param verificationResult the verified token of the requester
+     * @param version            the version obtained from {@link #currentVersion()} before the payload was built
+     * @param payload            the payload to serialize
+     * @return the serialized payload
+     */
+    @NotNull
+    public CachedResponse put(@NotNull String scope, @NotNull VerificationResult verificationResult, long version, @NotNull Object payload) {
+        var key = key(scope, verificationResult);
+        var response = new CachedResponse(serialize(payload));
+        synchronized (entries) {
+            evictOutdated();
+            if (entriesVersion == version) {
+                entries.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evictOutdated() {
+        var current = catalogVersion.current();
+        if (entriesVersion != current) {
+            entries.clear();
+            entriesVersion = current;
+        }
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private static String key(String scope, VerificationResult verificationResult) {
+        return scope + "|" + fingerprint(verificationResult.token());
+    }
+
+    /**
+     * Creates a fingerprint of the claims that identify the requester, independent of their order and of the token instance.
+     */
+    static String fingerprint(@Nullable ClaimToken token) {
+        if (token == null || token.getClaims().isEmpty()) {
+            return "";
+        }
+        return token.getPartyFingerprint();
+    }
+
+    /**
+     * A serialized payload.
+     */
+    public static class CachedResponse {
+        private final byte[] payload;
+
+        CachedResponse(byte[] payload) {
+            this.payload = payload;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import okhttp3.Request;
+import org.eclipse.dataspaceconnector.ids.spi.spec.extension.ArtifactRequestMessagePayload;
+import org.eclipse.dataspaceconnector.junit.launcher.EdcExtension;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures artifact requests, each of which stores the consumer's destination secret. The vault persists a secret in
+ * {@link #VAULT_WRITE_MILLIS} and, like the file system vault, one secret at a time. Subclasses decide how the vault is accessed.
+ */
+abstract class AbstractArtifactRequestLoadTest extends AbstractMultipartControllerLoadTest {
+    private static final long VAULT_WRITE_MILLIS = 2;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @BeforeEach
+    @Override
+    protected void before(EdcExtension extension) {
+        super.before(extension);
+        extension.registerServiceMock(Vault.class, createVault(new PersistentVault()));
+    }
+
+    /**
+     * Returns the vault the connector uses, backed by the given vault.
+     */
+    protected abstract Vault createVault(Vault persistentVault);
+
+    @Override
+    protected Map<String, String> getJettySettings() {
+        return Map.of();
+    }
+
+    /**
+     * Returns a new token for every request, as consumers obtain one from the DAPS per request.
+     */
+    @Override
+    protected DynamicAttributeToken getDynamicAttributeToken() {
+        return new DynamicAttributeTokenBuilder()._tokenValue_("token-" + UUID.randomUUID()).build();
+    }
+
+    @Override
+    protected Request createLoadRequest() throws Exception {
+        var message = new ArtifactRequestMessageBuilder()
+                ._securityToken_(getDynamicAttributeToken())
+                ._issuerConnector_(URI.create("urn:connector:consumer"))
+                ._senderAgent_(URI.create("http://localhost/consumer"))
+                ._requestedArtifact_(URI.create("urn:artifact:" + UUID.randomUUID()))
+                ._transferContract_(URI.create("urn:contract:" + UUID.randomUUID()))
+                .build();
+        var payload = ArtifactRequestMessagePayload.Builder.newInstance()
+                .dataDestination(DataAddress.Builder.newInstance().type("test").keyName("destination-" + UUID.randomUUID()).build())
+                .secret(UUID.randomUUID().toString())
+                .build();
+        return createRequestWithPayload(message, OBJECT_MAPPER.writeValueAsString(payload));
+    }
+
+    private static class PersistentVault implements Vault {
+        private final Map<String, String> secrets = new ConcurrentHashMap<>();
+
+        @Override
+        public @Nullable String resolveSecret(String key) {
+            return secrets.get(key);
+        }
+
+        @Override
+        public synchronized VaultResponse storeSecret(String key, String value) {
+            persist();
+            secrets.put(key, value);
+            return VaultResponse.OK;
+        }
+
+        @Override
+        public synchronized VaultResponse deleteSecret(String key) {
+            persist();
+            secrets.remove(key);
+            return VaultResponse.OK;
+        }
+
+        private void persist() {
+            try {
+                TimeUnit.MILLISECONDS.sleep(VAULT_WRITE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -199,14 +199,14 @@ abstract class AbstractMultipartControllerIntegrationTest {
         return MultipartBody.Part.create(headers, requestBody);
     }
 
-    // create the "header" multipart payload
-    private MultipartBody.Part createIdsMessagePayloadMultipart(Contract contract) throws Exception {
+    // create the "payload" multipart payload
+    private MultipartBody.Part createIdsMessagePayloadMultipart(String payload) {
         Headers headers = new Headers.Builder()
                 .add("Content-Disposition", "form-data; name=\"payload\"")
                 .build();
 
         RequestBody requestBody = RequestBody.create(
-                toJson(contract),
+                payload,
                 okhttp3.MediaType.get(MediaType.APPLICATION_JSON));
 
         return MultipartBody.Part.create(headers, requestBody);
@@ -229,6 +229,11 @@ abstract class AbstractMultipartControllerIntegrationTest {
     }
 
     protected Request createRequestWithPayload(Message message, Contract payload) throws Exception {
+        return createRequestWithPayload(message, toJson(payload));
+    }
+
+    // create the multipart-form-data request having the given message in its "header" and the given JSON in its "payload" multipart payload
+    protected Request createRequestWithPayload(Message message, String payload) throws Exception {
         Objects.requireNonNull(message);
 
         MultipartBody multipartBody = new MultipartBody.Builder()
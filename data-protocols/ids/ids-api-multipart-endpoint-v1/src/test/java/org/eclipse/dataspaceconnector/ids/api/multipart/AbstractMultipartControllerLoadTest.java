@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart;
+
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures requests per second and p99 latency of requests against the IDS multipart endpoint, by default connector self-description requests.
+ * Subclasses supply the Jetty configuration under test and may send other requests.
+ */
+abstract class AbstractMultipartControllerLoadTest extends AbstractMultipartControllerIntegrationTest {
+    protected static final int CONCURRENCY = 32;
+    private static final int WARMUP_REQUESTS = 1_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+    private static final String CONNECTOR_ID = UUID.randomUUID().toString();
+
+    @Test
+    void measureRequests() throws Exception {
+        var client = createClient();
+
+        run(client, WARMUP_REQUESTS);
+        var result = run(client, MEASURED_REQUESTS);
+
+        System.out.printf("%s: %d requests, %.0f requests/s, p50 %.2f ms, p99 %.2f ms, %d failures%n",
+                getClass().getSimpleName(), MEASURED_REQUESTS, result.requestsPerSecond(), result.percentileMillis(50), result.percentileMillis(99), result.failures);
+        assertThat(result.failures).isZero();
+    }
+
+    @Override
+    protected Map<String, String> getSystemProperties() {
+        var properties = new HashMap<String, String>();
+        properties.put("web.http.port", String.valueOf(getPort()));
+        properties.put("edc.ids.id", "urn:connector:" + CONNECTOR_ID);
+        properties.putAll(getJettySettings());
+        return properties;
+    }
+
+    /**
+     * Returns the Jetty settings under test.
+     */
+    protected abstract Map<String, String> getJettySettings();
+
+    /**
+     * Creates the request to send, called once per request.
+     */
+    protected Request createLoadRequest() throws Exception {
+        return createRequest(getDescriptionRequestMessage());
+    }
+
+    protected OkHttpClient createClient() {
+        return new OkHttpClient.Builder().dispatcher(createDispatcher()).build();
+    }
+
+    protected Dispatcher createDispatcher() {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(CONCURRENCY);
+        dispatcher.setMaxRequestsPerHost(CONCURRENCY);
+        return dispatcher;
+    }
+
+    private LoadResult run(OkHttpClient client, int requests) throws InterruptedException {
+        var latencies = new long[requests];
+        var next = new AtomicInteger();
+        var failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+
+        var start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.submit(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < requests) {
+                    var begin = System.nanoTime();
+                    try (var response = client.newCall(createLoadRequest()).execute()) {
+                        response.body().bytes();
+                        if (!response.isSuccessful()) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - begin;
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+
+        return new LoadResult(latencies, System.nanoTime() - start, failures.get());
+    }
+
+    private static class LoadResult {
+        private final long[] latencies;
+        private final long elapsedNanos;
+        private final int failures;
+
+        LoadResult(long[] latencies, long elapsedNanos, int failures) {
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+            this.elapsedNanos = elapsedNanos;
+            this.failures = failures;
+        }
+
+        double requestsPerSecond() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(int percentile) {
+            var index = Math.min(latencies.length - 1, (int) Math.ceil(percentile / 100.0 * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart;
+
+import org.eclipse.dataspaceconnector.common.annotations.PerformanceTest;
+import org.eclipse.dataspaceconnector.security.WriteBehindVault;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+
+/**
+ * Secrets are persisted in the background while the transfer process is set up, as with {@code edc.vault.write-behind=true}.
+ */
+@PerformanceTest
+class ArtifactRequestWriteBehindLoadTest extends AbstractArtifactRequestLoadTest {
+
+    @Override
+    protected Vault createVault(Vault persistentVault) {
+        return new WriteBehindVault(persistentVault, new Monitor() {
+        });
+    }
+}
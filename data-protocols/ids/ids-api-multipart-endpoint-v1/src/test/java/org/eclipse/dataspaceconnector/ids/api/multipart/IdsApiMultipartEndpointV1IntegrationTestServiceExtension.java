@@ -54,6 +54,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -96,9 +97,16 @@ class IdsApiMultipartEndpointV1IntegrationTestServiceExtension implements Servic
             return TokenResult.Builder.newInstance().build();
         }
 
+        /**
+         * Returns the claims of a DAPS token issued to the same consumer, which differ between tokens in their issue time and id.
+         */
         @Override
         public VerificationResult verifyJwtToken(String token, String audience) {
-            return new VerificationResult(ClaimToken.Builder.newInstance().build());
+            return new VerificationResult(ClaimToken.Builder.newInstance()
+                    .claim("client_id", "consumer")
+                    .claim("iat", String.valueOf(Instant.now().getEpochSecond()))
+                    .claim("jti", token)
+                    .build());
         }
     }
 
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart;
+
+import org.eclipse.dataspaceconnector.common.annotations.PerformanceTest;
+
+import java.util.Map;
+
+/**
+ * Baseline: Jetty defaults, HTTP/1.1 only, no compression.
+ */
+@PerformanceTest
+class MultipartControllerDefaultLoadTest extends AbstractMultipartControllerLoadTest {
+
+    @Override
+    protected Map<String, String> getJettySettings() {
+        return Map.of();
+    }
+}
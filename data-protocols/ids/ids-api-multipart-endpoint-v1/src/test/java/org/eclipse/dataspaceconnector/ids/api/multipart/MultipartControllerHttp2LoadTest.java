@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.eclipse.dataspaceconnector.common.annotations.PerformanceTest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cleartext HTTP/2 (h2c with prior knowledge) and gzip; all requests are multiplexed over a single connection.
+ */
+@PerformanceTest
+class MultipartControllerHttp2LoadTest extends AbstractMultipartControllerLoadTest {
+
+    @Override
+    protected Map<String, String> getJettySettings() {
+        return Map.of(
+                "web.http.http2.enabled", "true",
+                "web.http.gzip.enabled", "true");
+    }
+
+    @Override
+    protected OkHttpClient createClient() {
+        return new OkHttpClient.Builder()
+                .dispatcher(createDispatcher())
+                .protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE))
+                .build();
+    }
+}
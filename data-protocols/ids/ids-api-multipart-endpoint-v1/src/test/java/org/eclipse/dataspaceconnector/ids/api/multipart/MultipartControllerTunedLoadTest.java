@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart;
+
+import org.eclipse.dataspaceconnector.common.annotations.PerformanceTest;
+
+import java.util.Map;
+
+/**
+ * Sized thread pool with a bounded request queue, explicit acceptors/selectors and gzip for JSON and multipart responses.
+ */
+@PerformanceTest
+class MultipartControllerTunedLoadTest extends AbstractMultipartControllerLoadTest {
+
+    @Override
+    protected Map<String, String> getJettySettings() {
+        return Map.of(
+                "web.http.threads.min", String.valueOf(CONCURRENCY),
+                "web.http.threads.max", String.valueOf(CONCURRENCY * 4),
+                "web.http.request.queue.max", "2000",
+                "web.http.acceptors", "1",
+                "web.http.selectors", "4",
+                "web.http.gzip.enabled", "true");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.handler.description;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DescriptionResponseCacheTest {
+
+    private static final String SCOPE = "catalog:1";
+
+    private CatalogVersion catalogVersion;
+    private DescriptionResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        cache = new DescriptionResponseCache(new ObjectMapper(), catalogVersion, 2);
+    }
+
+    @Test
+    void verifyCachedForSameRequester() {
+        var version = cache.currentVersion();
+        var stored = cache.put(SCOPE, requester("region", "eu"), version, Map.of("offers", 1));
+
+        var cached = cache.get(SCOPE, requester("region", "eu"), version);
+
+        assertThat(cached).isSameAs(stored);
+        assertThat(new String(cached.getPayload())).isEqualTo("{\"offers\":1}");
+    }
+
+    @Test
+    void verifyNotSharedBetweenRequestersOrScopes() {
+        var version = cache.currentVersion();
+        cache.put(SCOPE, requester("region", "eu"), version, Map.of("offers", 1));
+
+        assertThat(cache.get(SCOPE, requester("region", "us"), version)).isNull();
+        assertThat(cache.get("catalog:2", requester("region", "eu"), version)).isNull();
+    }
+
+    @Test
+    void verifyInvalidatedWhenCatalogChanges() {
+        var version = cache.currentVersion();
+        cache.put(SCOPE, requester("region", "eu"), version, Map.of("offers", 1));
+
+        catalogVersion.increment();
+
+        assertThat(cache.get(SCOPE, requester("region", "eu"), cache.currentVersion())).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyNotCachedWhenCatalogChangedWhileBuilding() {
+        var version = cache.currentVersion();
+        catalogVersion.increment();
+
+        var response = cache.put(SCOPE, requester("region", "eu"), version, Map.of("offers", 1));
+
+        assertThat(response.getPayload()).isNotEmpty();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyEvictsLeastRecentlyUsed() {
+        var version = cache.currentVersion();
+        cache.put(SCOPE, requester("region", "eu"), version, Map.of("offers", 1));
+        cache.put(SCOPE, requester("region", "us"), version, Map.of("offers", 2));
+        cache.get(SCOPE, requester("region", "eu"), version);
+        cache.put(SCOPE, requester("region", "ap"), version, Map.of("offers", 3));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(SCOPE, requester("region", "eu"), version)).isNotNull();
+        assertThat(cache.get(SCOPE, requester("region", "us"), version)).isNull();
+    }
+
+    @Test
+    void verifyFingerprintIgnoresClaimOrder() {
+        var first = ClaimToken.Builder.newInstance().claim("a", "1").claim("b", "2").build();
+        var second = ClaimToken.Builder.newInstance().claim("b", "2").claim("a", "1").build();
+        var other = ClaimToken.Builder.newInstance().claim("a", "12").build();
+
+        assertThat(DescriptionResponseCache.fingerprint(first)).isEqualTo(DescriptionResponseCache.fingerprint(second));
+        assertThat(DescriptionResponseCache.fingerprint(first)).isNotEqualTo(DescriptionResponseCache.fingerprint(other));
+    }
+
+    @Test
+    void verifyCachedAcrossTokensOfSameRequester() {
+        var version = cache.currentVersion();
+        var stored = cache.put(SCOPE, token("2021-11-02T10:00:00Z", "token-1"), version, Map.of("offers", 1));
+
+        assertThat(cache.get(SCOPE, token("2021-11-02T10:05:00Z", "token-2"), version)).isSameAs(stored);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private VerificationResult token(String issuedAt, String tokenId) {
+        return new VerificationResult(ClaimToken.Builder.newInstance()
+                .claim("client_id", "consumer")
+                .claim("region", "eu")
+                .claim("iat", issuedAt)
+                .claim("exp", issuedAt)
+                .claim("jti", tokenId)
+                .build());
+    }
+
+    private VerificationResult requester(String claim, String value) {
+        return new VerificationResult(ClaimToken.Builder.newInstance().claim(claim, value).build());
+    }
+}
@@ -29,11 +29,16 @@ import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static de.fraunhofer.iais.eis.RejectionReason.BAD_PARAMETERS;
 import static de.fraunhofer.iais.eis.RejectionReason.NOT_AUTHENTICATED;
@@ -60,14 +65,24 @@ public class ArtifactRequestController {
     private final PolicyRegistry policyRegistry;
     private final Vault vault;
     private final Monitor monitor;
-
+    private final PolicyDecisionCache decisionCache;
+    private final TransferCompletionCallback completionCallback;
+
+    /**
+     * Constructor.
+     *
+     * @param policyDecisionTtl  how long a consumer's permission to use an artifact under a policy is remembered, zero to evaluate the policy on every request
+     * @param completionCallback fails the transfer process if its destination token could not be stored, may be null
+     */
     public ArtifactRequestController(DapsService dapsService,
                                      AssetIndex assetIndex,
                                      TransferProcessManager processManager,
                                      IdsPolicyService policyService,
                                      PolicyRegistry policyRegistry,
                                      Vault vault,
-                                     Monitor monitor) {
+                                     Monitor monitor,
+                                     Duration policyDecisionTtl,
+                                     @Nullable TransferCompletionCallback completionCallback) {
         this.dapsService = dapsService;
         this.assetIndex = assetIndex;
         this.processManager = processManager;
@@ -75,6 +90,8 @@ public class ArtifactRequestController {
         this.policyRegistry = policyRegistry;
         this.vault = vault;
         this.monitor = monitor;
+        this.completionCallback = completionCallback;
+        decisionCache = new PolicyDecisionCache(policyDecisionTtl);
     }
 
     @POST
@@ -103,9 +120,11 @@ public class ArtifactRequestController {
 
         var consumerConnectorId = message.getIssuerConnector().toString();
         var correlationId = message.getId().toString();
-        var policyResult = policyService.evaluateRequest(consumerConnectorId, correlationId, verificationResult.token(), policy);
+        var token = verificationResult.token();
+        var permitted = decisionCache.isPermitted(consumerConnectorId, token, policy,
+                () -> policyService.evaluateRequest(consumerConnectorId, correlationId, token, policy).valid());
 
-        if (!policyResult.valid()) {
+        if (!permitted) {
             monitor.info("Policy evaluation failed");
             return Response.status(Response.Status.FORBIDDEN).entity(new RejectionMessageBuilder()._rejectionReason_(NOT_AUTHORIZED).build()).build();
         }
@@ -124,14 +143,16 @@ public class ArtifactRequestController {
 
         var destinationToken = (String) message.getProperties().get(ArtifactRequestController.TOKEN_KEY);
 
-        if (destinationToken != null) {
-            vault.storeSecret(secretName, destinationToken);
-        }
+        // the token can be resolved immediately, it is persisted while the transfer process is being set up
+        var tokenWrite = destinationToken != null ? vault.storeSecretAsync(secretName, destinationToken) : null;
 
         var response = processManager.initiateProviderRequest(dataRequest);
 
         switch (response.getStatus()) {
             case OK:
+                if (tokenWrite != null) {
+                    failOnError(tokenWrite, response.getId(), secretName);
+                }
                 monitor.info("Data transfer request initiated");
                 ArtifactResponseMessageBuilder messageBuilder = new ArtifactResponseMessageBuilder();
                 return Response.ok().entity(messageBuilder.build()).build();
@@ -142,4 +163,20 @@ public class ArtifactRequestController {
         }
     }
 
+    /**
+     * Fails the transfer process if its destination token could not be persisted.
+     */
+    private void failOnError(CompletableFuture<VaultResponse> tokenWrite, String processId, String secretName) {
+        tokenWrite.thenAccept(result -> {
+            if (result.success()) {
+                return;
+            }
+            var error = "Failed to store destination token " + secretName + ": " + result.error();
+            monitor.severe(error);
+            if (completionCallback != null) {
+                completionCallback.failed(processId, error);
+            }
+        });
+    }
+
 }
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.ids.api.transfer;
 
 import org.eclipse.dataspaceconnector.ids.spi.daps.DapsService;
 import org.eclipse.dataspaceconnector.ids.spi.policy.IdsPolicyService;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
@@ -23,14 +24,24 @@ import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 
+import java.time.Duration;
 import java.util.Set;
 
 /**
  * Implements the IDS Controller REST API for data transfer services.
  */
 public class IdsTransferApiServiceExtension implements ServiceExtension {
+
+    /**
+     * How long, in milliseconds, a consumer's permission to request an artifact is remembered. A value of 0 evaluates the policy on every request.
+     */
+    @EdcSetting
+    public static final String EDC_IDS_POLICY_DECISION_TTL = "edc.ids.transfer.policy.cache.ttl.millis";
+    public static final long DEFAULT_POLICY_DECISION_TTL_MILLIS = 5000;
+
     private Monitor monitor;
 
     @Override
@@ -75,7 +86,11 @@ public class IdsTransferApiServiceExtension implements ServiceExtension {
 
         var policyRegistry = context.getService(PolicyRegistry.class);
 
-        webService.registerController(new ArtifactRequestController(dapService, assetIndex, transferManager, policyService, policyRegistry, vault, monitor));
+        var completionCallback = context.getService(TransferCompletionCallback.class, true);
+
+        var policyDecisionTtl = Duration.ofMillis(Long.parseLong(context.getSetting(EDC_IDS_POLICY_DECISION_TTL, String.valueOf(DEFAULT_POLICY_DECISION_TTL_MILLIS))));
+
+        webService.registerController(new ArtifactRequestController(dapService, assetIndex, transferManager, policyService, policyRegistry, vault, monitor, policyDecisionTtl, completionCallback));
     }
 
 
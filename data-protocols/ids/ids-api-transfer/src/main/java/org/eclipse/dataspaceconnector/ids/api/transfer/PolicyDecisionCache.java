@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.transfer;
+
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers for a short time that a consumer satisfies a policy, so that repeated artifact requests skip policy evaluation.
+ * <p>
+ * Decisions are keyed by the consumer connector, the policy id and a fingerprint of the claims of its verified token that do not change between
+ * tokens, see {@link ClaimToken#getPartyFingerprint()}, so that a consumer requesting a new token for each request still hits the cache. They are only
+ * reused for the same policy instance, so that a policy replaced in the registry is evaluated again. Denials are not cached, as the consumer may satisfy the policy with its
+ * next request, e.g. after a payment. A time to live of zero disables the cache.
+ */
+class PolicyDecisionCache {
+    private static final int CLEANUP_THRESHOLD = 1024;
+
+    private final Map<Key, Entry> decisions = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final Clock clock;
+
+    PolicyDecisionCache(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    PolicyDecisionCache(Duration ttl, Clock clock) {
+        ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns true if a cached decision permits the request, otherwise runs the evaluation and caches a positive result.
+     */
+    boolean isPermitted(String consumerConnectorId, ClaimToken token, Policy policy, BooleanSupplier evaluation) {
+        if (ttlMillis <= 0) {
+            return evaluation.getAsBoolean();
+        }
+        var key = new Key(consumerConnectorId, token.getPartyFingerprint(), policy.getUid());
+        var now = clock.millis();
+        var entry = decisions.get(key);
+        if (entry != null && entry.policy == policy && now < entry.expiresAt) {
+            return true;
+        }
+        if (!evaluation.getAsBoolean()) {
+            decisions.remove(key);
+            return false;
+        }
+        decisions.put(key, new Entry(policy, now + ttlMillis));
+        if (decisions.size() > CLEANUP_THRESHOLD) {
+            decisions.values().removeIf(expired -> expired.expiresAt <= now);
+        }
+        return true;
+    }
+
+    private static class Key {
+        private final String consumerConnectorId;
+        private final String claimsFingerprint;
+        private final String policyId;
+        private final int hash;
+
+        Key(String consumerConnectorId, String claimsFingerprint, String policyId) {
+            this.consumerConnectorId = consumerConnectorId;
+            this.claimsFingerprint = claimsFingerprint;
+            this.policyId = policyId;
+            hash = Objects.hash(consumerConnectorId, claimsFingerprint, policyId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(consumerConnectorId, key.consumerConnectorId) && claimsFingerprint.equals(key.claimsFingerprint) && Objects.equals(policyId, key.policyId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class Entry {
+        private final Policy policy;
+        private final long expiresAt;
+
+        Entry(Policy policy, long expiresAt) {
+            this.policy = policy;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.transfer;
+
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyDecisionCacheTest {
+    private static final ClaimToken TOKEN = ClaimToken.Builder.newInstance().claim("client_id", "consumer").build();
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final MutableClock clock = new MutableClock();
+    private final PolicyDecisionCache cache = new PolicyDecisionCache(Duration.ofSeconds(5), clock);
+
+    @Test
+    void isPermitted_reusesPermission() {
+        var policy = policy("policy-1");
+
+        assertThat(cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(true))).isTrue();
+        assertThat(cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(true))).isTrue();
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void isPermitted_evaluatesPerConsumerAndClaims() {
+        var policy = policy("policy-1");
+        var otherToken = ClaimToken.Builder.newInstance().claim("client_id", "other").build();
+
+        cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(true));
+        cache.isPermitted("other", TOKEN, policy, () -> evaluate(true));
+        cache.isPermitted("consumer", otherToken, policy, () -> evaluate(true));
+
+        assertThat(evaluations).hasValue(3);
+    }
+
+    @Test
+    void isPermitted_reusesPermissionForNewTokenOfConsumer() {
+        var policy = policy("policy-1");
+        var first = ClaimToken.Builder.newInstance().claim("client_id", "consumer").claim("iat", "1635847200").claim("jti", "token-1").build();
+        var second = ClaimToken.Builder.newInstance().claim("client_id", "consumer").claim("iat", "1635847500").claim("jti", "token-2").build();
+
+        cache.isPermitted("consumer", first, policy, () -> evaluate(true));
+        cache.isPermitted("consumer", second, policy, () -> evaluate(true));
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void isPermitted_doesNotCacheDenial() {
+        var policy = policy("policy-1");
+
+        assertThat(cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(false))).isFalse();
+        assertThat(cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(true))).isTrue();
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void isPermitted_reevaluatesReplacedPolicy() {
+        cache.isPermitted("consumer", TOKEN, policy("policy-1"), () -> evaluate(true));
+
+        assertThat(cache.isPermitted("consumer", TOKEN, policy("policy-1"), () -> evaluate(false))).isFalse();
+    }
+
+    @Test
+    void isPermitted_expires() {
+        var policy = policy("policy-1");
+        cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(true));
+
+        clock.advance(Duration.ofSeconds(5));
+
+        assertThat(cache.isPermitted("consumer", TOKEN, policy, () -> evaluate(false))).isFalse();
+        assertThat(evaluations).hasValue(2);
+    }
+
+    private boolean evaluate(boolean result) {
+        evaluations.incrementAndGet();
+        return result;
+    }
+
+    private static Policy policy(String id) {
+        return Policy.Builder.newInstance().id(id).build();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
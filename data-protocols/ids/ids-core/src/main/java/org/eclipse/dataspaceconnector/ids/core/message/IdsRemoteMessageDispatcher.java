@@ -19,10 +19,10 @@ import org.eclipse.dataspaceconnector.spi.message.MessageContext;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
 import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract class for IDS message dispatchers, as the IDS dispatchers for protocols multipart and
@@ -30,7 +30,7 @@ import java.util.concurrent.CompletableFuture;
  */
 public abstract class IdsRemoteMessageDispatcher implements RemoteMessageDispatcher {
 
-    private final Map<Class<? extends RemoteMessage>, IdsMessageSender<? extends RemoteMessage, ?>> senders = new HashMap<>();
+    private final Map<Class<? extends RemoteMessage>, IdsMessageSender<? extends RemoteMessage, ?>> senders = new ConcurrentHashMap<>();
 
     public void register(IdsMessageSender<? extends RemoteMessage, ?> handler) {
         senders.put(handler.messageType(), handler);
@@ -17,21 +17,26 @@ import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTypeTransformer;
 import org.eclipse.dataspaceconnector.ids.spi.transform.TransformResult;
 import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerContext;
 import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerRegistry;
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.Constraint;
+import org.eclipse.dataspaceconnector.policy.model.Rule;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a {@link TransformerRegistry} that recursively dispatches to transformers for type conversion.
  */
 public class TransformerRegistryImpl implements TransformerRegistry {
-    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new HashMap<>();
+    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new ConcurrentHashMap<>();
 
     @Override
     public void register(IdsTypeTransformer<?, ?> transformer) {
@@ -112,8 +117,13 @@ public class TransformerRegistryImpl implements TransformerRegistry {
         }
     }
 
+    /**
+     * Transforms each rule, constraint and action instance once per top-level transformation, so that policies shared by many offers, e.g. when
+     * interned by the contract definition store, are not converted again for every offer.
+     */
     private static class TransformerContextImpl implements TransformerContext {
         private final List<String> problems = new ArrayList<>();
+        private final Map<Object, Map<Class<?>, Object>> policyOutputs = new IdentityHashMap<>();
         private final TransformerRegistryImpl registry;
 
         public TransformerContextImpl(TransformerRegistryImpl registry) {
@@ -137,7 +147,18 @@ public class TransformerRegistryImpl implements TransformerRegistry {
 
         @Override
         public <INPUT, OUTPUT> @Nullable OUTPUT transform(INPUT object, Class<OUTPUT> outputType) {
-            return registry.transform(object, outputType, this);
+            if (!(object instanceof Rule || object instanceof Constraint || object instanceof Action)) {
+                return registry.transform(object, outputType, this);
+            }
+            var outputs = policyOutputs.computeIfAbsent(object, o -> new HashMap<>());
+            var output = outputType.cast(outputs.get(outputType));
+            if (output == null) {
+                output = registry.transform(object, outputType, this);
+                if (output != null) {
+                    outputs.put(outputType, output);
+                }
+            }
+            return output;
         }
     }
 }
@@ -16,11 +16,13 @@ package org.eclipse.dataspaceconnector.ids.core.transform;
 import org.easymock.EasyMock;
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTypeTransformer;
 import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerContext;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -68,6 +70,27 @@ class TransformerRegistryImplTest {
         EasyMock.verify(fooBarTransformer);
     }
 
+    @Test
+    void verifyPolicyNodeTransformedOncePerContext() {
+        var permission = Permission.Builder.newInstance().build();
+        var permissionTransformer = createMock(Permission.class, Bar.class);
+        EasyMock.expect(permissionTransformer.transform(EasyMock.same(permission), EasyMock.isA(TransformerContext.class))).andReturn(new Bar()).once();
+        var fooTransformer = createMock(Foo.class, Baz.class);
+        EasyMock.expect(fooTransformer.transform(EasyMock.isA(Foo.class), EasyMock.isA(TransformerContext.class))).andAnswer(() -> {
+            TransformerContext context = EasyMock.getCurrentArgument(1);
+            assertSame(context.transform(permission, Bar.class), context.transform(permission, Bar.class));
+            return new Baz();
+        });
+
+        EasyMock.replay(permissionTransformer, fooTransformer);
+
+        registry.register(permissionTransformer);
+        registry.register(fooTransformer);
+
+        assertNotNull(registry.transform(new Foo(), Baz.class).getOutput());
+
+        EasyMock.verify(permissionTransformer, fooTransformer);
+    }
 
     @BeforeEach
     void setUp() {
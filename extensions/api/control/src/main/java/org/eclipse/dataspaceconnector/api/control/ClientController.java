@@ -27,6 +27,7 @@ import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.response.NegotiationResponse;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractOfferRequest;
@@ -44,14 +45,17 @@ public class ClientController {
     private final TransferProcessManager transferProcessManager;
     private final ConsumerContractNegotiationManager consumerNegotiationManager;
     private final ContractNegotiationStore contractNegotiationStore;
+    private final TransferCompletionCallback completionCallback;
 
     public ClientController(
             @NotNull TransferProcessManager transferProcessManager,
             @NotNull ConsumerContractNegotiationManager consumerNegotiationManager,
-            @NotNull ContractNegotiationStore contractNegotiationStore) {
+            @NotNull ContractNegotiationStore contractNegotiationStore,
+            @NotNull TransferCompletionCallback completionCallback) {
         this.transferProcessManager = Objects.requireNonNull(transferProcessManager);
         this.consumerNegotiationManager = Objects.requireNonNull(consumerNegotiationManager);
         this.contractNegotiationStore = Objects.requireNonNull(contractNegotiationStore);
+        this.completionCallback = Objects.requireNonNull(completionCallback);
     }
 
     @POST
@@ -66,6 +70,24 @@ public class ClientController {
         return Response.ok(response.getId()).build();
     }
 
+    /**
+     * Called by data planes and transfer functions when all data of a transfer process has been transferred.
+     */
+    @POST
+    @Path("transfer/{processId}/complete")
+    public Response completeTransfer(@PathParam("processId") String processId) {
+        return completionCallback.completed(processId) ? Response.noContent().build() : Response.status(404).build();
+    }
+
+    /**
+     * Called by data planes and transfer functions when a transfer process failed. The optional request body is the error detail.
+     */
+    @POST
+    @Path("transfer/{processId}/fail")
+    public Response failTransfer(@PathParam("processId") String processId, String errorDetail) {
+        return completionCallback.failed(processId, errorDetail) ? Response.noContent().build() : Response.status(404).build();
+    }
+
     @POST
     @Path("negotiation")
     public Response initiateNegotiation(ContractOfferRequest contractOffer) { // TODO allow to the idsWebhookAddress via parameter
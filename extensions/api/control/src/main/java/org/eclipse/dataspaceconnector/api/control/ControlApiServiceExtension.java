@@ -9,6 +9,7 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCompletionCallback;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.jetbrains.annotations.NotNull;
 
@@ -45,7 +46,9 @@ public class ControlApiServiceExtension implements ServiceExtension {
         ConsumerContractNegotiationManager consumerNegotiationManager = serviceExtensionContext.getService(ConsumerContractNegotiationManager.class);
         ContractNegotiationStore contractNegotiationStore = serviceExtensionContext.getService(ContractNegotiationStore.class);
 
-        webService.registerController(new ClientController(transferProcessManager, consumerNegotiationManager, contractNegotiationStore));
+        TransferCompletionCallback completionCallback = serviceExtensionContext.getService(TransferCompletionCallback.class);
+
+        webService.registerController(new ClientController(transferProcessManager, consumerNegotiationManager, contractNegotiationStore, completionCallback));
         webService.registerController(new ClientControlCatalogApiController(remoteMessageDispatcherRegistry));
 
         /*
@@ -31,11 +31,13 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGenerator;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionCheckCache;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusCheckerRegistry;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 
+import java.time.Duration;
 import java.util.Set;
 
 /**
@@ -70,7 +72,9 @@ public class AwsProvisionExtension implements ServiceExtension {
         manifestGenerator.registerConsumerGenerator(new S3ResourceDefinitionConsumerGenerator());
 
         var statusCheckerReg = context.getService(StatusCheckerRegistry.class);
-        statusCheckerReg.register(S3BucketSchema.TYPE, new S3StatusChecker(clientProvider, retryPolicy));
+        var completionCache = new CompletionCheckCache(Duration.ofMillis(Long.parseLong(context.getSetting(CompletionCheckCache.TTL_SETTING,
+                String.valueOf(CompletionCheckCache.DEFAULT_TTL_MILLIS)))));
+        statusCheckerReg.register(S3BucketSchema.TYPE, new S3StatusChecker(clientProvider, retryPolicy, completionCache));
 
         registerTypes(context.getTypeManager());
 
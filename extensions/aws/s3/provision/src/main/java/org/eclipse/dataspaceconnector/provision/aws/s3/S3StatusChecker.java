@@ -19,12 +19,13 @@ import net.jodah.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.provision.aws.provider.ClientProvider;
 import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionCheckCache;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
-import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
-import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.util.List;
@@ -32,37 +33,40 @@ import java.util.concurrent.CompletionException;
 
 import static java.lang.String.format;
 
+/**
+ * Checks completion with a HEAD request for the {@link CompletionMarker} of the transfer, so the cost of a check does not depend on the number of
+ * objects in the bucket.
+ */
 public class S3StatusChecker implements StatusChecker {
+    private static final int NOT_FOUND = 404;
+
     private final ClientProvider clientProvider;
     private final RetryPolicy<Object> retryPolicy;
+    private final CompletionCheckCache cache;
 
     public S3StatusChecker(ClientProvider clientProvider, RetryPolicy<Object> retryPolicy) {
+        this(clientProvider, retryPolicy, CompletionCheckCache.NONE);
+    }
+
+    public S3StatusChecker(ClientProvider clientProvider, RetryPolicy<Object> retryPolicy, CompletionCheckCache cache) {
         this.clientProvider = clientProvider;
         this.retryPolicy = retryPolicy;
+        this.cache = cache;
     }
 
     @Override
     public boolean isComplete(TransferProcess transferProcess, List<ProvisionedResource> resources) {
+        var marker = CompletionMarker.nameFor(transferProcess.getDataRequest());
         if (resources.isEmpty()) {
             var destination = transferProcess.getDataRequest().getDataDestination();
             var bucketName = destination.getProperty(S3BucketSchema.BUCKET_NAME);
             var region = destination.getProperty(S3BucketSchema.REGION);
-            return checkBucket(bucketName, region);
+            return checkMarker(bucketName, region, marker);
         } else {
             for (var resource : resources) {
                 if (resource instanceof S3BucketProvisionedResource) {
                     var provisionedResource = (S3BucketProvisionedResource) resource;
-                    try {
-                        var bucketName = provisionedResource.getBucketName();
-                        var region = provisionedResource.getRegion();
-                        return checkBucket(bucketName, region);
-                    } catch (CompletionException cpe) {
-                        if (cpe.getCause() instanceof NoSuchBucketException) {
-                            return false;
-                        }
-                        throw cpe;
-                    }
-
+                    return checkMarker(provisionedResource.getBucketName(), provisionedResource.getRegion(), marker);
                 }
             }
 
@@ -72,15 +76,19 @@ public class S3StatusChecker implements StatusChecker {
         throw new EdcException(format("No bucket resource was associated with the transfer process: %s - cannot determine completion.", transferProcess.getId()));
     }
 
-    private boolean checkBucket(String bucketName, String region) {
+    private boolean checkMarker(String bucketName, String region, String marker) {
+        return cache.isComplete(region + "/" + bucketName + "/" + marker, () -> markerExists(bucketName, region, marker));
+    }
+
+    private boolean markerExists(String bucketName, String region, String marker) {
         try {
             var s3client = clientProvider.clientFor(S3AsyncClient.class, region);
 
-            var rq = ListObjectsRequest.builder().bucket(bucketName).build();
-            var response = Failsafe.with(retryPolicy)
-                    .getStageAsync(() -> s3client.listObjects(rq))
+            var rq = HeadObjectRequest.builder().bucket(bucketName).key(marker).build();
+            // a missing marker or bucket is an answer, not a failure, so it is not retried
+            return Failsafe.with(retryPolicy)
+                    .getStageAsync(() -> s3client.headObject(rq).thenApply(response -> true).exceptionally(S3StatusChecker::notFound))
                     .join();
-            return response.contents().stream().anyMatch(s3object -> s3object.key().endsWith(".complete"));
         } catch (CompletionException ex) {
             if (ex.getCause() instanceof S3Exception) {
                 return false;
@@ -90,4 +98,12 @@ public class S3StatusChecker implements StatusChecker {
         }
     }
 
+    private static boolean notFound(Throwable throwable) {
+        var cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof S3Exception && ((S3Exception) cause).statusCode() == NOT_FOUND) {
+            return false;
+        }
+        throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(cause);
+    }
+
 }
@@ -146,6 +146,7 @@ class S3StatusCheckerIntegrationTest extends AbstractS3Test {
         return TransferProcess.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
                 .dataRequest(DataRequest.Builder.newInstance()
+                        .id(PROCESS_ID)
                         .destinationType(S3BucketSchema.TYPE)
                         .dataDestination(DataAddress.Builder.newInstance()
                                 .type(S3BucketSchema.TYPE)
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.provision.aws.s3;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.jodah.failsafe.RetryPolicy;
+import org.eclipse.dataspaceconnector.provision.aws.provider.ClientProvider;
+import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionCheckCache;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyString;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.mock;
+import static org.easymock.EasyMock.replay;
+
+/**
+ * Runs the checker against a local HTTP server that answers S3 HEAD object requests.
+ */
+class S3StatusCheckerTest {
+    private static final String BUCKET = "test-bucket";
+    private static final String REGION = "us-east-1";
+
+    private final Set<String> objects = ConcurrentHashMap.newKeySet();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private S3AsyncClient client;
+    private ClientProvider clientProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        client = S3AsyncClient.builder()
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .region(Region.of(REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .build();
+        clientProvider = mock(ClientProvider.class);
+        expect(clientProvider.clientFor(eq(S3AsyncClient.class), anyString())).andReturn(client).anyTimes();
+        replay(clientProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void isComplete_headsMarkerOfTransfer() {
+        objects.add("/" + BUCKET + "/asset-1.complete");
+
+        assertThat(checker(CompletionCheckCache.NONE).isComplete(transferProcess("request-1"), emptyList())).isTrue();
+        assertThat(requests).containsExactly("HEAD /" + BUCKET + "/asset-1.complete");
+    }
+
+    @Test
+    void isComplete_markerMissing() {
+        objects.add("/" + BUCKET + "/other-request.complete");
+
+        assertThat(checker(CompletionCheckCache.NONE).isComplete(transferProcess("request-1"), emptyList())).isFalse();
+    }
+
+    @Test
+    void isComplete_withResources() {
+        objects.add("/provisioned-bucket/asset-1.complete");
+        var process = transferProcess("request-1");
+        var resource = S3BucketProvisionedResource.Builder.newInstance()
+                .bucketName("provisioned-bucket")
+                .region(REGION)
+                .resourceDefinitionId(UUID.randomUUID().toString())
+                .transferProcessId(process.getId())
+                .id(UUID.randomUUID().toString())
+                .build();
+
+        assertThat(checker(CompletionCheckCache.NONE).isComplete(process, List.of(resource))).isTrue();
+    }
+
+    @Test
+    void isComplete_cachesResultPerMarker() {
+        var checker = checker(new CompletionCheckCache(Duration.ofMinutes(1)));
+
+        assertThat(checker.isComplete(transferProcess("request-1"), emptyList())).isFalse();
+        assertThat(checker.isComplete(transferProcess("request-1"), emptyList())).isFalse();
+        assertThat(checker.isComplete(transferProcess("request-2"), emptyList())).isFalse();
+
+        assertThat(requests).containsExactly("HEAD /" + BUCKET + "/asset-1.complete", "HEAD /" + BUCKET + "/asset-2.complete");
+    }
+
+    private S3StatusChecker checker(CompletionCheckCache cache) {
+        return new S3StatusChecker(clientProvider, new RetryPolicy<>().withMaxRetries(0), cache);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            var path = exchange.getRequestURI().getPath();
+            requests.add(exchange.getRequestMethod() + " " + path);
+            exchange.sendResponseHeaders(objects.contains(path) ? 200 : 404, -1);
+        }
+    }
+
+    private TransferProcess transferProcess(String requestId) {
+        return TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .dataRequest(DataRequest.Builder.newInstance()
+                        .id(requestId)
+                        .destinationType(S3BucketSchema.TYPE)
+                        .dataDestination(DataAddress.Builder.newInstance()
+                                .type(S3BucketSchema.TYPE)
+                                .property(S3BucketSchema.REGION, REGION)
+                                .property(S3BucketSchema.BUCKET_NAME, BUCKET)
+                                .build())
+                        .build())
+                .build();
+    }
+}
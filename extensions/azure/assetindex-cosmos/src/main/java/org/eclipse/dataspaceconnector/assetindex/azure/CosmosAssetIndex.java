@@ -24,13 +24,18 @@ import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.asset.Criterion;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static net.jodah.failsafe.Failsafe.with;
@@ -42,20 +47,39 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
     private final TypeManager typeManager;
     private final RetryPolicy<Object> retryPolicy;
     private final CosmosAssetQueryBuilder queryBuilder;
+    private final CatalogVersion catalogVersion;
+    private final MetricsRegistry metrics;
 
     /**
      * Creates a new instance of the CosmosDB-based for Asset storage.
      *
-     * @param assetDb      Api to interact with Cosmos container.
-     * @param partitionKey The CosmosDB partition key
-     * @param typeManager  The {@link TypeManager} that's used for serialization and deserialization.
-     * @param retryPolicy  Retry policy if query to CosmosDB fails.
+     * @param assetDb        Api to interact with Cosmos container.
+     * @param partitionKey   The CosmosDB partition key
+     * @param typeManager    The {@link TypeManager} that's used for serialization and deserialization.
+     * @param retryPolicy    Retry policy if query to CosmosDB fails.
+     * @param catalogVersion Incremented whenever an asset is stored.
      */
-    public CosmosAssetIndex(CosmosDbApi assetDb, String partitionKey, TypeManager typeManager, RetryPolicy<Object> retryPolicy) {
+    public CosmosAssetIndex(CosmosDbApi assetDb, String partitionKey, TypeManager typeManager, RetryPolicy<Object> retryPolicy, CatalogVersion catalogVersion) {
+        this(assetDb, partitionKey, typeManager, retryPolicy, catalogVersion, NoopMetricsRegistry.INSTANCE);
+    }
+
+    /**
+     * Creates a new instance of the CosmosDB-based for Asset storage.
+     *
+     * @param assetDb        Api to interact with Cosmos container.
+     * @param partitionKey   The CosmosDB partition key
+     * @param typeManager    The {@link TypeManager} that's used for serialization and deserialization.
+     * @param retryPolicy    Retry policy if query to CosmosDB fails.
+     * @param catalogVersion Incremented whenever an asset is stored.
+     * @param metrics        Records the latency of queries against CosmosDB.
+     */
+    public CosmosAssetIndex(CosmosDbApi assetDb, String partitionKey, TypeManager typeManager, RetryPolicy<Object> retryPolicy, CatalogVersion catalogVersion, MetricsRegistry metrics) {
         this.assetDb = Objects.requireNonNull(assetDb);
         this.partitionKey = partitionKey;
         this.typeManager = Objects.requireNonNull(typeManager);
         this.retryPolicy = Objects.requireNonNull(retryPolicy);
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+        this.metrics = Objects.requireNonNull(metrics);
         queryBuilder = new CosmosAssetQueryBuilder();
     }
 
@@ -65,7 +89,7 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
 
         SqlQuerySpec query = queryBuilder.from(expression);
 
-        var response = with(retryPolicy).get(() -> assetDb.queryItems(query));
+        var response = metrics.timer("edc.assetindex.query", "operation", "queryAssets").time(() -> with(retryPolicy).get(() -> assetDb.queryItems(query)));
         return response.map(this::convertObject)
                 .map(AssetDocument::getWrappedAsset);
     }
@@ -77,7 +101,7 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
 
     @Override
     public Asset findById(String assetId) {
-        var result = queryByIdInternal(assetId);
+        var result = metrics.timer("edc.assetindex.query", "operation", "findById").time(() -> queryByIdInternal(assetId));
         return result.map(AssetDocument::getWrappedAsset).orElse(null);
     }
 
@@ -90,6 +114,7 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
     public void accept(Asset asset, DataAddress dataAddress) {
         var assetDocument = new AssetDocument(asset, partitionKey, dataAddress);
         assetDb.saveItem(assetDocument);
+        catalogVersion.increment();
     }
 
     @Override
@@ -97,6 +122,20 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
         accept(item.getAsset(), item.getDataAddress());
     }
 
+    /**
+     * Writes all entries with one bulk call, and increments the catalog version once.
+     */
+    @Override
+    public void acceptAll(Collection<AssetEntry> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        assetDb.createItems(items.stream()
+                .map(item -> new AssetDocument(item.getAsset(), partitionKey, item.getDataAddress()))
+                .collect(Collectors.toList()));
+        catalogVersion.increment();
+    }
+
     // we need to read the AssetDocument as Object, because no custom JSON deserialization can be registered
     // with the CosmosDB SDK, so it would not know about subtypes, etc.
     private AssetDocument convertObject(Object databaseDocument) {
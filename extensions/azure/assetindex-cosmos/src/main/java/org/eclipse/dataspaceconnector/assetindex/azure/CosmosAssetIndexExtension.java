@@ -21,11 +21,15 @@ import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApiImpl;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -42,6 +46,11 @@ public class CosmosAssetIndexExtension implements ServiceExtension {
         return Set.of(AssetIndex.FEATURE, AssetLoader.FEATURE, DataAddressResolver.FEATURE);
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(CatalogVersion.FEATURE);
+    }
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         monitor = context.getMonitor();
@@ -51,7 +60,9 @@ public class CosmosAssetIndexExtension implements ServiceExtension {
         Vault vault = context.getService(Vault.class);
 
         CosmosDbApi cosmosDbApi = new CosmosDbApiImpl(vault, configuration);
-        var assetIndex = new CosmosAssetIndex(cosmosDbApi, configuration.getPartitionKey(), context.getTypeManager(), context.getService(RetryPolicy.class));
+        var assetIndex = new CosmosAssetIndex(cosmosDbApi, configuration.getPartitionKey(), context.getTypeManager(), context.getService(RetryPolicy.class),
+                context.getService(CatalogVersion.class),
+                Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE));
         context.registerService(AssetIndex.class, assetIndex);
         context.registerService(AssetLoader.class, assetIndex);
         context.registerService(DataAddressResolver.class, assetIndex);
@@ -19,14 +19,19 @@ import net.jodah.failsafe.RetryPolicy;
 import org.easymock.Capture;
 import org.eclipse.dataspaceconnector.assetindex.azure.model.AssetDocument;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
+import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDocument;
+import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -38,6 +43,7 @@ import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.newCapture;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.reset;
@@ -72,15 +78,15 @@ class CosmosAssetIndexTest {
     void inputValidation() {
         // null cosmos api
         assertThatExceptionOfType(NullPointerException.class)
-                .isThrownBy(() -> new CosmosAssetIndex(null, TEST_PARTITION_KEY, null, retryPolicy));
+                .isThrownBy(() -> new CosmosAssetIndex(null, TEST_PARTITION_KEY, null, retryPolicy, new CatalogVersion()));
 
         // type manager is null
         assertThatExceptionOfType(NullPointerException.class)
-                .isThrownBy(() -> new CosmosAssetIndex(api, TEST_PARTITION_KEY, null, retryPolicy));
+                .isThrownBy(() -> new CosmosAssetIndex(api, TEST_PARTITION_KEY, null, retryPolicy, new CatalogVersion()));
 
         // retry policy is null
         assertThatExceptionOfType(NullPointerException.class)
-                .isThrownBy(() -> new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, null));
+                .isThrownBy(() -> new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, null, new CatalogVersion()));
     }
 
     @Test
@@ -91,7 +97,7 @@ class CosmosAssetIndexTest {
 
         replay(api);
 
-        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, new CatalogVersion());
 
         Asset actualAsset = assetIndex.findById(id);
         assertThat(actualAsset.getProperties()).isEqualTo(document.getWrappedAsset().getProperties());
@@ -108,7 +114,7 @@ class CosmosAssetIndexTest {
 
         replay(api);
 
-        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, new CatalogVersion());
 
         assertThatExceptionOfType(EdcException.class).isThrownBy(() -> assetIndex.findById(id));
 
@@ -122,7 +128,7 @@ class CosmosAssetIndexTest {
 
         replay(api);
 
-        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, new CatalogVersion());
 
         Asset actualAsset = assetIndex.findById(id);
         assertThat(actualAsset).isNull();
@@ -138,7 +144,7 @@ class CosmosAssetIndexTest {
 
         replay(api);
 
-        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, new CatalogVersion());
 
         List<Asset> assets = assetIndex.queryAssets(AssetSelectorExpression.SELECT_ALL).collect(Collectors.toList());
         assertThat(assets)
@@ -157,7 +163,7 @@ class CosmosAssetIndexTest {
 
         replay(api);
 
-        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, new CatalogVersion());
 
         var inExpr = "(" + String.join(",", List.of(id1, id2)) + ")";
         var selector = AssetSelectorExpression.Builder.newInstance()
@@ -184,7 +190,7 @@ class CosmosAssetIndexTest {
         expect(api.queryItems(capture(specCapture))).andReturn(Stream.of(createDocument(id1), createDocument(id2)));
         replay(api);
 
-        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, new CatalogVersion());
 
         var selectByName = AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "'somename'").build();
         List<Asset> assets = assetIndex.queryAssets(selectByName).collect(Collectors.toList());
@@ -197,4 +203,24 @@ class CosmosAssetIndexTest {
 
         verify(api);
     }
+
+    @Test
+    void acceptAll_writesOneBulk() {
+        Capture<Collection<CosmosDocument<?>>> documents = newCapture();
+        api.createItems(capture(documents));
+        expectLastCall();
+        replay(api);
+        var catalogVersion = new CatalogVersion();
+
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy, catalogVersion);
+        var dataAddress = DataAddress.Builder.newInstance().type("test").build();
+        assetIndex.acceptAll(List.of(
+                new AssetEntry(Asset.Builder.newInstance().id("id1").build(), dataAddress),
+                new AssetEntry(Asset.Builder.newInstance().id("id2").build(), dataAddress)));
+
+        assertThat(documents.getValue()).hasSize(2).allSatisfy(document -> assertThat(document.getPartitionKey()).isEqualTo(TEST_PARTITION_KEY));
+        assertThat(documents.getValue().stream().map(document -> ((AssetDocument) document).getWrappedAsset().getId())).containsExactly("id1", "id2");
+        assertThat(catalogVersion.current()).isEqualTo(1);
+        verify(api);
+    }
 }
@@ -27,6 +27,11 @@ public interface BlobStoreApi {
 
     boolean exists(String accountName, String containerName);
 
+    /**
+     * Returns true if the blob exists; false if it or its container does not exist.
+     */
+    boolean exists(String accountName, String containerName, String blobName);
+
     String createContainerSasToken(String accountName, String containerName, String accessSpec, OffsetDateTime expiry);
 
     List<BlobItem> listContainer(String accountName, String containerName);
@@ -36,4 +41,14 @@ public interface BlobStoreApi {
     String createAccountSas(String accountName, String containerName, String racwxdl, OffsetDateTime expiry);
 
     byte[] getBlob(String account, String container, String blobName);
+
+    /**
+     * Returns the size of the blob in bytes.
+     */
+    long getBlobSize(String account, String container, String blobName);
+
+    /**
+     * Returns up to {@code count} bytes of the blob, starting at {@code offset}.
+     */
+    byte[] getBlob(String account, String container, String blobName, long offset, long count);
 }
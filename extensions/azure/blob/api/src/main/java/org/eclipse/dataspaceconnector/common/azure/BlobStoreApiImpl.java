@@ -15,9 +15,11 @@
 package org.eclipse.dataspaceconnector.common.azure;
 
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.sas.BlobContainerSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import com.azure.storage.common.StorageSharedKeyCredential;
@@ -27,6 +29,7 @@ import com.azure.storage.common.sas.AccountSasService;
 import com.azure.storage.common.sas.AccountSasSignatureValues;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 
+import java.io.ByteArrayOutputStream;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -36,11 +39,24 @@ import java.util.stream.Collectors;
 
 public class BlobStoreApiImpl implements BlobStoreApi {
 
+    private static final String DEFAULT_ENDPOINT_TEMPLATE = "https://%s.blob.core.windows.net";
+
     private final Vault vault;
+    private final String endpointTemplate;
     private final Map<String, BlobServiceClient> cache = new HashMap<>();
 
     public BlobStoreApiImpl(Vault vault) {
+        this(vault, DEFAULT_ENDPOINT_TEMPLATE);
+    }
+
+    /**
+     * Creates an instance that connects to a custom blob endpoint, such as a storage emulator.
+     *
+     * @param endpointTemplate the endpoint URL with a {@code %s} placeholder for the account name
+     */
+    public BlobStoreApiImpl(Vault vault, String endpointTemplate) {
         this.vault = vault;
+        this.endpointTemplate = endpointTemplate;
     }
 
 
@@ -59,6 +75,11 @@ public class BlobStoreApiImpl implements BlobStoreApi {
         return getBlobServiceClient(accountName).getBlobContainerClient(containerName).exists();
     }
 
+    @Override
+    public boolean exists(String accountName, String containerName, String blobName) {
+        return getBlobServiceClient(accountName).getBlobContainerClient(containerName).getBlobClient(blobName).exists();
+    }
+
     @Override
     public String createContainerSasToken(String accountName, String containerName, String oermissionSpec, OffsetDateTime expiry) {
         BlobContainerSasPermission permissions = BlobContainerSasPermission.parse(oermissionSpec);
@@ -93,6 +114,21 @@ public class BlobStoreApiImpl implements BlobStoreApi {
         return client.getBlobContainerClient(container).getBlobClient(blobName).downloadContent().toBytes();
     }
 
+    @Override
+    public long getBlobSize(String account, String container, String blobName) {
+        var client = getBlobServiceClient(account);
+        return client.getBlobContainerClient(container).getBlobClient(blobName).getProperties().getBlobSize();
+    }
+
+    @Override
+    public byte[] getBlob(String account, String container, String blobName, long offset, long count) {
+        var client = getBlobServiceClient(account);
+        var output = new ByteArrayOutputStream();
+        client.getBlobContainerClient(container).getBlobClient(blobName)
+                .downloadWithResponse(output, new BlobRange(offset, count), null, null, false, null, Context.NONE);
+        return output.toByteArray();
+    }
+
     private BlobServiceClient getBlobServiceClient(String accountName) {
         Objects.requireNonNull(accountName, "accountName");
 
@@ -117,8 +153,7 @@ public class BlobStoreApiImpl implements BlobStoreApi {
 
 
     private String createEndpoint(String accountName) {
-
-        return "https://" + accountName + ".blob.core.windows.net";
+        return String.format(endpointTemplate, accountName);
     }
 
     private StorageSharedKeyCredential createCredential(String accountKey, String accountName) {
@@ -30,8 +30,10 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGenerator;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionCheckCache;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusCheckerRegistry;
 
+import java.time.Duration;
 import java.util.Set;
 
 /**
@@ -57,7 +59,9 @@ public class AzureProvisionExtension implements ServiceExtension {
         manifestGenerator.registerConsumerGenerator(new ObjectStorageDefinitionConsumerGenerator());
 
         var statusCheckerReg = context.getService(StatusCheckerRegistry.class);
-        statusCheckerReg.register(AzureBlobStoreSchema.TYPE, new ObjectContainerStatusChecker(blobStoreApi, retryPolicy));
+        var completionCache = new CompletionCheckCache(Duration.ofMillis(Long.parseLong(context.getSetting(CompletionCheckCache.TTL_SETTING,
+                String.valueOf(CompletionCheckCache.DEFAULT_TTL_MILLIS)))));
+        statusCheckerReg.register(AzureBlobStoreSchema.TYPE, new ObjectContainerStatusChecker(blobStoreApi, retryPolicy, completionCache));
 
         registerTypes(context.getTypeManager());
 
@@ -19,6 +19,8 @@ import net.jodah.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.common.azure.BlobStoreApi;
 import org.eclipse.dataspaceconnector.schema.azure.AzureBlobStoreSchema;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionCheckCache;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
@@ -27,42 +29,47 @@ import java.util.List;
 
 import static java.lang.String.format;
 
+/**
+ * Checks completion by looking up the {@link CompletionMarker} of the transfer, so the cost of a check does not depend on the number of blobs in the
+ * container. A missing container is reported as not complete.
+ */
 public class ObjectContainerStatusChecker implements StatusChecker {
     private final BlobStoreApi blobStoreApi;
     private final RetryPolicy<Object> retryPolicy;
+    private final CompletionCheckCache cache;
 
     public ObjectContainerStatusChecker(BlobStoreApi blobStoreApi, RetryPolicy<Object> retryPolicy) {
+        this(blobStoreApi, retryPolicy, CompletionCheckCache.NONE);
+    }
+
+    public ObjectContainerStatusChecker(BlobStoreApi blobStoreApi, RetryPolicy<Object> retryPolicy, CompletionCheckCache cache) {
         this.blobStoreApi = blobStoreApi;
         this.retryPolicy = retryPolicy;
+        this.cache = cache;
     }
 
     @Override
     public boolean isComplete(TransferProcess transferProcess, List<ProvisionedResource> resources) {
+        var marker = CompletionMarker.nameFor(transferProcess.getDataRequest());
         if (!resources.isEmpty()) {
             for (var resource : resources) {
                 if (resource instanceof ObjectContainerProvisionedResource) {
                     var provisionedResource = (ObjectContainerProvisionedResource) resource;
                     String accountName = provisionedResource.getAccountName();
                     String containerName = provisionedResource.getContainerName();
-                    return checkContainerExists(accountName, containerName);
+                    return checkMarker(accountName, containerName, marker);
                 }
             }
         } else {
             var accountName = transferProcess.getDataRequest().getDataDestination().getProperty(AzureBlobStoreSchema.ACCOUNT_NAME);
             var containerName = transferProcess.getDataRequest().getDataDestination().getProperty(AzureBlobStoreSchema.CONTAINER_NAME);
-            return checkContainerExists(accountName, containerName);
+            return checkMarker(accountName, containerName, marker);
         }
         throw new EdcException(format("No object container resource was associated with the transfer process: %s - cannot determine completion.", transferProcess));
     }
 
-    private boolean checkContainerExists(String accountName, String containerName) {
-        if (!blobStoreApi.exists(accountName, containerName)) {
-            return false;
-        }
-
-        // TODO: this checks if there is **any** file ends with *.complete. This can be improved to check for a particular file name, if specified
-        return Failsafe.with(retryPolicy).get(() -> blobStoreApi.listContainer(accountName, containerName)
-                .stream().anyMatch(bci -> bci.getName().endsWith(".complete")));
+    private boolean checkMarker(String accountName, String containerName, String marker) {
+        return cache.isComplete(accountName + "/" + containerName + "/" + marker,
+                () -> Failsafe.with(retryPolicy).get(() -> blobStoreApi.exists(accountName, containerName, marker)));
     }
-
 }
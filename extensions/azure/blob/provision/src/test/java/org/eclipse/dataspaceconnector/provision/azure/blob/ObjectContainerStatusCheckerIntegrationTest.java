@@ -111,6 +111,7 @@ class ObjectContainerStatusCheckerIntegrationTest extends AbstractAzureBlobTest
         return TransferProcess.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
                 .dataRequest(DataRequest.Builder.newInstance()
+                        .id(testRunId)
                         .destinationType(AzureBlobStoreSchema.TYPE)
                         .dataDestination(DataAddress.Builder.newInstance()
                                 .type(AzureBlobStoreSchema.TYPE)
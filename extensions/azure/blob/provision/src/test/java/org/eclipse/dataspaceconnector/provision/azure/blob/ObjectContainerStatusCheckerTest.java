@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.provision.azure.blob;
+
+import com.azure.storage.blob.models.BlobItem;
+import net.jodah.failsafe.RetryPolicy;
+import org.eclipse.dataspaceconnector.common.azure.BlobStoreApi;
+import org.eclipse.dataspaceconnector.schema.azure.AzureBlobStoreSchema;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionCheckCache;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectContainerStatusCheckerTest {
+    private static final String ACCOUNT = "account";
+    private static final String CONTAINER = "container";
+
+    private final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+
+    @Test
+    void isComplete_looksUpMarkerOfTransfer() {
+        blobStore.blobs.add(ACCOUNT + "/" + CONTAINER + "/asset-1.complete");
+
+        assertThat(checker(CompletionCheckCache.NONE).isComplete(transferProcess("request-1"), emptyList())).isTrue();
+        assertThat(blobStore.lookups).containsExactly(ACCOUNT + "/" + CONTAINER + "/asset-1.complete");
+    }
+
+    @Test
+    void isComplete_markerMissing() {
+        blobStore.blobs.add(ACCOUNT + "/" + CONTAINER + "/other-request.complete");
+
+        assertThat(checker(CompletionCheckCache.NONE).isComplete(transferProcess("request-1"), emptyList())).isFalse();
+    }
+
+    @Test
+    void isComplete_withResources() {
+        blobStore.blobs.add("provisioned/container-1/asset-1.complete");
+        var process = transferProcess("request-1");
+        var resource = ObjectContainerProvisionedResource.Builder.newInstance()
+                .accountName("provisioned")
+                .containerName("container-1")
+                .resourceDefinitionId(UUID.randomUUID().toString())
+                .transferProcessId(process.getId())
+                .id(UUID.randomUUID().toString())
+                .build();
+
+        assertThat(checker(CompletionCheckCache.NONE).isComplete(process, List.of(resource))).isTrue();
+    }
+
+    @Test
+    void isComplete_cachesResultPerMarker() {
+        var checker = checker(new CompletionCheckCache(Duration.ofMinutes(1)));
+
+        checker.isComplete(transferProcess("request-1"), emptyList());
+        checker.isComplete(transferProcess("request-1"), emptyList());
+        checker.isComplete(transferProcess("request-2"), emptyList());
+
+        assertThat(blobStore.lookups).hasSize(2);
+    }
+
+    private ObjectContainerStatusChecker checker(CompletionCheckCache cache) {
+        return new ObjectContainerStatusChecker(blobStore, new RetryPolicy<>().withMaxRetries(0), cache);
+    }
+
+    private TransferProcess transferProcess(String requestId) {
+        return TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .dataRequest(DataRequest.Builder.newInstance()
+                        .id(requestId)
+                        .destinationType(AzureBlobStoreSchema.TYPE)
+                        .dataDestination(DataAddress.Builder.newInstance()
+                                .type(AzureBlobStoreSchema.TYPE)
+                                .property(AzureBlobStoreSchema.ACCOUNT_NAME, ACCOUNT)
+                                .property(AzureBlobStoreSchema.CONTAINER_NAME, CONTAINER)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Blob store that only answers existence lookups and records them.
+     */
+    private static class InMemoryBlobStore implements BlobStoreApi {
+        private final Set<String> blobs = new HashSet<>();
+        private final List<String> lookups = new ArrayList<>();
+
+        @Override
+        public boolean exists(String accountName, String containerName, String blobName) {
+            var key = accountName + "/" + containerName + "/" + blobName;
+            lookups.add(key);
+            return blobs.contains(key);
+        }
+
+        @Override
+        public void createContainer(String accountName, String containerName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteContainer(String accountName, String containerName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean exists(String accountName, String containerName) {
+            throw new UnsupportedOperationException("container must not be checked separately");
+        }
+
+        @Override
+        public String createContainerSasToken(String accountName, String containerName, String accessSpec, OffsetDateTime expiry) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<BlobItem> listContainer(String accountName, String containerName) {
+            throw new UnsupportedOperationException("container must not be listed");
+        }
+
+        @Override
+        public void putBlob(String accountName, String containerName, String blobName, byte[] data) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String createAccountSas(String accountName, String containerName, String racwxdl, OffsetDateTime expiry) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] getBlob(String account, String container, String blobName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getBlobSize(String account, String container, String blobName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] getBlob(String account, String container, String blobName, long offset, long count) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import net.jodah.failsafe.RetryPolicy;
 import net.jodah.failsafe.function.CheckedSupplier;
 import org.eclipse.dataspaceconnector.contract.definition.store.model.ContractDefinitionDocument;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
@@ -13,6 +14,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
@@ -29,12 +31,14 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
     private final TypeManager typeManager;
     private final RetryPolicy<Object> retryPolicy;
     private final ReentrantReadWriteLock lock; //used to synchronize write operations to the cache and the DB
+    private final CatalogVersion catalogVersion;
     private AtomicReference<Map<String, ContractDefinition>> objectCache;
 
-    public CosmosContractDefinitionStore(CosmosDbApi cosmosDbApi, TypeManager typeManager, RetryPolicy<Object> retryPolicy) {
+    public CosmosContractDefinitionStore(CosmosDbApi cosmosDbApi, TypeManager typeManager, RetryPolicy<Object> retryPolicy, CatalogVersion catalogVersion) {
         this.cosmosDbApi = cosmosDbApi;
         this.typeManager = typeManager;
         this.retryPolicy = retryPolicy;
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
 
         lock = new ReentrantReadWriteLock(true);
     }
@@ -79,7 +83,16 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
 
     @Override
     public void delete(String id) {
-        cosmosDbApi.deleteItem(id);
+        lock.writeLock().lock();
+        try {
+            cosmosDbApi.deleteItem(id);
+            if (objectCache != null) {
+                objectCache.get().remove(id);
+            }
+            catalogVersion.increment();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -98,6 +111,7 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
                 objectCache = new AtomicReference<>(new HashMap<>());
             }
             objectCache.set(databaseObjects);
+            catalogVersion.increment();
         } finally {
             lock.readLock().unlock();
         }
@@ -106,6 +120,7 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
 
     private void storeInCache(ContractDefinition definition) {
         getCache().put(definition.getId(), definition);
+        catalogVersion.increment();
     }
 
     @NotNull
@@ -19,12 +19,15 @@ import org.eclipse.dataspaceconnector.contract.definition.store.model.ContractDe
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApiImpl;
 import org.eclipse.dataspaceconnector.dataloading.ContractDefinitionLoader;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 
+import java.util.Collection;
 import java.util.Set;
 
 public class CosmosContractDefinitionStoreExtension implements ServiceExtension {
@@ -38,6 +41,11 @@ public class CosmosContractDefinitionStoreExtension implements ServiceExtension
         return Set.of(ContractDefinitionStore.FEATURE, ContractDefinitionLoader.FEATURE);
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(CatalogVersion.FEATURE);
+    }
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         monitor = context.getMonitor();
@@ -47,10 +55,21 @@ public class CosmosContractDefinitionStoreExtension implements ServiceExtension
         Vault vault = context.getService(Vault.class);
 
         CosmosDbApi cosmosDbApi = new CosmosDbApiImpl(vault, configuration);
-        var store = new CosmosContractDefinitionStore(cosmosDbApi, context.getTypeManager(), (RetryPolicy<Object>) context.getService(RetryPolicy.class));
+        var store = new CosmosContractDefinitionStore(cosmosDbApi, context.getTypeManager(), (RetryPolicy<Object>) context.getService(RetryPolicy.class),
+                context.getService(CatalogVersion.class));
         context.registerService(ContractDefinitionStore.class, store);
 
-        ContractDefinitionLoader loader = store::save;
+        ContractDefinitionLoader loader = new ContractDefinitionLoader() {
+            @Override
+            public void accept(ContractDefinition definition) {
+                store.save(definition);
+            }
+
+            @Override
+            public void acceptAll(Collection<ContractDefinition> definitions) {
+                store.save(definitions);
+            }
+        };
         context.registerService(ContractDefinitionLoader.class, loader);
 
         context.getTypeManager().registerTypes(ContractDefinitionDocument.class);
@@ -14,6 +14,7 @@ import org.eclipse.dataspaceconnector.contract.definition.store.model.ContractDe
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApiImpl;
 import org.eclipse.dataspaceconnector.spi.asset.Criterion;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.junit.jupiter.api.AfterAll;
@@ -78,7 +79,7 @@ public class CosmosContractDefinitionStoreIntegrationTest {
         typeManager = new TypeManager();
         typeManager.registerTypes(ContractDefinition.class, ContractDefinitionDocument.class);
         CosmosDbApi cosmosDbApi = new CosmosDbApiImpl(container, true);
-        store = new CosmosContractDefinitionStore(cosmosDbApi, typeManager, new RetryPolicy<>().withMaxRetries(3).withBackoff(1, 5, ChronoUnit.SECONDS));
+        store = new CosmosContractDefinitionStore(cosmosDbApi, typeManager, new RetryPolicy<>().withMaxRetries(3).withBackoff(1, 5, ChronoUnit.SECONDS), new CatalogVersion());
     }
 
     @Test
@@ -4,6 +4,7 @@ import net.jodah.failsafe.RetryPolicy;
 import org.easymock.Capture;
 import org.eclipse.dataspaceconnector.contract.definition.store.model.ContractDefinitionDocument;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,7 +33,7 @@ class CosmosContractDefinitionStoreTest {
         cosmosDbApiMock = strictMock(CosmosDbApi.class);
         var typeManager = new TypeManager();
         var retryPolicy = new RetryPolicy<>();
-        store = new CosmosContractDefinitionStore(cosmosDbApiMock, typeManager, retryPolicy);
+        store = new CosmosContractDefinitionStore(cosmosDbApiMock, typeManager, retryPolicy, new CatalogVersion());
     }
 
     @Test
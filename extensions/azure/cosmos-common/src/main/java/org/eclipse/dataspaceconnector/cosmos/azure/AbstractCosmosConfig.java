@@ -18,6 +18,10 @@ public abstract class AbstractCosmosConfig {
     private static final String DEFAULT_PARTITION_KEY_SETTING = "edc.cosmos.partition-key";
     @EdcSetting
     private static final String DEFAULT_QUERY_METRICS_ENABLED_SETTING = "edc.cosmos.query-metrics-enabled";
+    @EdcSetting
+    private static final String BULK_PARALLELISM_SETTING = "edc.cosmos.bulk.parallelism";
+    @EdcSetting
+    private static final String BULK_MAX_THROTTLE_RETRIES_SETTING = "edc.cosmos.bulk.throttle-retries";
     private static final String DEFAULT_PARTITION_KEY = "dataspaceconnector";
     private static Monitor monitor;
 
@@ -28,6 +32,8 @@ public abstract class AbstractCosmosConfig {
     private final String preferredRegion;
     private final String dbName;
     private final boolean queryMetricsEnabled;
+    private final int bulkParallelism;
+    private final int bulkMaxThrottleRetries;
 
     /**
      * Create a config object to interact with a Cosmos database.
@@ -44,6 +50,8 @@ public abstract class AbstractCosmosConfig {
         preferredRegion = context.getSetting(getCosmosPreferredRegionSetting(), DEFAULT_REGION);
         containerName = context.getSetting(getContainerNameSetting(), null);
         queryMetricsEnabled = Boolean.parseBoolean(context.getSetting(getQueryMetricsEnabledSetting(), "true"));
+        bulkParallelism = Integer.parseInt(context.getSetting(BULK_PARALLELISM_SETTING, String.valueOf(CosmosDbApiImpl.DEFAULT_BULK_PARALLELISM)));
+        bulkMaxThrottleRetries = Integer.parseInt(context.getSetting(BULK_MAX_THROTTLE_RETRIES_SETTING, String.valueOf(CosmosDbApiImpl.DEFAULT_MAX_THROTTLE_RETRIES)));
 
         var errors = new ArrayList<String>();
 
@@ -91,6 +99,20 @@ public abstract class AbstractCosmosConfig {
         return queryMetricsEnabled;
     }
 
+    /**
+     * Returns the number of writes that {@link CosmosDbApi#createItems} issues at the same time.
+     */
+    public int getBulkParallelism() {
+        return bulkParallelism;
+    }
+
+    /**
+     * Returns how often a write that was throttled by Cosmos DB is retried.
+     */
+    public int getBulkMaxThrottleRetries() {
+        return bulkMaxThrottleRetries;
+    }
+
     protected abstract String getAccountNameSetting();
 
     protected abstract String getDbNameSetting();
@@ -25,6 +25,11 @@ public interface CosmosDbApi {
 
     void deleteItem(String id);
 
+    /**
+     * Upserts all documents, several at a time. Writes that are throttled are retried after the delay requested by Cosmos DB.
+     *
+     * @throws org.eclipse.dataspaceconnector.spi.EdcException if one or more documents could not be written; the others have been written
+     */
     void createItems(Collection<CosmosDocument<?>> definitions);
 
     <T> String invokeStoredProcedure(String procedureName, String partitionKey, Object... args);
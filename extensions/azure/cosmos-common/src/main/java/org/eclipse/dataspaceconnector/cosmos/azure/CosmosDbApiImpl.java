@@ -23,31 +23,68 @@ import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Default {@link CosmosDbApi} on top of the synchronous Cosmos client.
+ * <p>
+ * {@link #createItems(Collection)} writes documents on a bounded number of threads. When Cosmos DB answers with 429 (request rate too large), all
+ * writers pause for the retry-after interval it returns, or an exponential backoff if it returns none, so a bulk load adapts to the provisioned
+ * throughput instead of failing.
+ */
 public class CosmosDbApiImpl implements CosmosDbApi {
 
+    public static final int DEFAULT_BULK_PARALLELISM = 8;
+    public static final int DEFAULT_MAX_THROTTLE_RETRIES = 10;
+
     private static final String HOST_TEMPLATE = "https://%s.documents.azure.com:443/";
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
 
     private final CosmosItemRequestOptions itemRequestOptions;
     private final CosmosQueryRequestOptions queryRequestOptions;
     private final CosmosContainer container;
+    private final int bulkParallelism;
+    private final int maxThrottleRetries;
+
+    /**
+     * Shared by all writers: no write is issued before this point in time (in nanos), after Cosmos DB throttled one of them.
+     */
+    private volatile long throttledUntil;
 
     public CosmosDbApiImpl(@NotNull CosmosContainer container, boolean isQueryMetricsEnabled) {
+        this(container, isQueryMetricsEnabled, DEFAULT_BULK_PARALLELISM, DEFAULT_MAX_THROTTLE_RETRIES);
+    }
+
+    public CosmosDbApiImpl(@NotNull CosmosContainer container, boolean isQueryMetricsEnabled, int bulkParallelism, int maxThrottleRetries) {
+        if (bulkParallelism < 1) {
+            throw new IllegalArgumentException("Bulk parallelism must be at least 1");
+        }
         queryRequestOptions = new CosmosQueryRequestOptions();
         queryRequestOptions.setQueryMetricsEnabled(isQueryMetricsEnabled);
         itemRequestOptions = new CosmosItemRequestOptions();
 
         this.container = container;
+        this.bulkParallelism = bulkParallelism;
+        this.maxThrottleRetries = maxThrottleRetries;
+        throttledUntil = System.nanoTime();
     }
 
     public CosmosDbApiImpl(@NotNull Vault vault, @NotNull AbstractCosmosConfig config) {
-        this(getContainer(vault, config), config.isQueryMetricsEnabled());
+        this(getContainer(vault, config), config.isQueryMetricsEnabled(), config.getBulkParallelism(), config.getBulkMaxThrottleRetries());
     }
 
     private static void handleResponse(CosmosItemResponse<?> response) {
@@ -90,9 +127,7 @@ public class CosmosDbApiImpl implements CosmosDbApi {
     @Override
     public void saveItem(CosmosDocument<?> item) {
         try {
-            // we don't need to supply a partition key, it will be extracted from the CosmosDocument
-            CosmosItemResponse<Object> response = container.upsertItem(item, itemRequestOptions);
-            handleResponse(response);
+            upsertWithBackoff(item);
         } catch (CosmosException e) {
             throw new EdcException(e);
         }
@@ -179,7 +214,43 @@ public class CosmosDbApiImpl implements CosmosDbApi {
 
     @Override
     public void createItems(Collection<CosmosDocument<?>> definitions) {
-        definitions.forEach(this::saveItem);
+        if (definitions.isEmpty()) {
+            return;
+        }
+        if (definitions.size() == 1 || bulkParallelism == 1) {
+            definitions.forEach(this::saveItem);
+            return;
+        }
+
+        var errors = new ConcurrentLinkedQueue<Exception>();
+        var executor = Executors.newFixedThreadPool(Math.min(bulkParallelism, definitions.size()));
+        try {
+            var futures = new ArrayList<Future<?>>(definitions.size());
+            for (var item : definitions) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        upsertWithBackoff(item);
+                    } catch (CosmosException | EdcException e) {
+                        errors.add(e);
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException(e);
+        } catch (ExecutionException e) {
+            throw new EdcException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!errors.isEmpty()) {
+            var first = errors.peek();
+            throw new EdcException(String.format("Failed to save %s of %s items: %s", errors.size(), definitions.size(), first.getMessage()), first);
+        }
     }
 
     @Override
@@ -195,6 +266,51 @@ public class CosmosDbApiImpl implements CosmosDbApi {
     }
 
 
+    private void upsertWithBackoff(CosmosDocument<?> item) {
+        for (int attempt = 0; ; attempt++) {
+            awaitThrottle();
+            try {
+                // we don't need to supply a partition key, it will be extracted from the CosmosDocument
+                CosmosItemResponse<Object> response = container.upsertItem(item, itemRequestOptions);
+                handleResponse(response);
+                return;
+            } catch (CosmosException e) {
+                if (e.getStatusCode() != TOO_MANY_REQUESTS || attempt >= maxThrottleRetries) {
+                    throw e;
+                }
+                throttle(e.getRetryAfterDuration(), attempt);
+            }
+        }
+    }
+
+    private void throttle(@Nullable Duration retryAfter, int attempt) {
+        var delay = retryAfter != null && !retryAfter.isZero() ? retryAfter : backoff(attempt);
+        var until = System.nanoTime() + delay.toNanos();
+        synchronized (this) {
+            if (until - throttledUntil > 0) {
+                throttledUntil = until;
+            }
+        }
+    }
+
+    private static Duration backoff(int attempt) {
+        var millis = INITIAL_BACKOFF.toMillis() << Math.min(attempt, 16);
+        return millis > MAX_BACKOFF.toMillis() ? MAX_BACKOFF : Duration.ofMillis(millis);
+    }
+
+    private void awaitThrottle() {
+        var wait = throttledUntil - System.nanoTime();
+        while (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EdcException(e);
+            }
+            wait = throttledUntil - System.nanoTime();
+        }
+    }
+
     private CosmosStoredProcedure getStoredProcedure(String sprocName) {
         return container.getScripts().getStoredProcedure(sprocName);
     }
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.cosmos.azure;
+
+import com.azure.cosmos.CosmosContainer;
+import com.azure.cosmos.CosmosException;
+import com.azure.cosmos.implementation.RequestRateTooLargeException;
+import com.azure.cosmos.models.CosmosItemRequestOptions;
+import com.azure.cosmos.models.CosmosItemResponse;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.getCurrentArguments;
+import static org.easymock.EasyMock.mock;
+import static org.easymock.EasyMock.niceMock;
+import static org.easymock.EasyMock.replay;
+
+/**
+ * Runs the bulk path against a mocked container that throttles or rejects selected documents.
+ */
+class CosmosDbApiImplTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> throttles = new ConcurrentHashMap<>();
+    private final Set<String> failures = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private CosmosItemResponse<Object> ok;
+    private CosmosException throttled;
+    private CosmosException failed;
+    private CosmosContainer container;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ok = niceMock(CosmosItemResponse.class);
+        expect(ok.getStatusCode()).andReturn(200).anyTimes();
+        throttled = niceMock(RequestRateTooLargeException.class);
+        expect(throttled.getStatusCode()).andReturn(429).anyTimes();
+        expect(throttled.getRetryAfterDuration()).andReturn(Duration.ofMillis(10)).anyTimes();
+        failed = niceMock(CosmosException.class);
+        expect(failed.getStatusCode()).andReturn(500).anyTimes();
+        expect(failed.getMessage()).andReturn("internal error").anyTimes();
+        container = mock(CosmosContainer.class);
+        expect(container.upsertItem(anyObject(), anyObject(CosmosItemRequestOptions.class))).andAnswer(this::upsert).anyTimes();
+        replay(ok, throttled, failed, container);
+    }
+
+    @Test
+    void createItems_writesAllInParallel() {
+        var api = new CosmosDbApiImpl(container, false, PARALLELISM, 3);
+
+        api.createItems(documents(50));
+
+        assertThat(attempts).hasSize(50).allSatisfy((id, count) -> assertThat(count.get()).isEqualTo(1));
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(PARALLELISM);
+    }
+
+    @Test
+    void createItems_retriesThrottledWrites() {
+        throttles.put("doc-3", 2);
+        throttles.put("doc-7", 3);
+        var api = new CosmosDbApiImpl(container, false, PARALLELISM, 3);
+
+        api.createItems(documents(10));
+
+        assertThat(attempts).hasSize(10);
+        assertThat(attempts.get("doc-3").get()).isEqualTo(3);
+        assertThat(attempts.get("doc-7").get()).isEqualTo(4);
+    }
+
+    @Test
+    void createItems_failsWhenThrottledTooOften() {
+        throttles.put("doc-5", 10);
+        var api = new CosmosDbApiImpl(container, false, PARALLELISM, 2);
+
+        assertThatThrownBy(() -> api.createItems(documents(10)))
+                .isInstanceOf(EdcException.class)
+                .hasMessageStartingWith("Failed to save 1 of 10 items");
+        assertThat(attempts.get("doc-5").get()).isEqualTo(3);
+    }
+
+    @Test
+    void createItems_writesRemainingItemsAfterFailure() {
+        failures.add("doc-0");
+        var api = new CosmosDbApiImpl(container, false, PARALLELISM, 3);
+
+        assertThatThrownBy(() -> api.createItems(documents(20)))
+                .isInstanceOf(EdcException.class)
+                .hasMessage("Failed to save 1 of 20 items: internal error");
+        assertThat(attempts).hasSize(20);
+    }
+
+    @Test
+    void saveItem_retriesThrottledWrite() {
+        throttles.put("doc-0", 1);
+        var api = new CosmosDbApiImpl(container, false, PARALLELISM, 3);
+
+        api.saveItem(new TestCosmosDocument("doc-0", "partition"));
+
+        assertThat(attempts.get("doc-0").get()).isEqualTo(2);
+    }
+
+    private CosmosItemResponse<Object> upsert() throws InterruptedException {
+        var id = ((TestCosmosDocument) getCurrentArguments()[0]).getWrappedInstance();
+        var attempt = attempts.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+        var current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(1);
+            if (attempt <= throttles.getOrDefault(id, 0)) {
+                throw throttled;
+            }
+            if (failures.contains(id)) {
+                throw failed;
+            }
+            return ok;
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    private static List<CosmosDocument<?>> documents(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new TestCosmosDocument("doc-" + i, "partition")).collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,8 @@ package org.eclipse.dataspaceconnector.events.azure;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.time.Duration;
+
 public class AzureEventGridConfig {
     public static final String DEFAULT_SYSTEM_TOPIC_NAME = "connector-events";
     public static final String DEFAULT_ENDPOINT_NAME_TEMPLATE = "https://%s.westeurope-1.eventgrid.azure.net/api/events";
@@ -11,6 +13,23 @@ public class AzureEventGridConfig {
     public static final String TOPIC_NAME_SETTING = "edc.events.topic.name";
     @EdcSetting
     public static final String TOPIC_ENDPOINT_SETTING = "edc.events.topic.endpoint";
+    @EdcSetting
+    public static final String BATCH_SIZE_SETTING = "edc.events.topic.batch.size";
+    @EdcSetting
+    public static final String LINGER_SETTING = "edc.events.topic.linger.millis";
+    @EdcSetting
+    public static final String BUFFER_SIZE_SETTING = "edc.events.topic.buffer.size";
+    @EdcSetting
+    public static final String MAX_RETRIES_SETTING = "edc.events.topic.retries";
+    @EdcSetting
+    public static final String RETRY_BACKOFF_SETTING = "edc.events.topic.retry.backoff.millis";
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_LINGER_MILLIS = 500;
+    public static final int DEFAULT_BUFFER_SIZE = 10_000;
+    public static final int DEFAULT_MAX_RETRIES = 5;
+    public static final long DEFAULT_RETRY_BACKOFF_MILLIS = 200;
+
     private final ServiceExtensionContext context;
 
     public AzureEventGridConfig(ServiceExtensionContext context) {
@@ -43,4 +62,37 @@ public class AzureEventGridConfig {
         }
         return ep;
     }
+
+    /**
+     * Returns the maximum number of events sent in one request.
+     */
+    public int getBatchSize() {
+        return Integer.parseInt(getSetting(BATCH_SIZE_SETTING, String.valueOf(DEFAULT_BATCH_SIZE)));
+    }
+
+    /**
+     * Returns how long an event may wait for its batch to fill up before the batch is sent anyway.
+     */
+    public Duration getLinger() {
+        return Duration.ofMillis(Long.parseLong(getSetting(LINGER_SETTING, String.valueOf(DEFAULT_LINGER_MILLIS))));
+    }
+
+    /**
+     * Returns the maximum number of events held while the topic is unavailable; the oldest are dropped beyond that.
+     */
+    public int getBufferSize() {
+        return Integer.parseInt(getSetting(BUFFER_SIZE_SETTING, String.valueOf(DEFAULT_BUFFER_SIZE)));
+    }
+
+    public int getMaxRetries() {
+        return Integer.parseInt(getSetting(MAX_RETRIES_SETTING, String.valueOf(DEFAULT_MAX_RETRIES)));
+    }
+
+    public Duration getRetryBackoff() {
+        return Duration.ofMillis(Long.parseLong(getSetting(RETRY_BACKOFF_SETTING, String.valueOf(DEFAULT_RETRY_BACKOFF_MILLIS))));
+    }
+
+    private String getSetting(String setting, String defaultValue) {
+        return context == null ? defaultValue : context.getSetting(setting, defaultValue);
+    }
 }
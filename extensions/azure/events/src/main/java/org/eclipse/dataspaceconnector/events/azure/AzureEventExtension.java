@@ -14,19 +14,25 @@
 package org.eclipse.dataspaceconnector.events.azure;
 
 import com.azure.core.credential.AzureKeyCredential;
+import com.azure.core.http.policy.FixedDelay;
+import com.azure.core.http.policy.RetryPolicy;
 import com.azure.messaging.eventgrid.EventGridPublisherClientBuilder;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessObservable;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Set;
 
 public class AzureEventExtension implements ServiceExtension {
 
     private Monitor monitor;
+    private BatchingEventGridPublisher batchingPublisher;
 
     @Override
     public Set<String> requires() {
@@ -50,6 +56,9 @@ public class AzureEventExtension implements ServiceExtension {
 
     @Override
     public void shutdown() {
+        if (batchingPublisher != null) {
+            batchingPublisher.close();
+        }
         monitor.info("Shutdown Azure Events Extension");
     }
 
@@ -65,10 +74,27 @@ public class AzureEventExtension implements ServiceExtension {
         var publisherClient = new EventGridPublisherClientBuilder()
                 .credential(new AzureKeyCredential(Objects.requireNonNull(vault.resolveSecret(topicName), "Did not find secret in vault: " + endpoint)))
                 .endpoint(endpoint)
+                // batches are retried as a whole by the BatchingEventGridPublisher
+                .retryPolicy(new RetryPolicy(new FixedDelay(0, Duration.ZERO)))
                 .buildEventGridEventPublisherAsyncClient();
 
-
-        AzureEventGridPublisher publisher = new AzureEventGridPublisher(context.getConnectorId(), monitor, publisherClient);
+        batchingPublisher = BatchingEventGridPublisher.Builder.newInstance()
+                .client(publisherClient)
+                .monitor(monitor)
+                .batchSize(config.getBatchSize())
+                .linger(config.getLinger())
+                .bufferSize(config.getBufferSize())
+                .maxRetries(config.getMaxRetries())
+                .retryBackoff(config.getRetryBackoff())
+                .build();
+
+        var metrics = Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE);
+        metrics.gauge("edc.eventgrid.buffered", batchingPublisher::getBuffered);
+        metrics.gauge("edc.eventgrid.events", batchingPublisher::getPublished, "outcome", "published");
+        metrics.gauge("edc.eventgrid.events", batchingPublisher::getDropped, "outcome", "dropped");
+        metrics.gauge("edc.eventgrid.events", batchingPublisher::getFailed, "outcome", "failed");
+
+        AzureEventGridPublisher publisher = new AzureEventGridPublisher(context.getConnectorId(), batchingPublisher);
 
         var processObservable = context.getService(TransferProcessObservable.class, true);
         if (processObservable != null) {
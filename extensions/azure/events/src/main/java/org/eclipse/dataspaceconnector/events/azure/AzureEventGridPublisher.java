@@ -16,67 +16,63 @@ package org.eclipse.dataspaceconnector.events.azure;
 
 import com.azure.core.util.BinaryData;
 import com.azure.messaging.eventgrid.EventGridEvent;
-import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
-import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessListener;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 import org.jetbrains.annotations.NotNull;
-import reactor.core.publisher.BaseSubscriber;
-import reactor.core.publisher.Mono;
 
+/**
+ * Publishes transfer process state changes to an Event Grid topic. Events are sent in batches by the {@link BatchingEventGridPublisher}.
+ */
 class AzureEventGridPublisher implements TransferProcessListener {
 
-    private final Monitor monitor;
-    private final EventGridPublisherAsyncClient<EventGridEvent> client;
+    private final BatchingEventGridPublisher publisher;
     private final String eventTypeTransferprocess = "dataspaceconnector/transfer/transferprocess";
     private final String eventTypeMetadata = "dataspaceconnector/metadata/store";
     private final String connectorId;
 
-    public AzureEventGridPublisher(String connectorId, Monitor monitor, EventGridPublisherAsyncClient<EventGridEvent> client) {
+    public AzureEventGridPublisher(String connectorId, BatchingEventGridPublisher publisher) {
         this.connectorId = connectorId;
-        this.monitor = monitor;
-        this.client = client;
+        this.publisher = publisher;
     }
 
     @Override
     public void created(TransferProcess process) {
         var dto = createTransferProcessDto(process);
         if (process.getType() == TransferProcess.Type.CONSUMER) {
-            sendEvent("createdConsumer", eventTypeTransferprocess, dto).subscribe(new LoggingSubscriber<>("Transfer process created"));
+            sendEvent("createdConsumer", eventTypeTransferprocess, dto);
         } else {
-            sendEvent("createdProvider", eventTypeTransferprocess, dto).subscribe(new LoggingSubscriber<>("Transfer process created"));
+            sendEvent("createdProvider", eventTypeTransferprocess, dto);
         }
     }
 
     @Override
     public void completed(TransferProcess process) {
-        sendEvent("completed", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process completed"));
+        sendEvent("completed", eventTypeTransferprocess, createTransferProcessDto(process));
     }
 
 
     @Override
     public void deprovisioned(TransferProcess process) {
-        sendEvent("deprovisioned", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process resources deprovisioned"));
+        sendEvent("deprovisioned", eventTypeTransferprocess, createTransferProcessDto(process));
 
     }
 
     @Override
     public void ended(TransferProcess process) {
-        sendEvent("ended", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process ended"));
+        sendEvent("ended", eventTypeTransferprocess, createTransferProcessDto(process));
 
     }
 
     @Override
     public void error(TransferProcess process) {
-        sendEvent("error", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process errored!"));
+        sendEvent("error", eventTypeTransferprocess, createTransferProcessDto(process));
 
     }
 
-    private Mono<Void> sendEvent(String what, String where, Object payload) {
+    private void sendEvent(String what, String where, Object payload) {
         BinaryData data = BinaryData.fromObject(payload);
-        var evt = new EventGridEvent(what, where, data, "0.1");
-        return client.sendEvent(evt);
+        publisher.send(new EventGridEvent(what, where, data, "0.1"));
     }
 
     @NotNull
@@ -88,23 +84,4 @@ class AzureEventGridPublisher implements TransferProcessListener {
                 .type(process.getType())
                 .build();
     }
-
-    private class LoggingSubscriber<T> extends BaseSubscriber<T> {
-
-        private final String message;
-
-        LoggingSubscriber(String message) {
-            this.message = message;
-        }
-
-        @Override
-        protected void hookOnComplete() {
-            monitor.info("AzureEventGrid: " + message);
-        }
-
-        @Override
-        protected void hookOnError(@NotNull Throwable throwable) {
-            monitor.severe("Error during event publishing", throwable);
-        }
-    }
 }
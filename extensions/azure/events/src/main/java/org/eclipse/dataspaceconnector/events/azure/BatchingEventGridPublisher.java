@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.events.azure;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Buffers Event Grid events and publishes them in batches.
+ * <p>
+ * A single sender thread sends a batch with one {@code sendEvents} call as soon as it reaches the batch size, or when its oldest event has waited for
+ * the linger time. A failed batch is retried as a whole with exponential backoff; client errors other than throttling are not retried. Batches are
+ * sent one at a time, so while the topic is unavailable new events accumulate in the bounded buffer, which drops the oldest events once it is full.
+ */
+class BatchingEventGridPublisher implements AutoCloseable {
+    private final EventGridPublisherAsyncClient<EventGridEvent> client;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int bufferSize;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    private final Object lock = new Object();
+    private final Deque<EventGridEvent> buffer = new ArrayDeque<>();
+    private final Thread sender;
+    private long oldestBufferedAt;
+    private long dropped;
+    private long failed;
+    private long published;
+    private boolean active = true;
+
+    private BatchingEventGridPublisher(EventGridPublisherAsyncClient<EventGridEvent> client, Monitor monitor, int batchSize, Duration linger, int bufferSize, int maxRetries,
+                                       Duration retryBackoff) {
+        this.client = client;
+        this.monitor = monitor;
+        this.batchSize = batchSize;
+        lingerNanos = linger.toNanos();
+        this.bufferSize = bufferSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        sender = new Thread(this::sendLoop, "edc-eventgrid-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    /**
+     * Adds the event to the next batch.
+     */
+    public void send(EventGridEvent event) {
+        synchronized (lock) {
+            if (!active) {
+                dropped++;
+                return;
+            }
+            if (buffer.size() >= bufferSize) {
+                buffer.poll();
+                dropped++;
+            }
+            if (buffer.isEmpty()) {
+                oldestBufferedAt = System.nanoTime();
+            }
+            buffer.add(event);
+            if (buffer.size() == 1 || buffer.size() == batchSize) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be sent.
+     */
+    public int getBuffered() {
+        synchronized (lock) {
+            return buffer.size();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     */
+    public long getDropped() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    /**
+     * Returns the number of events that could not be published after all retries.
+     */
+    public long getFailed() {
+        synchronized (lock) {
+            return failed;
+        }
+    }
+
+    /**
+     * Returns the number of events that were published.
+     */
+    public long getPublished() {
+        synchronized (lock) {
+            return published;
+        }
+    }
+
+    /**
+     * Sends the buffered events and stops the sender.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            active = false;
+            lock.notifyAll();
+        }
+        try {
+            sender.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendLoop() {
+        while (true) {
+            List<EventGridEvent> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            publish(batch);
+        }
+    }
+
+    /**
+     * Waits until a batch is full or has lingered long enough; returns an empty batch once closed and drained.
+     */
+    private List<EventGridEvent> nextBatch() throws InterruptedException {
+        synchronized (lock) {
+            while (active && buffer.size() < batchSize) {
+                if (buffer.isEmpty()) {
+                    lock.wait();
+                    continue;
+                }
+                var remaining = lingerNanos - (System.nanoTime() - oldestBufferedAt);
+                if (remaining <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            var batch = new ArrayList<EventGridEvent>(Math.min(batchSize, buffer.size()));
+            while (batch.size() < batchSize && !buffer.isEmpty()) {
+                batch.add(buffer.poll());
+            }
+            // the remaining events start lingering now
+            oldestBufferedAt = System.nanoTime();
+            return batch;
+        }
+    }
+
+    private void publish(List<EventGridEvent> batch) {
+        try {
+            client.sendEvents(batch)
+                    .retryWhen(Retry.backoff(maxRetries, retryBackoff).filter(BatchingEventGridPublisher::isRetryable))
+                    .block();
+            synchronized (lock) {
+                published += batch.size();
+            }
+            monitor.debug(() -> format("AzureEventGrid: published %s events", batch.size()));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                failed += batch.size();
+            }
+            monitor.severe(format("Error publishing %s events to Event Grid", batch.size()), e);
+        }
+    }
+
+    private static boolean isRetryable(Throwable throwable) {
+        if (throwable instanceof HttpResponseException && ((HttpResponseException) throwable).getResponse() != null) {
+            var status = ((HttpResponseException) throwable).getResponse().getStatusCode();
+            return status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    public static class Builder {
+        private EventGridPublisherAsyncClient<EventGridEvent> client;
+        private Monitor monitor;
+        private int batchSize = AzureEventGridConfig.DEFAULT_BATCH_SIZE;
+        private Duration linger = Duration.ofMillis(AzureEventGridConfig.DEFAULT_LINGER_MILLIS);
+        private int bufferSize = AzureEventGridConfig.DEFAULT_BUFFER_SIZE;
+        private int maxRetries = AzureEventGridConfig.DEFAULT_MAX_RETRIES;
+        private Duration retryBackoff = Duration.ofMillis(AzureEventGridConfig.DEFAULT_RETRY_BACKOFF_MILLIS);
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder client(EventGridPublisherAsyncClient<EventGridEvent> client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            this.monitor = monitor;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder linger(Duration linger) {
+            this.linger = linger;
+            return this;
+        }
+
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder retryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        public BatchingEventGridPublisher build() {
+            Objects.requireNonNull(client, "client");
+            Objects.requireNonNull(monitor, "monitor");
+            Objects.requireNonNull(linger, "linger");
+            Objects.requireNonNull(retryBackoff, "retryBackoff");
+            if (batchSize < 1 || bufferSize < batchSize) {
+                throw new IllegalArgumentException("Batch size must be at least 1 and not exceed the buffer size");
+            }
+            return new BatchingEventGridPublisher(client, monitor, batchSize, linger, bufferSize, maxRetries, retryBackoff);
+        }
+    }
+}
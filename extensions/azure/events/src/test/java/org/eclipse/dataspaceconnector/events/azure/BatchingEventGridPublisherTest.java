@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.events.azure;
+
+import com.azure.core.credential.AzureKeyCredential;
+import com.azure.core.http.policy.FixedDelay;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherClientBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the publisher against a local HTTP server that accepts Event Grid payloads.
+ */
+class BatchingEventGridPublisherTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private volatile CountDownLatch blockFirstRequest = new CountDownLatch(0);
+    private HttpServer server;
+    private BatchingEventGridPublisher publisher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/events", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void verifySendsFullBatches() {
+        publisher = publisher(10, Duration.ofMinutes(1), 100, 0);
+
+        for (int i = 0; i < 25; i++) {
+            publisher.send(event(i));
+        }
+        waitFor(() -> requests.size() == 2);
+        publisher.close();
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0)).hasSize(10);
+        assertThat(requests.get(1)).hasSize(10);
+        assertThat(requests.get(2)).containsExactly("event-20", "event-21", "event-22", "event-23", "event-24");
+        assertThat(publisher.getPublished()).isEqualTo(25);
+    }
+
+    @Test
+    void verifySendsPartialBatchAfterLinger() {
+        publisher = publisher(100, Duration.ofMillis(50), 100, 0);
+
+        publisher.send(event(1));
+        publisher.send(event(2));
+        waitFor(() -> requests.size() == 1);
+
+        assertThat(requests.get(0)).containsExactly("event-1", "event-2");
+    }
+
+    @Test
+    void verifyRetriesWholeBatch() {
+        failuresLeft.set(2);
+        publisher = publisher(3, Duration.ofMinutes(1), 100, 3);
+
+        for (int i = 0; i < 3; i++) {
+            publisher.send(event(i));
+        }
+        waitFor(() -> publisher.getPublished() == 3);
+
+        assertThat(requests).hasSize(3).allSatisfy(batch -> assertThat(batch).containsExactly("event-0", "event-1", "event-2"));
+        assertThat(publisher.getFailed()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyDropsOldestWhileTopicUnavailable() {
+        blockFirstRequest = new CountDownLatch(1);
+        publisher = publisher(5, Duration.ofMinutes(1), 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.send(event(i));
+        }
+        waitFor(() -> publisher.getBuffered() == 0);
+        for (int i = 5; i < 13; i++) {
+            publisher.send(event(i));
+        }
+        assertThat(publisher.getDropped()).isEqualTo(3);
+        blockFirstRequest.countDown();
+        publisher.close();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1)).containsExactly("event-8", "event-9", "event-10", "event-11", "event-12");
+    }
+
+    private BatchingEventGridPublisher publisher(int batchSize, Duration linger, int bufferSize, int maxRetries) {
+        var client = new EventGridPublisherClientBuilder()
+                .endpoint("http://localhost:" + server.getAddress().getPort() + "/api/events")
+                .credential(new AzureKeyCredential("key"))
+                .retryPolicy(new RetryPolicy(new FixedDelay(0, Duration.ZERO)))
+                .buildEventGridEventPublisherAsyncClient();
+        return BatchingEventGridPublisher.Builder.newInstance()
+                .client(client)
+                .monitor(new Monitor() {
+                })
+                .batchSize(batchSize)
+                .linger(linger)
+                .bufferSize(bufferSize)
+                .maxRetries(maxRetries)
+                .retryBackoff(Duration.ofMillis(10))
+                .build();
+    }
+
+    private EventGridEvent event(int i) {
+        return new EventGridEvent("event-" + i, "dataspaceconnector/transfer/transferprocess", BinaryData.fromObject(Map.of("index", i)), "0.1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            var events = mapper.readValue(exchange.getRequestBody(), List.class);
+            var subjects = new ArrayList<String>();
+            events.forEach(event -> subjects.add((String) ((Map<String, Object>) event).get("subject")));
+            requests.add(subjects);
+            blockFirstRequest.await(10, TimeUnit.SECONDS);
+            var status = failuresLeft.getAndDecrement() > 0 ? 503 : 200;
+            exchange.sendResponseHeaders(status, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.security.azure;
 
+import org.eclipse.dataspaceconnector.security.CachingVault;
 import org.eclipse.dataspaceconnector.security.VaultPrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
@@ -22,11 +23,15 @@ import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
 
+import java.time.Duration;
+
 import static org.eclipse.dataspaceconnector.common.string.StringUtils.isNullOrEmpty;
 
 
 public class AzureVaultExtension implements VaultExtension {
 
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ZERO;
+
     private Vault vault;
 
     @Override
@@ -71,7 +76,9 @@ public class AzureVaultExtension implements VaultExtension {
             throw new AzureVaultException("'edc.vault.name' must be supplied but was null!");
         }
 
-        vault = AzureVault.authenticateWithCertificate(context.getMonitor(), clientId, tenantId, certPath, keyVaultName);
+        var azureVault = AzureVault.authenticateWithCertificate(context.getMonitor(), clientId, tenantId, certPath, keyVaultName);
+        // every lookup is a remote call, secrets are cached if a TTL is configured
+        vault = CachingVault.fromSettings(azureVault, context, DEFAULT_CACHE_TTL);
         context.getMonitor().info("AzureVaultExtension: authentication/initialization complete.");
     }
 }
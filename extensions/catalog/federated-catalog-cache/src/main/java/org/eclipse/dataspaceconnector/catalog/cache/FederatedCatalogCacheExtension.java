@@ -22,6 +22,8 @@ import org.eclipse.dataspaceconnector.catalog.spi.QueryEngine;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItem;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -30,6 +32,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -50,6 +53,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     private PartitionConfiguration partitionManagerConfig;
     private Monitor monitor;
     private ArrayBlockingQueue<UpdateResponse> updateResponseQueue;
+    private MetricsRegistry metrics;
 
     @Override
     public Set<String> provides() {
@@ -63,8 +67,16 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 "edc:webservice", FederatedCacheStore.FEATURE);
     }
 
+    @Override
+    public Activation activation() {
+        // crawling does not need to hold up the runtime, the catalog fills up once the crawlers run
+        return Activation.DEFERRED_START;
+    }
+
     @Override
     public void initialize(ServiceExtensionContext context) {
+        metrics = Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE);
+
         // QUERY SUBSYSTEM
         var queryAdapterRegistry = new CacheQueryAdapterRegistryImpl();
         context.registerService(CacheQueryAdapterRegistry.class, queryAdapterRegistry);
@@ -117,6 +129,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 .batchSize(partitionManagerConfig.getLoaderBatchSize(DEFAULT_BATCH_SIZE))
                 .waitStrategy(() -> partitionManagerConfig.getLoaderRetryTimeout(DEFAULT_RETRY_TIMEOUT_MILLIS))
                 .monitor(monitor)
+                .metrics(metrics)
                 .build();
     }
 
@@ -157,6 +170,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 .errorReceiver(getErrorWorkItemConsumer(context, workItems))
                 .protocolAdapters(protocolAdapters)
                 .workQueuePollTimeout(() -> Duration.ofMillis(2000 + new Random().nextInt(3000)))
+                .metrics(metrics)
                 .build();
     }
 
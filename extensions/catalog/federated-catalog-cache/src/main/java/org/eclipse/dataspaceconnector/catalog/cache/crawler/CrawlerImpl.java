@@ -11,6 +11,8 @@ import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateRequest;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,10 +37,17 @@ public class CrawlerImpl implements Crawler {
     private final AtomicBoolean isActive;
     private final String crawlerId;
     private final CrawlerErrorHandler errorHandler;
+    private final MetricsRegistry metrics;
 
     CrawlerImpl(WorkItemQueue workItemQueue, Monitor monitor, BlockingQueue<UpdateResponse> responseQueue,
                 RetryPolicy<Object> updateResponseEnqueueRetryPolicy, NodeQueryAdapterRegistry catalogQueryAdapterRegistry,
                 Supplier<Duration> workQueuePollTimeout, CrawlerErrorHandler errorHandler) {
+        this(workItemQueue, monitor, responseQueue, updateResponseEnqueueRetryPolicy, catalogQueryAdapterRegistry, workQueuePollTimeout, errorHandler, NoopMetricsRegistry.INSTANCE);
+    }
+
+    CrawlerImpl(WorkItemQueue workItemQueue, Monitor monitor, BlockingQueue<UpdateResponse> responseQueue,
+                RetryPolicy<Object> updateResponseEnqueueRetryPolicy, NodeQueryAdapterRegistry catalogQueryAdapterRegistry,
+                Supplier<Duration> workQueuePollTimeout, CrawlerErrorHandler errorHandler, MetricsRegistry metrics) {
         this.workItemQueue = workItemQueue;
         this.catalogQueryAdapterRegistry = catalogQueryAdapterRegistry;
         this.monitor = monitor;
@@ -46,6 +55,7 @@ public class CrawlerImpl implements Crawler {
         this.updateResponseEnqueueRetryPolicy = updateResponseEnqueueRetryPolicy;
         this.workQueuePollTimeout = workQueuePollTimeout;
         this.errorHandler = errorHandler;
+        this.metrics = metrics;
         isActive = new AtomicBoolean(true);
         crawlerId = format("\"%s\"", MobyNamesGenerator.getRandomName().replace("_", " "));
     }
@@ -66,7 +76,8 @@ public class CrawlerImpl implements Crawler {
                 }
 
                 if (item != null) {
-                    monitor.debug(format("%s: WorkItem acquired", crawlerId));
+                    monitor.debug(() -> format("%s: WorkItem acquired", crawlerId));
+                    metrics.counter("edc.catalog.crawler.workitems", "protocol", String.valueOf(item.getProtocol())).increment();
 
                     // search for an adapter
                     var adapters = catalogQueryAdapterRegistry.findForProtocol(item.getProtocol());
@@ -78,9 +89,12 @@ public class CrawlerImpl implements Crawler {
                         // if the adapters are found, use them to send the update request
                         WorkItem finalItem = item;
                         for (NodeQueryAdapter a : adapters) {
+                            var start = System.nanoTime();
                             a.sendRequest(new UpdateRequest(finalItem.getUrl()))
                                     // the following happens on a different thread
                                     .whenComplete((updateResponse, throwable) -> {
+                                        metrics.timer("edc.catalog.crawler.request", "protocol", String.valueOf(finalItem.getProtocol()), "outcome", throwable == null ? "success" : "failure")
+                                                .recordSince(start);
                                         if (throwable != null) {
                                             handleError(finalItem, throwable.getMessage());
                                         } else {
@@ -119,6 +133,7 @@ public class CrawlerImpl implements Crawler {
 
     private void handleError(@Nullable WorkItem errorWorkItem, String message) {
         monitor.severe(message);
+        metrics.counter("edc.catalog.crawler.errors").increment();
 
         if (errorWorkItem != null) {
             errorWorkItem.error(message);
@@ -130,6 +145,7 @@ public class CrawlerImpl implements Crawler {
         var offered = with(updateResponseEnqueueRetryPolicy).get(() -> updateResponseQueue.offer(updateResponse));
         if (!offered) {
             monitor.severe(crawlerId + ": Inserting update-response into queue failed due to timeout!");
+            metrics.counter("edc.catalog.crawler.responses.dropped").increment();
             //todo: how to react?
         }
     }
@@ -142,6 +158,7 @@ public class CrawlerImpl implements Crawler {
         private WorkItemQueue workItems;
         private Supplier<Duration> workQueuePollTimeout;
         private CrawlerErrorHandler errorHandler;
+        private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
 
         private Builder() {
         }
@@ -185,12 +202,18 @@ public class CrawlerImpl implements Crawler {
             return this;
         }
 
+        public Builder metrics(MetricsRegistry metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public CrawlerImpl build() {
             Objects.requireNonNull(workItems);
             Objects.requireNonNull(queue);
             Objects.requireNonNull(adapters);
+            Objects.requireNonNull(metrics);
 
-            return new CrawlerImpl(workItems, monitor, queue, retryPolicy, adapters, workQueuePollTimeout, errorHandler);
+            return new CrawlerImpl(workItems, monitor, queue, retryPolicy, adapters, workQueuePollTimeout, errorHandler, metrics);
         }
     }
 }
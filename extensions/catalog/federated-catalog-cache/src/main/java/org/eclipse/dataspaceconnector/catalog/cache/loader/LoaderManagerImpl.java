@@ -3,6 +3,8 @@ package org.eclipse.dataspaceconnector.catalog.cache.loader;
 import org.eclipse.dataspaceconnector.catalog.spi.Loader;
 import org.eclipse.dataspaceconnector.catalog.spi.LoaderManager;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.transfer.WaitStrategy;
 
@@ -26,14 +28,20 @@ public class LoaderManagerImpl implements LoaderManager {
     private final int batchSize;
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
+    private final MetricsRegistry metrics;
     private BlockingQueue<UpdateResponse> queue;
     private ExecutorService executor;
 
     protected LoaderManagerImpl(List<Loader> loaders, int batchSize, WaitStrategy waitStrategy, Monitor monitor) {
+        this(loaders, batchSize, waitStrategy, monitor, NoopMetricsRegistry.INSTANCE);
+    }
+
+    protected LoaderManagerImpl(List<Loader> loaders, int batchSize, WaitStrategy waitStrategy, Monitor monitor, MetricsRegistry metrics) {
         this.loaders = loaders;
         this.batchSize = batchSize;
         this.waitStrategy = waitStrategy;
         this.monitor = monitor;
+        this.metrics = metrics;
         isRunning = new AtomicBoolean(false);
         lock = new ReentrantLock();
     }
@@ -45,6 +53,7 @@ public class LoaderManagerImpl implements LoaderManager {
     @Override
     public void start(BlockingQueue<UpdateResponse> queue) {
         this.queue = queue;
+        metrics.gauge("edc.catalog.loader.queue.depth", queue::size);
         isRunning.set(true);
         executor = Executors.newSingleThreadExecutor();
         executor.submit(this::beginDequeue);
@@ -74,8 +83,11 @@ public class LoaderManagerImpl implements LoaderManager {
                     var batch = new ArrayList<UpdateResponse>(batchSize);
                     // take the elements out of the queue and forward to loaders
                     queue.drainTo(batch, batchSize);
-                    monitor.debug(format("LoaderManager: batch full, begin loading (%s items, %s workers)", batchSize, loaders.size()));
+                    monitor.debug(() -> format("LoaderManager: batch full, begin loading (%s items, %s workers)", batchSize, loaders.size()));
+                    metrics.histogram("edc.catalog.loader.batch.size").record(batch.size());
+                    var start = System.nanoTime();
                     loaders.forEach(l -> l.load(batch));
+                    metrics.timer("edc.catalog.loader.batch").recordSince(start);
                     monitor.debug("LoaderManager: loading complete");
                 }
                 // else wait and retry on next iteration
@@ -102,6 +114,7 @@ public class LoaderManagerImpl implements LoaderManager {
         private int batchSize = DEFAULT_BATCH_SIZE;
         private WaitStrategy waitStrategy = () -> DEFAULT_WAIT_TIME_MILLIS;
         private Monitor monitor;
+        private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
 
         private Builder() {
         }
@@ -131,12 +144,18 @@ public class LoaderManagerImpl implements LoaderManager {
             return this;
         }
 
+        public Builder metrics(MetricsRegistry metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public LoaderManagerImpl build() {
             Objects.requireNonNull(loaders);
+            Objects.requireNonNull(metrics);
             if (batchSize < 0) {
                 throw new IllegalArgumentException("Batch Size cannot be negative!");
             }
-            return new LoaderManagerImpl(loaders, batchSize, waitStrategy, monitor);
+            return new LoaderManagerImpl(loaders, batchSize, waitStrategy, monitor, metrics);
         }
     }
 }
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataloading;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Loads a stream of items into the sink of a {@link DataLoader} in batches.
+ * <p>
+ * Items are pulled from an iterator, so only one batch is held in memory. Each batch is validated with the predicates of the loader, split into chunks
+ * that are validated in parallel on the validation executor, and handed to {@link DataSink#acceptAll} if all items pass. If an item fails
+ * validation, a {@link ValidationException} names its offset and the offset to resume from; the batches before it have been written.
+ * <p>
+ * Progress is reported to the progress listener at most once per progress interval, and once more when the load has finished.
+ */
+public class BulkDataLoader<T> {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_VALIDATION_CHUNK_SIZE = 100;
+    public static final Duration DEFAULT_PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
+    private DataLoader<T> loader;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int validationChunkSize = DEFAULT_VALIDATION_CHUNK_SIZE;
+    private Executor validationExecutor = Runnable::run;
+    private Consumer<LoadProgress> progressListener = progress -> {
+    };
+    private Duration progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+    private BulkDataLoader() {
+    }
+
+    /**
+     * Loads all items of the iterator.
+     *
+     * @param source the name of the source, used in progress reports
+     * @param items the items to load
+     * @param offset the offset of the first item in the source, when resuming a load
+     * @return the final progress
+     * @throws ValidationException when an item fails validation
+     */
+    public LoadProgress load(String source, Iterator<T> items, long offset) {
+        var start = System.nanoTime();
+        var lastReport = start;
+        long loaded = 0;
+        var batch = new ArrayList<T>(batchSize);
+        while (items.hasNext()) {
+            batch.add(items.next());
+            if (batch.size() == batchSize || !items.hasNext()) {
+                write(batch, offset + loaded);
+                loaded += batch.size();
+                // the sink may hold on to the batch
+                batch = new ArrayList<>(batchSize);
+                var now = System.nanoTime();
+                if (now - lastReport >= progressInterval.toNanos()) {
+                    progressListener.accept(new LoadProgress(source, loaded, offset + loaded, Duration.ofNanos(now - start)));
+                    lastReport = now;
+                }
+            }
+        }
+        var progress = new LoadProgress(source, loaded, offset + loaded, Duration.ofNanos(System.nanoTime() - start));
+        progressListener.accept(progress);
+        return progress;
+    }
+
+    private void write(List<T> batch, long batchOffset) {
+        var chunks = new ArrayList<CompletableFuture<List<String>>>();
+        for (int from = 0; from < batch.size(); from += validationChunkSize) {
+            var chunkOffset = from;
+            var chunk = batch.subList(from, Math.min(from + validationChunkSize, batch.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> validate(chunk, batchOffset + chunkOffset), validationExecutor));
+        }
+        var errors = chunks.stream().map(CompletableFuture::join).flatMap(List::stream).collect(Collectors.toList());
+        if (!errors.isEmpty()) {
+            throw new ValidationException(format("Validation failed, resume from offset %s: %s", batchOffset, String.join("; ", errors)));
+        }
+        loader.getSink().acceptAll(batch);
+    }
+
+    private List<String> validate(List<T> chunk, long chunkOffset) {
+        var errors = new ArrayList<String>();
+        for (int i = 0; i < chunk.size(); i++) {
+            var offset = chunkOffset + i;
+            loader.validate(chunk.get(i)).filter(ValidationResult::isInvalid).forEach(result -> errors.add(format("item %s: %s", offset, result.getError())));
+        }
+        return errors;
+    }
+
+    public static final class Builder<T> {
+        private final BulkDataLoader<T> bulkLoader;
+
+        private Builder() {
+            bulkLoader = new BulkDataLoader<>();
+        }
+
+        public static <T> Builder<T> newInstance() {
+            return new Builder<>();
+        }
+
+        /**
+         * The loader that provides the validation predicates and the sink.
+         */
+        public Builder<T> loader(DataLoader<T> loader) {
+            bulkLoader.loader = loader;
+            return this;
+        }
+
+        public Builder<T> batchSize(int batchSize) {
+            bulkLoader.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder<T> validationChunkSize(int validationChunkSize) {
+            bulkLoader.validationChunkSize = validationChunkSize;
+            return this;
+        }
+
+        /**
+         * The executor that validates chunks in parallel. By default, items are validated on the calling thread.
+         */
+        public Builder<T> validationExecutor(Executor validationExecutor) {
+            bulkLoader.validationExecutor = validationExecutor;
+            return this;
+        }
+
+        public Builder<T> progressListener(Consumer<LoadProgress> progressListener) {
+            bulkLoader.progressListener = progressListener;
+            return this;
+        }
+
+        public Builder<T> progressInterval(Duration progressInterval) {
+            bulkLoader.progressInterval = progressInterval;
+            return this;
+        }
+
+        public BulkDataLoader<T> build() {
+            Objects.requireNonNull(bulkLoader.loader, "loader");
+            Objects.requireNonNull(bulkLoader.validationExecutor, "validationExecutor");
+            Objects.requireNonNull(bulkLoader.progressListener, "progressListener");
+            Objects.requireNonNull(bulkLoader.progressInterval, "progressInterval");
+            if (bulkLoader.batchSize < 1 || bulkLoader.validationChunkSize < 1) {
+                throw new IllegalArgumentException("Batch size and validation chunk size must be at least 1");
+            }
+            return bulkLoader;
+        }
+    }
+}
@@ -75,10 +75,14 @@ public class DataLoader<T> {
         items.forEach(sink::accept);
     }
 
-    private Stream<ValidationResult> validate(T item) {
+    Stream<ValidationResult> validate(T item) {
         return validationPredicates.stream().map(vr -> vr.apply(item));
     }
 
+    DataSink<T> getSink() {
+        return sink;
+    }
+
     public static final class Builder<T> {
         private final DataLoader<T> loader;
 
@@ -13,9 +13,18 @@
  */
 package org.eclipse.dataspaceconnector.dataloading;
 
+import java.util.Collection;
+
 /**
  * Backing store for ingesting items.
  */
 public interface DataSink<T> {
     void accept(T item);
+
+    /**
+     * Accepts a batch of items. Sinks that can write several items in one operation should override this; the default accepts them one by one.
+     */
+    default void acceptAll(Collection<T> items) {
+        items.forEach(this::accept);
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataloading;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the elements of a JSON array one at a time, so only the current element is held in memory.
+ * <p>
+ * The input is either a single JSON array or a sequence of top-level JSON values, such as a JSON Lines file with one value per line. Elements before
+ * an offset can be skipped without deserializing them, which allows resuming an interrupted load.
+ */
+public class JsonStreamReader<T> implements Iterator<T>, AutoCloseable {
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+    private final JsonParser parser;
+    private final boolean array;
+    private JsonToken current;
+    private long position;
+
+    public JsonStreamReader(ObjectMapper mapper, InputStream input, Class<T> type) {
+        this.mapper = mapper;
+        this.type = type;
+        try {
+            parser = mapper.getFactory().createParser(input);
+            current = parser.nextToken();
+            array = current == JsonToken.START_ARRAY;
+            if (array) {
+                current = parser.nextToken();
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Skips up to the given number of elements and returns how many were skipped.
+     */
+    public long skip(long count) {
+        long skipped = 0;
+        try {
+            while (skipped < count && hasNext()) {
+                parser.skipChildren();
+                current = parser.nextToken();
+                skipped++;
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+        position += skipped;
+        return skipped;
+    }
+
+    /**
+     * Returns the offset of the next element, counting from the start of the input.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null && !(array && current == JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            var value = mapper.readValue(parser, type);
+            current = parser.nextToken();
+            position++;
+            return value;
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+}
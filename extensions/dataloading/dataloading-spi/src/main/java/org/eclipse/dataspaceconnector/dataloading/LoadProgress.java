@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataloading;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of a running bulk load.
+ */
+public class LoadProgress {
+    private final String source;
+    private final long loaded;
+    private final long position;
+    private final Duration elapsed;
+
+    public LoadProgress(String source, long loaded, long position, Duration elapsed) {
+        this.source = source;
+        this.loaded = loaded;
+        this.position = position;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the name of the file or stream being loaded.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the number of items written to the sink so far.
+     */
+    public long getLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returns the offset of the first item that has not been written; a load can be resumed from here.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the number of items written per second.
+     */
+    public double getThroughput() {
+        var millis = elapsed.toMillis();
+        return millis == 0 ? 0 : loaded * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s: %s items loaded in %s s (%.0f items/s), next offset %s", source, loaded, elapsed.toSeconds(), getThroughput(), position);
+    }
+}
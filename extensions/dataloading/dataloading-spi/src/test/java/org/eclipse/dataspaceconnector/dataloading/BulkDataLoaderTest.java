@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataloading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkDataLoaderTest {
+
+    private static final String INDEX_VALIDATION_MESSAGE = "index must be > 0!";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final RecordingSink sink = new RecordingSink();
+    private final List<LoadProgress> reports = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void verifyLoadsInBatches() {
+        var progress = bulkLoader(100).load("test", entities(1, 250).iterator(), 0);
+
+        assertThat(sink.batches).extracting(List::size).containsExactly(100, 100, 50);
+        assertThat(progress.getLoaded()).isEqualTo(250);
+        assertThat(progress.getPosition()).isEqualTo(250);
+        assertThat(reports).hasSize(4).endsWith(progress);
+    }
+
+    @Test
+    void verifyValidationFailureNamesOffsets() {
+        var items = entities(1, 250);
+        items.set(170, new TestEntity("Invalid entity", -1));
+
+        assertThatThrownBy(() -> bulkLoader(100).load("test", items.iterator(), 1000))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("resume from offset 1100")
+                .hasMessageContaining("item 1170: " + INDEX_VALIDATION_MESSAGE);
+        assertThat(sink.batches).hasSize(1);
+    }
+
+    @Test
+    void verifyResumedLoadReportsSourcePosition() {
+        var progress = bulkLoader(100).load("test", entities(1, 50).iterator(), 200);
+
+        assertThat(progress.getLoaded()).isEqualTo(50);
+        assertThat(progress.getPosition()).isEqualTo(250);
+    }
+
+    private BulkDataLoader<TestEntity> bulkLoader(int batchSize) {
+        DataLoader.Builder<TestEntity> builder = DataLoader.Builder.newInstance();
+        var loader = builder.sink(sink)
+                .andPredicate(testEntity -> testEntity.getIndex() > 0 ? ValidationResult.OK : ValidationResult.error(INDEX_VALIDATION_MESSAGE))
+                .build();
+        return BulkDataLoader.Builder.<TestEntity>newInstance()
+                .loader(loader)
+                .batchSize(batchSize)
+                .validationChunkSize(10)
+                .validationExecutor(executor)
+                .progressListener(reports::add)
+                .progressInterval(Duration.ZERO)
+                .build();
+    }
+
+    private static List<TestEntity> entities(int from, int count) {
+        return IntStream.range(from, from + count).mapToObj(i -> new TestEntity("Test Item " + i, i)).collect(Collectors.toList());
+    }
+
+    private static class RecordingSink implements DataSink<TestEntity> {
+        private final List<List<TestEntity>> batches = new ArrayList<>();
+
+        @Override
+        public void accept(TestEntity item) {
+            throw new AssertionError("items must be accepted in batches");
+        }
+
+        @Override
+        public void acceptAll(Collection<TestEntity> items) {
+            batches.add(new ArrayList<>(items));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataloading;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonStreamReaderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void verifyReadsArrayElements() {
+        var json = "[{\"description\":\"first\",\"index\":1},{\"description\":\"second\",\"index\":2}]";
+
+        var entities = readAll(json, 0);
+
+        assertThat(entities).extracting(TestEntity::getDescription).containsExactly("first", "second");
+    }
+
+    @Test
+    void verifyReadsJsonLines() {
+        var json = "{\"description\":\"first\",\"index\":1}\n{\"description\":\"second\",\"index\":2}\n";
+
+        var entities = readAll(json, 0);
+
+        assertThat(entities).extracting(TestEntity::getIndex).containsExactly(1, 2);
+    }
+
+    @Test
+    void verifySkipsToOffset() {
+        var json = "[{\"description\":\"first\",\"index\":1,\"nested\":{\"a\":[1,2]}},{\"description\":\"second\",\"index\":2},{\"description\":\"third\",\"index\":3}]";
+
+        try (var reader = reader(json)) {
+            assertThat(reader.skip(2)).isEqualTo(2);
+            assertThat(reader.getPosition()).isEqualTo(2);
+            assertThat(reader.next().getDescription()).isEqualTo("third");
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void verifySkipBeyondEnd() {
+        try (var reader = reader("[{\"description\":\"first\",\"index\":1}]")) {
+            assertThat(reader.skip(5)).isEqualTo(1);
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    private List<TestEntity> readAll(String json, long offset) {
+        var entities = new ArrayList<TestEntity>();
+        try (var reader = reader(json)) {
+            reader.skip(offset);
+            reader.forEachRemaining(entities::add);
+        }
+        return entities;
+    }
+
+    private JsonStreamReader<TestEntity> reader(String json) {
+        return new JsonStreamReader<>(mapper, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TestEntity.class);
+    }
+}
@@ -13,11 +13,15 @@
  */
 package org.eclipse.dataspaceconnector.dataloading;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 class TestEntity {
     private final String description;
     private final int index;
 
-    public TestEntity(String description, int index) {
+    @JsonCreator
+    public TestEntity(@JsonProperty("description") String description, @JsonProperty("index") int index) {
         this.description = description;
         this.index = index;
     }
@@ -19,6 +19,8 @@ plugins {
 dependencies {
     api(project(":spi"))
     implementation(project(":common:util"))
+
+    testImplementation(testFixtures(project(":common:util")))
 }
 
 publishing {
@@ -32,6 +32,12 @@ public final class FsConfiguration {
     @EdcSetting
     static final boolean PERSISTENT_VAULT = Boolean.parseBoolean(propOrEnv("edc.vault.persistent", "true"));
 
+    @EdcSetting
+    static final boolean APPEND_ONLY_VAULT = Boolean.parseBoolean(propOrEnv("edc.vault.append-only", "false"));
+
+    @EdcSetting
+    static final int VAULT_COMPACTION_THRESHOLD = Integer.parseInt(propOrEnv("edc.vault.compaction.threshold", String.valueOf(FsLogVault.DEFAULT_COMPACTION_THRESHOLD)));
+
 
     private FsConfiguration() {
     }
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security.fs;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persistent vault backed by a properties file and an append-only log of changes.
+ * <p>
+ * Secrets are read from memory. Writes and deletes are appended to a log file next to the properties file instead of rewriting the vault. A single
+ * committer thread appends all pending changes at once and syncs the log once per batch, so concurrent writers share one {@code fsync}. A change is
+ * applied to the in-memory map and acknowledged once it is durable. When the log grows beyond the compaction threshold, the secrets are written to
+ * the properties file and the log is cleared; replaying a log over a newer properties file is harmless, as the changes are applied in order.
+ * <p>
+ * The log is compacted on {@link #close()}, which leaves the properties file complete for the rewriting {@link FsVault}.
+ */
+public class FsLogVault implements Vault, AutoCloseable {
+    public static final String LOG_SUFFIX = ".log";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+    private static final char STORE = 'S';
+    private static final char DELETE = 'D';
+
+    private final Path vaultFile;
+    private final Path logFile;
+    private final int compactionThreshold;
+    private final Monitor monitor;
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
+    private final BlockingQueue<Change> pending = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private FileChannel log;
+    private long logRecords;
+    private volatile boolean active = true;
+
+    public FsLogVault(Path vaultFile, int compactionThreshold, Monitor monitor) {
+        this.vaultFile = vaultFile;
+        this.compactionThreshold = compactionThreshold;
+        this.monitor = monitor;
+        logFile = vaultFile.resolveSibling(vaultFile.getFileName() + LOG_SUFFIX);
+        try {
+            loadSnapshot();
+            replayLog();
+            log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+        committer = new Thread(this::commitLoop, "edc-fs-vault-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        return secrets.get(key);
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value) {
+        return submit(new Change(STORE, key, value));
+    }
+
+    @Override
+    public VaultResponse deleteSecret(String key) {
+        return submit(new Change(DELETE, key, null));
+    }
+
+    /**
+     * Returns the number of changes in the log since the last compaction.
+     */
+    public synchronized long getLogRecords() {
+        return logRecords;
+    }
+
+    /**
+     * Commits pending changes, compacts the log and stops the committer.
+     */
+    @Override
+    public void close() {
+        active = false;
+        try {
+            committer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            try {
+                if (logRecords > 0) {
+                    compact();
+                }
+                log.close();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+    }
+
+    private VaultResponse submit(Change change) {
+        if (!active) {
+            return new VaultResponse("Vault is closed");
+        }
+        pending.add(change);
+        try {
+            while (true) {
+                try {
+                    return change.result.get(1, TimeUnit.SECONDS);
+                } catch (TimeoutException e) {
+                    if (!committer.isAlive()) {
+                        // submitted while the vault was closed
+                        return new VaultResponse("Vault is closed");
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new VaultResponse("Interrupted while writing the secret");
+        } catch (ExecutionException e) {
+            return new VaultResponse(e.getCause().getMessage());
+        }
+    }
+
+    private void commitLoop() {
+        var batch = new ArrayList<Change>();
+        while (active || !pending.isEmpty()) {
+            try {
+                var first = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                active = false;
+            } finally {
+                batch.clear();
+            }
+        }
+        // reject changes that were submitted while closing
+        pending.forEach(change -> change.result.complete(new VaultResponse("Vault is closed")));
+    }
+
+    private synchronized void commit(List<Change> batch) {
+        try {
+            var records = new StringBuilder();
+            batch.forEach(change -> change.appendTo(records));
+            var buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                log.write(buffer);
+            }
+            log.force(false);
+        } catch (IOException e) {
+            batch.forEach(change -> change.result.complete(new VaultResponse(e.getMessage())));
+            return;
+        }
+
+        batch.forEach(this::apply);
+        logRecords += batch.size();
+        batch.forEach(change -> change.result.complete(VaultResponse.OK));
+
+        // compacting once the log reaches half the vault size keeps the cost per change constant
+        if (logRecords >= Math.max(compactionThreshold, secrets.size() / 2)) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // the changes are durable in the log, compaction is retried after the next batch
+                monitor.warning("Failed to compact the vault log", e);
+            }
+        }
+    }
+
+    private void compact() throws IOException {
+        var properties = new Properties();
+        properties.putAll(secrets);
+        var snapshot = vaultFile.resolveSibling(vaultFile.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(snapshot)) {
+            properties.store(out, null);
+        }
+        try (var channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(snapshot, vaultFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.truncate(0);
+        log.force(true);
+        logRecords = 0;
+    }
+
+    private void loadSnapshot() throws IOException {
+        var properties = new Properties();
+        try (InputStream in = Files.newInputStream(vaultFile)) {
+            properties.load(in);
+        }
+        properties.stringPropertyNames().forEach(name -> secrets.put(name, properties.getProperty(name)));
+    }
+
+    private void replayLog() throws IOException {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        var content = new String(Files.readAllBytes(logFile), StandardCharsets.UTF_8);
+        var complete = content.lastIndexOf('\n') + 1;
+        for (var line : content.substring(0, complete).split("\n")) {
+            if (!line.isEmpty()) {
+                apply(Change.parse(line));
+                logRecords++;
+            }
+        }
+        if (complete < content.length()) {
+            // a record that was only partially written before a crash was never acknowledged, drop it so appends start on a new line
+            try (var channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                channel.truncate(content.substring(0, complete).getBytes(StandardCharsets.UTF_8).length);
+                channel.force(true);
+            }
+        }
+    }
+
+    private void apply(Change change) {
+        if (change.type == STORE) {
+            secrets.put(change.key, change.value);
+        } else {
+            secrets.remove(change.key);
+        }
+    }
+
+    private static class Change {
+        private static final Base64.Encoder ENCODER = Base64.getEncoder();
+        private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+        private final char type;
+        private final String key;
+        private final String value;
+        private final CompletableFuture<VaultResponse> result = new CompletableFuture<>();
+
+        Change(char type, String key, String value) {
+            this.type = type;
+            this.key = key;
+            this.value = value;
+        }
+
+        void appendTo(StringBuilder records) {
+            records.append(type).append(' ').append(encode(key));
+            if (type == STORE) {
+                records.append(' ').append(encode(value));
+            }
+            records.append('\n');
+        }
+
+        static Change parse(String line) {
+            var parts = line.split(" ");
+            try {
+                if (parts.length == 3 && parts[0].equals(String.valueOf(STORE))) {
+                    return new Change(STORE, decode(parts[1]), decode(parts[2]));
+                } else if (parts.length == 2 && parts[0].equals(String.valueOf(DELETE))) {
+                    return new Change(DELETE, decode(parts[1]), null);
+                }
+            } catch (IllegalArgumentException e) {
+                // not valid base64, reported below
+            }
+            // never include the record itself, it may contain a secret
+            throw new EdcException("Corrupt record in vault log");
+        }
+
+        private static String encode(String text) {
+            return ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static String decode(String text) {
+            return new String(DECODER.decode(text), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -28,9 +28,11 @@ import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 
+import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.APPEND_ONLY_VAULT;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.KEYSTORE_LOCATION;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.KEYSTORE_PASSWORD;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.PERSISTENT_VAULT;
+import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.VAULT_COMPACTION_THRESHOLD;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.VAULT_LOCATION;
 
 /**
@@ -43,7 +45,7 @@ public class FsVaultExtension implements VaultExtension {
 
     @Override
     public void initialize(Monitor monitor) {
-        vault = initializeVault();
+        vault = initializeVault(monitor);
 
         KeyStore keyStore = loadKeyStore();
         privateKeyResolver = new FsPrivateKeyResolver(KEYSTORE_PASSWORD, keyStore);
@@ -67,11 +69,17 @@ public class FsVaultExtension implements VaultExtension {
         return certificateResolver;
     }
 
-    private Vault initializeVault() {
+    private Vault initializeVault(Monitor monitor) {
         var vaultPath = Paths.get(VAULT_LOCATION);
         if (!Files.exists(vaultPath)) {
             throw new EdcException("Vault file does not exist: " + VAULT_LOCATION);
         }
+        if (PERSISTENT_VAULT && APPEND_ONLY_VAULT) {
+            var logVault = new FsLogVault(vaultPath, VAULT_COMPACTION_THRESHOLD, monitor);
+            // vault extensions are not shut down, compact the log on exit so the vault file is complete
+            Runtime.getRuntime().addShutdownHook(new Thread(logVault::close));
+            return logVault;
+        }
         return new FsVault(vaultPath, PERSISTENT_VAULT);
     }
 
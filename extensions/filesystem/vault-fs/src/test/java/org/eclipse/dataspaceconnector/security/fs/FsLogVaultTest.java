@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security.fs;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FsLogVaultTest {
+
+    @TempDir
+    Path directory;
+
+    private Path vaultFile;
+    private Path logFile;
+    private FsLogVault vault;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        vaultFile = directory.resolve("vault.properties");
+        logFile = directory.resolve("vault.properties" + FsLogVault.LOG_SUFFIX);
+        Files.writeString(vaultFile, "secret1=secretvalue1\n");
+        vault = new FsLogVault(vaultFile, 100, new Monitor() {
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        vault.close();
+    }
+
+    @Test
+    void verifyChangesAreReplayed() {
+        assertThat(vault.storeSecret("secret2", "secret value=2\n").success()).isTrue();
+        assertThat(vault.deleteSecret("secret1").success()).isTrue();
+
+        var reopened = new FsLogVault(vaultFile, 100, new Monitor() {
+        });
+
+        assertThat(reopened.resolveSecret("secret1")).isNull();
+        assertThat(reopened.resolveSecret("secret2")).isEqualTo("secret value=2\n");
+        assertThat(reopened.getLogRecords()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyVaultFileIsNotRewrittenPerChange() throws IOException {
+        var before = Files.readString(vaultFile);
+
+        vault.storeSecret("secret2", "secretvalue2");
+
+        assertThat(Files.readString(vaultFile)).isEqualTo(before);
+        assertThat(Files.readAllLines(logFile)).hasSize(1);
+    }
+
+    @Test
+    void verifyCompaction() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            vault.storeSecret("key" + i, "value" + i);
+        }
+
+        assertThat(vault.getLogRecords()).isZero();
+        assertThat(Files.size(logFile)).isZero();
+        assertThat(new FsVault(vaultFile, false).resolveSecret("key99")).isEqualTo("value99");
+    }
+
+    @Test
+    void verifyCompactedOnClose() {
+        vault.storeSecret("secret2", "secretvalue2");
+
+        vault.close();
+
+        assertThat(new FsVault(vaultFile, false).resolveSecret("secret2")).isEqualTo("secretvalue2");
+        assertThat(vault.storeSecret("secret3", "secretvalue3").success()).isFalse();
+    }
+
+    @Test
+    void verifyPartialRecordIsDropped() throws IOException {
+        vault.storeSecret("secret2", "secretvalue2");
+        Files.write(logFile, "S c2VjcmV0".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        var reopened = new FsLogVault(vaultFile, 100, new Monitor() {
+        });
+        reopened.storeSecret("secret3", "secretvalue3");
+
+        var again = new FsLogVault(vaultFile, 100, new Monitor() {
+        });
+        assertThat(again.resolveSecret("secret2")).isEqualTo("secretvalue2");
+        assertThat(again.resolveSecret("secret3")).isEqualTo("secretvalue3");
+    }
+
+    @Test
+    void verifyConcurrentWriters() {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var writes = new ArrayList<CompletableFuture<Boolean>>();
+            for (int i = 0; i < 500; i++) {
+                var key = "key" + i;
+                writes.add(CompletableFuture.supplyAsync(() -> vault.storeSecret(key, "value").success(), executor));
+            }
+
+            assertThat(writes).allSatisfy(write -> assertThat(write.join()).isTrue());
+            for (int i = 0; i < 500; i++) {
+                assertThat(vault.resolveSecret("key" + i)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security.fs;
+
+import org.eclipse.dataspaceconnector.common.annotations.PerformanceTest;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures secrets written per second by concurrent writers into a vault that already holds 10k and 100k secrets, comparing the rewriting
+ * {@link FsVault} with the append-only {@link FsLogVault}.
+ */
+@PerformanceTest
+class FsVaultWriteBenchmark {
+    private static final int WRITERS = 8;
+    private static final Duration MEASUREMENT = Duration.ofSeconds(20);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void measureWrites() throws Exception {
+        for (var entries : new int[]{ 10_000, 100_000 }) {
+            var rewriting = writesPerSecond(new FsVault(createVaultFile("rewrite-" + entries, entries), true));
+
+            var logVault = new FsLogVault(createVaultFile("log-" + entries, entries), FsLogVault.DEFAULT_COMPACTION_THRESHOLD, new Monitor() {
+            });
+            var appendOnly = writesPerSecond(logVault);
+            logVault.close();
+
+            System.out.printf("%d entries: %.0f writes/s rewriting, %.0f writes/s append-only%n", entries, rewriting, appendOnly);
+            assertThat(appendOnly).isPositive();
+        }
+    }
+
+    private double writesPerSecond(Vault vault) throws Exception {
+        var executor = Executors.newFixedThreadPool(WRITERS);
+        var end = System.nanoTime() + MEASUREMENT.toNanos();
+        var start = System.nanoTime();
+        var writers = new ArrayList<Callable<Long>>();
+        for (int i = 0; i < WRITERS; i++) {
+            writers.add(() -> {
+                long count = 0;
+                while (System.nanoTime() < end) {
+                    // one secret per transfer, as written by the provisioning manager
+                    assertThat(vault.storeSecret("transfer-" + UUID.randomUUID(), UUID.randomUUID().toString()).success()).isTrue();
+                    count++;
+                }
+                return count;
+            });
+        }
+        long total = 0;
+        for (var result : executor.invokeAll(writers)) {
+            total += result.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        return total / ((System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private Path createVaultFile(String name, int entries) throws IOException {
+        var properties = new Properties();
+        for (int i = 0; i < entries; i++) {
+            properties.put("secret-" + i, UUID.randomUUID().toString());
+        }
+        var file = directory.resolve(name + ".properties");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, null);
+        }
+        return file;
+    }
+}
@@ -11,6 +11,8 @@ dependencies {
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
 
     testImplementation(testFixtures(project(":extensions:iam:distributed-identity:identity-common-test")))
+    testImplementation(testFixtures(project(":common:util")))
+    testImplementation(project(":core:bootstrap"))
 }
 
 publishing {
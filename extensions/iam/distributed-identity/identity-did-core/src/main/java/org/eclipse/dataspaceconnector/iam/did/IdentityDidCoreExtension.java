@@ -65,8 +65,9 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         var privateKeyResolver = context.getService(PrivateKeyResolver.class);
         registerParsers(privateKeyResolver);
 
-        PrivateKeyWrapper privateKeyWrapper = privateKeyResolver.resolvePrivateKey(context.getConnectorId(), PrivateKeyWrapper.class);
-        Supplier<PrivateKeyWrapper> supplier = () -> privateKeyWrapper;
+        // resolved on every use so that a rotated key is picked up, the resolver caches the parsed key
+        var connectorId = context.getConnectorId();
+        Supplier<PrivateKeyWrapper> supplier = () -> privateKeyResolver.resolvePrivateKey(connectorId, PrivateKeyWrapper.class);
         var hub = new IdentityHubImpl(hubStore, supplier, publicKeyResolver, objectMapper);
         context.registerService(IdentityHub.class, hub);
 
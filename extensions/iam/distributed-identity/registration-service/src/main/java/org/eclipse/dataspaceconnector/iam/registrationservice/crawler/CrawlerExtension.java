@@ -59,6 +59,12 @@ public class CrawlerExtension implements ServiceExtension {
         return Set.of(DidStore.FEATURE, DidResolverRegistry.FEATURE);
     }
 
+    @Override
+    public Activation activation() {
+        // the crawler only schedules background jobs, no need to hold up the runtime
+        return Activation.DEFERRED_START;
+    }
+
 
     @Override
     public void initialize(ServiceExtensionContext context) {
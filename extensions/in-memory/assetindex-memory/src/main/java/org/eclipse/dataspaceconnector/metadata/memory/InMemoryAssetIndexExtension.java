@@ -17,10 +17,14 @@ package org.eclipse.dataspaceconnector.metadata.memory;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.util.Objects;
 import java.util.Set;
 
 public class InMemoryAssetIndexExtension implements ServiceExtension {
@@ -31,11 +35,17 @@ public class InMemoryAssetIndexExtension implements ServiceExtension {
         return Set.of(AssetIndex.FEATURE, DataAddressResolver.FEATURE, AssetLoader.FEATURE);
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(CatalogVersion.FEATURE);
+    }
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         monitor = context.getMonitor();
 
-        var service = new InMemoryAssetLoader(new CriterionToPredicateConverter());
+        var service = new InMemoryAssetLoader(new CriterionToPredicateConverter(), context.getService(CatalogVersion.class),
+                Objects.requireNonNullElse(context.getService(MetricsRegistry.class, true), NoopMetricsRegistry.INSTANCE));
         context.registerService(AssetIndex.class, service);
         context.registerService(AssetLoader.class, service);
         context.registerService(DataAddressResolver.class, service);
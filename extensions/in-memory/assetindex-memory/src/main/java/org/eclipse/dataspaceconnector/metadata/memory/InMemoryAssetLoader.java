@@ -20,6 +20,9 @@ import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.asset.Criterion;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 
@@ -30,7 +33,6 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -41,9 +43,17 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
     private final CriterionToPredicateConverter predicateFactory;
     private final ReentrantReadWriteLock lock;
+    private final CatalogVersion catalogVersion;
+    private final MetricsRegistry metrics;
 
-    public InMemoryAssetLoader(CriterionToPredicateConverter predicateFactory) {
+    public InMemoryAssetLoader(CriterionToPredicateConverter predicateFactory, CatalogVersion catalogVersion) {
+        this(predicateFactory, catalogVersion, NoopMetricsRegistry.INSTANCE);
+    }
+
+    public InMemoryAssetLoader(CriterionToPredicateConverter predicateFactory, CatalogVersion catalogVersion, MetricsRegistry metrics) {
         this.predicateFactory = predicateFactory;
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+        this.metrics = Objects.requireNonNull(metrics);
         //fair locks guarantee strong consistency since all waiting threads are processed in order of waiting time
         lock = new ReentrantReadWriteLock(true);
     }
@@ -56,6 +66,11 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
     @Override
     public Stream<Asset> queryAssets(AssetSelectorExpression expression) {
         Objects.requireNonNull(expression, "AssetSelectorExpression can not be null!");
+        // the returned stream is lazy, so this only measures how long it takes to set up the query
+        return metrics.timer("edc.assetindex.query", "operation", "queryAssets").time(() -> selectAssets(expression));
+    }
+
+    private Stream<Asset> selectAssets(AssetSelectorExpression expression) {
         // do not return anything if expression is empty
         if (expression.getCriteria().isEmpty()) {
             return Stream.empty();
@@ -85,15 +100,9 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
 
     @Override
     public Asset findById(String assetId) {
-        Predicate<Asset> predicate = (asset) -> asset.getId().equals(assetId);
-        List<Asset> assets;
-        lock.readLock().lock();
-        try {
-            assets = filterByPredicate(cache, predicate).collect(Collectors.toList());
-        } finally {
-            lock.readLock().unlock();
-        }
-        return assets.isEmpty() ? null : assets.get(0);
+        Objects.requireNonNull(assetId, "assetId");
+        // assets are keyed by their id, a single map lookup needs no lock
+        return metrics.timer("edc.assetindex.query", "operation", "findById").time(() -> cache.get(assetId));
     }
 
     @Override
@@ -123,6 +132,7 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
         lock.writeLock().lock();
         try {
             add(item.getAsset(), item.getDataAddress());
+            catalogVersion.increment();
         } finally {
             lock.writeLock().unlock();
         }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 import org.junit.jupiter.api.BeforeEach;
@@ -86,7 +87,7 @@ public class InMemoryAssetLoaderLoaderTest {
 
     @BeforeEach
     void setup() {
-        assetLoader = new InMemoryAssetLoader(new CriterionToPredicateConverter());
+        assetLoader = new InMemoryAssetLoader(new CriterionToPredicateConverter(), new CatalogVersion());
     }
 
     private Asset createAsset(String name, String id) {
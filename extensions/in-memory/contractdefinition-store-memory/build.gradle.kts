@@ -18,6 +18,10 @@ plugins {
 
 dependencies {
     api(project(":spi"))
+
+    testImplementation(project(":core:contract"))
+    testImplementation(project(":core:bootstrap"))
+    testImplementation(testFixtures(project(":common:util")))
 }
 
 publishing {
@@ -14,6 +14,8 @@
 
 package org.eclipse.dataspaceconnector.contractdefinition.store.memory;
 
+import org.eclipse.dataspaceconnector.policy.model.PolicyInterner;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.jetbrains.annotations.NotNull;
@@ -21,13 +23,22 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default store implementation used when no extension is configured in a runtime. {@link ContractDefinition}s are stored ephemerally in memory.
+ * <p>
+ * The policies of stored definitions are interned, so that definitions with equal policies share them.
  */
 public class InMemoryContractDefinitionStore implements ContractDefinitionStore {
     private final Map<String, ContractDefinition> cache = new ConcurrentHashMap<>();
+    private final PolicyInterner interner = new PolicyInterner();
+    private final CatalogVersion catalogVersion;
+
+    public InMemoryContractDefinitionStore(CatalogVersion catalogVersion) {
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+    }
 
     @Override
     public @NotNull Collection<ContractDefinition> findAll() {
@@ -36,12 +47,14 @@ public class InMemoryContractDefinitionStore implements ContractDefinitionStore
 
     @Override
     public void save(Collection<ContractDefinition> definitions) {
-        definitions.forEach(d -> cache.put(d.getId(), d));
+        definitions.forEach(d -> cache.put(d.getId(), intern(d)));
+        catalogVersion.increment();
     }
 
     @Override
     public void save(ContractDefinition definition) {
-        cache.put(definition.getId(), definition);
+        cache.put(definition.getId(), intern(definition));
+        catalogVersion.increment();
     }
 
     @Override
@@ -51,11 +64,27 @@ public class InMemoryContractDefinitionStore implements ContractDefinitionStore
 
     @Override
     public void delete(String id) {
-        cache.remove(id);
+        if (cache.remove(id) != null) {
+            catalogVersion.increment();
+        }
     }
 
     @Override
     public void reload() {
         // no-op
     }
+
+    private ContractDefinition intern(ContractDefinition definition) {
+        var accessPolicy = interner.intern(definition.getAccessPolicy());
+        var contractPolicy = interner.intern(definition.getContractPolicy());
+        if (accessPolicy == definition.getAccessPolicy() && contractPolicy == definition.getContractPolicy()) {
+            return definition;
+        }
+        return ContractDefinition.Builder.newInstance()
+                .id(definition.getId())
+                .accessPolicy(accessPolicy)
+                .contractPolicy(contractPolicy)
+                .selectorExpression(definition.getSelectorExpression())
+                .build();
+    }
 }
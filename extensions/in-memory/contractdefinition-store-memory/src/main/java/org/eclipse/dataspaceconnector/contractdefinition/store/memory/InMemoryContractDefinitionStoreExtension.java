@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.contractdefinition.store.memory;
 
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -32,7 +33,7 @@ public class InMemoryContractDefinitionStoreExtension implements ServiceExtensio
     public void initialize(ServiceExtensionContext context) {
         monitor = context.getMonitor();
 
-        context.registerService(ContractDefinitionStore.class, new InMemoryContractDefinitionStore());
+        context.registerService(ContractDefinitionStore.class, new InMemoryContractDefinitionStore(context.getService(CatalogVersion.class)));
 
         monitor.info(String.format("Initialized %s", NAME));
     }
@@ -42,6 +43,11 @@ public class InMemoryContractDefinitionStoreExtension implements ServiceExtensio
         return Set.of(ContractDefinitionStore.FEATURE);
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(CatalogVersion.FEATURE);
+    }
+
     @Override
     public void start() {
         monitor.info(String.format("Started %s", NAME));
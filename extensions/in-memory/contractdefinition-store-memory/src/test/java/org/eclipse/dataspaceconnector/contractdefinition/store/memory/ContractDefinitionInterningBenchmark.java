@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contractdefinition.store.memory;
+
+import org.eclipse.dataspaceconnector.common.annotations.PerformanceTest;
+import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
+import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricsRegistry;
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.Duty;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
+import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression.SELECT_ALL;
+
+/**
+ * Measures the heap retained by 50,000 contract definitions, each deserialized with its own copy of one of a few policies, and the number of policy
+ * evaluations needed to determine the definitions applicable to an agent, with and without interning the policies.
+ */
+@PerformanceTest
+class ContractDefinitionInterningBenchmark {
+    private static final int DEFINITIONS = 50_000;
+    private static final int DISTINCT_POLICIES = 10;
+
+    @Test
+    void measureHeapAndEvaluations() {
+        var plain = measure(new ListDefinitionStore());
+        var interned = measure(new InMemoryContractDefinitionStore(new CatalogVersion()));
+
+        System.out.printf("%d definitions: %.1f MB retained without interning, %.1f MB with interning%n", DEFINITIONS, plain.heapBytes / 1e6, interned.heapBytes / 1e6);
+        System.out.printf("Policy evaluations per query: %d without interning, %d with interning%n", plain.evaluations, interned.evaluations);
+        assertThat(interned.evaluations).isLessThan(plain.evaluations);
+    }
+
+    private Result measure(ContractDefinitionStore store) {
+        var before = usedHeap();
+        for (var i = 0; i < DEFINITIONS; i++) {
+            var shape = i % DISTINCT_POLICIES;
+            store.save(ContractDefinition.Builder.newInstance()
+                    .id("definition-" + i)
+                    .accessPolicy(policy("access-" + shape, shape))
+                    .contractPolicy(policy("contract-" + shape, shape))
+                    .selectorExpression(SELECT_ALL)
+                    .build());
+        }
+        var heapBytes = usedHeap() - before;
+
+        var metrics = new InMemoryMetricsRegistry();
+        var policyEngine = new PolicyEngineImpl(metrics);
+        policyEngine.registerFunction(Permission.class, "region", (operator, value, permission, context) -> true);
+        var service = new ContractDefinitionServiceImpl(new Monitor() {
+        }, store, policyEngine);
+
+        assertThat(service.definitionsFor(new ParticipantAgent(Map.of(), Map.of())).count()).isEqualTo(DEFINITIONS);
+        var evaluations = metrics.counter("edc.policy.evaluations", "result", "valid").getCount() + metrics.counter("edc.policy.evaluations", "result", "invalid").getCount();
+        assertThat(store.findAll()).hasSize(DEFINITIONS);
+        return new Result(heapBytes, evaluations);
+    }
+
+    /**
+     * Builds a new policy graph, as a deserializer would for every definition.
+     */
+    private static Policy policy(String id, int shape) {
+        var use = Action.Builder.newInstance().type("USE").build();
+        var region = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("region"))
+                .rightExpression(new LiteralExpression("region-" + shape))
+                .build();
+        var notice = Duty.Builder.newInstance().action(Action.Builder.newInstance().type("NOTIFY").build()).build();
+        return Policy.Builder.newInstance()
+                .id(id)
+                .permission(Permission.Builder.newInstance().action(use).constraint(region).duty(notice).target("asset-" + shape).build())
+                .build();
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        for (var i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class Result {
+        private final long heapBytes;
+        private final long evaluations;
+
+        Result(long heapBytes, long evaluations) {
+            this.heapBytes = heapBytes;
+            this.evaluations = evaluations;
+        }
+    }
+
+    /**
+     * Holds definitions as they are saved.
+     */
+    private static class ListDefinitionStore implements ContractDefinitionStore {
+        private final List<ContractDefinition> definitions = new ArrayList<>();
+
+        @Override
+        public @NotNull Collection<ContractDefinition> findAll() {
+            return definitions;
+        }
+
+        @Override
+        public void save(Collection<ContractDefinition> definitions) {
+            this.definitions.addAll(definitions);
+        }
+
+        @Override
+        public void save(ContractDefinition definition) {
+            definitions.add(definition);
+        }
+
+        @Override
+        public void update(ContractDefinition definition) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void reload() {
+        }
+    }
+}
@@ -13,7 +13,10 @@
  */
 package org.eclipse.dataspaceconnector.contractdefinition.store.memory;
 
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.junit.jupiter.api.Test;
 
@@ -23,7 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression.SELECT_ALL;
 
 class InMemoryContractDefinitionStoreTest {
-    private final InMemoryContractDefinitionStore store = new InMemoryContractDefinitionStore();
+    private final InMemoryContractDefinitionStore store = new InMemoryContractDefinitionStore(new CatalogVersion());
 
     @Test
     void verifyStore() {
@@ -40,4 +43,21 @@ class InMemoryContractDefinitionStoreTest {
         store.delete(definition1.getId());
         assertThat(store.findAll()).doesNotContain(definition1);
     }
+
+    @Test
+    void verifyEqualPoliciesShared() {
+        var definition1 = ContractDefinition.Builder.newInstance().id("1").accessPolicy(usePolicy("access")).contractPolicy(usePolicy("contract")).selectorExpression(SELECT_ALL).build();
+        var definition2 = ContractDefinition.Builder.newInstance().id("2").accessPolicy(usePolicy("access")).contractPolicy(usePolicy("other")).selectorExpression(SELECT_ALL).build();
+
+        store.save(List.of(definition1, definition2));
+
+        var stored = store.findAll().stream().filter(d -> d.getId().equals("2")).findFirst().orElseThrow();
+        assertThat(stored.getAccessPolicy()).isSameAs(definition1.getAccessPolicy());
+        assertThat(stored.getContractPolicy().getUid()).isEqualTo("other");
+        assertThat(stored.getContractPolicy().getPermissions().get(0)).isSameAs(definition1.getAccessPolicy().getPermissions().get(0));
+    }
+
+    private static Policy usePolicy(String id) {
+        return Policy.Builder.newInstance().id(id).permission(Permission.Builder.newInstance().action(Action.Builder.newInstance().type("USE").build()).build()).build();
+    }
 }
@@ -15,20 +15,31 @@
 package org.eclipse.dataspaceconnector.policy.registry.memory;
 
 import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.policy.model.PolicyInterner;
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An in-memory, threadsafe policy registry.
  * This implementation is intended for testing purposes only.
+ * <p>
+ * Registered policies are interned, so that equal rules and constraints are held once.
  */
 public class InMemoryPolicyRegistry implements PolicyRegistry {
     private final Map<String, Policy> cache = new ConcurrentHashMap<>();
+    private final PolicyInterner interner = new PolicyInterner();
+    private final CatalogVersion catalogVersion;
+
+    public InMemoryPolicyRegistry(CatalogVersion catalogVersion) {
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+    }
 
     @Override
     public @Nullable Policy resolvePolicy(String id) {
@@ -42,12 +53,15 @@ public class InMemoryPolicyRegistry implements PolicyRegistry {
 
     @Override
     public void registerPolicy(Policy policy) {
-        cache.put(policy.getUid(), policy);
+        cache.put(policy.getUid(), interner.intern(policy));
+        catalogVersion.increment();
     }
 
     @Override
     public void removePolicy(String id) {
-        cache.remove(id);
+        if (cache.remove(id) != null) {
+            catalogVersion.increment();
+        }
     }
 
 
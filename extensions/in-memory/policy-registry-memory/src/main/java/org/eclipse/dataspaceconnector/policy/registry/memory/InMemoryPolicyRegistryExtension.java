@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.policy.registry.memory;
 
+import org.eclipse.dataspaceconnector.spi.contract.offer.CatalogVersion;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
@@ -27,9 +28,14 @@ public class InMemoryPolicyRegistryExtension implements ServiceExtension {
         return Set.of(PolicyRegistry.FEATURE);
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(CatalogVersion.FEATURE);
+    }
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-        context.registerService(PolicyRegistry.class, new InMemoryPolicyRegistry());
+        context.registerService(PolicyRegistry.class, new InMemoryPolicyRegistry(context.getService(CatalogVersion.class)));
         context.getMonitor().info("Initialized In-Memory Policy Registry extension");
     }
 
@@ -31,6 +31,21 @@ public class LoggerMonitor implements Monitor {
      */
     private static final Logger LOGGER = Logger.getLogger(LoggerMonitor.class.getName());
 
+    @Override
+    public boolean isWarningEnabled() {
+        return LOGGER.isLoggable(Level.WARNING);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return LOGGER.isLoggable(Level.INFO);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return LOGGER.isLoggable(Level.FINE);
+    }
+
     @Override
     public void severe(final Supplier<String> supplier, final Throwable... errors) {
         log(supplier, Level.SEVERE, errors);
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi"))
+
+    testImplementation(project(":core:bootstrap"))
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("lifecycle-timing") {
+            artifactId = "lifecycle-timing"
+            from(components["java"])
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.lifecycle;
+
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.observe.ContractNegotiationListener;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Records the time contract negotiations spend in each {@link ContractNegotiationStates} state, broken down by role and counterparty.
+ */
+public class ContractNegotiationTimingListener implements ContractNegotiationListener {
+    static final String PREFIX = "edc.negotiation";
+
+    private final LifecycleTimer timer;
+
+    public ContractNegotiationTimingListener(MetricsRegistry metrics, int maxTracked, long maxAgeMillis) {
+        var states = Arrays.stream(ContractNegotiationStates.values())
+                .filter(state -> !isTerminal(state))
+                .map(Enum::name)
+                .collect(Collectors.toList());
+        timer = new LifecycleTimer(metrics, PREFIX, states, maxTracked, maxAgeMillis);
+    }
+
+    @Override
+    public void initiated(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void requesting(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void requested(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void offering(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void offered(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void approving(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void approved(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void declining(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void declined(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void confirming(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void confirmed(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    @Override
+    public void error(ContractNegotiation negotiation) {
+        observe(negotiation);
+    }
+
+    private void observe(ContractNegotiation negotiation) {
+        var state = ContractNegotiationStates.from(negotiation.getState());
+        if (state == null) {
+            return;
+        }
+        timer.observe(negotiation.getId(), state.name(), negotiation.getStateTimestamp(), isTerminal(state),
+                "role", negotiation.getType() != null ? negotiation.getType().name().toLowerCase() : "unknown",
+                "counterparty", Objects.toString(negotiation.getCounterPartyId(), "unknown"));
+    }
+
+    private static boolean isTerminal(ContractNegotiationStates state) {
+        return state == ContractNegotiationStates.CONFIRMED || state == ContractNegotiationStates.DECLINED || state == ContractNegotiationStates.ERROR;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.lifecycle;
+
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks when each entity of a state machine entered its current state and records how long it stayed there.
+ * <p>
+ * Four metrics are maintained for a given prefix:
+ * <ul>
+ *     <li>{@code <prefix>.state.duration}: time spent in a state, tagged with the state</li>
+ *     <li>{@code <prefix>.duration}: time from the first observed state to a terminal state, tagged with the terminal state</li>
+ *     <li>{@code <prefix>.state.occupancy}: number of tracked entities currently in a state</li>
+ *     <li>{@code <prefix>.evicted}: number of entities dropped because they stayed in a state for longer than {@code maxAgeMillis}</li>
+ * </ul>
+ * State entry times are taken from the entity's state timestamp, so the figures do not depend on when the observer is notified. Entities are only
+ * known from the moment they are first observed by this runtime, and no more than {@code maxTracked} entities are tracked at a time. Entities that
+ * never reach a terminal state, e.g. because they were deleted or are driven by another runtime, are evicted once their current state is older than
+ * {@code maxAgeMillis}.
+ */
+public class LifecycleTimer {
+    private final MetricsRegistry metrics;
+    private final String prefix;
+    private final int maxTracked;
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> occupancy = new ConcurrentHashMap<>();
+    private final AtomicLong nextEviction = new AtomicLong();
+
+    /**
+     * Creates the timer and registers an occupancy gauge for each non-terminal state.
+     *
+     * @param metrics    the registry to record to
+     * @param prefix     the metric name prefix, e.g. {@code edc.transfer}
+     * @param states     the non-terminal states of the state machine
+     * @param maxTracked   the maximum number of entities tracked at the same time
+     * @param maxAgeMillis the time after which an entity that did not change its state is no longer tracked
+     */
+    public LifecycleTimer(MetricsRegistry metrics, String prefix, Collection<String> states, int maxTracked, long maxAgeMillis) {
+        this(metrics, prefix, states, maxTracked, maxAgeMillis, Clock.systemUTC());
+    }
+
+    LifecycleTimer(MetricsRegistry metrics, String prefix, Collection<String> states, int maxTracked, long maxAgeMillis, Clock clock) {
+        this.metrics = metrics;
+        this.prefix = prefix;
+        this.maxTracked = maxTracked;
+        this.maxAgeMillis = maxAgeMillis;
+        this.clock = clock;
+        states.forEach(state -> {
+            var count = occupancy.computeIfAbsent(state, k -> new AtomicInteger());
+            metrics.gauge(prefix + ".state.occupancy", count::get, "state", state);
+        });
+    }
+
+    /**
+     * Records that an entity is in the given state.
+     *
+     * @param id        the entity id
+     * @param state     the state the entity is in
+     * @param timestamp the epoch millis at which the entity entered the state
+     * @param terminal  whether the state ends the lifecycle of the entity
+     * @param tags      additional tags as key/value pairs, e.g. the counterparty
+     */
+    public void observe(String id, String state, long timestamp, boolean terminal, String... tags) {
+        evictStale();
+        entries.compute(id, (key, previous) -> {
+            if (previous == null && !terminal && entries.size() >= maxTracked) {
+                return null;
+            }
+            if (previous != null) {
+                if (previous.state.equals(state) && previous.enteredAt == timestamp) {
+                    return previous;
+                }
+                record(prefix + ".state.duration", timestamp - previous.enteredAt, with(tags, "state", previous.state));
+                decrement(previous.state);
+            }
+            if (terminal) {
+                if (previous != null) {
+                    record(prefix + ".duration", timestamp - previous.startedAt, with(tags, "state", state));
+                }
+                return null;
+            }
+            increment(state);
+            return new Entry(state, timestamp, previous != null ? previous.startedAt : timestamp);
+        });
+    }
+
+    /**
+     * Returns the number of entities that are currently tracked.
+     */
+    public int getTracked() {
+        return entries.size();
+    }
+
+    /**
+     * Drops entities whose current state is older than the maximum age. Runs at most once per tenth of the maximum age.
+     */
+    private void evictStale() {
+        var now = clock.millis();
+        var next = nextEviction.get();
+        if (now < next || !nextEviction.compareAndSet(next, now + Math.max(maxAgeMillis / 10, 1))) {
+            return;
+        }
+        var cutoff = now - maxAgeMillis;
+        for (var id : new ArrayList<>(entries.keySet())) {
+            entries.computeIfPresent(id, (key, entry) -> {
+                if (entry.enteredAt >= cutoff) {
+                    return entry;
+                }
+                decrement(entry.state);
+                metrics.counter(prefix + ".evicted", "state", entry.state).increment();
+                return null;
+            });
+        }
+    }
+
+    private void record(String name, long millis, String[] tags) {
+        if (millis >= 0) {
+            metrics.timer(name, tags).record(millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void increment(String state) {
+        var count = occupancy.get(state);
+        if (count != null) {
+            count.incrementAndGet();
+        }
+    }
+
+    private void decrement(String state) {
+        var count = occupancy.get(state);
+        if (count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    private static String[] with(String[] tags, String key, String value) {
+        var result = Arrays.copyOf(tags, tags.length + 2);
+        result[tags.length] = key;
+        result[tags.length + 1] = value;
+        return result;
+    }
+
+    private static class Entry {
+        private final String state;
+        private final long enteredAt;
+        private final long startedAt;
+
+        Entry(String state, long enteredAt, long startedAt) {
+            this.state = state;
+            this.enteredAt = enteredAt;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.lifecycle;
+
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.observe.ContractNegotiationObservable;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessObservable;
+
+import java.util.Set;
+
+/**
+ * Records per-state and end-to-end latencies of transfer processes and contract negotiations, as well as the number of processes currently in each state.
+ */
+public class LifecycleTimingExtension implements ServiceExtension {
+
+    @EdcSetting
+    static final String MAX_TRACKED_SETTING = "edc.metrics.lifecycle.max.tracked";
+    static final int DEFAULT_MAX_TRACKED = 10_000;
+
+    @EdcSetting
+    static final String MAX_AGE_SETTING = "edc.metrics.lifecycle.max.age.millis";
+    static final long DEFAULT_MAX_AGE = 24 * 60 * 60 * 1000L;
+
+    private Monitor monitor;
+
+    @Override
+    public Set<String> requires() {
+        return Set.of(MetricsRegistry.FEATURE, "dataspaceconnector:transfer-process-observable", "edc:core:contract");
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+
+        var metrics = context.getService(MetricsRegistry.class);
+        var maxTracked = Integer.parseInt(context.getSetting(MAX_TRACKED_SETTING, String.valueOf(DEFAULT_MAX_TRACKED)));
+        var maxAge = Long.parseLong(context.getSetting(MAX_AGE_SETTING, String.valueOf(DEFAULT_MAX_AGE)));
+
+        context.getService(TransferProcessObservable.class).registerListener(new TransferProcessTimingListener(metrics, maxTracked, maxAge));
+
+        context.getService(ContractNegotiationObservable.class).registerListener(new ContractNegotiationTimingListener(metrics, maxTracked, maxAge));
+
+        monitor.info("Initialized Lifecycle Timing extension");
+    }
+
+    @Override
+    public void start() {
+        monitor.info("Started Lifecycle Timing extension");
+    }
+
+    @Override
+    public void shutdown() {
+        monitor.info("Shutdown Lifecycle Timing extension");
+    }
+}
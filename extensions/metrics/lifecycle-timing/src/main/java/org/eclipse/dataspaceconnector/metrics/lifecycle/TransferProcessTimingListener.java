@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.lifecycle;
+
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessListener;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Records the time transfer processes spend in each {@link TransferProcessStates} state, broken down by process type, destination type and counterparty.
+ * <p>
+ * Only state changes that are reported to {@link TransferProcessListener}s are seen, so the time between two callbacks is attributed to the state reported
+ * by the first one. For example, {@code REQUESTED} includes waiting for the provider to acknowledge the request.
+ * <p>
+ * A process ends its lifecycle when it is {@code COMPLETED}, or when it ends or fails without having completed. Deprovisioning after completion is
+ * not timed.
+ */
+public class TransferProcessTimingListener implements TransferProcessListener {
+    static final String PREFIX = "edc.transfer";
+
+    private final LifecycleTimer timer;
+
+    public TransferProcessTimingListener(MetricsRegistry metrics, int maxTracked, long maxAgeMillis) {
+        var states = Arrays.stream(TransferProcessStates.values())
+                .filter(state -> !isTerminal(state) && !isDeprovisioning(state))
+                .map(Enum::name)
+                .collect(Collectors.toList());
+        timer = new LifecycleTimer(metrics, PREFIX, states, maxTracked, maxAgeMillis);
+    }
+
+    @Override
+    public void created(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void provisioning(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void provisioned(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void requested(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void inProgress(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void completed(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void deprovisioning(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void deprovisioned(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void ended(TransferProcess process) {
+        observe(process);
+    }
+
+    @Override
+    public void error(TransferProcess process) {
+        observe(process);
+    }
+
+    private void observe(TransferProcess process) {
+        var state = TransferProcessStates.from(process.getState());
+        if (state == null || isDeprovisioning(state)) {
+            return;
+        }
+        var request = process.getDataRequest();
+        timer.observe(process.getId(), state.name(), process.getStateTimestamp(), isTerminal(state),
+                "type", process.getType().name().toLowerCase(),
+                "destination", request != null ? Objects.toString(request.getDestinationType(), "unknown") : "unknown",
+                "counterparty", request != null ? Objects.toString(request.getConnectorId(), "unknown") : "unknown");
+    }
+
+    private static boolean isTerminal(TransferProcessStates state) {
+        return state == TransferProcessStates.COMPLETED || state == TransferProcessStates.ENDED || state == TransferProcessStates.ERROR;
+    }
+
+    private static boolean isDeprovisioning(TransferProcessStates state) {
+        return state == TransferProcessStates.DEPROVISIONING || state == TransferProcessStates.DEPROVISIONING_REQ || state == TransferProcessStates.DEPROVISIONED;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.lifecycle;
+
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LifecycleTimerTest {
+
+    private static final long MAX_AGE = 10_000;
+
+    private InMemoryMetricsRegistry metrics;
+    private TestClock clock;
+    private LifecycleTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new InMemoryMetricsRegistry();
+        clock = new TestClock(2000);
+        timer = new LifecycleTimer(metrics, "test", List.of("A", "B"), 2, MAX_AGE, clock);
+    }
+
+    @Test
+    void verifyRecordsTimeSpentInEachState() {
+        timer.observe("1", "A", 1000, false, "counterparty", "p");
+        timer.observe("1", "B", 1250, false, "counterparty", "p");
+        timer.observe("1", "END", 2000, true, "counterparty", "p");
+
+        assertThat(metrics.timer("test.state.duration", "counterparty", "p", "state", "A").getSnapshot().getSum()).isEqualTo(0.25);
+        assertThat(metrics.timer("test.state.duration", "counterparty", "p", "state", "B").getSnapshot().getSum()).isEqualTo(0.75);
+        assertThat(metrics.timer("test.duration", "counterparty", "p", "state", "END").getSnapshot().getSum()).isEqualTo(1.0);
+        assertThat(timer.getTracked()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyOccupancy() {
+        timer.observe("1", "A", 1000, false);
+        timer.observe("2", "A", 1000, false);
+        timer.observe("2", "B", 1100, false);
+
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "A").getValue()).isEqualTo(1);
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "B").getValue()).isEqualTo(1);
+
+        timer.observe("2", "END", 1200, true);
+
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "B").getValue()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyRepeatedNotificationIgnored() {
+        timer.observe("1", "A", 1000, false);
+        timer.observe("1", "A", 1000, false);
+
+        assertThat(metrics.timer("test.state.duration", "state", "A").getSnapshot().getCount()).isEqualTo(0);
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "A").getValue()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyReenteredStateRecorded() {
+        timer.observe("1", "A", 1000, false);
+        timer.observe("1", "A", 1500, false);
+
+        assertThat(metrics.timer("test.state.duration", "state", "A").getSnapshot().getSum()).isEqualTo(0.5);
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "A").getValue()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyTerminalStateWithoutHistoryNotRecorded() {
+        timer.observe("1", "END", 1000, true);
+
+        assertThat(metrics.timer("test.duration", "state", "END").getSnapshot().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyTrackingBounded() {
+        timer.observe("1", "A", 1000, false);
+        timer.observe("2", "A", 1000, false);
+        timer.observe("3", "A", 1000, false);
+
+        assertThat(timer.getTracked()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyStaleEntriesEvicted() {
+        timer.observe("1", "A", 1000, false);
+        timer.observe("2", "A", 1000, false);
+        timer.observe("2", "B", 5000, false);
+
+        clock.millis = 1000 + MAX_AGE + 1;
+        timer.observe("3", "A", clock.millis, false);
+
+        assertThat(timer.getTracked()).isEqualTo(2);
+        assertThat(metrics.counter("test.evicted", "state", "A").getCount()).isEqualTo(1);
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "A").getValue()).isEqualTo(1);
+        assertThat(metrics.gauge("test.state.occupancy", () -> 0, "state", "B").getValue()).isEqualTo(1);
+    }
+
+    private static class TestClock extends Clock {
+        private long millis;
+
+        TestClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
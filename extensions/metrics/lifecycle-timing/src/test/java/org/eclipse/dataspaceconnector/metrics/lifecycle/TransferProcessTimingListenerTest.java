@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.lifecycle;
+
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferProcessTimingListenerTest {
+    private static final String[] TAGS = { "type", "consumer", "destination", "file", "counterparty", "provider" };
+
+    private final InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+    private final TransferProcessTimingListener listener = new TransferProcessTimingListener(metrics, 10, 60_000);
+
+    @Test
+    void verifyDurationRecordedWhenCompleted() {
+        var start = System.currentTimeMillis();
+        listener.inProgress(process(TransferProcessStates.IN_PROGRESS, start));
+        listener.completed(process(TransferProcessStates.COMPLETED, start + 500));
+
+        assertThat(metrics.timer("edc.transfer.duration", with("state", "COMPLETED")).getSnapshot().getSum()).isEqualTo(0.5);
+        assertThat(metrics.gauge("edc.transfer.state.occupancy", () -> 0, "state", "IN_PROGRESS").getValue()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyDeprovisioningAfterCompletionNotTracked() {
+        var start = System.currentTimeMillis();
+        listener.inProgress(process(TransferProcessStates.IN_PROGRESS, start));
+        listener.completed(process(TransferProcessStates.COMPLETED, start + 500));
+        listener.deprovisioning(process(TransferProcessStates.DEPROVISIONING, start + 600));
+        listener.ended(process(TransferProcessStates.ENDED, start + 700));
+
+        assertThat(metrics.timer("edc.transfer.duration", with("state", "ENDED")).getSnapshot().getCount()).isEqualTo(0);
+        assertThat(metrics.timer("edc.transfer.duration", with("state", "COMPLETED")).getSnapshot().getCount()).isEqualTo(1);
+    }
+
+    private static String[] with(String key, String value) {
+        var tags = new String[TAGS.length + 2];
+        System.arraycopy(TAGS, 0, tags, 0, TAGS.length);
+        tags[TAGS.length] = key;
+        tags[TAGS.length + 1] = value;
+        return tags;
+    }
+
+    private static TransferProcess process(TransferProcessStates state, long timestamp) {
+        return TransferProcess.Builder.newInstance()
+                .id("process")
+                .type(TransferProcess.Type.CONSUMER)
+                .state(state.code())
+                .stateTimestamp(timestamp)
+                .dataRequest(DataRequest.Builder.newInstance().destinationType("file").connectorId("provider").build())
+                .build();
+    }
+}
@@ -47,6 +47,12 @@ public class TransferFunctionsCoreServiceExtension implements ServiceExtension {
     @EdcSetting
     static final String CHECK_URL_KEY = "edc.transfer.functions.check.endpoint";
 
+    /**
+     * Base URL of the transfer completion endpoints of the control API, e.g. {@code http://localhost:8181/api/control/transfer}.
+     */
+    @EdcSetting
+    static final String CALLBACK_URL_KEY = "edc.transfer.functions.callback.endpoint";
+
     private static final String DEFAULT_LOCAL_TRANSFER_URL = "http://localhost:9090/transfer";
     private static final String DEFAULT_LOCAL_CHECK_URL = "http://localhost:9090/checker";
 
@@ -87,9 +93,11 @@ public class TransferFunctionsCoreServiceExtension implements ServiceExtension {
         var typeManager = context.getTypeManager();
         var transferEndpoint = context.getSetting(TRANSFER_URL_KEY, DEFAULT_LOCAL_TRANSFER_URL);
         var checkEndpoint = context.getSetting(CHECK_URL_KEY, DEFAULT_LOCAL_CHECK_URL);
+        var callbackEndpoint = context.getSetting(CALLBACK_URL_KEY, null);
         var configuration = HttpFunctionConfiguration.Builder.newInstance()
                 .transferEndpoint(transferEndpoint)
                 .checkEndpoint(checkEndpoint)
+                .callbackEndpoint(callbackEndpoint)
                 .clientSupplier(httpClient::build)
                 .protocols(protocols)
                 .typeManager(typeManager)
@@ -26,6 +26,7 @@ import java.util.function.Supplier;
 public class HttpFunctionConfiguration {
     private String transferEndpoint;
     private String checkEndpoint;
+    private String callbackEndpoint;
     private Set<String> protocols;
     private Supplier<OkHttpClient> clientSupplier;
     private TypeManager typeManager;
@@ -39,6 +40,13 @@ public class HttpFunctionConfiguration {
         return checkEndpoint;
     }
 
+    /**
+     * Returns the base URL transfer functions call back to when a transfer has completed or failed, or null if callbacks are not offered.
+     */
+    public String getCallbackEndpoint() {
+        return callbackEndpoint;
+    }
+
     public Set<String> getProtocols() {
         return protocols;
     }
@@ -75,6 +83,11 @@ public class HttpFunctionConfiguration {
             return this;
         }
 
+        public Builder callbackEndpoint(String url) {
+            configuration.callbackEndpoint = url;
+            return this;
+        }
+
         public Builder protocols(Set<String> protocols) {
             configuration.protocols = protocols;
             return this;
@@ -20,6 +20,7 @@ import okhttp3.RequestBody;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
@@ -27,7 +28,9 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import static org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute.ANY;
 import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.FATAL_ERROR;
 
@@ -36,19 +39,28 @@ import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatu
  *
  * Endpoints must be idempotent. The endpoint should return HTTP code 200 to indicate the request was received. If the endpoint returns an HTTP code of 500 to 504, the request
  * will be retried; otherwise the request will be placed in the fatal error state.
+ *
+ * If a callback endpoint is configured, the request carries the {@link #CALLBACK_HEADER} header. Instead of waiting to be polled by the {@link HttpStatusChecker}, the
+ * function should POST to {@code <callback>/complete} when the transfer is done, or to {@code <callback>/fail} with the error detail as body.
  */
 public class HttpFunctionDataFlowController implements DataFlowController {
+    public static final String CALLBACK_HEADER = "Edc-Callback-Address";
+
     private static final MediaType JSON = MediaType.get("application/json");
 
     private String transferEndpoint;
+    private String callbackEndpoint;
     private Set<String> protocols;
+    private Set<DataFlowRoute> routes;
     private Supplier<OkHttpClient> clientSupplier;
     private TypeManager typeManager;
     private Monitor monitor;
 
     public HttpFunctionDataFlowController(HttpFunctionConfiguration configuration) {
         this.transferEndpoint = configuration.getTransferEndpoint();
+        this.callbackEndpoint = configuration.getCallbackEndpoint();
         this.protocols = configuration.getProtocols();
+        this.routes = protocols == null ? Set.of() : protocols.stream().map(protocol -> DataFlowRoute.of(ANY, protocol)).collect(Collectors.toSet());
         this.clientSupplier = configuration.getClientSupplier();
         this.typeManager = configuration.getTypeManager();
         this.monitor = configuration.getMonitor();
@@ -59,10 +71,19 @@ public class HttpFunctionDataFlowController implements DataFlowController {
         return protocols.contains(dataRequest.getDestinationType());
     }
 
+    @Override
+    public Set<DataFlowRoute> routes() {
+        return routes;
+    }
+
     @Override
     public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
         var requestBody = RequestBody.create(typeManager.writeValueAsString(dataRequest), JSON);
-        var request = new Request.Builder().url(transferEndpoint).post(requestBody).build();
+        var requestBuilder = new Request.Builder().url(transferEndpoint).post(requestBody);
+        if (callbackEndpoint != null) {
+            requestBuilder.header(CALLBACK_HEADER, callbackEndpoint + "/" + dataRequest.getProcessId());
+        }
+        var request = requestBuilder.build();
         try (var response = clientSupplier.get().newCall(request).execute()) {
             if (response.code() == 200) {
                 return DataFlowInitiateResponse.OK;
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.easymock.EasyMock.createNiceMock;
@@ -97,6 +98,36 @@ class HttpFunctionDataFlowControllerTest {
         EasyMock.verify(interceptor);
     }
 
+    @Test
+    void verifyCallbackAddressSent() throws IOException {
+        var configuration = HttpFunctionConfiguration.Builder.newInstance()
+                .transferEndpoint("https://localhost:9090/transfer")
+                .callbackEndpoint("http://localhost:8181/api/control/transfer")
+                .clientSupplier(() -> httpClient)
+                .monitor(createNiceMock(Monitor.class))
+                .typeManager(new TypeManager())
+                .build();
+        var callbackAddress = new AtomicReference<String>();
+        Interceptor delegate = chain -> {
+            callbackAddress.set(chain.request().header(HttpFunctionDataFlowController.CALLBACK_HEADER));
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(HTTP_1_1).code(200)
+                    .body(ResponseBody.create("", MediaType.get("application/json"))).message("ok")
+                    .build();
+        };
+
+        //noinspection ConstantConditions
+        EasyMock.expect(interceptor.intercept(EasyMock.isA(Interceptor.Chain.class))).andDelegateTo(delegate);
+        EasyMock.replay(interceptor);
+
+        var dataRequest = DataRequest.Builder.newInstance().processId("process-1").dataDestination(DataAddress.Builder.newInstance().build()).build();
+        assertEquals(DataFlowInitiateResponse.OK, new HttpFunctionDataFlowController(configuration).initiateFlow(dataRequest));
+        assertEquals("http://localhost:8181/api/control/transfer/process-1", callbackAddress.get());
+
+        EasyMock.verify(interceptor);
+    }
+
 
     @BeforeEach
     void setUp() {
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+// Indexes the extensions of a launcher at build time so that the runtime does not scan the class path on boot.
+// Apply with apply(from = rootProject.file("gradle/extension-index.gradle.kts")) after the application plugin.
+
+val sourceSets = the<SourceSetContainer>()
+
+val generateExtensionIndex by tasks.registering(JavaExec::class) {
+    val indexFile = layout.buildDirectory.file("generated/extension-index/extensions.index")
+    classpath = files(sourceSets["main"].output.classesDirs, configurations["runtimeClasspath"])
+    mainClass.set("org.eclipse.dataspaceconnector.system.ExtensionIndexGenerator")
+    argumentProviders.add(CommandLineArgumentProvider { listOf(indexFile.get().asFile.absolutePath) })
+    outputs.file(indexFile)
+}
+
+tasks.named<ProcessResources>("processResources") {
+    from(generateExtensionIndex) {
+        into("META-INF/edc")
+    }
+}
@@ -17,15 +17,24 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
+import org.eclipse.dataspaceconnector.dataloading.BulkDataLoader;
 import org.eclipse.dataspaceconnector.dataloading.DataLoader;
 import org.eclipse.dataspaceconnector.dataloading.DataSink;
+import org.eclipse.dataspaceconnector.dataloading.JsonStreamReader;
+import org.eclipse.dataspaceconnector.dataloading.LoadProgress;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import picocli.CommandLine;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 @CommandLine.Command(name = "load", mixinStandardHelpOptions = true, description = "Reads objects from a JSON file into a backing store.")
 public class LoadCommand implements Runnable {
@@ -35,6 +44,16 @@ public class LoadCommand implements Runnable {
     private final DataSink<ContractDefinition> contractsSink;
     @CommandLine.ArgGroup(exclusive = true, multiplicity = "1")
     LoadInstruction loadInstruction;
+    @CommandLine.Option(names = "--stream", description = "Parse the files incrementally and load them in batches instead of reading them into memory. Accepts JSON arrays and JSON Lines.")
+    boolean stream;
+    @CommandLine.Option(names = "--batch-size", description = "Number of objects written to the backing store at once when streaming (default: ${DEFAULT-VALUE}).")
+    int batchSize = BulkDataLoader.DEFAULT_BATCH_SIZE;
+    @CommandLine.Option(names = "--offset", description = "Number of objects (or lines) to skip when streaming, to resume an interrupted load. Only valid for a single file.")
+    long offset;
+    @CommandLine.Option(names = "--parallelism", description = "Number of threads validating objects when streaming (default: ${DEFAULT-VALUE}).")
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    @CommandLine.Option(names = "--concurrency", description = "Number of files loaded at the same time when streaming (default: ${DEFAULT-VALUE}).")
+    int concurrency = 4;
 
     public LoadCommand(ObjectMapper mapper, DataSink<AssetEntry> assetSink, DataSink<ContractDefinition> contractsSink) {
         this.mapper = mapper;
@@ -51,16 +70,28 @@ public class LoadCommand implements Runnable {
             throw new IllegalArgumentException("--assets and --contracts are mutually exclusive!");
         }
         if (loadInstruction.assetsFileName != null) {
-            var json = readFile(loadInstruction.assetsFileName);
-            var assetList = tryReadAsAssetRecords(json);
+            if (stream) {
+                stream(loadInstruction.assetsFileName, AssetEntry.class, assetSink);
+                return;
+            }
+            for (var file : loadInstruction.assetsFileName) {
+                var json = readFile(file);
+                var assetList = tryReadAsAssetRecords(json);
 
-            DataLoader.Builder<AssetEntry> builder = DataLoader.Builder.newInstance();
-            builder.sink(assetSink).build().insertAll(assetList);
+                DataLoader.Builder<AssetEntry> builder = DataLoader.Builder.newInstance();
+                builder.sink(assetSink).build().insertAll(assetList);
+            }
         } else if (loadInstruction.contractsFile != null) {
-            var json = readFile(loadInstruction.contractsFile);
-            var contractDefList = tryReadAsContractRecords(json);
-            DataLoader.Builder<ContractDefinition> builder = DataLoader.Builder.newInstance();
-            builder.sink(contractsSink).build().insertAll(contractDefList);
+            if (stream) {
+                stream(loadInstruction.contractsFile, ContractDefinition.class, contractsSink);
+                return;
+            }
+            for (var file : loadInstruction.contractsFile) {
+                var json = readFile(file);
+                var contractDefList = tryReadAsContractRecords(json);
+                DataLoader.Builder<ContractDefinition> builder = DataLoader.Builder.newInstance();
+                builder.sink(contractsSink).build().insertAll(contractDefList);
+            }
         } else {
             throw new IllegalArgumentException("Can only parse AssetEntry objects at this time!");
         }
@@ -71,7 +102,7 @@ public class LoadCommand implements Runnable {
         if (loadInstruction == null) {
             loadInstruction = new LoadInstruction();
         }
-        loadInstruction.assetsFileName = parseAssets;
+        loadInstruction.assetsFileName = parseAssets != null ? List.of(parseAssets) : null;
     }
 
     //needed for testing
@@ -79,7 +110,63 @@ public class LoadCommand implements Runnable {
         if (loadInstruction == null) {
             loadInstruction = new LoadInstruction();
         }
-        loadInstruction.contractsFile = parseAssets;
+        loadInstruction.contractsFile = parseAssets != null ? List.of(parseAssets) : null;
+    }
+
+    //needed for testing
+    void setStreaming(int batchSize, long offset) {
+        stream = true;
+        this.batchSize = batchSize;
+        this.offset = offset;
+    }
+
+    /**
+     * Loads the files concurrently, parsing each incrementally and writing it to the sink in batches.
+     */
+    private <T> void stream(List<File> files, Class<T> type, DataSink<T> sink) {
+        if (offset > 0 && files.size() > 1) {
+            throw new IllegalArgumentException("--offset can only be used when loading a single file");
+        }
+        var validationExecutor = Executors.newFixedThreadPool(parallelism);
+        var fileExecutor = Executors.newFixedThreadPool(Math.min(concurrency, files.size()));
+        try {
+            DataLoader.Builder<T> builder = DataLoader.Builder.newInstance();
+            var bulkLoader = BulkDataLoader.Builder.<T>newInstance()
+                    .loader(builder.sink(sink).build())
+                    .batchSize(batchSize)
+                    .validationExecutor(validationExecutor)
+                    .progressListener(System.out::println)
+                    .build();
+
+            var start = System.nanoTime();
+            var loads = files.stream()
+                    .map(file -> CompletableFuture.supplyAsync(() -> load(bulkLoader, file, type), fileExecutor))
+                    .collect(Collectors.toList());
+            // let the other files finish before reporting the first failure
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+            long loaded = 0;
+            for (var load : loads) {
+                try {
+                    loaded += load.join().getLoaded();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+            var total = new LoadProgress(files.size() + " file(s)", loaded, loaded, Duration.ofNanos(System.nanoTime() - start));
+            System.out.println(total);
+        } finally {
+            fileExecutor.shutdownNow();
+            validationExecutor.shutdownNow();
+        }
+    }
+
+    private <T> LoadProgress load(BulkDataLoader<T> bulkLoader, File file, Class<T> type) {
+        try (var input = Files.newInputStream(file.toPath()); var reader = new JsonStreamReader<>(mapper, input, type)) {
+            var skipped = reader.skip(offset);
+            return bulkLoader.load(file.getName(), reader, skipped);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     private Collection<ContractDefinition> tryReadAsContractRecords(String json) {
@@ -111,9 +198,9 @@ public class LoadCommand implements Runnable {
     }
 
     static class LoadInstruction {
-        @CommandLine.Option(names = { "-a", "--assets" }, required = true, description = "If specified, the contents of the JSON file will be interpreted as assets with data addresses")
-        File assetsFileName;
-        @CommandLine.Option(names = { "-b", "--contracts" }, required = true, description = "The JSON file that contains a list of objects (Assets, Contracts,...).")
-        File contractsFile;
+        @CommandLine.Option(names = { "-a", "--assets" }, required = true, arity = "1..*", description = "If specified, the contents of the JSON files will be interpreted as assets with data addresses")
+        List<File> assetsFileName;
+        @CommandLine.Option(names = { "-b", "--contracts" }, required = true, arity = "1..*", description = "The JSON files that contain a list of objects (Assets, Contracts,...).")
+        List<File> contractsFile;
     }
 }
@@ -15,6 +15,8 @@ package org.eclipse.dataspaceconnector.dataloader.cli;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.easymock.Capture;
+import org.easymock.CaptureType;
 import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.dataloading.ContractDefinitionLoader;
@@ -25,9 +27,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.nio.file.NoSuchFileException;
+import java.util.Collection;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.strictMock;
@@ -93,6 +98,47 @@ class LoadCommandTest {
         verify(assetLoaderMock);
     }
 
+    @Test
+    void runCommand_assets_streaming() {
+        var batches = Capture.<Collection<AssetEntry>>newInstance(CaptureType.ALL);
+        assetLoaderMock.acceptAll(capture(batches));
+        expectLastCall().times(3);
+        replay(assetLoaderMock);
+
+        loadCommand.setParseAssets(getFileFromResourceName("assets.json"));
+        loadCommand.setStreaming(4, 0);
+
+        loadCommand.run();
+        verify(assetLoaderMock);
+        assertThat(batches.getValues()).extracting(Collection::size).containsExactly(4, 4, 2);
+    }
+
+    @Test
+    void runCommand_assets_streamingFromOffset() {
+        var batches = Capture.<Collection<AssetEntry>>newInstance(CaptureType.ALL);
+        assetLoaderMock.acceptAll(capture(batches));
+        expectLastCall().once();
+        replay(assetLoaderMock);
+
+        loadCommand.setParseAssets(getFileFromResourceName("assets.json"));
+        loadCommand.setStreaming(100, 7);
+
+        loadCommand.run();
+        verify(assetLoaderMock);
+        assertThat(batches.getValue()).extracting(entry -> entry.getAsset().getId()).containsExactly("test-asset-7", "test-asset-8", "test-asset-9");
+    }
+
+    @Test
+    void runCommand_assets_streamingFileNotValidContent() {
+        replay(assetLoaderMock);
+
+        loadCommand.setParseAssets(getFileFromResourceName("invalidContent.json"));
+        loadCommand.setStreaming(100, 0);
+
+        assertThatThrownBy(() -> loadCommand.run()).isInstanceOf(RuntimeException.class).hasRootCauseInstanceOf(MismatchedInputException.class);
+        verify(assetLoaderMock);
+    }
+
     @Test
     void runCommand_contracts() {
         contractsSinkMock.accept(anyObject(ContractDefinition.class));
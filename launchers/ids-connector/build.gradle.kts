@@ -50,6 +50,8 @@ application {
     mainClassName = "org.eclipse.dataspaceconnector.system.runtime.BaseRuntime"
 }
 
+apply(from = rootProject.file("gradle/extension-index.gradle.kts"))
+
 tasks.withType<com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar> {
     exclude("**/pom.properties", "**/pom.xm")
     mergeServiceFiles()
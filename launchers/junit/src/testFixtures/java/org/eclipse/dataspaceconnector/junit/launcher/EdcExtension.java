@@ -101,6 +101,7 @@ public class EdcExtension implements BeforeTestExecutionCallback, AfterTestExecu
             while (iter.hasPrevious()) {
                 iter.previous().shutdown();
             }
+            ExtensionLoader.closeVault(this.context);
         }
 
         // clear the systemExtensions map to prevent it from piling up between subsequent runs
@@ -17,6 +17,7 @@ package org.eclipse.dataspaceconnector.did;
 import org.eclipse.dataspaceconnector.monitor.MonitorProvider;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.system.DefaultServiceExtensionContext;
 
@@ -24,8 +25,11 @@ import java.util.List;
 import java.util.ListIterator;
 
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.bootServiceExtensions;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.closeVault;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.isStarted;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadMonitor;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadVault;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.startDeferredExtensions;
 
 public class RegistrationServiceRuntime {
 
@@ -39,7 +43,7 @@ public class RegistrationServiceRuntime {
         try {
             loadVault(context);
             List<ServiceExtension> serviceExtensions = context.loadServiceExtensions();
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(serviceExtensions, monitor)));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(serviceExtensions, context, monitor)));
             bootServiceExtensions(serviceExtensions, context);
         } catch (Exception e) {
             monitor.severe("Error booting runtime", e);
@@ -47,13 +51,19 @@ public class RegistrationServiceRuntime {
         }
         monitor.info("Registry Service App ready");
 
+        startDeferredExtensions(context);
+
     }
 
-    private static void shutdown(List<ServiceExtension> serviceExtensions, Monitor monitor) {
+    private static void shutdown(List<ServiceExtension> serviceExtensions, ServiceExtensionContext context, Monitor monitor) {
         ListIterator<ServiceExtension> iter = serviceExtensions.listIterator(serviceExtensions.size());
         while (iter.hasPrevious()) {
-            iter.previous().shutdown();
+            var extension = iter.previous();
+            if (isStarted(extension, context)) {
+                extension.shutdown();
+            }
         }
+        closeVault(context);
         monitor.info("Registry Service App shutdown complete");
     }
 
@@ -12,6 +12,7 @@ import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
@@ -38,7 +39,9 @@ public class FileTransferExtension implements ServiceExtension {
         var dataFlowMgr = context.getService(DataFlowManager.class);
         var dataAddressResolver = context.getService(DataAddressResolver.class);
 
-        var flowController = new FileTransferFlowController(context.getMonitor(), dataAddressResolver);
+        var checkpointStore = context.getService(TransferCheckpointStore.class);
+
+        var flowController = new FileTransferFlowController(context.getMonitor(), dataAddressResolver, checkpointStore);
         dataFlowMgr.register(flowController);
 
         registerDataEntries(context);
@@ -1,7 +1,9 @@
 package org.eclipse.dataspaceconnector.extensions.api;
 
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
@@ -9,17 +11,40 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.Map;
 
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Copies a file in chunks. After each chunk is flushed to disk, the copied offset is recorded as a checkpoint of the transfer process, so a copy
+ * that is interrupted and retried continues after the last checkpoint instead of starting over.
+ */
 public class FileTransferFlowController implements DataFlowController {
+    static final String OFFSET_CHECKPOINT = "file.offset";
+    static final String SOURCE_CHECKPOINT = "file.source";
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
     private final Monitor monitor;
     private final DataAddressResolver dataAddressResolver;
+    private final TransferCheckpointStore checkpointStore;
+    private final int chunkSize;
+
+    public FileTransferFlowController(Monitor monitor, DataAddressResolver dataAddressResolver, TransferCheckpointStore checkpointStore) {
+        this(monitor, dataAddressResolver, checkpointStore, DEFAULT_CHUNK_SIZE);
+    }
 
-    public FileTransferFlowController(Monitor monitor, DataAddressResolver dataAddressResolver) {
+    FileTransferFlowController(Monitor monitor, DataAddressResolver dataAddressResolver, TransferCheckpointStore checkpointStore, int chunkSize) {
         this.monitor = monitor;
         this.dataAddressResolver = dataAddressResolver;
+        this.checkpointStore = checkpointStore;
+        this.chunkSize = chunkSize;
     }
 
     @Override
@@ -29,7 +54,7 @@ public class FileTransferFlowController implements DataFlowController {
 
     @Override
     public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
-        var source = dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
+        var source = dataRequest.getSourceAddress() != null ? dataRequest.getSourceAddress() : dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
         var destination = dataRequest.getDataDestination();
 
         // verify source path
@@ -50,20 +75,51 @@ public class FileTransferFlowController implements DataFlowController {
                 monitor.severe(message);
                 return new DataFlowInitiateResponse(ResponseStatus.FATAL_ERROR, message);
             }
-        } else if (destinationPath.toFile().isDirectory()) {
+        }
+        if (destinationPath.toFile().isDirectory()) {
             destinationPath = Path.of(destinationPath.toString(), sourceFileName);
         }
 
         try {
-            Files.copy(sourcePath, destinationPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
-        } catch (IOException e) {
+            copy(dataRequest.getProcessId(), sourcePath, destinationPath);
+        } catch (FileSystemException e) {
+            // a missing file, a denied permission or a path of the wrong kind does not go away by retrying
             String message = "Error copying file " + e.getMessage();
             monitor.severe(message);
             return new DataFlowInitiateResponse(ResponseStatus.FATAL_ERROR, message);
-
+        } catch (IOException | EdcException e) {
+            // the copy resumes from the last checkpoint when it is retried
+            String message = "Error copying file " + e.getMessage();
+            monitor.severe(message);
+            return new DataFlowInitiateResponse(ResponseStatus.ERROR_RETRY, message);
         }
 
         return DataFlowInitiateResponse.OK;
     }
 
+    private void copy(String processId, Path sourcePath, Path destinationPath) throws IOException {
+        var checkpoints = checkpointStore.getCheckpoints(processId);
+        var sourceVersion = Files.size(sourcePath) + ":" + Files.getLastModifiedTime(sourcePath).toMillis();
+
+        try (var in = FileChannel.open(sourcePath, READ); var out = FileChannel.open(destinationPath, CREATE, WRITE)) {
+            long offset = 0;
+            var checkpoint = checkpoints.get(OFFSET_CHECKPOINT);
+            // resume only if the source is unchanged and the destination still holds the checkpointed bytes
+            if (checkpoint != null && sourceVersion.equals(checkpoints.get(SOURCE_CHECKPOINT)) && Long.parseLong(checkpoint) <= out.size()) {
+                offset = Long.parseLong(checkpoint);
+                monitor.info(format("Resuming copy of %s at byte %s", sourcePath, offset));
+            }
+            // discard data written after the last checkpoint, or the previous content of the destination
+            out.truncate(offset);
+
+            var size = in.size();
+            while (offset < size) {
+                offset += in.transferTo(offset, Math.min(chunkSize, size - offset), out.position(offset));
+                out.force(false);
+                checkpointStore.checkpoint(processId, Map.of(OFFSET_CHECKPOINT, String.valueOf(offset), SOURCE_CHECKPOINT, sourceVersion));
+            }
+        }
+        Files.setLastModifiedTime(destinationPath, Files.getLastModifiedTime(sourcePath));
+    }
+
 }
\ No newline at end of file
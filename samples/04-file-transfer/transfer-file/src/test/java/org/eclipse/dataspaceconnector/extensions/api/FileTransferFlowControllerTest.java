@@ -0,0 +1,153 @@
+package org.eclipse.dataspaceconnector.extensions.api;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.extensions.api.FileTransferFlowController.OFFSET_CHECKPOINT;
+import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus.FATAL_ERROR;
+
+class FileTransferFlowControllerTest {
+    private static final int CHUNK_SIZE = 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private final FailingCheckpointStore checkpointStore = new FailingCheckpointStore();
+    private Path source;
+    private Path destination;
+    private byte[] content;
+    private DataRequest request;
+    private FileTransferFlowController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = new byte[10 * CHUNK_SIZE + 100];
+        new Random(42).nextBytes(content);
+        source = Files.write(tempDir.resolve("source.bin"), content);
+        var destinationDirectory = Files.createDirectory(tempDir.resolve("destination"));
+        destination = destinationDirectory.resolve("source.bin");
+
+        var sourceAddress = DataAddress.Builder.newInstance().type("File").property("path", tempDir.toString()).property("filename", "source.bin").build();
+        var process = TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .dataRequest(DataRequest.Builder.newInstance()
+                        .assetId("asset")
+                        .dataDestination(DataAddress.Builder.newInstance().type("file").property("path", destinationDirectory.toString()).build())
+                        .build())
+                .build();
+        request = process.getDataRequest();
+        controller = new FileTransferFlowController(new Monitor() {
+        }, assetId -> sourceAddress, checkpointStore, CHUNK_SIZE);
+    }
+
+    @Test
+    void initiateFlow_copiesInChunks() throws IOException {
+        assertThat(controller.initiateFlow(request)).isSameAs(DataFlowInitiateResponse.OK);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(checkpointStore.offsets).hasSize(11).endsWith((long) content.length);
+    }
+
+    @Test
+    void initiateFlow_resumesAfterInterruption() throws IOException {
+        checkpointStore.failAfter = 3;
+
+        assertThat(controller.initiateFlow(request).getStatus()).isEqualTo(ERROR_RETRY);
+        // the fourth chunk was written but not checkpointed
+        assertThat(Files.size(destination)).isEqualTo(4 * CHUNK_SIZE);
+
+        checkpointStore.failAfter = Integer.MAX_VALUE;
+        checkpointStore.offsets.clear();
+        assertThat(controller.initiateFlow(request)).isSameAs(DataFlowInitiateResponse.OK);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(checkpointStore.offsets).hasSize(8).startsWith(4L * CHUNK_SIZE);
+    }
+
+    @Test
+    void initiateFlow_restartsWhenSourceChanged() throws IOException {
+        checkpointStore.failAfter = 3;
+        controller.initiateFlow(request);
+
+        content = new byte[2 * CHUNK_SIZE];
+        new Random(7).nextBytes(content);
+        Files.write(source, content);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 1000));
+        checkpointStore.failAfter = Integer.MAX_VALUE;
+        checkpointStore.offsets.clear();
+
+        assertThat(controller.initiateFlow(request)).isSameAs(DataFlowInitiateResponse.OK);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(checkpointStore.offsets).containsExactly((long) CHUNK_SIZE, 2L * CHUNK_SIZE);
+    }
+
+    @Test
+    void initiateFlow_restartsWhenDestinationLost() throws IOException {
+        checkpointStore.failAfter = 3;
+        controller.initiateFlow(request);
+
+        Files.write(destination, new byte[10], StandardOpenOption.TRUNCATE_EXISTING);
+        checkpointStore.failAfter = Integer.MAX_VALUE;
+        checkpointStore.offsets.clear();
+
+        assertThat(controller.initiateFlow(request)).isSameAs(DataFlowInitiateResponse.OK);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(checkpointStore.offsets).hasSize(11);
+    }
+
+    @Test
+    void initiateFlow_failsWhenDestinationIsNotWritable() throws IOException {
+        Files.createDirectory(destination);
+
+        assertThat(controller.initiateFlow(request).getStatus()).isEqualTo(FATAL_ERROR);
+        assertThat(checkpointStore.offsets).isEmpty();
+    }
+
+    /**
+     * Keeps checkpoints in memory and fails like a crashing connector once a number of checkpoints has been recorded.
+     */
+    private static class FailingCheckpointStore implements TransferCheckpointStore {
+        private final Map<String, Map<String, String>> checkpoints = new HashMap<>();
+        private final List<Long> offsets = new ArrayList<>();
+        private int failAfter = Integer.MAX_VALUE;
+
+        @Override
+        public @NotNull Map<String, String> getCheckpoints(String processId) {
+            return new HashMap<>(checkpoints.getOrDefault(processId, Map.of()));
+        }
+
+        @Override
+        public void checkpoint(String processId, Map<String, String> values) {
+            if (offsets.size() == failAfter) {
+                throw new EdcException("connector stopped");
+            }
+            checkpoints.computeIfAbsent(processId, id -> new HashMap<>()).putAll(values);
+            offsets.add(Long.parseLong(values.get(OFFSET_CHECKPOINT)));
+        }
+    }
+}
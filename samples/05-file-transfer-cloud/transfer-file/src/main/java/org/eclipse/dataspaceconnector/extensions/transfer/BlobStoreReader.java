@@ -17,4 +17,14 @@ class BlobStoreReader implements DataReader {
         var blobName = source.getProperty("blobname");
         return blobStoreApi.getBlob(account, container, blobName);
     }
+
+    @Override
+    public long size(DataAddress source) {
+        return blobStoreApi.getBlobSize(source.getProperty("account"), source.getProperty("container"), source.getProperty("blobname"));
+    }
+
+    @Override
+    public byte[] read(DataAddress source, long offset, int length) {
+        return blobStoreApi.getBlob(source.getProperty("account"), source.getProperty("container"), source.getProperty("blobname"), offset, length);
+    }
 }
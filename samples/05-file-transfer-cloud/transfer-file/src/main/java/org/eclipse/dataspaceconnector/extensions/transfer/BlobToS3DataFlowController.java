@@ -1,11 +1,14 @@
 package org.eclipse.dataspaceconnector.extensions.transfer;
 
 import org.eclipse.dataspaceconnector.common.azure.BlobStoreApiImpl;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute;
 import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
@@ -14,35 +17,46 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 public class BlobToS3DataFlowController implements DataFlowController {
     private static final List<String> ALLOWED_TYPES = Arrays.asList("AmazonS3", "AzureStorage");
+    private static final Set<DataFlowRoute> ROUTES = ALLOWED_TYPES.stream()
+            .flatMap(source -> ALLOWED_TYPES.stream().map(destination -> DataFlowRoute.of(source, destination)))
+            .collect(Collectors.toSet());
     private final Vault vault;
     private final Monitor monitor;
     private final TypeManager typeManager;
     private final DataAddressResolver dataAddressResolver;
+    private final TransferCheckpointStore checkpointStore;
 
-    public BlobToS3DataFlowController(Vault vault, Monitor monitor, TypeManager typeManager, DataAddressResolver dataAddressResolver) {
+    public BlobToS3DataFlowController(Vault vault, Monitor monitor, TypeManager typeManager, DataAddressResolver dataAddressResolver, TransferCheckpointStore checkpointStore) {
         this.vault = vault;
         this.monitor = monitor;
         this.typeManager = typeManager;
         this.dataAddressResolver = dataAddressResolver;
+        this.checkpointStore = checkpointStore;
     }
 
     @Override
     public boolean canHandle(DataRequest dataRequest) {
-        DataAddress dataAddress = dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
-        String sourceType = dataAddress.getType();
+        String sourceType = resolveSource(dataRequest).getType();
         String destinationType = dataRequest.getDestinationType();
 
         return verifyType(sourceType) && verifyType(destinationType);
     }
 
+    @Override
+    public Set<DataFlowRoute> routes() {
+        return ROUTES;
+    }
+
     @Override
     public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
-        DataAddress dataAddress = dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
+        DataAddress dataAddress = resolveSource(dataRequest);
         String sourceType = dataAddress.getType();
         String destinationType = dataRequest.getDestinationType();
 
@@ -58,9 +72,13 @@ public class BlobToS3DataFlowController implements DataFlowController {
         var reader = getReader(sourceType);
         var writer = getWriter(destinationType);
 
-        var data = reader.read(dataAddress);
-
-        writer.write(dataRequest.getDataDestination(), dataRequest.getAssetId(), data, secret);
+        try {
+            writer.write(dataRequest, reader, dataAddress, secret);
+        } catch (EdcException e) {
+            // the write resumes from its last checkpoint when the transfer is retried
+            monitor.severe(format("Copying %s was interrupted", dataRequest.getAssetId()), e);
+            return new DataFlowInitiateResponse(ResponseStatus.ERROR_RETRY, e.getMessage());
+        }
 
         return DataFlowInitiateResponse.OK;
     }
@@ -68,7 +86,7 @@ public class BlobToS3DataFlowController implements DataFlowController {
     private @NotNull DataWriter getWriter(String destinationType) {
         switch (destinationType) {
             case "AmazonS3":
-                return new S3BucketWriter(monitor, typeManager);
+                return new S3BucketWriter(monitor, typeManager, checkpointStore);
             case "AzureStorage":
                 return new BlobStoreWriter(monitor, typeManager);
             default:
@@ -80,7 +98,7 @@ public class BlobToS3DataFlowController implements DataFlowController {
     private @NotNull DataReader getReader(String sourceType) {
         switch (sourceType) {
             case "AmazonS3":
-                return new S3BucketReader();
+                return new S3BucketReader(vault, typeManager);
             case "AzureStorage":
                 return new BlobStoreReader(new BlobStoreApiImpl(vault));
             default:
@@ -88,6 +106,14 @@ public class BlobToS3DataFlowController implements DataFlowController {
         }
     }
 
+    /**
+     * Uses the source address resolved while routing the request, if any.
+     */
+    private DataAddress resolveSource(DataRequest dataRequest) {
+        var source = dataRequest.getSourceAddress();
+        return source != null ? source : dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
+    }
+
     private boolean verifyType(String type) {
         return ALLOWED_TYPES.contains(type);
     }
@@ -2,7 +2,16 @@ package org.eclipse.dataspaceconnector.extensions.transfer;
 
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 
-@FunctionalInterface
 public interface DataReader {
     byte[] read(DataAddress source);
+
+    /**
+     * Returns the size of the data in bytes.
+     */
+    long size(DataAddress source);
+
+    /**
+     * Returns up to {@code length} bytes of the data, starting at {@code offset}.
+     */
+    byte[] read(DataAddress source, long offset, int length);
 }
@@ -1,8 +1,19 @@
 package org.eclipse.dataspaceconnector.extensions.transfer;
 
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 
 @FunctionalInterface
 public interface DataWriter {
     public void write(DataAddress destination, String name, byte[] data, String secretToken);
+
+    /**
+     * Writes the data of a transfer to its destination. Writers that support it write large data in parts and record checkpoints, so an
+     * interrupted write resumes with the first missing part when the transfer is retried. The default reads and writes all data at once.
+     *
+     * @throws org.eclipse.dataspaceconnector.spi.EdcException if the write was interrupted and should be retried
+     */
+    default void write(DataRequest dataRequest, DataReader reader, DataAddress source, String secretToken) {
+        write(dataRequest.getDataDestination(), dataRequest.getAssetId(), reader.read(source), secretToken);
+    }
 }
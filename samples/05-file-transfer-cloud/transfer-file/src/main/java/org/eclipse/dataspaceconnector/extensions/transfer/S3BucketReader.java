@@ -1,10 +1,101 @@
 package org.eclipse.dataspaceconnector.extensions.transfer;
 
+import org.eclipse.dataspaceconnector.provision.aws.AwsTemporarySecretToken;
+import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 
+import java.net.URI;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Reads objects from an S3 bucket. The object is named by the {@code objectname} property of the source address, the credentials are the
+ * {@link AwsTemporarySecretToken} stored in the vault under the key name of the address.
+ */
 class S3BucketReader implements DataReader {
+    static final String OBJECT_NAME = "objectname";
+
+    private final Vault vault;
+    private final TypeManager typeManager;
+    private final URI endpointOverride;
+
+    S3BucketReader(Vault vault, TypeManager typeManager) {
+        this(vault, typeManager, null);
+    }
+
+    /**
+     * Creates a reader that connects to a custom S3 endpoint, such as an emulator, with path-style access.
+     */
+    S3BucketReader(Vault vault, TypeManager typeManager, @Nullable URI endpointOverride) {
+        this.vault = vault;
+        this.typeManager = typeManager;
+        this.endpointOverride = endpointOverride;
+    }
+
     @Override
     public byte[] read(DataAddress source) {
-        throw new UnsupportedOperationException("this operation is not yet implemented!");
+        return execute(source, s3 -> s3.getObjectAsBytes(getRequest(source).build()).asByteArray());
+    }
+
+    @Override
+    public long size(DataAddress source) {
+        var request = HeadObjectRequest.builder()
+                .bucket(source.getProperty(S3BucketSchema.BUCKET_NAME))
+                .key(source.getProperty(OBJECT_NAME))
+                .build();
+        return execute(source, s3 -> s3.headObject(request).contentLength());
+    }
+
+    @Override
+    public byte[] read(DataAddress source, long offset, int length) {
+        if (length <= 0) {
+            return new byte[0];
+        }
+        var request = getRequest(source).range(format("bytes=%s-%s", offset, offset + length - 1)).build();
+        return execute(source, s3 -> s3.getObjectAsBytes(request).asByteArray());
+    }
+
+    private GetObjectRequest.Builder getRequest(DataAddress source) {
+        return GetObjectRequest.builder()
+                .bucket(source.getProperty(S3BucketSchema.BUCKET_NAME))
+                .key(source.getProperty(OBJECT_NAME));
+    }
+
+    private <T> T execute(DataAddress source, Function<S3Client, T> operation) {
+        try (S3Client s3 = createClient(source)) {
+            return operation.apply(s3);
+        } catch (SdkException e) {
+            throw new EdcException(format("Cannot read %s from bucket %s: %s", source.getProperty(OBJECT_NAME), source.getProperty(S3BucketSchema.BUCKET_NAME), e.getMessage()), e);
+        }
+    }
+
+    private S3Client createClient(DataAddress source) {
+        var keyName = source.getKeyName();
+        var secret = keyName != null ? vault.resolveSecret(keyName) : null;
+        if (secret == null) {
+            throw new EdcException(format("No credentials found for bucket %s", source.getProperty(S3BucketSchema.BUCKET_NAME)));
+        }
+        var token = typeManager.readValue(secret, AwsTemporarySecretToken.class);
+        var builder = S3Client.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(AwsSessionCredentials.create(token.getAccessKeyId(), token.getSecretAccessKey(), token.getSessionToken())))
+                .region(Region.of(source.getProperty(S3BucketSchema.REGION)));
+        if (endpointOverride != null) {
+            builder.endpointOverride(endpointOverride)
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).checksumValidationEnabled(false).build());
+        }
+        return builder.build();
     }
 }
@@ -4,54 +4,163 @@ import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.provision.aws.AwsTemporarySecretToken;
 import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+import java.net.URI;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
+/**
+ * Writes objects to an S3 bucket. Objects larger than one part are written with a multipart upload; the upload id and the ETag of each uploaded
+ * part are recorded as checkpoints of the transfer process, so an interrupted upload continues with the first missing part.
+ */
 class S3BucketWriter implements DataWriter {
+    static final String UPLOAD_ID_CHECKPOINT = "s3.uploadId";
+    static final String PART_CHECKPOINT_PREFIX = "s3.part.";
+    static final String SIZE_CHECKPOINT = "s3.size";
+    private static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024; // S3 requires at least 5 MiB for all but the last part
+    private static final int MAX_PARTS = 10_000;
 
     private final RetryPolicy<Object> retryPolicy;
     private final Monitor monitor;
     private final TypeManager typeManager;
+    private final TransferCheckpointStore checkpointStore;
+    private final int minPartSize;
+    private final URI endpointOverride;
+
+    public S3BucketWriter(Monitor monitor, TypeManager typeManager, TransferCheckpointStore checkpointStore) {
+        this(monitor, typeManager, checkpointStore, new RetryPolicy<>().withBackoff(500, 5000, ChronoUnit.MILLIS).withMaxRetries(3), DEFAULT_PART_SIZE, null);
+    }
 
-    public S3BucketWriter(Monitor monitor, TypeManager typeManager) {
+    /**
+     * Creates a writer that connects to a custom S3 endpoint, such as an emulator, with path-style access.
+     */
+    S3BucketWriter(Monitor monitor, TypeManager typeManager, TransferCheckpointStore checkpointStore, RetryPolicy<Object> retryPolicy, int minPartSize,
+                   @Nullable URI endpointOverride) {
         this.monitor = monitor;
         this.typeManager = typeManager;
-        retryPolicy = new RetryPolicy<>()
-                .withBackoff(500, 5000, ChronoUnit.MILLIS)
-                .withMaxRetries(3);
+        this.checkpointStore = checkpointStore;
+        this.retryPolicy = retryPolicy;
+        this.minPartSize = minPartSize;
+        this.endpointOverride = endpointOverride;
     }
 
+    /**
+     * Writes the object without a completion marker, as there is no data request to name it after.
+     */
     @Override
     public void write(DataAddress destination, String name, byte[] data, String secretToken) {
+        write(destination, name, null, data, secretToken);
+    }
+
+    @Override
+    public void write(DataRequest dataRequest, DataReader reader, DataAddress source, String secretToken) {
+        var size = reader.size(source);
+        if (size <= minPartSize) {
+            write(dataRequest.getDataDestination(), dataRequest.getAssetId(), CompletionMarker.nameFor(dataRequest), reader.read(source), secretToken);
+            return;
+        }
+
+        var destination = dataRequest.getDataDestination();
+        var bucketName = destination.getProperty(S3BucketSchema.BUCKET_NAME);
+        var name = dataRequest.getAssetId();
+        var processId = dataRequest.getProcessId();
+
+        try (S3Client s3 = createClient(destination.getProperty(S3BucketSchema.REGION), secretToken)) {
+            var checkpoints = checkpointStore.getCheckpoints(processId);
+            var uploadId = checkpoints.get(UPLOAD_ID_CHECKPOINT);
+            var parts = new TreeMap<Integer, String>();
+            var partSize = partSizeFor(size);
+            var partCount = (int) ((size + partSize - 1) / partSize);
+
+            if (uploadId != null && String.valueOf(size).equals(checkpoints.get(SIZE_CHECKPOINT))) {
+                parts.putAll(parseParts(checkpoints));
+                monitor.info(format("Resuming upload of %s with %s of %s parts uploaded", name, parts.size(), partCount));
+            } else {
+                var request = CreateMultipartUploadRequest.builder().bucket(bucketName).key(name).build();
+                uploadId = Failsafe.with(retryPolicy).get(() -> s3.createMultipartUpload(request)).uploadId();
+                var started = clearParts(checkpoints);
+                started.put(UPLOAD_ID_CHECKPOINT, uploadId);
+                started.put(SIZE_CHECKPOINT, String.valueOf(size));
+                checkpointStore.checkpoint(processId, started);
+            }
+
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (parts.containsKey(partNumber)) {
+                    continue;
+                }
+                var offset = (long) (partNumber - 1) * partSize;
+                var data = reader.read(source, offset, (int) Math.min(partSize, size - offset));
+                var request = UploadPartRequest.builder().bucket(bucketName).key(name).uploadId(uploadId).partNumber(partNumber).build();
+                var eTag = Failsafe.with(retryPolicy).get(() -> s3.uploadPart(request, RequestBody.fromBytes(data))).eTag();
+                parts.put(partNumber, eTag);
+                checkpointStore.checkpoint(processId, Map.of(PART_CHECKPOINT_PREFIX + partNumber, eTag));
+            }
+
+            var completedParts = parts.entrySet().stream()
+                    .map(part -> CompletedPart.builder().partNumber(part.getKey()).eTag(part.getValue()).build())
+                    .collect(Collectors.toList());
+            var completeRequest = CompleteMultipartUploadRequest.builder().bucket(bucketName).key(name).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build();
+            Failsafe.with(retryPolicy).get(() -> s3.completeMultipartUpload(completeRequest));
+            Failsafe.with(retryPolicy).get(() -> s3.putObject(createRequest(bucketName, CompletionMarker.nameFor(dataRequest)), RequestBody.empty()));
+        } catch (S3Exception e) {
+            if (e.awsErrorDetails() != null && "NoSuchUpload".equals(e.awsErrorDetails().errorCode())) {
+                // the upload expired or was aborted, start a new one when the transfer is retried
+                var cleared = clearParts(checkpointStore.getCheckpoints(processId));
+                cleared.put(UPLOAD_ID_CHECKPOINT, null);
+                checkpointStore.checkpoint(processId, cleared);
+            }
+            throw new EdcException(format("Upload of %s interrupted: %s", name, e.getMessage()), e);
+        } catch (SdkException e) {
+            throw new EdcException(format("Upload of %s interrupted: %s", name, e.getMessage()), e);
+        }
+    }
+
+    private void write(DataAddress destination, String name, @Nullable String marker, byte[] data, String secretToken) {
 
         var bucketName = destination.getProperty(S3BucketSchema.BUCKET_NAME);
         var region = destination.getProperty(S3BucketSchema.REGION);
-        var awsSecretToken = typeManager.readValue(secretToken, AwsTemporarySecretToken.class);
 
 
-        try (S3Client s3 = S3Client.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(AwsSessionCredentials.create(awsSecretToken.getAccessKeyId(), awsSecretToken.getSecretAccessKey(), awsSecretToken.getSessionToken())))
-                .region(Region.of(region))
-                .build()) {
+        try (S3Client s3 = createClient(region, secretToken)) {
 
             String etag = null;
             PutObjectRequest request = createRequest(bucketName, name);
-            PutObjectRequest completionMarker = createRequest(bucketName, name + ".complete");
 
             try {
                 monitor.debug("Data request: begin transfer...");
                 var response = Failsafe.with(retryPolicy).get(() -> s3.putObject(request, RequestBody.fromBytes(data)));
-                var response2 = Failsafe.with(retryPolicy).get(() -> s3.putObject(completionMarker, RequestBody.empty()));
+                if (marker != null) {
+                    Failsafe.with(retryPolicy).get(() -> s3.putObject(createRequest(bucketName, marker), RequestBody.empty()));
+                }
                 monitor.debug("Data request done.");
                 etag = response.eTag();
             } catch (S3Exception tmpEx) {
@@ -63,6 +172,44 @@ class S3BucketWriter implements DataWriter {
         }
     }
 
+    /**
+     * Returns the part size of an object, which is at least the configured part size and large enough to stay within the S3 limit of 10,000 parts.
+     */
+    int partSizeFor(long size) {
+        return (int) Math.max(minPartSize, (size + MAX_PARTS - 1) / MAX_PARTS);
+    }
+
+    private Map<Integer, String> parseParts(Map<String, String> checkpoints) {
+        var parts = new HashMap<Integer, String>();
+        checkpoints.forEach((key, eTag) -> {
+            if (key.startsWith(PART_CHECKPOINT_PREFIX)) {
+                parts.put(Integer.parseInt(key.substring(PART_CHECKPOINT_PREFIX.length())), eTag);
+            }
+        });
+        return parts;
+    }
+
+    /**
+     * Returns checkpoints that remove the recorded parts of a previous upload.
+     */
+    private Map<String, String> clearParts(Map<String, String> checkpoints) {
+        var cleared = new HashMap<String, String>();
+        checkpoints.keySet().stream().filter(key -> key.startsWith(PART_CHECKPOINT_PREFIX)).forEach(key -> cleared.put(key, null));
+        return cleared;
+    }
+
+    private S3Client createClient(String region, String secretToken) {
+        var awsSecretToken = typeManager.readValue(secretToken, AwsTemporarySecretToken.class);
+        var builder = S3Client.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(AwsSessionCredentials.create(awsSecretToken.getAccessKeyId(), awsSecretToken.getSecretAccessKey(), awsSecretToken.getSessionToken())))
+                .region(Region.of(region));
+        if (endpointOverride != null) {
+            builder.endpointOverride(endpointOverride)
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).chunkedEncodingEnabled(false).checksumValidationEnabled(false).build());
+        }
+        return builder.build();
+    }
+
     private PutObjectRequest createRequest(String bucketName, String objectKey) {
         return PutObjectRequest.builder()
                 .bucket(bucketName)
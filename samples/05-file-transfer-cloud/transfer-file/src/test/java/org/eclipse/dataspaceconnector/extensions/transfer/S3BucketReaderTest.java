@@ -0,0 +1,144 @@
+package org.eclipse.dataspaceconnector.extensions.transfer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.dataspaceconnector.provision.aws.AwsTemporarySecretToken;
+import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the reader against a local HTTP server that serves a single object.
+ */
+class S3BucketReaderTest {
+    private static final String BUCKET = "test-bucket";
+    private static final String OBJECT = "asset-1";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+    private final TypeManager typeManager = new TypeManager();
+    private HttpServer server;
+    private S3BucketReader reader;
+    private byte[] content;
+    private DataAddress source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = new byte[4096];
+        new Random(42).nextBytes(content);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        var token = typeManager.writeValueAsString(new AwsTemporarySecretToken("access", "secret", "session", 0));
+        reader = new S3BucketReader(new SingleSecretVault("aws-credentials", token), typeManager, URI.create("http://127.0.0.1:" + server.getAddress().getPort()));
+        source = address(OBJECT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void size_readsContentLength() {
+        assertThat(reader.size(source)).isEqualTo(content.length);
+    }
+
+    @Test
+    void read_readsObject() {
+        assertThat(reader.read(source)).isEqualTo(content);
+    }
+
+    @Test
+    void read_readsRange() {
+        assertThat(reader.read(source, 1000, 24)).isEqualTo(Arrays.copyOfRange(content, 1000, 1024));
+        assertThat(ranges).containsExactly("bytes=1000-1023");
+    }
+
+    @Test
+    void read_failsForMissingObject() {
+        assertThatThrownBy(() -> reader.size(address("missing"))).isInstanceOf(EdcException.class);
+    }
+
+    private DataAddress address(String objectName) {
+        return DataAddress.Builder.newInstance()
+                .type(S3BucketSchema.TYPE)
+                .keyName("aws-credentials")
+                .property(S3BucketSchema.BUCKET_NAME, BUCKET)
+                .property(S3BucketSchema.REGION, "us-east-1")
+                .property(S3BucketReader.OBJECT_NAME, objectName)
+                .build();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!("/" + BUCKET + "/" + OBJECT).equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"object\"");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add("Content-Length", String.valueOf(content.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            var range = exchange.getRequestHeaders().getFirst("Range");
+            var body = content;
+            if (range != null) {
+                ranges.add(range);
+                var matcher = RANGE.matcher(range);
+                if (matcher.matches()) {
+                    body = Arrays.copyOfRange(content, Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)) + 1);
+                }
+            }
+            exchange.sendResponseHeaders(range != null ? 206 : 200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private static class SingleSecretVault implements Vault {
+        private final String key;
+        private final String secret;
+
+        SingleSecretVault(String key, String secret) {
+            this.key = key;
+            this.secret = secret;
+        }
+
+        @Override
+        public @Nullable String resolveSecret(String key) {
+            return this.key.equals(key) ? secret : null;
+        }
+
+        @Override
+        public VaultResponse storeSecret(String key, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public VaultResponse deleteSecret(String key) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.eclipse.dataspaceconnector.extensions.transfer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.jodah.failsafe.RetryPolicy;
+import org.eclipse.dataspaceconnector.provision.aws.AwsTemporarySecretToken;
+import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferCheckpointStore;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the writer against a local HTTP server that implements the S3 multipart upload operations.
+ */
+class S3BucketWriterTest {
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = 1024;
+    private static final Pattern COMPLETED_PART = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+
+    private final FakeS3 s3 = new FakeS3();
+    private final InMemoryCheckpointStore checkpointStore = new InMemoryCheckpointStore();
+    private final TypeManager typeManager = new TypeManager();
+    private HttpServer server;
+    private S3BucketWriter writer;
+    private byte[] content;
+    private DataRequest request;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", s3::handle);
+        server.start();
+
+        writer = new S3BucketWriter(new Monitor() {
+        }, typeManager, checkpointStore, new RetryPolicy<>().withMaxRetries(0), PART_SIZE, URI.create("http://127.0.0.1:" + server.getAddress().getPort()));
+
+        content = new byte[5 * PART_SIZE + 10];
+        new Random(42).nextBytes(content);
+        request = TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .dataRequest(DataRequest.Builder.newInstance()
+                        .id("request-1")
+                        .assetId("asset-1")
+                        .dataDestination(DataAddress.Builder.newInstance()
+                                .type(S3BucketSchema.TYPE)
+                                .property(S3BucketSchema.BUCKET_NAME, BUCKET)
+                                .property(S3BucketSchema.REGION, "us-east-1")
+                                .build())
+                        .build())
+                .build()
+                .getDataRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void write_uploadsInParts() {
+        write();
+
+        assertThat(s3.objects.get("/" + BUCKET + "/asset-1")).isEqualTo(content);
+        assertThat(s3.objects).containsKey("/" + BUCKET + "/request-1.complete");
+        assertThat(s3.uploadedParts).containsExactly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void write_resumesAfterInterruption() {
+        s3.failingPart = 4;
+        assertThatThrownBy(this::write).isInstanceOf(EdcException.class);
+        assertThat(s3.uploadedParts).containsExactly(1, 2, 3);
+        assertThat(checkpointStore.getCheckpoints(request.getProcessId()))
+                .containsEntry(S3BucketWriter.PART_CHECKPOINT_PREFIX + 3, "\"etag-3\"")
+                .doesNotContainKey(S3BucketWriter.PART_CHECKPOINT_PREFIX + 4);
+
+        s3.failingPart = 0;
+        s3.uploadedParts.clear();
+        write();
+
+        assertThat(s3.uploadedParts).containsExactly(4, 5, 6);
+        assertThat(s3.initiatedUploads.get()).isEqualTo(1);
+        assertThat(s3.objects.get("/" + BUCKET + "/asset-1")).isEqualTo(content);
+    }
+
+    @Test
+    void write_restartsWhenUploadExpired() {
+        s3.failingPart = 4;
+        assertThatThrownBy(this::write).isInstanceOf(EdcException.class);
+
+        s3.failingPart = 0;
+        s3.uploads.clear();
+        assertThatThrownBy(this::write).isInstanceOf(EdcException.class);
+        s3.uploadedParts.clear();
+        write();
+
+        assertThat(s3.uploadedParts).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(s3.initiatedUploads.get()).isEqualTo(2);
+        assertThat(s3.objects.get("/" + BUCKET + "/asset-1")).isEqualTo(content);
+    }
+
+    @Test
+    void partSizeFor_staysWithinPartLimit() {
+        assertThat(writer.partSizeFor(content.length)).isEqualTo(PART_SIZE);
+        assertThat(writer.partSizeFor(100L * 1024 * 1024 * 1024)).isEqualTo(10_737_419);
+    }
+
+    private void write() {
+        var token = typeManager.writeValueAsString(new AwsTemporarySecretToken("access", "secret", "session", 0));
+        writer.write(request, new ByteArrayReader(content), DataAddress.Builder.newInstance().type("test").build(), token);
+    }
+
+    /**
+     * Implements the multipart upload operations of S3 in memory. Uploading the part {@link #failingPart} is denied.
+     */
+    private static class FakeS3 {
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final List<Integer> uploadedParts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger initiatedUploads = new AtomicInteger();
+        private volatile int failingPart;
+
+        void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                var path = exchange.getRequestURI().getPath();
+                var query = parseQuery(exchange.getRequestURI().getRawQuery());
+                var body = exchange.getRequestBody().readAllBytes();
+                var method = exchange.getRequestMethod();
+
+                if ("POST".equals(method) && query.containsKey("uploads")) {
+                    var uploadId = "upload-" + initiatedUploads.incrementAndGet();
+                    uploads.put(uploadId, new ConcurrentHashMap<>());
+                    reply(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"><Bucket>" + BUCKET + "</Bucket><Key>" + path +
+                            "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+                } else if ("PUT".equals(method) && query.containsKey("partNumber")) {
+                    var partNumber = Integer.parseInt(query.get("partNumber"));
+                    var parts = uploads.get(query.get("uploadId"));
+                    if (parts == null) {
+                        reply(exchange, 404, "<Error><Code>NoSuchUpload</Code><Message>The specified upload does not exist.</Message></Error>");
+                    } else if (partNumber == failingPart) {
+                        reply(exchange, 403, "<Error><Code>AccessDenied</Code><Message>Access Denied</Message></Error>");
+                    } else {
+                        parts.put(partNumber, body);
+                        uploadedParts.add(partNumber);
+                        exchange.getResponseHeaders().add("ETag", "\"etag-" + partNumber + "\"");
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                } else if ("POST".equals(method) && query.containsKey("uploadId")) {
+                    var parts = uploads.remove(query.get("uploadId"));
+                    var object = new ByteArrayOutputStream();
+                    var matcher = COMPLETED_PART.matcher(new String(body, StandardCharsets.UTF_8));
+                    while (matcher.find()) {
+                        object.write(parts.get(Integer.parseInt(matcher.group(1))));
+                    }
+                    objects.put(path, object.toByteArray());
+                    reply(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"><Bucket>" + BUCKET + "</Bucket><Key>" + path +
+                            "</Key><ETag>\"complete\"</ETag></CompleteMultipartUploadResult>");
+                } else if ("PUT".equals(method)) {
+                    objects.put(path, body);
+                    exchange.getResponseHeaders().add("ETag", "\"object\"");
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(400, -1);
+                }
+            }
+        }
+
+        private void reply(HttpExchange exchange, int code, String xml) throws IOException {
+            var bytes = xml.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(code, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+
+        private Map<String, String> parseQuery(String query) {
+            var parameters = new HashMap<String, String>();
+            if (query != null) {
+                Arrays.stream(query.split("&")).map(parameter -> parameter.split("=", 2))
+                        .forEach(parameter -> parameters.put(parameter[0], parameter.length > 1 ? parameter[1] : ""));
+            }
+            return parameters;
+        }
+    }
+
+    private static class ByteArrayReader implements DataReader {
+        private final byte[] data;
+
+        ByteArrayReader(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public byte[] read(DataAddress source) {
+            return data;
+        }
+
+        @Override
+        public long size(DataAddress source) {
+            return data.length;
+        }
+
+        @Override
+        public byte[] read(DataAddress source, long offset, int length) {
+            return Arrays.copyOfRange(data, (int) offset, (int) Math.min(data.length, offset + length));
+        }
+    }
+
+    private static class InMemoryCheckpointStore implements TransferCheckpointStore {
+        private final Map<String, Map<String, String>> checkpoints = new HashMap<>();
+
+        @Override
+        public @NotNull Map<String, String> getCheckpoints(String processId) {
+            return new HashMap<>(checkpoints.getOrDefault(processId, Map.of()));
+        }
+
+        @Override
+        public void checkpoint(String processId, Map<String, String> values) {
+            var recorded = checkpoints.computeIfAbsent(processId, id -> new HashMap<>());
+            values.forEach((key, value) -> {
+                if (value == null) {
+                    recorded.remove(key);
+                } else {
+                    recorded.put(key, value);
+                }
+            });
+        }
+    }
+}
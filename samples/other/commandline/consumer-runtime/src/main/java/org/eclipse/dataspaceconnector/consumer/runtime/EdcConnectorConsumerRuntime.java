@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.ListIterator;
 
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.bootServiceExtensions;
+import static org.eclipse.dataspaceconnector.system.ExtensionLoader.closeVault;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadMonitor;
 import static org.eclipse.dataspaceconnector.system.ExtensionLoader.loadVault;
 
@@ -59,6 +60,7 @@ public class EdcConnectorConsumerRuntime {
         while (iter.hasPrevious()) {
             iter.previous().shutdown();
         }
+        closeVault(context);
         monitor.debug("Consumer runtime shutdown complete");
     }
 
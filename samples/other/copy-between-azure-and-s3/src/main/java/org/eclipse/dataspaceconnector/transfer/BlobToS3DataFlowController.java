@@ -6,6 +6,7 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowRoute;
 import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
@@ -14,11 +15,16 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 public class BlobToS3DataFlowController implements DataFlowController {
     private static final List<String> ALLOWED_TYPES = Arrays.asList("AmazonS3", "AzureStorage");
+    private static final Set<DataFlowRoute> ROUTES = ALLOWED_TYPES.stream()
+            .flatMap(source -> ALLOWED_TYPES.stream().map(destination -> DataFlowRoute.of(source, destination)))
+            .collect(Collectors.toSet());
     private final Vault vault;
     private final Monitor monitor;
     private final TypeManager typeManager;
@@ -33,16 +39,20 @@ public class BlobToS3DataFlowController implements DataFlowController {
 
     @Override
     public boolean canHandle(DataRequest dataRequest) {
-
-        String sourceType = dataAddressResolver.resolveForAsset(dataRequest.getAssetId()).getType();
+        String sourceType = resolveSource(dataRequest).getType();
         String destinationType = dataRequest.getDestinationType();
 
         return verifyType(sourceType) && verifyType(destinationType);
     }
 
+    @Override
+    public Set<DataFlowRoute> routes() {
+        return ROUTES;
+    }
+
     @Override
     public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
-        DataAddress source = dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
+        DataAddress source = resolveSource(dataRequest);
         String destinationType = dataRequest.getDestinationType();
 
         var destSecretName = dataRequest.getDataDestination().getKeyName();
@@ -59,7 +69,7 @@ public class BlobToS3DataFlowController implements DataFlowController {
 
         var data = reader.read(source);
 
-        writer.write(dataRequest.getDataDestination(), dataRequest.getAssetId(), data, secret);
+        writer.write(dataRequest, data, secret);
 
         return DataFlowInitiateResponse.OK;
     }
@@ -86,6 +96,14 @@ public class BlobToS3DataFlowController implements DataFlowController {
         }
     }
 
+    /**
+     * Uses the source address resolved while routing the request, if any.
+     */
+    private DataAddress resolveSource(DataRequest dataRequest) {
+        var source = dataRequest.getSourceAddress();
+        return source != null ? source : dataAddressResolver.resolveForAsset(dataRequest.getAssetId());
+    }
+
     private boolean verifyType(String type) {
         return ALLOWED_TYPES.contains(type);
     }
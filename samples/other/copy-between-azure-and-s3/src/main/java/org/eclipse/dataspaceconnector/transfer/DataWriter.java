@@ -1,10 +1,18 @@
 package org.eclipse.dataspaceconnector.transfer;
 
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 
 import java.io.InputStream;
 
 @FunctionalInterface
 public interface DataWriter {
     void write(DataAddress destination, String name, InputStream data, String secretToken);
+
+    /**
+     * Writes the data of a transfer to its destination, under the name of the requested asset. The default writes no completion marker.
+     */
+    default void write(DataRequest dataRequest, InputStream data, String secretToken) {
+        write(dataRequest.getDataDestination(), dataRequest.getAssetId(), data, secretToken);
+    }
 }
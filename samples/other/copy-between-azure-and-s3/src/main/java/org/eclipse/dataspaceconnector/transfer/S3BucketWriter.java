@@ -6,7 +6,10 @@ import org.eclipse.dataspaceconnector.provision.aws.AwsTemporarySecretToken;
 import org.eclipse.dataspaceconnector.schema.s3.S3BucketSchema;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -32,8 +35,20 @@ class S3BucketWriter implements DataWriter {
                 .withMaxRetries(3);
     }
 
+    /**
+     * Writes the object without a completion marker, as there is no data request to name it after.
+     */
     @Override
     public void write(DataAddress destination, String name, InputStream data, String secretToken) {
+        write(destination, name, null, data, secretToken);
+    }
+
+    @Override
+    public void write(DataRequest dataRequest, InputStream data, String secretToken) {
+        write(dataRequest.getDataDestination(), dataRequest.getAssetId(), CompletionMarker.nameFor(dataRequest), data, secretToken);
+    }
+
+    private void write(DataAddress destination, String name, @Nullable String marker, InputStream data, String secretToken) {
         //        if (!(secretToken instanceof AwsSecretToken)) {
         //            throw new IllegalArgumentException("Can only handle AwsSecretTokens!");
         //        }
@@ -50,12 +65,13 @@ class S3BucketWriter implements DataWriter {
 
             String etag = null;
             PutObjectRequest request = createRequest(bucketName, name);
-            PutObjectRequest completionMarker = createRequest(bucketName, name + ".complete");
 
             try {
                 monitor.debug("Data request: begin transfer...");
                 var response = Failsafe.with(retryPolicy).get(() -> s3.putObject(request, RequestBody.fromBytes(data.readAllBytes())));
-                var response2 = Failsafe.with(retryPolicy).get(() -> s3.putObject(completionMarker, RequestBody.empty()));
+                if (marker != null) {
+                    Failsafe.with(retryPolicy).get(() -> s3.putObject(createRequest(bucketName, marker), RequestBody.empty()));
+                }
                 monitor.debug("Data request done.");
                 etag = response.eTag();
             } catch (S3Exception tmpEx) {
@@ -25,6 +25,7 @@ import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
@@ -71,12 +72,12 @@ public class DemoS3FlowController implements DataFlowController {
         var region = dataRequest.getDataDestination().getProperty(S3BucketSchema.REGION);
         var dt = typeManager.readValue(awsSecret, AwsTemporarySecretToken.class);
 
-        return copyToBucket(bucketName, region, dt);
+        return copyToBucket(bucketName, region, dt, CompletionMarker.nameFor(dataRequest));
 
     }
 
     @NotNull
-    private DataFlowInitiateResponse copyToBucket(String bucketName, String region, AwsTemporarySecretToken dt) {
+    private DataFlowInitiateResponse copyToBucket(String bucketName, String region, AwsTemporarySecretToken dt, String marker) {
 
 
         try (S3Client s3 = S3Client.builder()
@@ -86,7 +87,7 @@ public class DemoS3FlowController implements DataFlowController {
 
             String etag = null;
             PutObjectRequest request = createRequest(bucketName, "demo-image");
-            PutObjectRequest completionMarker = createRequest(bucketName, "asdf.complete");
+            PutObjectRequest completionMarker = createRequest(bucketName, marker);
 
             try {
                 monitor.debug("Data request: begin transfer...");
@@ -90,6 +90,7 @@ public class EndToEndTest {
 
         DataFlowController controllerMock = EasyMock.createMock(DataFlowController.class);
 
+        EasyMock.expect(controllerMock.routes()).andReturn(Set.of());
         EasyMock.expect(controllerMock.canHandle(EasyMock.isA(DataRequest.class))).andReturn(true);
         EasyMock.expect(controllerMock.initiateFlow(EasyMock.isA(DataRequest.class))).andAnswer(() -> {
             latch.countDown();
@@ -99,6 +99,7 @@ include(":extensions:dataloading:dataloading-asset")
 include(":extensions:dataloading:dataloading-contractdef")
 include(":extensions:policy:ids-policy")
 include(":extensions:jdk-logger-monitor")
+include(":extensions:metrics:lifecycle-timing")
 
 // modules for launchers, i.e. runnable compositions of the app
 include(":launchers:basic")
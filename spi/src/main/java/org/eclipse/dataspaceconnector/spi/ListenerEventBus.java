@@ -0,0 +1,362 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi;
+
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers listener callbacks asynchronously, each listener on its own bounded queues.
+ * <p>
+ * Every listener gets a fixed number of stripes, each consisting of a bounded queue and a daemon thread. Events carry a key, typically the id of the
+ * transfer process or negotiation, and all events with the same key go to the same stripe, so a listener sees the events of one process in the order
+ * they were published. A slow listener only delays itself; when its queue is full, its {@link OverflowPolicy} decides whether the publisher waits or
+ * an event is dropped. Listener failures are logged and do not affect other listeners.
+ * <p>
+ * Queue depth is reported as the gauge {@code edc.events.queue.depth} and dropped events as the counter {@code edc.events.dropped}, both tagged with
+ * the bus and listener name.
+ */
+public class ListenerEventBus<T> implements AutoCloseable {
+
+    @EdcSetting
+    public static final String ASYNC_SETTING = "edc.events.async";
+
+    @EdcSetting
+    public static final String QUEUE_SIZE_SETTING = "edc.events.queue.size";
+
+    @EdcSetting
+    public static final String STRIPES_SETTING = "edc.events.stripes";
+
+    /**
+     * Default overflow policy; {@code edc.events.overflow.<listener class simple name>} overrides it per listener.
+     */
+    @EdcSetting
+    public static final String OVERFLOW_SETTING = "edc.events.overflow";
+
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+    public static final int DEFAULT_STRIPES = 1;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    /**
+     * Decides what happens to an event when the queue of a listener is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The publisher waits until the listener has made room.
+         */
+        BLOCK,
+
+        /**
+         * The new event is discarded.
+         */
+        DROP_NEWEST,
+
+        /**
+         * The oldest queued event is discarded to make room for the new one.
+         */
+        DROP_OLDEST
+    }
+
+    private final String name;
+    private final int queueSize;
+    private final int stripes;
+    private final Function<T, OverflowPolicy> overflowPolicy;
+    private final MetricsRegistry metrics;
+    private final Monitor monitor;
+    private final Map<T, ListenerQueue> queues = new ConcurrentHashMap<>();
+    private volatile boolean active = true;
+
+    private ListenerEventBus(String name, int queueSize, int stripes, Function<T, OverflowPolicy> overflowPolicy, MetricsRegistry metrics, Monitor monitor) {
+        this.name = name;
+        this.queueSize = queueSize;
+        this.stripes = stripes;
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Creates a bus from the {@code edc.events.*} settings, or returns null if asynchronous delivery is not enabled.
+     */
+    public static @Nullable <T> ListenerEventBus<T> fromSettings(String name, ServiceExtensionContext context, MetricsRegistry metrics) {
+        if (!Boolean.parseBoolean(context.getSetting(ASYNC_SETTING, "false"))) {
+            return null;
+        }
+        var defaultPolicy = context.getSetting(OVERFLOW_SETTING, OverflowPolicy.BLOCK.name());
+        return ListenerEventBus.Builder.<T>newInstance()
+                .name(name)
+                .queueSize(Integer.parseInt(context.getSetting(QUEUE_SIZE_SETTING, String.valueOf(DEFAULT_QUEUE_SIZE))))
+                .stripes(Integer.parseInt(context.getSetting(STRIPES_SETTING, String.valueOf(DEFAULT_STRIPES))))
+                .overflowPolicy(listener -> OverflowPolicy.valueOf(context.getSetting(OVERFLOW_SETTING + "." + listener.getClass().getSimpleName(), defaultPolicy).toUpperCase()))
+                .metrics(metrics)
+                .monitor(context.getMonitor())
+                .build();
+    }
+
+    /**
+     * Queues the action for each of the listeners. Actions published with the same key are delivered to a listener in publishing order.
+     */
+    public void publish(String key, Collection<T> listeners, Consumer<T> action) {
+        for (var listener : listeners) {
+            if (!active) {
+                // the workers are gone, deliver on the caller
+                deliver(listener, action);
+                continue;
+            }
+            queues.computeIfAbsent(listener, ListenerQueue::new).offer(key, () -> deliver(listener, action));
+        }
+    }
+
+    /**
+     * Stops the queues of a listener after the events queued for it have been delivered.
+     */
+    public void remove(T listener) {
+        var queue = queues.remove(listener);
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered to the listener.
+     */
+    public int getQueueDepth(T listener) {
+        var queue = queues.get(listener);
+        return queue != null ? queue.depth() : 0;
+    }
+
+    /**
+     * Returns the number of events dropped for the listener.
+     */
+    public long getDropped(T listener) {
+        var queue = queues.get(listener);
+        return queue != null ? queue.dropped.get() : 0;
+    }
+
+    /**
+     * Stops accepting events, delivers the queued ones and waits for the workers to finish.
+     */
+    @Override
+    public void close() {
+        active = false;
+        queues.values().forEach(ListenerQueue::stop);
+        queues.values().forEach(queue -> queue.await(TimeUnit.SECONDS.toMillis(5)));
+        queues.clear();
+    }
+
+    private void deliver(T listener, Consumer<T> action) {
+        try {
+            action.accept(listener);
+        } catch (Exception e) {
+            monitor.warning(format("Listener %s failed to handle event", listener.getClass().getName()), e);
+        }
+    }
+
+    private class ListenerQueue {
+        private final OverflowPolicy policy;
+        private final List<Stripe> stripeQueues = new ArrayList<>();
+        private final Counter droppedCounter;
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile boolean running = true;
+
+        ListenerQueue(T listener) {
+            policy = Objects.requireNonNull(overflowPolicy.apply(listener), "overflowPolicy");
+            var listenerName = listener.getClass().getSimpleName().isEmpty() ? listener.getClass().getName() : listener.getClass().getSimpleName();
+            for (int i = 0; i < stripes; i++) {
+                stripeQueues.add(new Stripe(format("edc-events-%s-%s-%s", name, listenerName, i)));
+            }
+            droppedCounter = metrics.counter("edc.events.dropped", "bus", name, "listener", listenerName);
+            metrics.gauge("edc.events.queue.depth", this::depth, "bus", name, "listener", listenerName);
+        }
+
+        void offer(String key, Runnable event) {
+            if (!running) {
+                // removed while publishing, deliver on the caller
+                event.run();
+                return;
+            }
+            var queue = stripeQueues.get(Math.floorMod(Objects.hashCode(key), stripeQueues.size())).queue;
+            if (queue.offer(event)) {
+                return;
+            }
+            switch (policy) {
+                case DROP_NEWEST:
+                    drop();
+                    break;
+                case DROP_OLDEST:
+                    while (!queue.offer(event)) {
+                        if (queue.poll() != null) {
+                            drop();
+                        }
+                    }
+                    break;
+                default:
+                    try {
+                        while (!queue.offer(event, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                            if (!running) {
+                                event.run();
+                                return;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        drop();
+                    }
+                    break;
+            }
+        }
+
+        void drop() {
+            dropped.incrementAndGet();
+            droppedCounter.increment();
+        }
+
+        int depth() {
+            var depth = 0;
+            for (var stripe : stripeQueues) {
+                depth += stripe.queue.size();
+            }
+            return depth;
+        }
+
+        void stop() {
+            running = false;
+        }
+
+        void await(long millis) {
+            try {
+                for (var stripe : stripeQueues) {
+                    stripe.worker.join(millis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private class Stripe {
+            private final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueSize);
+            private final Thread worker;
+
+            Stripe(String threadName) {
+                worker = new Thread(this::drain, threadName);
+                worker.setDaemon(true);
+                worker.start();
+            }
+
+            private void drain() {
+                while (running || !queue.isEmpty()) {
+                    try {
+                        var event = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        if (event != null) {
+                            event.run();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    public static class Builder<T> {
+        private String name = "default";
+        private int queueSize = DEFAULT_QUEUE_SIZE;
+        private int stripes = DEFAULT_STRIPES;
+        private Function<T, OverflowPolicy> overflowPolicy = listener -> OverflowPolicy.BLOCK;
+        private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
+        private Monitor monitor;
+
+        private Builder() {
+        }
+
+        public static <T> Builder<T> newInstance() {
+            return new Builder<>();
+        }
+
+        public Builder<T> name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder<T> queueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public Builder<T> stripes(int stripes) {
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Sets the same overflow policy for all listeners.
+         */
+        public Builder<T> overflowPolicy(OverflowPolicy overflowPolicy) {
+            Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            this.overflowPolicy = listener -> overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Resolves the overflow policy for each listener when its queues are created.
+         */
+        public Builder<T> overflowPolicy(Function<T, OverflowPolicy> overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder<T> metrics(MetricsRegistry metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Builder<T> monitor(Monitor monitor) {
+            this.monitor = monitor;
+            return this;
+        }
+
+        public ListenerEventBus<T> build() {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            Objects.requireNonNull(metrics, "metrics");
+            Objects.requireNonNull(monitor, "monitor");
+            if (queueSize < 1 || stripes < 1) {
+                throw new IllegalArgumentException("Queue size and stripes must be at least 1");
+            }
+            return new ListenerEventBus<>(name, queueSize, stripes, overflowPolicy, metrics, monitor);
+        }
+    }
+}
@@ -14,13 +14,16 @@
 
 package org.eclipse.dataspaceconnector.spi;
 
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 
 public abstract class Observable<T> {
 
     private final Collection<T> listeners;
+    private volatile ListenerEventBus<T> eventBus;
 
     protected Observable() {
         listeners = new ConcurrentLinkedQueue<>();
@@ -39,5 +42,35 @@ public abstract class Observable<T> {
 
     public void unregisterListener(T listener) {
         listeners.remove(listener);
+        var bus = eventBus;
+        if (bus != null) {
+            bus.remove(listener);
+        }
+    }
+
+    /**
+     * Delivers subsequent events through the bus instead of on the calling thread; null restores synchronous delivery.
+     */
+    public void setEventBus(@Nullable ListenerEventBus<T> eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Returns true if listeners are invoked asynchronously, in which case they must be handed objects that are not modified afterwards.
+     */
+    public boolean isAsync() {
+        return eventBus != null;
+    }
+
+    /**
+     * Invokes the action on each listener. In asynchronous mode, the actions for one key are delivered to a listener in the order they were invoked.
+     */
+    protected void invokeForEach(String key, Consumer<T> action) {
+        var bus = eventBus;
+        if (bus == null) {
+            listeners.forEach(action);
+        } else {
+            bus.publish(key, listeners, action);
+        }
     }
 }
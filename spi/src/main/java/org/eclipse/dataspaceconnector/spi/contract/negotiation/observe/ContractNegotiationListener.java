@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.contract.negotiation.observe;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+
+/**
+ * Receives a callback whenever a {@link ContractNegotiation} has been stored in a new state.
+ */
+public interface ContractNegotiationListener {
+    default void initiated(ContractNegotiation negotiation) {
+    }
+
+    default void requesting(ContractNegotiation negotiation) {
+    }
+
+    default void requested(ContractNegotiation negotiation) {
+    }
+
+    default void offering(ContractNegotiation negotiation) {
+    }
+
+    default void offered(ContractNegotiation negotiation) {
+    }
+
+    default void approving(ContractNegotiation negotiation) {
+    }
+
+    default void approved(ContractNegotiation negotiation) {
+    }
+
+    default void declining(ContractNegotiation negotiation) {
+    }
+
+    default void declined(ContractNegotiation negotiation) {
+    }
+
+    default void confirming(ContractNegotiation negotiation) {
+    }
+
+    default void confirmed(ContractNegotiation negotiation) {
+    }
+
+    default void error(ContractNegotiation negotiation) {
+    }
+}
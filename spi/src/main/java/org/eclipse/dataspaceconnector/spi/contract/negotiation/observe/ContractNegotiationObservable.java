@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.contract.negotiation.observe;
+
+import org.eclipse.dataspaceconnector.spi.Observable;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+
+/**
+ * Notifies registered {@link ContractNegotiationListener}s about state changes of consumer and provider negotiations.
+ */
+public abstract class ContractNegotiationObservable extends Observable<ContractNegotiationListener> {
+
+    /**
+     * Invokes the listener callback that corresponds to the current state of the negotiation. In asynchronous mode, listeners receive a copy taken
+     * when the state changed and see the changes of one negotiation in order.
+     */
+    public void stateChanged(ContractNegotiation current) {
+        var negotiation = isAsync() ? current.copy() : current;
+        var state = ContractNegotiationStates.from(negotiation.getState());
+        if (state == null) {
+            return;
+        }
+        switch (state) {
+            case UNSAVED:
+                invokeForEach(negotiation.getId(), l -> l.initiated(negotiation));
+                break;
+            case REQUESTING:
+                invokeForEach(negotiation.getId(), l -> l.requesting(negotiation));
+                break;
+            case REQUESTED:
+                invokeForEach(negotiation.getId(), l -> l.requested(negotiation));
+                break;
+            case PROVIDER_OFFERING:
+            case CONSUMER_OFFERING:
+                invokeForEach(negotiation.getId(), l -> l.offering(negotiation));
+                break;
+            case PROVIDER_OFFERED:
+            case CONSUMER_OFFERED:
+                invokeForEach(negotiation.getId(), l -> l.offered(negotiation));
+                break;
+            case CONSUMER_APPROVING:
+                invokeForEach(negotiation.getId(), l -> l.approving(negotiation));
+                break;
+            case CONSUMER_APPROVED:
+                invokeForEach(negotiation.getId(), l -> l.approved(negotiation));
+                break;
+            case DECLINING:
+                invokeForEach(negotiation.getId(), l -> l.declining(negotiation));
+                break;
+            case DECLINED:
+                invokeForEach(negotiation.getId(), l -> l.declined(negotiation));
+                break;
+            case CONFIRMING:
+                invokeForEach(negotiation.getId(), l -> l.confirming(negotiation));
+                break;
+            case CONFIRMED:
+                invokeForEach(negotiation.getId(), l -> l.confirmed(negotiation));
+                break;
+            case ERROR:
+                invokeForEach(negotiation.getId(), l -> l.error(negotiation));
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.contract.offer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A monotonically increasing version of the data offered by this connector. Stores that contribute to the catalog, e.g. the
+ * {@link org.eclipse.dataspaceconnector.spi.asset.AssetIndex}, the {@link org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore}
+ * or the {@link org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry}, increment it whenever they change, which allows consumers to cache derived
+ * representations of the catalog for as long as the version stays the same.
+ */
+public class CatalogVersion {
+
+    public static final String FEATURE = "edc:catalog-version";
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Returns the current version.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Signals that the catalog has changed.
+     *
+     * @return the new version
+     */
+    public long increment() {
+        return version.incrementAndGet();
+    }
+}
@@ -14,14 +14,27 @@
 
 package org.eclipse.dataspaceconnector.spi.iam;
 
+import org.eclipse.dataspaceconnector.spi.EdcException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Models a token containing claims such as a JWT.
  * Currently only a String representation of claims values is supported.
  */
 public class ClaimToken {
+    /**
+     * Claims that differ between tokens issued to the same party: the issue, expiry and not-before times and the token id.
+     */
+    public static final Set<String> TOKEN_INSTANCE_CLAIMS = Set.of("iat", "exp", "nbf", "jti");
+
     private final Map<String, String> claims = new HashMap<>();
 
     private ClaimToken() {
@@ -34,6 +47,25 @@ public class ClaimToken {
         return claims;
     }
 
+    /**
+     * Returns a digest of the claims except the {@link #TOKEN_INSTANCE_CLAIMS}, independent of their order. Tokens issued to the same party with the
+     * same claims have the same fingerprint, so it can key values derived from the claims, such as policy decisions.
+     */
+    public String getPartyFingerprint() {
+        var builder = new StringBuilder();
+        new TreeMap<>(claims).forEach((claim, value) -> {
+            if (!TOKEN_INSTANCE_CLAIMS.contains(claim)) {
+                builder.append(claim).append('\u0000').append(value).append('\u0000');
+            }
+        });
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
     public static class Builder {
         private final ClaimToken token;
 
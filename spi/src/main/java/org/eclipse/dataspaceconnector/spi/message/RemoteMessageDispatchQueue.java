@@ -0,0 +1,356 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.message;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Bounds the number of remote messages that are in flight at the same time, both in total and per counterparty.
+ * <p>
+ * Messages that cannot be started right away are held in a bounded FIFO queue and started as soon as a slot towards their counterparty frees up. If a message
+ * cannot be admitted, the returned future is completed exceptionally so the calling state machine can retry it on a later pass.
+ * <p>
+ * The totals are reported as the gauges {@code edc.dispatcher.inflight} and {@code edc.dispatcher.queue.depth}, tagged with the {@code registry} name of
+ * the queue; the same gauges additionally tagged with {@code counterparty} are registered for each counterparty when the first message towards it is
+ * submitted.
+ */
+public class RemoteMessageDispatchQueue {
+
+    @EdcSetting
+    public static final String MAX_IN_FLIGHT_SETTING = "edc.dispatcher.inflight.max";
+
+    @EdcSetting
+    public static final String MAX_IN_FLIGHT_PER_COUNTERPARTY_SETTING = "edc.dispatcher.inflight.counterparty.max";
+
+    @EdcSetting
+    public static final String MAX_QUEUED_SETTING = "edc.dispatcher.queue.max";
+
+    @EdcSetting
+    public static final String ADMISSION_POLICY_SETTING = "edc.dispatcher.admission";
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_COUNTERPARTY = 16;
+    public static final int DEFAULT_MAX_QUEUED = 1024;
+
+    private static final String UNKNOWN_COUNTERPARTY = "";
+
+    /**
+     * Determines what happens to a message that cannot be started immediately.
+     */
+    public enum AdmissionPolicy {
+        /**
+         * Hold the message in the queue until a slot frees up; reject it only if the queue is full.
+         */
+        QUEUE,
+
+        /**
+         * Reject the message right away.
+         */
+        REJECT
+    }
+
+    private final Object lock = new Object();
+    private final Deque<PendingDispatch<?>> queue = new ArrayDeque<>();
+    private final Map<String, Integer> inFlightByCounterParty = new HashMap<>();
+    private final Map<String, Integer> queuedByCounterParty = new HashMap<>();
+    private final Set<String> reportedCounterParties = ConcurrentHashMap.newKeySet();
+    private int inFlight;
+    private boolean draining;
+    private String name = "default";
+    private MetricsRegistry metrics = NoopMetricsRegistry.INSTANCE;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int maxInFlightPerCounterParty = DEFAULT_MAX_IN_FLIGHT_PER_COUNTERPARTY;
+    private int maxQueued = DEFAULT_MAX_QUEUED;
+    private AdmissionPolicy admissionPolicy = AdmissionPolicy.QUEUE;
+
+    private RemoteMessageDispatchQueue() {
+    }
+
+    /**
+     * Creates a queue from the {@code edc.dispatcher.*} settings that reports its load to the given registry.
+     *
+     * @param name the name of the dispatcher registry using the queue, e.g. {@code contract} or {@code transfer}, reported as the {@code registry} tag
+     */
+    public static RemoteMessageDispatchQueue fromSettings(String name, ServiceExtensionContext context, MetricsRegistry metrics) {
+        return Builder.newInstance()
+                .name(name)
+                .maxInFlight(Integer.parseInt(context.getSetting(MAX_IN_FLIGHT_SETTING, String.valueOf(DEFAULT_MAX_IN_FLIGHT))))
+                .maxInFlightPerCounterParty(Integer.parseInt(context.getSetting(MAX_IN_FLIGHT_PER_COUNTERPARTY_SETTING, String.valueOf(DEFAULT_MAX_IN_FLIGHT_PER_COUNTERPARTY))))
+                .maxQueued(Integer.parseInt(context.getSetting(MAX_QUEUED_SETTING, String.valueOf(DEFAULT_MAX_QUEUED))))
+                .admissionPolicy(AdmissionPolicy.valueOf(context.getSetting(ADMISSION_POLICY_SETTING, AdmissionPolicy.QUEUE.name()).toUpperCase()))
+                .metrics(metrics)
+                .build();
+    }
+
+    /**
+     * Submits a send operation towards the given counterparty. The operation is invoked immediately if the in-flight limits allow it, otherwise it is queued
+     * or rejected according to the {@link AdmissionPolicy}.
+     *
+     * @param counterParty the address of the counterparty, may be null if not known
+     * @param send         performs the actual send and returns its future
+     * @return a future that completes with the result of the send operation
+     */
+    public <T> CompletableFuture<T> submit(@Nullable String counterParty, Supplier<CompletableFuture<T>> send) {
+        var pending = new PendingDispatch<>(counterParty != null ? counterParty : UNKNOWN_COUNTERPARTY, send);
+        report(pending.counterParty);
+        synchronized (lock) {
+            if (canStart(pending.counterParty)) {
+                acquire(pending.counterParty);
+            } else if (admissionPolicy == AdmissionPolicy.QUEUE && queue.size() < maxQueued) {
+                queue.addLast(pending);
+                queuedByCounterParty.merge(pending.counterParty, 1, Integer::sum);
+                return pending.result;
+            } else {
+                pending.result.completeExceptionally(new EdcException(format("Dispatch rejected for counterparty %s: %s in flight, %s queued",
+                        pending.counterParty, inFlightByCounterParty.getOrDefault(pending.counterParty, 0), queue.size())));
+                return pending.result;
+            }
+        }
+        start(pending);
+        return pending.result;
+    }
+
+    /**
+     * Returns the total number of messages currently in flight.
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Returns the number of messages currently in flight towards the given counterparty.
+     */
+    public int getInFlight(String counterParty) {
+        synchronized (lock) {
+            return inFlightByCounterParty.getOrDefault(counterParty, 0);
+        }
+    }
+
+    /**
+     * Returns the total number of messages waiting for a free slot.
+     */
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting for a free slot towards the given counterparty.
+     */
+    public int getQueueDepth(String counterParty) {
+        synchronized (lock) {
+            return queuedByCounterParty.getOrDefault(counterParty, 0);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the in-flight counts keyed by counterparty.
+     */
+    public Map<String, Integer> getInFlightByCounterParty() {
+        synchronized (lock) {
+            return new HashMap<>(inFlightByCounterParty);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the queue depths keyed by counterparty.
+     */
+    public Map<String, Integer> getQueueDepthByCounterParty() {
+        synchronized (lock) {
+            return new HashMap<>(queuedByCounterParty);
+        }
+    }
+
+    /**
+     * Registers the gauges of a counterparty the first time a message towards it is submitted. Registration happens outside the lock, as the registry
+     * may read other gauges of this queue while registering.
+     */
+    private void report(String counterParty) {
+        if (reportedCounterParties.add(counterParty)) {
+            metrics.gauge("edc.dispatcher.inflight", () -> getInFlight(counterParty), "registry", name, "counterparty", counterParty);
+            metrics.gauge("edc.dispatcher.queue.depth", () -> getQueueDepth(counterParty), "registry", name, "counterparty", counterParty);
+        }
+    }
+
+    private <T> void start(PendingDispatch<T> pending) {
+        CompletableFuture<T> future;
+        try {
+            future = pending.send.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        if (future == null) {
+            future = CompletableFuture.completedFuture(null);
+        }
+        future.whenComplete((result, throwable) -> {
+            release(pending.counterParty);
+            if (throwable != null) {
+                pending.result.completeExceptionally(throwable);
+            } else {
+                pending.result.complete(result);
+            }
+        });
+    }
+
+    private void release(String counterParty) {
+        synchronized (lock) {
+            inFlight--;
+            inFlightByCounterParty.computeIfPresent(counterParty, (k, count) -> count > 1 ? count - 1 : null);
+            if (draining) {
+                // the thread that is currently draining picks up the freed slot on its next pass
+                return;
+            }
+            draining = true;
+        }
+        drain();
+    }
+
+    /**
+     * Starts queued messages until no more slots are available. Only one thread drains at a time, which keeps synchronously completing sends from recursing.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                List<PendingDispatch<?>> startable;
+                synchronized (lock) {
+                    startable = pollStartable();
+                    if (startable.isEmpty()) {
+                        draining = false;
+                        return;
+                    }
+                }
+                for (var pending : startable) {
+                    start(pending);
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                draining = false;
+            }
+            throw e;
+        }
+    }
+
+    private List<PendingDispatch<?>> pollStartable() {
+        var startable = new ArrayList<PendingDispatch<?>>();
+        var iterator = queue.iterator();
+        while (iterator.hasNext() && inFlight < maxInFlight) {
+            var pending = iterator.next();
+            if (canStart(pending.counterParty)) {
+                iterator.remove();
+                queuedByCounterParty.computeIfPresent(pending.counterParty, (k, count) -> count > 1 ? count - 1 : null);
+                acquire(pending.counterParty);
+                startable.add(pending);
+            }
+        }
+        return startable;
+    }
+
+    private boolean canStart(String counterParty) {
+        return inFlight < maxInFlight && inFlightByCounterParty.getOrDefault(counterParty, 0) < maxInFlightPerCounterParty;
+    }
+
+    private void acquire(String counterParty) {
+        inFlight++;
+        inFlightByCounterParty.merge(counterParty, 1, Integer::sum);
+    }
+
+    private static class PendingDispatch<T> {
+        private final String counterParty;
+        private final Supplier<CompletableFuture<T>> send;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingDispatch(String counterParty, Supplier<CompletableFuture<T>> send) {
+            this.counterParty = counterParty;
+            this.send = send;
+        }
+    }
+
+    public static class Builder {
+        private final RemoteMessageDispatchQueue dispatchQueue;
+
+        private Builder() {
+            dispatchQueue = new RemoteMessageDispatchQueue();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            dispatchQueue.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder maxInFlightPerCounterParty(int maxInFlightPerCounterParty) {
+            dispatchQueue.maxInFlightPerCounterParty = maxInFlightPerCounterParty;
+            return this;
+        }
+
+        public Builder maxQueued(int maxQueued) {
+            dispatchQueue.maxQueued = maxQueued;
+            return this;
+        }
+
+        public Builder admissionPolicy(AdmissionPolicy admissionPolicy) {
+            dispatchQueue.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
+        public Builder name(String name) {
+            dispatchQueue.name = name;
+            return this;
+        }
+
+        public Builder metrics(MetricsRegistry metrics) {
+            dispatchQueue.metrics = metrics;
+            return this;
+        }
+
+        public RemoteMessageDispatchQueue build() {
+            if (dispatchQueue.maxInFlight < 1 || dispatchQueue.maxInFlightPerCounterParty < 1) {
+                throw new IllegalArgumentException("In-flight limits must be at least 1");
+            }
+            if (dispatchQueue.maxQueued < 0) {
+                throw new IllegalArgumentException("Queue size must not be negative");
+            }
+            dispatchQueue.metrics.gauge("edc.dispatcher.inflight", dispatchQueue::getInFlight, "registry", dispatchQueue.name);
+            dispatchQueue.metrics.gauge("edc.dispatcher.queue.depth", dispatchQueue::getQueueDepth, "registry", dispatchQueue.name);
+            return dispatchQueue;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+/**
+ * Tracks the distribution of recorded values, e.g. batch sizes.
+ */
+public interface Histogram extends Metric {
+
+    void record(double value);
+
+    HistogramSnapshot getSnapshot();
+}
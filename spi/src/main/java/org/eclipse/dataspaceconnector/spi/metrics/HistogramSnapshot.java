@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A point-in-time view of a {@link Histogram} or {@link Timer}.
+ * <p>
+ * Count and sum cover all recorded values, while quantiles are computed from the values retained by the implementation, typically the most recent ones.
+ */
+public class HistogramSnapshot {
+    public static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, new double[0]);
+
+    private final long count;
+    private final double sum;
+    private final double[] values;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param count  the number of recorded values
+     * @param sum    the sum of all recorded values
+     * @param values the retained values used to compute quantiles, will be sorted
+     */
+    public HistogramSnapshot(long count, double sum, double[] values) {
+        this.count = count;
+        this.sum = sum;
+        this.values = values.clone();
+        Arrays.sort(this.values);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the largest retained value.
+     */
+    public double getMax() {
+        return values.length == 0 ? 0 : values[values.length - 1];
+    }
+
+    /**
+     * Returns the value at the given quantile of the retained values, using the nearest-rank method.
+     *
+     * @param quantile a value between 0 and 1, e.g. 0.99 for the 99th percentile
+     */
+    public double getValue(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (values.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(quantile * values.length);
+        return values[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * Returns the number of retained values.
+     */
+    public int size() {
+        return values.length;
+    }
+}
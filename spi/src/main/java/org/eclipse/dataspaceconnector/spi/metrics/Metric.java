@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.Map;
+
+/**
+ * Base type of all metrics.
+ */
+public interface Metric {
+
+    /**
+     * Returns the name of the metric.
+     */
+    String getName();
+
+    /**
+     * Returns the tags of the metric, sorted by key.
+     */
+    Map<String, String> getTags();
+}
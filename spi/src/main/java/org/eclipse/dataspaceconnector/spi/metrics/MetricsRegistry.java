@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.Collection;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Creates and holds the metrics of a runtime.
+ * <p>
+ * A metric is identified by its name and tags. Tags are passed as alternating key/value pairs, e.g. {@code counter("edc.transfer.processed", "state", "INITIAL")}.
+ * Requesting a metric that already exists returns the existing instance, so callers may look metrics up on every use.
+ */
+public interface MetricsRegistry {
+
+    String FEATURE = "edc:metrics";
+
+    /**
+     * Returns the counter with the given name and tags, creating it if necessary.
+     */
+    Counter counter(String name, String... tags);
+
+    /**
+     * Registers a gauge that reports the value of the given supplier whenever it is read. If the gauge already exists, the existing instance is returned.
+     */
+    Gauge gauge(String name, DoubleSupplier value, String... tags);
+
+    /**
+     * Returns the timer with the given name and tags, creating it if necessary.
+     */
+    Timer timer(String name, String... tags);
+
+    /**
+     * Returns the histogram with the given name and tags, creating it if necessary.
+     */
+    Histogram histogram(String name, String... tags);
+
+    /**
+     * Returns all registered metrics.
+     */
+    Collection<Metric> getMetrics();
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A registry that discards all recorded values. Used by components that are created without a {@link MetricsRegistry}.
+ */
+public class NoopMetricsRegistry implements MetricsRegistry {
+    public static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private static final NoopMetric NOOP = new NoopMetric();
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return NOOP;
+    }
+
+    @Override
+    public Gauge gauge(String name, DoubleSupplier value, String... tags) {
+        return NOOP;
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return NOOP;
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+        return NOOP;
+    }
+
+    @Override
+    public Collection<Metric> getMetrics() {
+        return Collections.emptyList();
+    }
+
+    private static class NoopMetric implements Counter, Gauge, Timer, Histogram {
+
+        @Override
+        public String getName() {
+            return "noop";
+        }
+
+        @Override
+        public Map<String, String> getTags() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public void increment(long amount) {
+        }
+
+        @Override
+        public long getCount() {
+            return 0;
+        }
+
+        @Override
+        public double getValue() {
+            return 0;
+        }
+
+        @Override
+        public void record(long amount, TimeUnit unit) {
+        }
+
+        @Override
+        public void record(double value) {
+        }
+
+        @Override
+        public HistogramSnapshot getSnapshot() {
+            return HistogramSnapshot.EMPTY;
+        }
+    }
+}
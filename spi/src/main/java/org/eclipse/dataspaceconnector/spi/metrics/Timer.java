@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the distribution of durations. Snapshots report durations in seconds.
+ */
+public interface Timer extends Metric {
+
+    void record(long amount, TimeUnit unit);
+
+    default void record(Duration duration) {
+        record(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time elapsed since the given {@link System#nanoTime()} value.
+     */
+    default void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Invokes the supplier and records its execution time, also if it fails.
+     */
+    default <T> T time(Supplier<T> supplier) {
+        var start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            recordSince(start);
+        }
+    }
+
+    HistogramSnapshot getSnapshot();
+}
@@ -19,9 +19,33 @@ import java.util.function.Supplier;
 
 /**
  * System monitoring and logging interface.
+ * <p>
+ * Messages passed as {@link Supplier} are only built if the respective level is enabled. Callers that need to do more work than building a string,
+ * e.g. collecting data for a message, can check the level with {@link #isDebugEnabled()} and friends beforehand.
  */
 public interface Monitor {
 
+    /**
+     * Returns true if warning messages are emitted.
+     */
+    default boolean isWarningEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns true if info messages are emitted.
+     */
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns true if debug messages are emitted.
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
     default void severe(Supplier<String> supplier, Throwable... errors) {
     }
 
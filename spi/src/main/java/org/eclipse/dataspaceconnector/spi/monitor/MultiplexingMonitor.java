@@ -30,6 +30,21 @@ public class MultiplexingMonitor implements Monitor {
         internalMonitors = monitors;
     }
 
+    @Override
+    public boolean isWarningEnabled() {
+        return internalMonitors.stream().anyMatch(Monitor::isWarningEnabled);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return internalMonitors.stream().anyMatch(Monitor::isInfoEnabled);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return internalMonitors.stream().anyMatch(Monitor::isDebugEnabled);
+    }
+
     @Override
     public void severe(Supplier<String> supplier, Throwable... errors) {
         internalMonitors.forEach(m -> m.severe(supplier, errors));
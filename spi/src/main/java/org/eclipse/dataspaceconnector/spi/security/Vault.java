@@ -16,6 +16,8 @@ package org.eclipse.dataspaceconnector.spi.security;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Provides secrets such as certificates and keys to the runtime.
  */
@@ -38,6 +40,19 @@ public interface Vault {
      */
     VaultResponse storeSecret(String key, String value);
 
+    /**
+     * Saves a secret without waiting for the vault to persist it. The secret can be resolved as soon as this method returns; the returned future
+     * completes once it has been persisted, or with an error response if that failed.
+     * <br/>
+     * The default implementation stores the secret synchronously.
+     *
+     * @param key   the secret key
+     * @param value the serialized secret value
+     */
+    default CompletableFuture<VaultResponse> storeSecretAsync(String key, String value) {
+        return CompletableFuture.completedFuture(storeSecret(key, value));
+    }
+
     /**
      * Deletes a secret. Depending on the vault implementation, this might mean a soft delete, or no be even permissible.
      *
@@ -37,6 +37,22 @@ public interface ServiceExtension extends SystemExtension {
         return Collections.emptySet();
     }
 
+    /**
+     * Returns the service types this extension registers with {@link ServiceExtensionContext#registerService(Class, Object)}. Must be declared for
+     * {@link Activation#LAZY} activation.
+     */
+    default Set<Class<?>> registeredServices() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns when the extension is initialized and started if the runtime boots with lazy activation. Otherwise, all extensions are activated
+     * eagerly.
+     */
+    default Activation activation() {
+        return Activation.EAGER;
+    }
+
     /**
      * Returns the load phase for the extension.
      */
@@ -69,4 +85,23 @@ public interface ServiceExtension extends SystemExtension {
         PRIMORDIAL,
         DEFAULT
     }
+
+    /**
+     * Defines when an extension is activated if the runtime boots with lazy activation.
+     */
+    enum Activation {
+        /**
+         * Initialized and started on boot.
+         */
+        EAGER,
+        /**
+         * Initialized and started when one of its {@link #registeredServices()} is first requested from the context. Activated on boot if an
+         * eagerly activated extension requires one of its features.
+         */
+        LAZY,
+        /**
+         * Initialized on boot, started after the runtime is ready. Intended for extensions that only run background work.
+         */
+        DEFERRED_START
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Records the progress of data flows, such as committed byte offsets or uploaded part ids, in the properties of their
+ * {@link org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess}. A flow that is interrupted and retried reads its checkpoints
+ * back and resumes from there instead of transferring all data again.
+ * <br/>
+ * Checkpoints are persisted with the process asynchronously; a flow must tolerate resuming from a checkpoint that is older than the last one it
+ * recorded.
+ */
+public interface TransferCheckpointStore {
+
+    /**
+     * Returns the checkpoints recorded for the process, or an empty map if there are none or the process is not known.
+     */
+    @NotNull
+    Map<String, String> getCheckpoints(String processId);
+
+    /**
+     * Records checkpoints for the process, replacing the values of existing keys. A null value removes the key.
+     */
+    void checkpoint(String processId, Map<String, String> checkpoints);
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.transfer;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives completion notifications pushed by data planes and transfer functions.
+ * <br/>
+ * A notified process is transitioned on the next iteration of the {@link TransferProcessManager} without consulting its
+ * {@link org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker}. Processes that are never notified are still polled, at a decreasing rate.
+ */
+public interface TransferCompletionCallback {
+
+    /**
+     * Signals that all data of the transfer process has been transferred.
+     *
+     * @return false if the process is not known
+     */
+    boolean completed(String processId);
+
+    /**
+     * Signals that the transfer process failed and will not complete.
+     *
+     * @return false if the process is not known
+     */
+    boolean failed(String processId, @Nullable String errorDetail);
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.transfer.flow;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handles a data flow without blocking the caller.
+ * <br/>
+ * Controllers that move data themselves, or wait on remote systems to accept a request, should implement this interface rather than
+ * {@link DataFlowController}, whose implementations are run on a bounded pool of threads shared by all synchronous controllers.
+ */
+public interface AsyncDataFlowController {
+
+    /**
+     * Returns true if the controller can handle the data type.
+     */
+    boolean canHandle(DataRequest dataRequest);
+
+    /**
+     * Returns the routes this controller handles. The {@link DataFlowManager} routes requests by their source and destination type and does not
+     * call {@link #canHandle(DataRequest)} for controllers that declare routes. An empty set means routing is dynamic: the controller is asked per
+     * request, after no declared route matched.
+     */
+    default Set<DataFlowRoute> routes() {
+        return Set.of();
+    }
+
+    /**
+     * Initiates a data flow. The returned future completes once the flow has been started, or has failed to start.
+     * <p>The response status has the same meaning as for {@link DataFlowController#initiateFlow(DataRequest)}. A future that completes
+     * exceptionally is treated as {@link org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus#ERROR_RETRY}.</p>
+     */
+    @NotNull
+    CompletableFuture<DataFlowInitiateResponse> initiateFlowAsync(DataRequest dataRequest);
+}
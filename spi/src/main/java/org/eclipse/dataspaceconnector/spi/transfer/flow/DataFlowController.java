@@ -17,6 +17,8 @@ package org.eclipse.dataspaceconnector.spi.transfer.flow;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Set;
+
 /**
  * Handles a data flow.
  */
@@ -27,6 +29,15 @@ public interface DataFlowController {
      */
     boolean canHandle(DataRequest dataRequest);
 
+    /**
+     * Returns the routes this controller handles. The {@link DataFlowManager} routes requests by their source and destination type and does not
+     * call {@link #canHandle(DataRequest)} for controllers that declare routes. An empty set means routing is dynamic: the controller is asked per
+     * request, after no declared route matched.
+     */
+    default Set<DataFlowRoute> routes() {
+        return Set.of();
+    }
+
     /**
      * Initiate a data flow.
      * <p>Implementations should not throw exceptions. If an unexpected exception occurs and the flow should be re-attempted, set
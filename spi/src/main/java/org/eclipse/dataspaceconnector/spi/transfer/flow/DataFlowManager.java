@@ -14,9 +14,13 @@
 
 package org.eclipse.dataspaceconnector.spi.transfer.flow;
 
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
  */
@@ -27,6 +31,31 @@ public interface DataFlowManager {
      */
     void register(DataFlowController controller);
 
+    /**
+     * Register the asynchronous controller. Managers without support for asynchronous controllers register an adapter that waits for the
+     * flow to be initiated.
+     */
+    default void register(AsyncDataFlowController controller) {
+        register(new DataFlowController() {
+            @Override
+            public boolean canHandle(DataRequest dataRequest) {
+                return controller.canHandle(dataRequest);
+            }
+
+            @Override
+            public Set<DataFlowRoute> routes() {
+                return controller.routes();
+            }
+
+            @Override
+            public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
+                return controller.initiateFlowAsync(dataRequest)
+                        .exceptionally(throwable -> new DataFlowInitiateResponse(ResponseStatus.ERROR_RETRY, throwable.getMessage()))
+                        .join();
+            }
+        });
+    }
+
     /**
      * Initiates a data flow.
      *
@@ -34,4 +63,15 @@ public interface DataFlowManager {
      */
     @NotNull
     DataFlowInitiateResponse initiate(DataRequest dataRequest);
+
+    /**
+     * Initiates a data flow without blocking the caller. Synchronous controllers are run on a bounded executor; if it is saturated, the future
+     * completes with {@link ResponseStatus#ERROR_RETRY}. Managers without an executor initiate the flow on the calling thread.
+     *
+     * @param dataRequest the data to transfer
+     */
+    @NotNull
+    default CompletableFuture<DataFlowInitiateResponse> initiateAsync(DataRequest dataRequest) {
+        return CompletableFuture.completedFuture(initiate(dataRequest));
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.transfer.flow;
+
+import java.util.Objects;
+
+/**
+ * A pair of source and destination address types a data flow controller handles. Either type may be {@link #ANY}.
+ */
+public final class DataFlowRoute {
+    public static final String ANY = "*";
+
+    private final String sourceType;
+    private final String destinationType;
+
+    private DataFlowRoute(String sourceType, String destinationType) {
+        this.sourceType = Objects.requireNonNull(sourceType, "sourceType");
+        this.destinationType = Objects.requireNonNull(destinationType, "destinationType");
+    }
+
+    public static DataFlowRoute of(String sourceType, String destinationType) {
+        return new DataFlowRoute(sourceType, destinationType);
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public String getDestinationType() {
+        return destinationType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DataFlowRoute that = (DataFlowRoute) o;
+        return sourceType.equals(that.sourceType) && destinationType.equals(that.destinationType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceType, destinationType);
+    }
+
+    @Override
+    public String toString() {
+        return sourceType + " -> " + destinationType;
+    }
+}
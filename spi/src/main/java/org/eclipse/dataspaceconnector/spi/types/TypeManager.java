@@ -43,7 +43,7 @@ public class TypeManager {
         return objectMapper;
     }
 
-    public void registerTypes(Class<?>... type) {
+    public synchronized void registerTypes(Class<?>... type) {
         objectMapper.registerSubtypes(type);
     }
 
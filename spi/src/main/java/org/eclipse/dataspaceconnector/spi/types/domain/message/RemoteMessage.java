@@ -24,4 +24,11 @@ public interface RemoteMessage {
      */
     String getProtocol();
 
+    /**
+     * Returns the address of the connector this message is sent to, or null if not known. Used to apply per-counterparty dispatch limits.
+     */
+    default String getConnectorAddress() {
+        return null;
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.types.domain.transfer;
+
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers completion check results for a short time, so that checks of the same marker in one pass of the transfer process manager, e.g. for
+ * several resources of a transfer in one bucket, cost one remote call.
+ * <p>
+ * Results expire after the configured time to live, which should be shorter than the interval between passes. A time to live of zero disables the cache.
+ */
+public class CompletionCheckCache {
+
+    @EdcSetting
+    public static final String TTL_SETTING = "edc.transfer.statuscheck.cache.ttl.millis";
+
+    public static final long DEFAULT_TTL_MILLIS = 1000;
+
+    /**
+     * A cache that runs every check.
+     */
+    public static final CompletionCheckCache NONE = new CompletionCheckCache(Duration.ZERO, Clock.systemUTC());
+
+    private static final int CLEANUP_THRESHOLD = 1024;
+
+    private final Map<String, Entry> results = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final Clock clock;
+
+    public CompletionCheckCache(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    public CompletionCheckCache(Duration ttl, Clock clock) {
+        ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached result for the key, or runs the check and caches its result.
+     *
+     * @param key   identifies the marker, e.g. its bucket and name
+     * @param check performs the remote lookup
+     */
+    public boolean isComplete(String key, BooleanSupplier check) {
+        if (ttlMillis <= 0) {
+            return check.getAsBoolean();
+        }
+        var now = clock.millis();
+        var entry = results.get(key);
+        if (entry != null && now < entry.expiresAt) {
+            return entry.complete;
+        }
+        var complete = check.getAsBoolean();
+        results.put(key, new Entry(complete, now + ttlMillis));
+        if (results.size() > CLEANUP_THRESHOLD) {
+            results.values().removeIf(expired -> expired.expiresAt <= now);
+        }
+        return complete;
+    }
+
+    private static class Entry {
+        private final boolean complete;
+        private final long expiresAt;
+
+        Entry(boolean complete, long expiresAt) {
+            this.complete = complete;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
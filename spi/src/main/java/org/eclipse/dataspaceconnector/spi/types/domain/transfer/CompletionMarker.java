@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.types.domain.transfer;
+
+/**
+ * Names the marker object that a data flow writes next to the transferred data once it has finished.
+ * <p>
+ * The marker of a transfer is named after the id of its {@link DataRequest}, which provider and consumer share, followed by {@link #SUFFIX}. Transfers of
+ * the same asset to one destination therefore do not see each other's markers, and a {@link StatusChecker} can check completion with a single lookup of
+ * a known key instead of listing the destination.
+ */
+public final class CompletionMarker {
+    public static final String SUFFIX = ".complete";
+
+    private CompletionMarker() {
+    }
+
+    /**
+     * Returns the marker name for the data request with the given id.
+     */
+    public static String nameFor(String requestId) {
+        return requestId + SUFFIX;
+    }
+
+    /**
+     * Returns the marker name for the given data request.
+     */
+    public static String nameFor(DataRequest request) {
+        return nameFor(request.getId());
+    }
+}
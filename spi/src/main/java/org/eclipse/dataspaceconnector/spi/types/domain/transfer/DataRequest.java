@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.spi.types.domain.transfer;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -47,6 +48,9 @@ public class DataRequest implements RemoteMessage, Polymorphic {
 
     private TransferType transferType;
 
+    @JsonIgnore
+    private DataAddress sourceAddress;
+
     private DataRequest() {
         transferType = new TransferType();
     }
@@ -143,6 +147,18 @@ public class DataRequest implements RemoteMessage, Polymorphic {
         dataDestination = dataAddress;
     }
 
+    /**
+     * The address of the requested asset, once it has been resolved on the provider. It is not serialized, since it is internal to the provider.
+     */
+    @JsonIgnore
+    public DataAddress getSourceAddress() {
+        return sourceAddress;
+    }
+
+    public void updateSourceAddress(DataAddress dataAddress) {
+        sourceAddress = dataAddress;
+    }
+
     public TransferType getTransferType() {
         return transferType;
     }
@@ -20,6 +20,7 @@ import java.util.List;
  * Checks if a data transfer has completed.
  * <p>
  * For example, a data transfer type involving the copying of files to a folder may employ a completion check that verifies if a file with the "*.complete" extension exists.
+ * Checkers should look up the {@link CompletionMarker} of the transfer directly rather than list the destination.
  */
 @FunctionalInterface
 public interface StatusChecker {
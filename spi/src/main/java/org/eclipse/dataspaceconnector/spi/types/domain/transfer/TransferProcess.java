@@ -23,6 +23,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -78,6 +81,7 @@ public class TransferProcess {
     private DataRequest dataRequest;
     private ResourceManifest resourceManifest;
     private ProvisionedResourceSet provisionedResourceSet;
+    private Map<String, String> properties = new HashMap<>();
 
     private TransferProcess() {
     }
@@ -114,6 +118,26 @@ public class TransferProcess {
         return provisionedResourceSet;
     }
 
+    /**
+     * Properties recorded while the process runs, such as the checkpoints of its data flow.
+     */
+    public Map<String, String> getProperties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Sets the given properties, replacing the values of existing keys. A null value removes the property.
+     */
+    public void updateProperties(Map<String, String> values) {
+        values.forEach((key, value) -> {
+            if (value == null) {
+                properties.remove(key);
+            } else {
+                properties.put(key, value);
+            }
+        });
+    }
+
     public String getErrorDetail() {
         return errorDetail;
     }
@@ -226,7 +250,7 @@ public class TransferProcess {
 
     public TransferProcess copy() {
         return Builder.newInstance().id(id).state(state).stateTimestamp(stateTimestamp).stateCount(stateCount).resourceManifest(resourceManifest).dataRequest(dataRequest)
-                .provisionedResourceSet(provisionedResourceSet).type(type).errorDetail(errorDetail).build();
+                .provisionedResourceSet(provisionedResourceSet).type(type).errorDetail(errorDetail).properties(properties).build();
     }
 
     public Builder toBuilder() {
@@ -335,6 +359,11 @@ public class TransferProcess {
             return this;
         }
 
+        public Builder properties(Map<String, String> properties) {
+            process.properties = new HashMap<>(properties);
+            return this;
+        }
+
         public TransferProcess build() {
             Objects.requireNonNull(process.id, "id");
             if (process.state == TransferProcessStates.UNSAVED.code() && process.stateTimestamp == 0) {
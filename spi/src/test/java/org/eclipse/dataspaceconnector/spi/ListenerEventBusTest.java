@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerEventBusTest {
+
+    private final List<ListenerEventBus<?>> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(ListenerEventBus::close);
+    }
+
+    @Test
+    void verifyOrderPreservedPerKey() {
+        var bus = bus(ListenerEventBus.OverflowPolicy.BLOCK, 16, 4);
+        var listener = new RecordingListener();
+
+        for (int i = 0; i < 1000; i++) {
+            var event = i;
+            bus.publish("process-" + (i % 10), List.of(listener), l -> l.accept("process-" + (event % 10) + ":" + event));
+        }
+        bus.close();
+
+        assertThat(listener.events).hasSize(10);
+        listener.events.values().forEach(events -> assertThat(events).isSorted().hasSize(100));
+    }
+
+    @Test
+    void verifySlowListenerDoesNotBlockOthers() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Consumer<String> slow = event -> {
+            started.countDown();
+            await(release);
+        };
+        var fast = new RecordingListener();
+        var bus = bus(l -> l == slow ? ListenerEventBus.OverflowPolicy.DROP_NEWEST : ListenerEventBus.OverflowPolicy.BLOCK, 4, 1);
+
+        bus.publish("process", List.of(slow, fast), l -> l.accept("process:0"));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < 20; i++) {
+            var event = i;
+            bus.publish("process", List.of(slow, fast), l -> l.accept("process:" + event));
+        }
+
+        // the slow listener holds one event and queues four, the rest is dropped
+        assertThat(bus.getDropped(slow)).isEqualTo(15);
+        assertThat(bus.getDropped(fast)).isEqualTo(0);
+        release.countDown();
+        bus.close();
+        assertThat(fast.events.get("process")).hasSize(20);
+    }
+
+    @Test
+    void verifyDropOldestKeepsNewestEvents() throws InterruptedException {
+        var bus = bus(ListenerEventBus.OverflowPolicy.DROP_OLDEST, 4, 1);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var listener = new RecordingListener();
+        bus.publish("process", List.of(listener), l -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 10; i++) {
+            var event = i;
+            bus.publish("process", List.of(listener), l -> l.accept("process:" + event));
+        }
+        assertThat(bus.getDropped(listener)).isEqualTo(6);
+        assertThat(bus.getQueueDepth(listener)).isEqualTo(4);
+        release.countDown();
+        bus.close();
+
+        assertThat(listener.events.get("process")).containsExactly(6, 7, 8, 9);
+    }
+
+    @Test
+    void verifyListenerFailureIsContained() {
+        var bus = bus(ListenerEventBus.OverflowPolicy.BLOCK, 4, 1);
+        Consumer<String> failing = event -> {
+            throw new IllegalStateException("failed");
+        };
+        var listener = new RecordingListener();
+
+        bus.publish("process", List.of(failing, listener), l -> l.accept("process:1"));
+        bus.publish("process", List.of(failing, listener), l -> l.accept("process:2"));
+        bus.close();
+
+        assertThat(listener.events.get("process")).containsExactly(1, 2);
+    }
+
+    private ListenerEventBus<Consumer<String>> bus(ListenerEventBus.OverflowPolicy policy, int queueSize, int stripes) {
+        return bus(l -> policy, queueSize, stripes);
+    }
+
+    private ListenerEventBus<Consumer<String>> bus(Function<Consumer<String>, ListenerEventBus.OverflowPolicy> policy, int queueSize, int stripes) {
+        var bus = ListenerEventBus.Builder.<Consumer<String>>newInstance()
+                .name("test")
+                .queueSize(queueSize)
+                .stripes(stripes)
+                .overflowPolicy(policy)
+                .monitor(new Monitor() {
+                })
+                .build();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingListener implements Consumer<String> {
+        private final Map<String, List<Integer>> events = new ConcurrentHashMap<>();
+
+        @Override
+        public void accept(String event) {
+            var parts = event.split(":");
+            events.computeIfAbsent(parts[0], k -> Collections.synchronizedList(new ArrayList<>())).add(Integer.parseInt(parts[1]));
+        }
+    }
+}
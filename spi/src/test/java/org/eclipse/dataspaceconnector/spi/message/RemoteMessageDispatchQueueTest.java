@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.message;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.Gauge;
+import org.eclipse.dataspaceconnector.spi.metrics.Histogram;
+import org.eclipse.dataspaceconnector.spi.metrics.Metric;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricsRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RemoteMessageDispatchQueueTest {
+
+    @Test
+    void verifyQueuesWhenCounterPartyLimitReached() throws Exception {
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().maxInFlightPerCounterParty(1).build();
+
+        var first = new CompletableFuture<String>();
+        var second = new CompletableFuture<String>();
+
+        var firstResult = queue.submit("provider", () -> first);
+        var secondResult = queue.submit("provider", () -> second);
+
+        assertThat(queue.getInFlight("provider")).isEqualTo(1);
+        assertThat(queue.getQueueDepth("provider")).isEqualTo(1);
+
+        first.complete("first");
+
+        assertThat(firstResult.get()).isEqualTo("first");
+        assertThat(queue.getInFlight("provider")).isEqualTo(1);
+        assertThat(queue.getQueueDepth()).isEqualTo(0);
+
+        second.complete("second");
+
+        assertThat(secondResult.get()).isEqualTo("second");
+        assertThat(queue.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyCounterPartiesDoNotBlockEachOther() {
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().maxInFlightPerCounterParty(1).build();
+
+        queue.submit("slow", CompletableFuture::new);
+        queue.submit("slow", CompletableFuture::new);
+        queue.submit("fast", CompletableFuture::new);
+
+        assertThat(queue.getInFlightByCounterParty()).containsEntry("slow", 1).containsEntry("fast", 1);
+        assertThat(queue.getQueueDepthByCounterParty()).containsEntry("slow", 1).doesNotContainKey("fast");
+    }
+
+    @Test
+    void verifyRejectsWhenQueueFull() {
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().maxInFlight(1).maxQueued(1).build();
+
+        queue.submit("provider", CompletableFuture::new);
+        queue.submit("provider", CompletableFuture::new);
+        var rejected = queue.submit("provider", CompletableFuture::new);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void verifyRejectPolicyDoesNotQueue() {
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().maxInFlight(1).admissionPolicy(RemoteMessageDispatchQueue.AdmissionPolicy.REJECT).build();
+
+        queue.submit("provider", CompletableFuture::new);
+        var rejected = queue.submit("provider", CompletableFuture::new);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(queue.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyFailedSendReleasesSlot() {
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().maxInFlight(1).build();
+
+        var failed = queue.submit("provider", () -> CompletableFuture.failedFuture(new EdcException("boom")));
+        var next = queue.submit("provider", () -> CompletableFuture.completedFuture("ok"));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue("ok");
+        assertThat(queue.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void verifySynchronousCompletionsDrainQueue() {
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().maxInFlight(1).maxQueued(10_000).build();
+        var blocker = new CompletableFuture<String>();
+
+        queue.submit("provider", () -> blocker);
+        for (int i = 0; i < 5_000; i++) {
+            queue.submit("provider", () -> CompletableFuture.completedFuture("done"));
+        }
+        assertThat(queue.getQueueDepth()).isEqualTo(5_000);
+
+        blocker.complete("done");
+
+        assertThat(queue.getQueueDepth()).isEqualTo(0);
+        assertThat(queue.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyReportsLoadPerCounterParty() {
+        var metrics = new GaugeCapture();
+        var queue = RemoteMessageDispatchQueue.Builder.newInstance().name("transfer").maxInFlightPerCounterParty(1).metrics(metrics).build();
+
+        queue.submit("slow", CompletableFuture::new);
+        queue.submit("slow", CompletableFuture::new);
+        queue.submit("fast", CompletableFuture::new);
+
+        assertThat(metrics.read("edc.dispatcher.inflight", "registry", "transfer")).isEqualTo(2);
+        assertThat(metrics.read("edc.dispatcher.queue.depth", "registry", "transfer")).isEqualTo(1);
+        assertThat(metrics.read("edc.dispatcher.inflight", "registry", "transfer", "counterparty", "slow")).isEqualTo(1);
+        assertThat(metrics.read("edc.dispatcher.queue.depth", "registry", "transfer", "counterparty", "slow")).isEqualTo(1);
+        assertThat(metrics.read("edc.dispatcher.queue.depth", "registry", "transfer", "counterparty", "fast")).isEqualTo(0);
+    }
+
+    @Test
+    void verifyQueuesOfDifferentRegistriesReportSeparately() {
+        var metrics = new GaugeCapture();
+        var contract = RemoteMessageDispatchQueue.Builder.newInstance().name("contract").metrics(metrics).build();
+        RemoteMessageDispatchQueue.Builder.newInstance().name("transfer").metrics(metrics).build();
+
+        contract.submit("provider", CompletableFuture::new);
+
+        assertThat(metrics.read("edc.dispatcher.inflight", "registry", "contract")).isEqualTo(1);
+        assertThat(metrics.read("edc.dispatcher.inflight", "registry", "transfer")).isEqualTo(0);
+    }
+
+    /**
+     * Holds the registered gauges so their values can be read back.
+     */
+    private static class GaugeCapture implements MetricsRegistry {
+        private final Map<List<String>, DoubleSupplier> gauges = new HashMap<>();
+
+        double read(String name, String... tags) {
+            return gauges.get(key(name, tags)).getAsDouble();
+        }
+
+        @Override
+        public Counter counter(String name, String... tags) {
+            return NoopMetricsRegistry.INSTANCE.counter(name, tags);
+        }
+
+        @Override
+        public Gauge gauge(String name, DoubleSupplier value, String... tags) {
+            gauges.put(key(name, tags), value);
+            return NoopMetricsRegistry.INSTANCE.gauge(name, value, tags);
+        }
+
+        @Override
+        public Timer timer(String name, String... tags) {
+            return NoopMetricsRegistry.INSTANCE.timer(name, tags);
+        }
+
+        @Override
+        public Histogram histogram(String name, String... tags) {
+            return NoopMetricsRegistry.INSTANCE.histogram(name, tags);
+        }
+
+        @Override
+        public Collection<Metric> getMetrics() {
+            return List.of();
+        }
+
+        private static List<String> key(String name, String... tags) {
+            var key = new ArrayList<String>();
+            key.add(name);
+            key.addAll(Arrays.asList(tags));
+            return key;
+        }
+    }
+}